@@ -36,22 +36,10 @@ public class OsrsCharacterCache {
 
             characterCache = hazelcastInstance.getMap(cacheName);
             initializeCacheListeners(DependencyFactory.getInstance().getInjection(ProfileChangeListener.class));
-            // Apply the TTL and eviction policy when initializing the cache
-            configureCache(cacheName);
         }
         return characterCache;
     }
 
-    // Configures TTL and eviction policy for the cache
-    private void configureCache(String cacheName) {
-        // Similar cache configuration for character cache
-        hazelcastInstance.getConfig().getMapConfig(cacheName)
-                .setTimeToLiveSeconds(3600)  // 1 hour TTL
-                .setEvictionConfig(new com.hazelcast.config.EvictionConfig()
-                        .setEvictionPolicy(com.hazelcast.config.EvictionPolicy.LRU)
-                        .setSize(1000));  // Max 1000 entries in the cache
-    }
-
     // Initializes cache listeners for character changes
     private void initializeCacheListeners(ProfileChangeListener profileChangeListener) {
         if (profileChangeListener != null) {
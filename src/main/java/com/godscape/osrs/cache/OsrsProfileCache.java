@@ -2,6 +2,10 @@ package com.godscape.osrs.cache;
 
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.ProfileMapStore;
+import com.godscape.system.cache.ProfileNameIndex;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.config.HazelcastConfig;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.observers.ProfileChangeListener;
@@ -12,7 +16,9 @@ import com.godscape.osrs.enums.core.OsrsSchemas;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Singleton
@@ -20,6 +26,10 @@ public class OsrsProfileCache {
 
     private IMap<UUID, OsrsProfileSchema> profileCache;
     private HazelcastInstance hazelcastInstance;
+    private ProfileMapStore<OsrsProfileSchema> mapStore;
+    private volatile boolean storedProfilesLoaded;
+    private final ProfileNameIndex<OsrsProfileSchema> nameIndex =
+            new ProfileNameIndex<>(OsrsProfileSchema::getProfileId, OsrsProfileSchema::getProfileName);
 
     public OsrsProfileCache() {
         Logger.info("OsrsProfileCache: Initialized.");
@@ -37,22 +47,18 @@ public class OsrsProfileCache {
             String cacheName = OsrsSchemas.OSRS_PROFILE_SCHEMA.getCacheName();
             profileCache = hazelcastInstance.getMap(cacheName);
             initializeCacheListeners(DependencyFactory.getInstance().getInjection(ProfileChangeListener.class));
-            configureCache(cacheName);
+            nameIndex.attach(profileCache);
+            mapStore = ProfileMapStore.of(hazelcastInstance, cacheName);
+            indexStoredNames();
         }
         return profileCache;
     }
 
-    /**
-     * Configures the Hazelcast cache settings.
-     *
-     * @param cacheName The name of the cache to configure.
-     */
-    private void configureCache(String cacheName) {
-        hazelcastInstance.getConfig().getMapConfig(cacheName)
-                .setTimeToLiveSeconds(3600) // 1 hour TTL
-                .setEvictionConfig(new com.hazelcast.config.EvictionConfig()
-                        .setEvictionPolicy(com.hazelcast.config.EvictionPolicy.LRU)
-                        .setSize(1000)); // Max 1000 entries
+    // Profiles not in the map are loaded on first access; their names must be indexed all the same
+    private void indexStoredNames() {
+        if (mapStore != null) {
+            mapStore.loadProfileNames().forEach(nameIndex::index);
+        }
     }
 
     /**
@@ -93,13 +99,19 @@ public class OsrsProfileCache {
             return false;
         }
 
-        OsrsProfileSchema existingProfile = getProfileByName(profile.getProfileName());
-        if (existingProfile != null) {
-            Logger.warn("Profile with name '{}' already exists with ID: '{}'. Not adding a new profile.", profile.getProfileName(), existingProfile.getProfileId());
+        if (profile.getProfileName() == null || profile.getProfileName().trim().isEmpty()) {
+            Logger.warn("Cannot add a profile with an empty or null name.");
             return false;
         }
 
         ensureProfileId(profile);
+        getProfileCache();
+
+        // Reserve the name in the index first so concurrent adds cannot both pass the check
+        if (!reserveProfileName(profile)) {
+            Logger.warn("Profile with name '{}' already exists with ID: '{}'. Not adding a new profile.", profile.getProfileName(), nameIndex.lookup(profile.getProfileName()));
+            return false;
+        }
 
         // Directly use the flat settingsMap without normalization
         // Ensure settingsMap is initialized and flat
@@ -113,12 +125,44 @@ public class OsrsProfileCache {
             return true;
         } else {
             Logger.warn("Profile with ID: '{}' and name: '{}' already exists in cache.", profile.getProfileId(), profile.getProfileName());
+            nameIndex.index(getProfileCache().get(profile.getProfileId()));
             return false;
         }
     }
 
     /**
-     * Retrieves a profile by its name.
+     * Applies a settings update to a cached profile in place on the partition that owns it.
+     *
+     * @param profileId The UUID of the profile.
+     * @param processor The settings operation to run.
+     * @return The settings that changed, or null if the profile is not in the cache.
+     */
+    public SettingsDelta updateSettings(UUID profileId, SettingsEntryProcessor<OsrsProfileSchema> processor) {
+        if (profileId == null) {
+            Logger.warn("Cannot update settings for a profile with a null ID.");
+            return null;
+        }
+        return getProfileCache().executeOnKey(profileId, processor);
+    }
+
+    /**
+     * Reserves the profile's name in the name index, dropping the current owner first if it
+     * is no longer present in the map (its removal event has not been delivered yet).
+     */
+    private boolean reserveProfileName(OsrsProfileSchema profile) {
+        if (nameIndex.reserve(profile.getProfileId(), profile.getProfileName())) {
+            return true;
+        }
+        UUID owner = nameIndex.lookup(profile.getProfileName());
+        if (owner != null && !getProfileCache().containsKey(owner)) {
+            nameIndex.unindex(owner);
+            return nameIndex.reserve(profile.getProfileId(), profile.getProfileName());
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves a profile by its name (case-insensitive) through the name index.
      *
      * @param profileName The name of the profile.
      * @return The profile if found, null otherwise.
@@ -129,10 +173,40 @@ public class OsrsProfileCache {
             return null;
         }
 
-        return getProfileCache().values().stream()
-                .filter(profile -> profileName.equalsIgnoreCase(profile.getProfileName()))
-                .findFirst()
-                .orElse(null);
+        UUID profileId = getProfileIdByName(profileName);
+        if (profileId == null) {
+            return null;
+        }
+
+        OsrsProfileSchema profile = getProfileCache().get(profileId);
+        if (profile == null || !profileName.trim().equalsIgnoreCase(profile.getProfileName())) {
+            // Stale entry (removed or renamed by an event not yet delivered); correct it in place
+            nameIndex.unindex(profileId);
+            nameIndex.index(profile);
+            return null;
+        }
+        return profile;
+    }
+
+    /**
+     * Resolves a profile UUID by name (case-insensitive) without touching the map.
+     *
+     * @param profileName The name of the profile.
+     * @return The UUID if a profile with this name is indexed, null otherwise.
+     */
+    public UUID getProfileIdByName(String profileName) {
+        getProfileCache();
+        return nameIndex.lookup(profileName);
+    }
+
+    /**
+     * Checks whether a profile with the given name exists (case-insensitive).
+     *
+     * @param profileName The name of the profile.
+     * @return True if the name is taken, false otherwise.
+     */
+    public boolean profileNameExists(String profileName) {
+        return getProfileByName(profileName) != null;
     }
 
     /**
@@ -154,7 +228,9 @@ public class OsrsProfileCache {
             profile.setSettingsMap(new HashMap<>());
         }
 
+        profile.setLastUpdated(System.currentTimeMillis());
         getProfileCache().put(profile.getProfileId(), profile);
+        nameIndex.index(profile);
         Logger.info("Profile updated in cache with ID: '{}' and name: '{}'", profile.getProfileId(), profile.getProfileName());
         return true;
     }
@@ -171,6 +247,7 @@ public class OsrsProfileCache {
             return false;
         }
         OsrsProfileSchema removedProfile = getProfileCache().remove(profileId);
+        nameIndex.unindex(profileId);
         if (removedProfile != null) {
             Logger.info("Profile removed from cache with ID: '{}'", profileId);
             return true;
@@ -207,6 +284,7 @@ public class OsrsProfileCache {
      * @return A collection of all profiles.
      */
     public Collection<OsrsProfileSchema> getAllProfiles() {
+        loadStoredProfiles();
         Collection<OsrsProfileSchema> profiles = getProfileCache().values();
         if (profiles.isEmpty()) {
             Logger.warn("No profiles found in cache.");
@@ -217,24 +295,72 @@ public class OsrsProfileCache {
     }
 
     /**
-     * Adds multiple profiles to the cache.
+     * Adds multiple profiles to the cache in a single {@code putAll}. Profiles whose ID is already
+     * cached or whose name is taken (checked through the name index) are skipped, as with
+     * {@link #addProfile(OsrsProfileSchema)}.
      *
      * @param profiles The collection of profiles to add.
+     * @return The number of profiles added.
      */
-    public void addProfiles(Collection<OsrsProfileSchema> profiles) {
+    public int addProfiles(Collection<OsrsProfileSchema> profiles) {
         if (profiles == null || profiles.isEmpty()) {
             Logger.warn("No profiles provided to add.");
+            return 0;
+        }
+        IMap<UUID, OsrsProfileSchema> cache = getProfileCache();
+        Map<UUID, OsrsProfileSchema> batch = new LinkedHashMap<>();
+        for (OsrsProfileSchema profile : profiles) {
+            if (profile == null || profile.getProfileName() == null || profile.getProfileName().trim().isEmpty()) {
+                Logger.warn("Skipping a null profile or one with an empty name in bulk add.");
+                continue;
+            }
+            ensureProfileId(profile);
+            if (batch.containsKey(profile.getProfileId()) || cache.containsKey(profile.getProfileId())) {
+                continue;
+            }
+            if (!reserveProfileName(profile)) {
+                Logger.warn("Profile with name '{}' already exists. Not adding it.", profile.getProfileName());
+                continue;
+            }
+            if (profile.getSettingsMap() == null) {
+                profile.setSettingsMap(new HashMap<>());
+            }
+            batch.put(profile.getProfileId(), profile);
+        }
+        if (!batch.isEmpty()) {
+            cache.putAll(batch);
+        }
+        Logger.info("Bulk added {} of {} profiles to cache.", batch.size(), profiles.size());
+        return batch.size();
+    }
+
+    /**
+     * Loads the stored profiles that were not warmed at startup, once, so listings are complete.
+     */
+    private void loadStoredProfiles() {
+        getProfileCache();
+        if (mapStore == null || storedProfilesLoaded) {
             return;
         }
-        profiles.forEach(this::addProfile);
-        Logger.info("Bulk profiles added to cache.");
+        Set<UUID> storedIds = mapStore.loadAllProfileIds();
+        storedIds.removeAll(profileCache.keySet());
+        if (!storedIds.isEmpty()) {
+            profileCache.getAll(storedIds);
+            Logger.info("OsrsProfileCache: Loaded {} stored profiles on demand.", storedIds.size());
+        }
+        storedProfilesLoaded = true;
     }
 
     /**
-     * Clears all profiles from the cache.
+     * Clears all profiles from the cache. Stored profiles are kept: pending writes are flushed to
+     * the database first, and the entries are evicted rather than deleted.
      */
     public void clearProfileCache() {
-        getProfileCache().clear();
+        getProfileCache().flush();
+        getProfileCache().evictAll();
+        storedProfilesLoaded = false;
+        nameIndex.clear();
+        indexStoredNames();  // Evicted profiles are still stored and keep their names
         Logger.info("OsrsProfileCache: All profiles cleared from cache.");
     }
 }
@@ -1,5 +1,6 @@
 package com.godscape.osrs.cache.backup;
 
+import com.godscape.osrs.schemas.OsrsCharacterSchema;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.cache.backup.PerformBackup;
 import com.godscape.system.utility.Logger;
@@ -40,10 +41,21 @@ public class OsrsPerformBackup {
      *
      * @param profiles        The collection of OSRS profiles to back up.
      * @param targetDirectory The directory where the backup file will be saved.
-     * @param format          The format of the backup file: "json" or "xml".
+     * @param format          The format of the backup file: "json", "xml" or "snapshot".
      */
     public void backupProfiles(Collection<OsrsProfileSchema> profiles, String targetDirectory, String format) {
         Logger.info("OsrsPerformBackup: Initiating {} backup for OSRS profiles.", format.toUpperCase());
         performBackup.backupProfiles(profiles, targetDirectory, format); // Perform backup using PerformBackup
     }
+
+    /**
+     * Backs up OSRS characters to a binary snapshot in the specified directory.
+     *
+     * @param characters      The collection of OSRS characters to back up.
+     * @param targetDirectory The directory where the snapshot file will be saved.
+     */
+    public void backupCharacters(Collection<OsrsCharacterSchema> characters, String targetDirectory) {
+        Logger.info("OsrsPerformBackup: Initiating snapshot backup for OSRS characters.");
+        performBackup.backupCharacters(characters, targetDirectory);
+    }
 }
@@ -1,12 +1,18 @@
 package com.godscape.osrs.cache.backup;
 
+import com.godscape.osrs.cache.OsrsCharacterCache;
+import com.godscape.osrs.controllers.OsrsCacheController;
+import com.godscape.osrs.schemas.OsrsCharacterSchema;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.cache.backup.PerformRestore;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Facade class responsible for restoring OSRS profiles from backup files.
@@ -41,7 +47,7 @@ public class OsrsPerformRestore {
      * Restores OSRS profiles from a specified backup file in the given format.
      *
      * @param targetDirectory The directory where the backup file is located.
-     * @param format          The format of the backup file: "json" or "xml".
+     * @param format          The format of the backup file: "json", "xml" or "snapshot".
      * @return A collection of restored OSRS profiles.
      */
     public Collection<OsrsProfileSchema> restoreProfiles(String targetDirectory, String format) {
@@ -57,6 +63,90 @@ public class OsrsPerformRestore {
         return castToOsrsProfiles(profiles);
     }
 
+    /**
+     * Restores OSRS profiles straight into the profile cache, adding or replacing each one as it is
+     * read rather than collecting the whole backup first.
+     *
+     * @param targetDirectory The directory where the backup file is located.
+     * @param format          The format of the backup file: "json", "xml" or "snapshot".
+     * @return The number of profiles restored.
+     */
+    public int restoreProfilesToCache(String targetDirectory, String format) {
+        Logger.info("OsrsPreformRestore: Initiating restore of OSRS profiles into the cache from {} format.", format.toUpperCase());
+
+        OsrsCacheController cacheController = DependencyFactory.getInstance().getInjection(OsrsCacheController.class);
+        int restored = performRestore.restoreProfiles(targetDirectory, format, (OsrsProfileSchema profile) -> cacheController.updateProfile(profile));
+        if (restored == 0) {
+            Logger.warn("OsrsPreformRestore: No profiles found in {} format at {}.", format.toUpperCase(), targetDirectory);
+        } else {
+            Logger.info("OsrsPreformRestore: Successfully restored {} profiles into the cache from {} format.", restored, format.toUpperCase());
+        }
+        return restored;
+    }
+
+    /**
+     * Restores a single OSRS profile from a binary snapshot without decoding the rest of the backup.
+     *
+     * @param targetDirectory The directory where the snapshot file is located.
+     * @param profileId       The ID of the profile to restore.
+     * @return The restored profile, or null if the snapshot does not contain it.
+     */
+    public OsrsProfileSchema restoreProfile(String targetDirectory, UUID profileId) {
+        Logger.info("OsrsPreformRestore: Initiating restore of OSRS profile '{}' from snapshot.", profileId);
+        return performRestore.restoreProfile(targetDirectory, profileId);
+    }
+
+    /**
+     * Restores OSRS characters from a binary snapshot.
+     *
+     * @param targetDirectory The directory where the snapshot file is located.
+     * @return The restored characters.
+     */
+    public Collection<OsrsCharacterSchema> restoreCharacters(String targetDirectory) {
+        Logger.info("OsrsPreformRestore: Initiating restore for OSRS characters from snapshot.");
+
+        List<OsrsCharacterSchema> characters = new ArrayList<>();
+        performRestore.restoreCharacters(targetDirectory, (OsrsCharacterSchema character) -> characters.add(character));
+        if (characters.isEmpty()) {
+            Logger.warn("OsrsPreformRestore: No characters found in snapshot at {}.", targetDirectory);
+        } else {
+            Logger.info("OsrsPreformRestore: Successfully restored {} characters from snapshot.", characters.size());
+        }
+        return characters;
+    }
+
+    /**
+     * Restores OSRS characters from a binary snapshot straight into the character cache, one block
+     * at a time.
+     *
+     * @param targetDirectory The directory where the snapshot file is located.
+     * @return The number of characters restored.
+     */
+    public int restoreCharactersToCache(String targetDirectory) {
+        Logger.info("OsrsPreformRestore: Initiating restore of OSRS characters into the cache from snapshot.");
+
+        OsrsCharacterCache characterCache = DependencyFactory.getInstance().getInjection(OsrsCharacterCache.class);
+        int restored = performRestore.restoreCharacters(targetDirectory, (OsrsCharacterSchema character) -> characterCache.updateCharacter(character));
+        if (restored == 0) {
+            Logger.warn("OsrsPreformRestore: No characters found in snapshot at {}.", targetDirectory);
+        } else {
+            Logger.info("OsrsPreformRestore: Successfully restored {} characters into the cache.", restored);
+        }
+        return restored;
+    }
+
+    /**
+     * Restores a single OSRS character from a binary snapshot without decoding the rest of the backup.
+     *
+     * @param targetDirectory The directory where the snapshot file is located.
+     * @param characterId     The ID of the character to restore.
+     * @return The restored character, or null if the snapshot does not contain it.
+     */
+    public OsrsCharacterSchema restoreCharacter(String targetDirectory, UUID characterId) {
+        Logger.info("OsrsPreformRestore: Initiating restore of OSRS character '{}' from snapshot.", characterId);
+        return performRestore.restoreCharacter(targetDirectory, characterId);
+    }
+
     /**
      * Casts a list of profiles to the OsrsProfileSchema type.
      *
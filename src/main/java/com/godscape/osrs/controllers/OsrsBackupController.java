@@ -2,23 +2,35 @@ package com.godscape.osrs.controllers;
 
 import com.godscape.osrs.cache.backup.OsrsPerformBackup;
 import com.godscape.osrs.cache.backup.OsrsPerformRestore;
+import com.godscape.osrs.managers.OsrsBackupManager;
+import com.godscape.osrs.schemas.OsrsCharacterSchema;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.utility.Logger;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 /**
  * OsrsBackupController manages OSRS-specific backup and restore operations by
- * using OsrsPerformBackup and OsrsPreformRestore for profile management.
+ * using OsrsPerformBackup and OsrsPreformRestore for profile and character management. The
+ * "differential" format goes to OsrsBackupManager, which runs differential backups in the background.
  */
 public class OsrsBackupController {
 
+    public static final String DIFFERENTIAL_FORMAT = "differential";
+
     private final OsrsPerformBackup performBackup;
     private final OsrsPerformRestore performRestore;
+    private final OsrsBackupManager backupManager;
 
     public OsrsBackupController() {
         this.performBackup = OsrsPerformBackup.getInstance();
         this.performRestore = OsrsPerformRestore.getInstance();
+        this.backupManager = OsrsBackupManager.getInstance();
         Logger.info("OsrsBackupController: Initialized for OSRS backup and restore management.");
     }
 
@@ -27,10 +39,15 @@ public class OsrsBackupController {
      *
      * @param profiles        The collection of OSRS profiles to back up.
      * @param targetDirectory The directory for the backup.
-     * @param format          The format of the backup file: "json" or "xml".
+     * @param format          The format of the backup: "json", "xml", "snapshot" or "differential". A
+     *                        differential backup runs in the background and returns at once.
      */
     public void backupProfiles(Collection<OsrsProfileSchema> profiles, String targetDirectory, String format) {
         Logger.info("OsrsBackupController: Initiating backup for OSRS profiles.");
+        if (DIFFERENTIAL_FORMAT.equalsIgnoreCase(format)) {
+            backupManager.backupDifferentialAsync(profiles, targetDirectory);
+            return;
+        }
         performBackup.backupProfiles(profiles, targetDirectory, format);
     }
 
@@ -38,11 +55,103 @@ public class OsrsBackupController {
      * Restores OSRS profiles by using OsrsPreformRestore.
      *
      * @param targetDirectory The directory of the backup file.
-     * @param format          The format of the backup file: "json" or "xml".
+     * @param format          The format of the backup file: "json", "xml" or "snapshot".
      * @return A collection of restored OSRS profiles.
      */
     public Collection<OsrsProfileSchema> restoreProfiles(String targetDirectory, String format) {
         Logger.info("OsrsBackupController: Initiating restore for OSRS profiles.");
         return performRestore.restoreProfiles(targetDirectory, format);
     }
+
+    /**
+     * Restores a single OSRS profile from a binary snapshot backup.
+     *
+     * @param targetDirectory The directory of the snapshot file.
+     * @param profileId       The ID of the profile to restore.
+     * @return The restored profile, or null if the snapshot does not contain it.
+     */
+    public OsrsProfileSchema restoreProfile(String targetDirectory, UUID profileId) {
+        Logger.info("OsrsBackupController: Initiating restore of OSRS profile '{}'.", profileId);
+        return performRestore.restoreProfile(targetDirectory, profileId);
+    }
+
+    /**
+     * Restores OSRS profiles directly into the profile cache without holding the whole backup in memory.
+     *
+     * @param targetDirectory The directory of the backup file.
+     * @param format          The format of the backup: "json", "xml", "snapshot" or "differential", which
+     *                        restores the newest differential manifest.
+     * @return The number of profiles restored.
+     */
+    public int restoreProfilesToCache(String targetDirectory, String format) {
+        Logger.info("OsrsBackupController: Initiating restore of OSRS profiles into the cache.");
+        if (DIFFERENTIAL_FORMAT.equalsIgnoreCase(format)) {
+            try {
+                return backupManager.restoreDifferentialAsync(targetDirectory, null).join();
+            } catch (CompletionException e) {
+                return 0;  // Already logged by the backup manager
+            }
+        }
+        return performRestore.restoreProfilesToCache(targetDirectory, format);
+    }
+
+    /**
+     * Lists the differential backup manifests in the target directory, oldest first.
+     *
+     * @param targetDirectory The directory holding the differential backup.
+     * @return The manifest names, or an empty list if they could not be read.
+     */
+    public List<String> listDifferentialBackups(String targetDirectory) {
+        try {
+            return backupManager.listDifferentialBackups(targetDirectory);
+        } catch (IOException e) {
+            Logger.error("OsrsBackupController: Failed to list differential backups in {} - {}", targetDirectory, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Backs up OSRS characters to a binary snapshot.
+     *
+     * @param characters      The collection of OSRS characters to back up.
+     * @param targetDirectory The directory for the backup.
+     */
+    public void backupCharacters(Collection<OsrsCharacterSchema> characters, String targetDirectory) {
+        Logger.info("OsrsBackupController: Initiating backup for OSRS characters.");
+        performBackup.backupCharacters(characters, targetDirectory);
+    }
+
+    /**
+     * Restores OSRS characters from a binary snapshot backup.
+     *
+     * @param targetDirectory The directory of the snapshot file.
+     * @return A collection of restored OSRS characters.
+     */
+    public Collection<OsrsCharacterSchema> restoreCharacters(String targetDirectory) {
+        Logger.info("OsrsBackupController: Initiating restore for OSRS characters.");
+        return performRestore.restoreCharacters(targetDirectory);
+    }
+
+    /**
+     * Restores a single OSRS character from a binary snapshot backup.
+     *
+     * @param targetDirectory The directory of the snapshot file.
+     * @param characterId     The ID of the character to restore.
+     * @return The restored character, or null if the snapshot does not contain it.
+     */
+    public OsrsCharacterSchema restoreCharacter(String targetDirectory, UUID characterId) {
+        Logger.info("OsrsBackupController: Initiating restore of OSRS character '{}'.", characterId);
+        return performRestore.restoreCharacter(targetDirectory, characterId);
+    }
+
+    /**
+     * Restores OSRS characters from a binary snapshot directly into the character cache.
+     *
+     * @param targetDirectory The directory of the snapshot file.
+     * @return The number of characters restored.
+     */
+    public int restoreCharactersToCache(String targetDirectory) {
+        Logger.info("OsrsBackupController: Initiating restore of OSRS characters into the cache.");
+        return performRestore.restoreCharactersToCache(targetDirectory);
+    }
 }
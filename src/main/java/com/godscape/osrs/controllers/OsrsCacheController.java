@@ -4,12 +4,17 @@ import com.godscape.osrs.managers.OsrsCacheManager;
 import com.godscape.osrs.schemas.OsrsCharacterSchema;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.managers.BaseObservationManager;
+import com.godscape.system.schemas.SettingsStore;
 import com.godscape.system.utility.Logger;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Singleton
@@ -34,6 +39,14 @@ public class OsrsCacheController {
         return cacheManager.getProfile(profileId);
     }
 
+    public OsrsProfileSchema getProfileByName(String profileName) {
+        return cacheManager.getProfileByName(profileName);
+    }
+
+    public boolean profileExists(String profileName) {
+        return cacheManager.profileNameExists(profileName);
+    }
+
     public boolean addProfile(OsrsProfileSchema profile) {
         boolean added = cacheManager.addProfileToCache(profile);
         Logger.info(added ? "OsrsCacheController: Added profile '{}' to cache." :
@@ -60,28 +73,41 @@ public class OsrsCacheController {
     }
 
     public void saveToProfileCache(UUID profileId, String componentId, Object value) {
-        OsrsProfileSchema profile = cacheManager.getProfile(profileId);
-        if (profile == null) {
-            Logger.error("OsrsCacheController: Profile with ID '{}' not found.", profileId);
-            return;
+        if (applyProfileSettings(profileId, SettingsEntryProcessor.set(componentId, value))) {
+            Logger.info("OsrsCacheController: Setting '{}' saved to profile cache.", componentId);
         }
+    }
 
-        Map<String, Object> settingsMap = profile.getSettingsMap();
-        if (settingsMap == null) {
-            settingsMap = new HashMap<>();
-            profile.setSettingsMap(settingsMap);
+    public void removeFromProfileCache(UUID profileId, String componentId) {
+        if (applyProfileSettings(profileId, SettingsEntryProcessor.remove(componentId))) {
+            Logger.info("OsrsCacheController: Setting '{}' removed from profile cache.", componentId);
         }
+    }
 
-        settingsMap.put(componentId.toLowerCase(), value);
-        boolean updated = cacheManager.updateProfileInCache(profile);
-        if (updated) {
-            notifyProfileUpdate(profile); // Notify listeners about the setting update
-            Logger.info("OsrsCacheController: Setting '{}' saved to profile cache.", componentId);
-        } else {
-            Logger.error("OsrsCacheController: Failed to save setting '{}' to profile cache.", componentId);
+    public void saveAllToProfileCache(UUID profileId, Map<String, Object> settings) {
+        if (settings == null || settings.isEmpty()) {
+            return;
+        }
+        if (applyProfileSettings(profileId, SettingsEntryProcessor.setAll(settings))) {
+            Logger.info("OsrsCacheController: {} settings saved to profile cache.", settings.size());
         }
     }
 
+    /**
+     * Runs a settings operation against the cached profile in place. Observers are notified with
+     * only the keys that changed by the profile cache listener when the entry is written back.
+     *
+     * @return True if the profile exists in the cache.
+     */
+    private boolean applyProfileSettings(UUID profileId, SettingsEntryProcessor<OsrsProfileSchema> processor) {
+        SettingsDelta delta = cacheManager.updateProfileSettings(profileId, processor);
+        if (delta == null) {
+            Logger.error("OsrsCacheController: Profile with ID '{}' not found.", profileId);
+            return false;
+        }
+        return true;
+    }
+
     public Object loadFromProfileCache(UUID profileId, String componentId) {
         OsrsProfileSchema profile = cacheManager.getProfile(profileId);
         if (profile == null) {
@@ -89,13 +115,7 @@ public class OsrsCacheController {
             return null;
         }
 
-        Map<String, Object> settingsMap = profile.getSettingsMap();
-        if (settingsMap != null) {
-            return settingsMap.get(componentId.toLowerCase());
-        }
-
-        Logger.warn("OsrsCacheController: No settings found for profile '{}'.", profileId);
-        return null;
+        return profile.getSettings().getSetting(componentId);
     }
 
     // Character Management Methods
@@ -137,16 +157,22 @@ public class OsrsCacheController {
             return;
         }
 
-        Map<String, Object> settingsMap = character.getSettingsMap();
-        if (settingsMap == null) {
-            settingsMap = new HashMap<>();
-            character.setSettingsMap(settingsMap);
+        // Characters are held by reference in the character controller, not in a Hazelcast map, so the
+        // change is applied to the cached instance directly and this is the only notification of it.
+        String key = SettingsStore.normalize(componentId);
+        Object previous = character.getSettings().put(key, value);
+        if (Objects.equals(previous, value)) {
+            return;
         }
 
-        settingsMap.put(componentId.toLowerCase(), value);
-        boolean updated = cacheManager.updateCharacterInCache(character);
-        Logger.info(updated ? "OsrsCacheController: Setting '{}' saved to character cache." :
-                "OsrsCacheController: Failed to save setting '{}' to character cache.", componentId);
+        SettingsDelta delta = new SettingsDelta(characterId);
+        if (value == null) {
+            delta.recordRemoved(key);
+        } else {
+            delta.recordChanged(key, value);
+        }
+        notifySettingsChanged(delta);
+        Logger.info("OsrsCacheController: Setting '{}' saved to character cache.", componentId);
     }
 
     public Object loadFromCharacterCache(UUID characterId, String componentId) {
@@ -156,13 +182,7 @@ public class OsrsCacheController {
             return null;
         }
 
-        Map<String, Object> settingsMap = character.getSettingsMap();
-        if (settingsMap != null) {
-            return settingsMap.get(componentId.toLowerCase());
-        }
-
-        Logger.warn("OsrsCacheController: No settings found for character '{}'.", characterId);
-        return null;
+        return character.getSettings().getSetting(componentId);
     }
 
     // General Settings Map Retrieval
@@ -201,6 +221,14 @@ public class OsrsCacheController {
         Logger.info("OsrsCacheController: Cache shutdown complete.");
     }
 
+    private void notifySettingsChanged(SettingsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        BaseObservationManager observationManager = DependencyFactory.getInstance().getInjection(BaseObservationManager.class);
+        observationManager.notifySettingsChanged(delta);
+    }
+
     // Private Methods for Notifying Profile Updates
     private void notifyProfileUpdate(OsrsProfileSchema profile) {
         // This method is used to notify listeners that a profile has been updated.
@@ -3,6 +3,8 @@ package com.godscape.osrs.controllers;
 import com.godscape.osrs.managers.OsrsProfilesManager;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
@@ -115,6 +117,37 @@ public class OsrsProfilesController {
         return osrsProfilesManager.getProfile(profileId);
     }
 
+    /**
+     * Retrieves a profile by name from the manager.
+     *
+     * @param profileName The name of the profile to retrieve.
+     * @return The profile or null if not found.
+     */
+    public OsrsProfileSchema getProfileByName(String profileName) {
+        return osrsProfilesManager.getProfileByName(profileName);
+    }
+
+    /**
+     * Checks whether a profile with the given name exists.
+     *
+     * @param profileName The name of the profile to check.
+     * @return true if a profile with this name exists.
+     */
+    public boolean profileNameExists(String profileName) {
+        return osrsProfilesManager.profileNameExists(profileName);
+    }
+
+    /**
+     * Applies a settings update to a cached profile without replacing the whole profile.
+     *
+     * @param profileId The UUID of the profile.
+     * @param processor The settings operation to run.
+     * @return The settings that changed, or null if the profile is not in the cache.
+     */
+    public SettingsDelta updateSettings(UUID profileId, SettingsEntryProcessor<OsrsProfileSchema> processor) {
+        return osrsProfilesManager.updateSettings(profileId, processor);
+    }
+
     /**
      * Clears all profiles from the manager.
      */
@@ -6,10 +6,12 @@ import com.godscape.osrs.managers.OsrsSettingsManager;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.observers.SettingsWriteBuffer;
 import com.godscape.system.interfaces.fuse.SettingsFuse;
 import com.godscape.system.utility.Logger;
 
 import javax.swing.*;
+import java.awt.Component;
 import java.util.*;
 
 @Singleton
@@ -36,6 +38,7 @@ public class OsrsSettingsController implements SettingsFuse {
 
     @Override
     public void setActiveProfileId(UUID profileId) {
+        DependencyFactory.getInstance().getInjection(SettingsWriteBuffer.class).flush(); // Persist edits to the outgoing profile first
         settingsManager.setActiveProfileId(profileId);
         Logger.info("OsrsSettingsController: Active profile ID set to {}", profileId);
         notifyListeners(); // Notify all panels that a new profile is active
@@ -48,6 +51,10 @@ public class OsrsSettingsController implements SettingsFuse {
         return key;
     }
 
+    public int unregisterComponents(Component root) {
+        return settingsManager.unregisterComponents(root);
+    }
+
     @Override
     public void saveSetting(Enum<?> panel, String componentId, Object value) {
         OsrsProfileSchema currentProfile = getActiveProfile();
@@ -110,6 +117,14 @@ public class OsrsSettingsController implements SettingsFuse {
         return settingsManager.getActiveProfile();
     }
 
+    /**
+     * @return The ID of the active profile, or null if none is set. Unlike {@link #getActiveProfile()},
+     * this does not touch the cache.
+     */
+    public UUID getActiveProfileId() {
+        return settingsManager.getActiveProfileId();
+    }
+
     public void updateProfile(OsrsProfileSchema profile) {
         settingsManager.updateProfile(profile);
         Logger.info("OsrsSettingsController: Profile '{}' updated.", profile.getProfileId());
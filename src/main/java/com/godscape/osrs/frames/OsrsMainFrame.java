@@ -10,6 +10,7 @@ import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.ThemeFactory;
 import com.godscape.system.managers.PlatformManager;
 import com.godscape.system.modules.DatabaseModule;
+import com.godscape.system.observers.ThemeChangeObservation;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.enums.Themes;
 
@@ -28,6 +29,8 @@ public class OsrsMainFrame extends JFrame {
     private final DatabaseModule databaseModule;
     private final OsrsObservationController osrsObservationController;
     private volatile boolean isRefreshing = false;
+    // Theme listeners are held weakly, so the frame keeps the only strong reference to its own
+    private final ThemeChangeObservation themeListener = this::refreshTheme;
 
     private OsrsMainFrame() {
         DependencyFactory dependencyFactory = DependencyFactory.getInstance();
@@ -65,7 +68,7 @@ public class OsrsMainFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Database connection failed. Limited functionality available.", "Database Error", JOptionPane.WARNING_MESSAGE);
                 }
 
-                osrsObservationController.registerThemeListener(this::refreshTheme);
+                osrsObservationController.registerThemeListener(themeListener);
                 applyTheme();
                 setupPanels();
                 setVisible(true);
@@ -132,7 +135,7 @@ public class OsrsMainFrame extends JFrame {
 
     @Override
     public void dispose() {
-        osrsObservationController.unregisterThemeListener(this::refreshTheme);
+        osrsObservationController.unregisterThemeListener(themeListener);
         SwingUtilities.invokeLater(() -> DependencyFactory.getInstance().getInjection(PlatformManager.class).shutdownPlatform());
         super.dispose();
         instance = null;
@@ -3,6 +3,7 @@ package com.godscape.osrs.frames.panels;
 import com.godscape.osrs.enums.core.OsrsPanels;
 import com.godscape.osrs.managers.panels.OsrsHeaderManager;
 import com.godscape.osrs.observations.OsrsProfileChangeObservation;
+import com.godscape.osrs.observations.OsrsProfileChangedEvent;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.factories.DependencyFactory;
@@ -11,6 +12,7 @@ import com.godscape.system.utility.Logger;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -289,6 +291,32 @@ public class OsrsHeaderPanel extends JPanel implements OsrsProfileChangeObservat
         loadProfilesAndSelectProfile(null);
     }
 
+    // Reload the dropdown once for the whole batch, selecting the profile changed last
+    @Override
+    public void onProfilesChanged(Collection<OsrsProfileChangedEvent> changes) {
+        boolean reload = false;
+        String selection = null;
+        for (OsrsProfileChangedEvent change : changes) {
+            switch (change.getKind()) {
+                case ADDED:
+                case UPDATED:
+                    selection = change.getProfile().getProfileName();
+                    reload = true;
+                    break;
+                case REMOVED:
+                    selection = null;
+                    reload = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (reload) {
+            Logger.info("Profiles changed: {}", changes.size());
+            loadProfilesAndSelectProfile(selection);
+        }
+    }
+
     public void cleanup() {
         if (headerPanelManager != null) {
             headerPanelManager.removeObserver(this);
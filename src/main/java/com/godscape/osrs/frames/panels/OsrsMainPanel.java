@@ -3,6 +3,7 @@ package com.godscape.osrs.frames.panels;
 import com.godscape.osrs.managers.panels.OsrsFooterManager;
 import com.godscape.osrs.enums.core.OsrsPanels;
 import com.godscape.system.factories.PanelFactory;
+import com.godscape.system.utility.LazyTabPanel;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.utility.TabNode;
 
@@ -14,7 +15,8 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * Main panel for the OSRS interface that integrates all sub-panels.
+ * Main panel for the OSRS interface that integrates all sub-panels. Leaf tabs are {@link LazyTabPanel}s,
+ * built when first shown or ahead of time by the panel prefetcher.
  */
 public class OsrsMainPanel extends JPanel {
     private final JTabbedPane tabbedPane;
@@ -94,18 +96,7 @@ public class OsrsMainPanel extends JPanel {
                 createTabs(nestedTabbedPane, node.getChildren());
             } else {
                 try {
-                    JComponent panel = panelFactory.createPanel(panelEnum, footerManager);
-                    if (panel != null) {
-                        panel.setOpaque(false); // Make panel transparent.
-
-                        // Wrap the panel to ensure components start at the top
-                        JPanel wrapperPanel = new JPanel(new BorderLayout());
-                        wrapperPanel.setOpaque(false);
-                        wrapperPanel.add(panel, BorderLayout.NORTH); // Align panel to the top
-                        parentTabbedPane.addTab(tabTitle, wrapperPanel);
-                    } else {
-                        Logger.warn("Panel not created for: {} - proceeding without it.", panelEnum.getTabTitle());
-                    }
+                    parentTabbedPane.addTab(tabTitle, new LazyTabPanel(panelFactory, panelEnum, footerManager));
                 } catch (Exception e) {
                     Logger.error("Error creating panel for {}: {}. Skipping this panel.", panelEnum.getTabTitle(), e.getMessage(), e);
                 }
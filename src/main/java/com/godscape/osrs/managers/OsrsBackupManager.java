@@ -1,27 +1,60 @@
 package com.godscape.osrs.managers;
 
+import com.godscape.osrs.cache.OsrsProfileCache;
 import com.godscape.osrs.cache.backup.OsrsPerformBackup;
 import com.godscape.osrs.cache.backup.OsrsPerformRestore;
+import com.godscape.osrs.controllers.OsrsCacheController;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.cache.backup.DifferentialBackupStore;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.mark.Saveable;
 import com.godscape.system.managers.BaseBackupManager;
 import com.godscape.system.utility.Logger;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * OsrsBackupManager coordinates backup and restore operations for OSRS profiles.
+ * <p>
+ * Differential backups ({@link DifferentialBackupStore}) run on a single background thread, so they
+ * never block the caller and never overlap with each other or with their garbage collection.
  */
 public class OsrsBackupManager extends BaseBackupManager<OsrsProfileSchema> {
 
+    private static final int DEFAULT_RETAIN_MANIFESTS = 10;
+
     private static volatile OsrsBackupManager instance;
     private final OsrsPerformBackup performBackup;
     private final OsrsPerformRestore performRestore;
+    private final ExecutorService backupExecutor;
+    private final Map<Path, DifferentialBackupStore<OsrsProfileSchema>> differentialStores = new ConcurrentHashMap<>();
+    private final int retainManifests;
 
     private OsrsBackupManager() {
         super();
         this.performBackup = OsrsPerformBackup.getInstance();
         this.performRestore = OsrsPerformRestore.getInstance();
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.retainManifests = Math.max(1, config.getInt(ConfigKeys.DIFFERENTIAL_BACKUP_RETAIN_MANIFESTS, DEFAULT_RETAIN_MANIFESTS));
+        this.backupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OsrsBackup");
+            thread.setDaemon(true);
+            return thread;
+        });
         Logger.info("OsrsBackupManager: Initialized and ready to manage backup and restore operations.");
     }
 
@@ -41,4 +74,124 @@ public class OsrsBackupManager extends BaseBackupManager<OsrsProfileSchema> {
         super.backupProfiles(profiles, targetDirectory, format);
         Logger.info("OsrsBackupManager: Backup process completed successfully.");
     }
+
+    private DifferentialBackupStore<OsrsProfileSchema> differentialStore(String targetDirectory) {
+        Path root = Paths.get(targetDirectory, "osrs_differential").toAbsolutePath().normalize();
+        return differentialStores.computeIfAbsent(root, path -> new DifferentialBackupStore<>(path,
+                OsrsProfileSchema::getProfileId, OsrsProfileSchema::getLastUpdated, OsrsProfileSchema::new));
+    }
+
+    /**
+     * Backs up every cached OSRS profile differentially in the background, then removes manifests
+     * beyond the {@link ConfigKeys#DIFFERENTIAL_BACKUP_RETAIN_MANIFESTS} newest and the chunks only they referenced.
+     *
+     * @param targetDirectory The directory holding the differential backup.
+     * @return Completes with the result once the manifest is written.
+     */
+    public CompletableFuture<DifferentialBackupStore.BackupResult> backupDifferentialAsync(String targetDirectory) {
+        return backupDifferentialAsync(null, targetDirectory);
+    }
+
+    /**
+     * Backs up the given OSRS profiles differentially in the background, then removes old manifests as
+     * {@link #backupDifferentialAsync(String)} does.
+     *
+     * @param profiles        The profiles to back up, or null for every cached profile.
+     * @param targetDirectory The directory holding the differential backup.
+     * @return Completes with the result once the manifest is written.
+     */
+    public CompletableFuture<DifferentialBackupStore.BackupResult> backupDifferentialAsync(Collection<OsrsProfileSchema> profiles,
+                                                                                         String targetDirectory) {
+        DifferentialBackupStore<OsrsProfileSchema> store = differentialStore(targetDirectory);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                // Copied on the backup thread, so a large cache is never walked on the caller's thread
+                Collection<OsrsProfileSchema> source = profiles != null ? profiles
+                        : DependencyFactory.getInstance().getInjection(OsrsProfileCache.class).getAllProfiles();
+                DifferentialBackupStore.BackupResult result = store.backup(new ArrayList<>(source));
+                Logger.info("OsrsBackupManager: Differential backup completed: {}.", result);
+                DifferentialBackupStore.GcResult gcResult = store.collectGarbage(retainManifests);
+                if (gcResult.getManifestsRemoved() > 0 || gcResult.getChunksRemoved() > 0) {
+                    Logger.info("OsrsBackupManager: Differential backup cleanup: {}.", gcResult);
+                }
+                return result;
+            } catch (IOException e) {
+                Logger.error("OsrsBackupManager: Differential backup to {} failed - {}", targetDirectory, e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        }, backupExecutor);
+    }
+
+    /**
+     * Restores the profiles recorded in a differential backup manifest into the profile cache in the background.
+     *
+     * @param targetDirectory The directory holding the differential backup.
+     * @param manifestName    The manifest to restore, or null for the newest.
+     * @return Completes with the number of profiles restored.
+     */
+    public CompletableFuture<Integer> restoreDifferentialAsync(String targetDirectory, String manifestName) {
+        DifferentialBackupStore<OsrsProfileSchema> store = differentialStore(targetDirectory);
+        return CompletableFuture.supplyAsync(() -> {
+            OsrsCacheController cacheController = DependencyFactory.getInstance().getInjection(OsrsCacheController.class);
+            try {
+                int restored = manifestName == null
+                        ? store.restoreLatest(cacheController::updateProfile)
+                        : store.restore(manifestName, cacheController::updateProfile);
+                Logger.info("OsrsBackupManager: Restored {} profiles from differential backup '{}'.", restored,
+                        manifestName != null ? manifestName : "latest");
+                return restored;
+            } catch (IOException e) {
+                Logger.error("OsrsBackupManager: Differential restore from {} failed - {}", targetDirectory, e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        }, backupExecutor);
+    }
+
+    /**
+     * Lists the differential backup manifests in the target directory, oldest first.
+     */
+    public List<String> listDifferentialBackups(String targetDirectory) throws IOException {
+        return differentialStore(targetDirectory).listManifests();
+    }
+
+    /**
+     * Removes manifests beyond the newest {@code keepManifests} and unreferenced chunks in the background.
+     */
+    public CompletableFuture<DifferentialBackupStore.GcResult> collectGarbageAsync(String targetDirectory, int keepManifests) {
+        DifferentialBackupStore<OsrsProfileSchema> store = differentialStore(targetDirectory);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                DifferentialBackupStore.GcResult result = store.collectGarbage(keepManifests);
+                Logger.info("OsrsBackupManager: Differential backup cleanup: {}.", result);
+                return result;
+            } catch (IOException e) {
+                Logger.error("OsrsBackupManager: Differential backup cleanup in {} failed - {}", targetDirectory, e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        }, backupExecutor);
+    }
+
+    /**
+     * Shuts the manager down if it was ever created, without creating it just to do so.
+     */
+    public static void shutdownIfStarted() {
+        OsrsBackupManager current = instance;
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+
+    /**
+     * Stops accepting background work and waits briefly for a running backup to finish.
+     */
+    public void shutdown() {
+        backupExecutor.shutdown();
+        try {
+            if (!backupExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                Logger.warn("OsrsBackupManager: A background backup was still running at shutdown.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
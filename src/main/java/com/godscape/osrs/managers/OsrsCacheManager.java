@@ -5,6 +5,8 @@ import com.godscape.osrs.controllers.OsrsCharacterController;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.osrs.schemas.OsrsCharacterSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
@@ -55,6 +57,18 @@ public class OsrsCacheManager {
         return profile;
     }
 
+    public OsrsProfileSchema getProfileByName(String profileName) {
+        if (profileName == null || profileName.trim().isEmpty()) {
+            Logger.warn("OsrsCacheManager: Profile name cannot be null or empty.");
+            return null;
+        }
+        return profilesController.getProfileByName(profileName);
+    }
+
+    public boolean profileNameExists(String profileName) {
+        return profileName != null && profilesController.profileNameExists(profileName);
+    }
+
     public boolean updateProfileInCache(OsrsProfileSchema profile) {
         if (profile == null || profile.getProfileId() == null) {
             Logger.warn("OsrsCacheManager: Cannot update null profile or profile with null ID.");
@@ -66,6 +80,14 @@ public class OsrsCacheManager {
         return updated;
     }
 
+    public SettingsDelta updateProfileSettings(UUID profileId, SettingsEntryProcessor<OsrsProfileSchema> processor) {
+        if (profileId == null) {
+            Logger.warn("OsrsCacheManager: Cannot update settings for profile with null ID.");
+            return null;
+        }
+        return profilesController.updateSettings(profileId, processor);
+    }
+
     public boolean addProfileToCache(OsrsProfileSchema profile) {
         if (profile == null || profile.getProfileId() == null) {
             Logger.warn("OsrsCacheManager: Cannot add null profile or profile with null ID.");
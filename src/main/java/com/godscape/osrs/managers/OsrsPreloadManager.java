@@ -6,6 +6,7 @@ import com.godscape.system.config.GodscapeConfig;
 import com.godscape.system.enums.ConfigKeys;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.preloaders.GlobalSettingsPreloader;
+import com.godscape.system.preloaders.PreloadGraph;
 import com.godscape.system.schemas.GlobalSettingsSchema;
 import com.godscape.system.utility.Logger;
 
@@ -19,13 +20,20 @@ public class OsrsPreloadManager {
         this.profilePreloader = DependencyFactory.getInstance().getInjection(OsrsPreloadLauncher.class); // Use singleton instance
     }
 
-    public void initializePreload() {
+    /**
+     * Adds the OSRS profile preloaders to the graph of shared preloaders and starts it.
+     *
+     * @param graph The graph holding the preloaders shared by every game version.
+     * @return The started graph.
+     */
+    public PreloadGraph.Run initializePreload(PreloadGraph graph) {
         DependencyFactory dependencyFactory = DependencyFactory.getInstance();
         if (dependencyFactory.getInjection(GodscapeConfig.class).getBoolean(ConfigKeys.OSRS_PRELOAD_PROFILES, true)) {
             Logger.info("OsrsPreloadManager: Preloading is enabled. Running profile preloaders.");
-            profilePreloader.preload();
+            graph.addAll(profilePreloader.getPreloaders());
         } else {
             Logger.info("OsrsPreloadManager: Preloading is disabled. Skipping profile preload.");
         }
+        return graph.start();
     }
 }
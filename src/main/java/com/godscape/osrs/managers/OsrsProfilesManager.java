@@ -3,6 +3,8 @@ package com.godscape.osrs.managers;
 import com.godscape.osrs.cache.OsrsProfileCache;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.utility.validation.Normalization;
@@ -49,13 +51,14 @@ public class OsrsProfilesManager {
 
     /**
      * Checks if a profile has changes compared to the cached version.
+     * A profile that is the near-cached instance itself was mutated in place and always counts as changed.
      *
      * @param profile The profile to check.
      * @return true if there are changes, false otherwise.
      */
     public boolean hasChanges(OsrsProfileSchema profile) {
         OsrsProfileSchema cachedProfile = profileCache.getProfile(profile.getProfileId());
-        return cachedProfile != null && !cachedProfile.equals(profile);
+        return cachedProfile != null && (cachedProfile == profile || !cachedProfile.equals(profile));
     }
 
     /**
@@ -86,6 +89,37 @@ public class OsrsProfilesManager {
         return profile;
     }
 
+    /**
+     * Retrieves a profile by its name (case-insensitive) from the cache.
+     *
+     * @param profileName The name of the profile to retrieve.
+     * @return The profile if found, null otherwise.
+     */
+    public OsrsProfileSchema getProfileByName(String profileName) {
+        return profileCache.getProfileByName(profileName);
+    }
+
+    /**
+     * Checks if a profile with the given name exists in the cache (case-insensitive).
+     *
+     * @param profileName The name of the profile to check.
+     * @return True if the profile exists, false otherwise.
+     */
+    public boolean profileNameExists(String profileName) {
+        return profileCache.profileNameExists(profileName);
+    }
+
+    /**
+     * Applies a settings update to a cached profile without replacing the whole profile.
+     *
+     * @param profileId The UUID of the profile.
+     * @param processor The settings operation to run.
+     * @return The settings that changed, or null if the profile is not in the cache.
+     */
+    public SettingsDelta updateSettings(UUID profileId, SettingsEntryProcessor<OsrsProfileSchema> processor) {
+        return profileCache.updateSettings(profileId, processor);
+    }
+
     /**
      * Retrieves all profiles from the cache.
      *
@@ -9,6 +9,7 @@ import com.godscape.system.interfaces.fuse.SettingsFuse;
 import com.godscape.system.utility.Logger;
 
 import javax.swing.*;
+import java.awt.Component;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,7 +20,7 @@ public class OsrsSettingsManager implements SettingsFuse {
 
     private final OsrsCacheController cacheController;
     private final Map<String, JComponent> componentMap = new HashMap<>();
-    private UUID activeProfileId;
+    private volatile UUID activeProfileId;  // Also read by the panel prefetcher's background threads
 
     public OsrsSettingsManager() {
         this.cacheController = DependencyFactory.getInstance().getInjection(OsrsCacheController.class);
@@ -32,6 +33,10 @@ public class OsrsSettingsManager implements SettingsFuse {
         Logger.info("OsrsSettingsManager: Active profile ID set to {}", profileId);
     }
 
+    public UUID getActiveProfileId() {
+        return activeProfileId;
+    }
+
     @Override
     public String registerComponent(Enum<?> panel, String componentId, JComponent component) {
         if (!(panel instanceof OsrsSchemas)) {
@@ -49,6 +54,22 @@ public class OsrsSettingsManager implements SettingsFuse {
         return key;
     }
 
+    /**
+     * Unregisters every component inside the given root, such as the content of a released tab, so
+     * it is no longer loaded into and can be garbage collected.
+     *
+     * @return The number of components unregistered.
+     */
+    public int unregisterComponents(Component root) {
+        int before = componentMap.size();
+        componentMap.values().removeIf(component -> component == root || SwingUtilities.isDescendingFrom(component, root));
+        int removed = before - componentMap.size();
+        if (removed > 0) {
+            Logger.info("OsrsSettingsManager: Unregistered {} components.", removed);
+        }
+        return removed;
+    }
+
     @Override
     public void saveSetting(Enum<?> schema, String componentId, Object value) {
         if (activeProfileId == null) {
@@ -2,6 +2,7 @@ package com.godscape.osrs.managers.panels;
 
 import com.godscape.osrs.controllers.OsrsCacheController;
 import com.godscape.osrs.controllers.OsrsSettingsController;
+import com.godscape.osrs.managers.OsrsObservationManager;
 import com.godscape.osrs.observations.OsrsProfileChangeObservation;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
@@ -14,7 +15,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.Collection;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -22,13 +22,14 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
 
     private final OsrsCacheController osrsCacheController;
     private final OsrsSettingsController osrsSettingsController;
+    private final OsrsObservationManager observationManager;
     private String currentProfileName;
-    private final List<OsrsProfileChangeObservation> observers = new CopyOnWriteArrayList<>();
 
     public OsrsHeaderManager() {
         DependencyFactory dependencyFactory = DependencyFactory.getInstance();
         this.osrsCacheController = dependencyFactory.getInjection(OsrsCacheController.class);
         this.osrsSettingsController = dependencyFactory.getInjection(OsrsSettingsController.class);
+        this.observationManager = dependencyFactory.getInjection(OsrsObservationManager.class);
         Logger.info("OsrsHeaderManager initialized.");
     }
 
@@ -65,7 +66,6 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
         boolean added = osrsCacheController.addProfile(newProfile);
         if (added) {
             setCurrentProfileName(profileName);
-            notifyProfileAdded(newProfile);
             Logger.info("Successfully created profile '{}'.", profileName);
             return true;
         } else {
@@ -85,7 +85,7 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
             return false;
         }
 
-        if (profileExists(newName)) {
+        if (profileExists(newName) && !newName.equalsIgnoreCase(currentName)) {
             Logger.warn("A profile with the name '{}' already exists. Renaming aborted.", newName);
             return false;
         }
@@ -97,7 +97,6 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
             boolean updated = osrsCacheController.updateProfile(profile);
             if (updated) {
                 setCurrentProfileName(newName);
-                notifyProfileUpdated(profile);
                 Logger.info("Renamed profile '{}' to '{}'.", currentName, newName);
                 return true;
             } else {
@@ -124,7 +123,6 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
                 if (profileName.equals(currentProfileName)) {
                     setCurrentProfileName(null);
                 }
-                notifyProfileRemoved(profile);
                 Logger.info("Deleted profile '{}'.", profileName);
                 return true;
             } else {
@@ -152,7 +150,6 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
             boolean updated = osrsCacheController.updateProfile(profile);
             if (updated) {
                 setCurrentProfileName(profileName);
-                notifyProfileUpdated(profile);
                 Logger.info("Updated profile '{}'.", profileName);
                 return true;
             } else {
@@ -183,15 +180,11 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
     }
 
     private OsrsProfileSchema getProfileByName(String profileName) {
-        return osrsCacheController.getAllProfiles().stream()
-                .filter(p -> p.getProfileName().equals(profileName))
-                .findFirst()
-                .orElse(null);
+        return osrsCacheController.getProfileByName(profileName);
     }
 
     private boolean profileExists(String profileName) {
-        return osrsCacheController.getAllProfiles().stream()
-                .anyMatch(p -> p.getProfileName().equals(profileName));
+        return osrsCacheController.profileExists(profileName);
     }
 
     private boolean isInvalidProfileName(String profileName) {
@@ -202,37 +195,23 @@ public class OsrsHeaderManager implements ObservationFuse<OsrsProfileChangeObser
         this.currentProfileName = profileName;
     }
 
-    // Observer methods
+    // Observer methods; the cache's entry listener publishes every profile change, including the ones made here
     @Override
     public void addObserver(OsrsProfileChangeObservation observer) {
-        observers.add(observer);
-        Logger.info("OsrsHeaderManager: Registered OsrsProfileChangeObserver.");
+        observationManager.addProfileObserver(observer);
     }
 
     @Override
     public void removeObserver(OsrsProfileChangeObservation observer) {
-        observers.remove(observer);
-        Logger.info("OsrsHeaderManager: Unregistered OsrsProfileChangeObserver.");
+        observationManager.removeProfileObserver(observer);
     }
 
     @Override
     public void notifyObservers(Object profile) {
         if (profile instanceof OsrsProfileSchema) {
-            notifyProfileAdded((OsrsProfileSchema) profile);
+            observationManager.notifyProfileAdded(profile);
         } else {
             Logger.warn("Unsupported profile type for notification.");
         }
     }
-
-    private void notifyProfileAdded(OsrsProfileSchema profile) {
-        observers.forEach(observer -> observer.onProfileAdded(profile));
-    }
-
-    private void notifyProfileUpdated(OsrsProfileSchema profile) {
-        observers.forEach(observer -> observer.onProfileUpdated(profile));
-    }
-
-    private void notifyProfileRemoved(OsrsProfileSchema profile) {
-        observers.forEach(observer -> observer.onProfileRemoved(profile));
-    }
 }
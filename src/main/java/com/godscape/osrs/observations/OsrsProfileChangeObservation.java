@@ -1,9 +1,43 @@
 package com.godscape.osrs.observations;
 
 import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.cache.SettingsDelta;
+
+import java.util.Collection;
 
 public interface OsrsProfileChangeObservation {
     void onProfileAdded(OsrsProfileSchema profile);
     void onProfileUpdated(OsrsProfileSchema profile);
     void onProfileRemoved(OsrsProfileSchema profile);
+
+    /**
+     * Called once for each batch of profile changes, with every profile appearing at most once. By
+     * default each change is passed to the matching single-profile method; override this to refresh
+     * once per batch instead.
+     */
+    default void onProfilesChanged(Collection<OsrsProfileChangedEvent> changes) {
+        for (OsrsProfileChangedEvent change : changes) {
+            switch (change.getKind()) {
+                case ADDED:
+                    onProfileAdded(change.getProfile());
+                    break;
+                case UPDATED:
+                    onProfileUpdated(change.getProfile());
+                    break;
+                case REMOVED:
+                    onProfileRemoved(change.getProfile());
+                    break;
+                default:
+                    break;  // Setting-level changes arrive through onSettingsChanged
+            }
+        }
+    }
+
+    /**
+     * Called when individual settings of a profile or character change in place.
+     *
+     * @param delta Only the settings keys that changed.
+     */
+    default void onSettingsChanged(SettingsDelta delta) {
+    }
 }
@@ -0,0 +1,14 @@
+package com.godscape.osrs.observations;
+
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.events.ProfileChangedEvent;
+
+/**
+ * An OSRS profile that was added, updated or removed, delivered in a {@code ProfileChangeBatchEvent}.
+ */
+public final class OsrsProfileChangedEvent extends ProfileChangedEvent<OsrsProfileSchema> {
+
+    public OsrsProfileChangedEvent(Kind kind, OsrsProfileSchema profile) {
+        super(kind, profile);
+    }
+}
@@ -31,6 +31,7 @@ public class DreamBotAdapter extends AbstractScript {
     private BotInitialize botInitialize;
     private BotMainLoop botMainLoop;
     private BotTerminate botTerminate;
+    private String logSession;
 
     public DreamBotAdapter() {
         Logger.info("DreamBotAdapter: Initializing DreamBotAdapter...");
@@ -40,6 +41,7 @@ public class DreamBotAdapter extends AbstractScript {
 
     @Override
     public void onStart() {
+        logSession = Logger.beginSession("dreambot");  // This script's threads log to a file of their own
           Logger.info("DreamBotAdapter: onStart called.");
         initializeBot();
     }
@@ -55,6 +57,7 @@ public class DreamBotAdapter extends AbstractScript {
     @Override
     public void onExit() {
         terminateBot();
+        Logger.endSession(logSession);
 
         SwingUtilities.invokeLater(() -> {
             FrameFactory.getInstance().disposeFrame();
@@ -2,15 +2,18 @@ package com.godscape.osrs.preloaders;
 
 import com.godscape.osrs.cache.OsrsProfileCache;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 import com.godscape.system.utility.Logger;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
 @Singleton
+@Preload(after = GlobalSettingsPreloader.class)
 public class OsrsCurrentStatsProfilePreloader implements Preloadable {
 
     private final OsrsProfileCache osrsProfilesCache;
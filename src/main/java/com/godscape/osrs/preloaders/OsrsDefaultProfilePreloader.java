@@ -4,9 +4,11 @@ import com.godscape.osrs.cache.OsrsProfileCache;
 import com.godscape.osrs.enums.game.OsrsSkillNames;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.osrs.enums.core.OsrsPanels;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 import com.godscape.system.utility.generators.HashGenerator;
 import com.godscape.system.utility.validation.Normalization;
 import com.godscape.system.utility.Logger;
@@ -17,6 +19,7 @@ import java.util.Map;
 import java.util.UUID;
 
 @Singleton
+@Preload(after = GlobalSettingsPreloader.class)
 public class OsrsDefaultProfilePreloader implements Preloadable {
 
     private final OsrsProfileCache osrsProfilesCache;
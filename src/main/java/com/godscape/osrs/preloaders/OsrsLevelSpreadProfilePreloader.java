@@ -4,18 +4,23 @@ import com.godscape.osrs.cache.OsrsProfileCache;
 import com.godscape.osrs.enums.game.OsrsSkillNames;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.osrs.enums.core.OsrsPanels;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 import com.godscape.system.utility.generators.HashGenerator;
 import com.godscape.system.utility.validation.Normalization;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.factories.DependencyFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @Singleton
+@Preload(after = GlobalSettingsPreloader.class)
 public class OsrsLevelSpreadProfilePreloader implements Preloadable {
 
     private static volatile OsrsLevelSpreadProfilePreloader instance;
@@ -41,11 +46,12 @@ public class OsrsLevelSpreadProfilePreloader implements Preloadable {
         // Fetch the default settings map from the default profile preloader
         Map<String, Object> baseSettingsMap = osrsDefaultPreloader.getDefaultSettingsMap();
 
+        List<OsrsProfileSchema> profiles = new ArrayList<>(levelSpread.length);
         for (int level : levelSpread) {
             String profileName = "Level: " + level;
             UUID profileId = HashGenerator.generateId(profileName);
 
-            if (osrsProfilesCache.getProfile(profileId) != null) {
+            if (osrsProfilesCache.getProfileIdByName(profileName) != null) {
                 Logger.warn("Level spread profile '{}' already exists. Skipping.", profileName);
                 continue;
             }
@@ -61,8 +67,12 @@ public class OsrsLevelSpreadProfilePreloader implements Preloadable {
                     System.currentTimeMillis()
             );
 
-            osrsProfilesCache.addProfile(levelSpreadProfile);
-            Logger.info("Level spread profile '{}' with ID '{}' added to cache.", profileName, profileId);
+            profiles.add(levelSpreadProfile);
+        }
+
+        if (!profiles.isEmpty()) {
+            int added = osrsProfilesCache.addProfiles(profiles);
+            Logger.info("OsrsLevelSpreadProfilePreloader: Added {} level spread profiles to cache.", added);
         }
     }
 
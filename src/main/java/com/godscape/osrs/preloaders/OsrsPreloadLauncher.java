@@ -2,12 +2,14 @@ package com.godscape.osrs.preloaders;
 
 import com.godscape.osrs.enums.core.OsrsPreloaders;
 import com.godscape.system.annotations.Singleton;
-import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.mark.Preloadable;
 import com.godscape.system.preloaders.BaseProfilePreloader;
-import com.godscape.system.preloaders.GlobalSettingsPreloader;
+import com.godscape.system.preloaders.PreloadGraph;
 import com.godscape.system.utility.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Singleton class responsible for launching all OSRS-specific preloaders.
  */
@@ -29,27 +31,32 @@ public class OsrsPreloadLauncher extends BaseProfilePreloader implements Preload
     }
 
     /**
-     * Initiates the preloading process by running all defined preloaders.
+     * Initiates the preloading process by running all defined preloaders as a dependency graph
+     * and waiting for them to finish.
      */
     @Override
     public void preload() {
         Logger.info("OsrsPreloadLauncher: Starting OSRS-specific preloading tasks.");
-        runAllPreloaders();
+        new PreloadGraph().addAll(getPreloaders()).start().awaitCompletion();
     }
 
     /**
-     * Iterates through the OsrsPreloaders enum and executes each preloader.
+     * Resolves the preloaders defined in the OsrsPreloaders enum, leaving out any that cannot be created.
      */
-    private void runAllPreloaders() {
+    public List<Preloadable> getPreloaders() {
+        List<Preloadable> preloaders = new ArrayList<>();
         for (OsrsPreloaders preloader : OsrsPreloaders.values()) {
             try {
-                DependencyFactory.getInstance().getInjection(GlobalSettingsPreloader.class).preload();
-                Logger.info("OsrsPreloadLauncher: Running preloader '{}'.", preloader.name());
-                preloader.preload();
-                Logger.info("OsrsPreloadLauncher: Successfully ran preloader '{}'.", preloader.name());
+                Preloadable instance = preloader.getSupplier().get();
+                if (instance != null) {
+                    preloaders.add(instance);
+                } else {
+                    Logger.error("OsrsPreloadLauncher: Preloadable instance not found for '{}'.", preloader.name());
+                }
             } catch (Exception e) {
-                Logger.error("OsrsPreloadLauncher: Error running preloader '{}': {}", preloader.name(), e.getMessage(), e);
+                Logger.error("OsrsPreloadLauncher: Error creating preloader '{}': {}", preloader.name(), e.getMessage(), e);
             }
         }
+        return preloaders;
     }
 }
@@ -0,0 +1,275 @@
+package com.godscape.osrs.preloaders;
+
+import com.godscape.osrs.cache.OsrsProfileCache;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.ResourceUtils;
+import com.godscape.system.utility.generators.HashGenerator;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Catalog of the premade OSRS profiles shipped under {@code osrs/profiles} ({@code build_*.json},
+ * {@code pure_*.json}, ...).
+ * <p>
+ * The index (name, ID and tags of every premade) is built once by reading each resource only up to
+ * its {@code profileName}. Full bodies are parsed on demand: one at a time through
+ * {@link #getProfile(UUID)}, or all those still missing from the cache in parallel on a bounded pool
+ * through {@link #addMissingTo(OsrsProfileCache)}, which inserts them with a single {@code putAll}.
+ * Premade IDs are derived from the name with {@link HashGenerator#generateId(String)}, like the other
+ * generated profiles, so a premade keeps its ID across runs.
+ */
+@Singleton
+public class OsrsPremadeProfileCatalog {
+
+    private static final String RESOURCE_DIRECTORY = "osrs/profiles";
+    private static final int MAX_PARSER_THREADS = 4;
+
+    private final Gson gson = new Gson();
+    private volatile Map<UUID, Entry> index;
+
+    public OsrsPremadeProfileCatalog() {
+        Logger.info("OsrsPremadeProfileCatalog: Initialized.");
+    }
+
+    /**
+     * Returns the index entries, building the index on first use.
+     */
+    public Collection<Entry> getEntries() {
+        return index().values();
+    }
+
+    public Entry findByName(String profileName) {
+        for (Entry entry : index().values()) {
+            if (entry.getProfileName().equalsIgnoreCase(profileName)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private Map<UUID, Entry> index() {
+        Map<UUID, Entry> current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = buildIndex();
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<UUID, Entry> buildIndex() {
+        long started = System.currentTimeMillis();
+        Map<UUID, Entry> entries = new LinkedHashMap<>();
+        List<String> resources;
+        try {
+            resources = ResourceUtils.listResourceFiles(RESOURCE_DIRECTORY);
+        } catch (IOException e) {
+            Logger.error("OsrsPremadeProfileCatalog: Error listing premade profiles in '{}': {}", RESOURCE_DIRECTORY, e.getMessage());
+            return Collections.emptyMap();
+        }
+        Collections.sort(resources);
+
+        for (String resourcePath : resources) {
+            if (!resourcePath.endsWith(".json")) {
+                continue;
+            }
+            try {
+                String profileName = readProfileName(resourcePath);
+                if (profileName == null || profileName.trim().isEmpty()) {
+                    Logger.warn("OsrsPremadeProfileCatalog: '{}' has no profileName; skipping.", resourcePath);
+                    continue;
+                }
+                UUID profileId = HashGenerator.generateId(profileName);
+                Entry previous = entries.put(profileId, new Entry(resourcePath, profileName, profileId, tagsOf(resourcePath)));
+                if (previous != null) {
+                    Logger.warn("OsrsPremadeProfileCatalog: '{}' and '{}' both define '{}'; using the latter.",
+                            previous.getResourcePath(), resourcePath, profileName);
+                }
+            } catch (IOException | IllegalStateException e) {
+                Logger.error("OsrsPremadeProfileCatalog: Error indexing '{}': {}", resourcePath, e.getMessage());
+            }
+        }
+        Logger.info("OsrsPremadeProfileCatalog: Indexed {} premade profiles in {} ms.", entries.size(), System.currentTimeMillis() - started);
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private InputStream openResource(String resourcePath) throws IOException {
+        InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            throw new IOException("Resource '" + resourcePath + "' not found.");
+        }
+        return inputStream;
+    }
+
+    // Reads top-level fields only until profileName, which the premade files list first
+    private String readProfileName(String resourcePath) throws IOException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(openResource(resourcePath), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("profileName".equals(reader.nextName())) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+            return null;
+        }
+    }
+
+    // "pure_granite_maul.json" is tagged "pure"
+    private static Set<String> tagsOf(String resourcePath) {
+        String fileName = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+        int separator = fileName.indexOf('_');
+        Set<String> tags = new LinkedHashSet<>();
+        tags.add("premade");
+        if (separator > 0) {
+            tags.add(fileName.substring(0, separator).toLowerCase(Locale.ROOT));
+        }
+        return Collections.unmodifiableSet(tags);
+    }
+
+    /**
+     * Parses the full premade profile, or returns null if there is no premade with that ID or it
+     * cannot be parsed. Every call returns a new instance.
+     */
+    public OsrsProfileSchema getProfile(UUID profileId) {
+        Entry entry = index().get(profileId);
+        return entry != null ? parse(entry) : null;
+    }
+
+    private OsrsProfileSchema parse(Entry entry) {
+        try (Reader reader = new InputStreamReader(openResource(entry.getResourcePath()), StandardCharsets.UTF_8)) {
+            OsrsProfileSchema profile = gson.fromJson(reader, OsrsProfileSchema.class);
+            if (profile == null) {
+                return null;
+            }
+            profile.setProfileId(entry.getProfileId());
+            profile.setProfileName(entry.getProfileName());
+            profile.setSettingsMap(profile.getSettingsMap());  // Upgrades Gson's plain map to a SettingsStore
+            return profile;
+        } catch (IOException | JsonParseException e) {
+            Logger.error("OsrsPremadeProfileCatalog: Error parsing '{}': {}", entry.getResourcePath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Parses the given premades in parallel on at most {@link #MAX_PARSER_THREADS} threads.
+     * Premades that cannot be parsed are left out.
+     */
+    public List<OsrsProfileSchema> parseAll(Collection<Entry> entries) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int threads = Math.max(1, Math.min(MAX_PARSER_THREADS, Math.min(entries.size(), Runtime.getRuntime().availableProcessors())));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService parsers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "PremadeProfileParser-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<OsrsProfileSchema>> futures = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                futures.add(CompletableFuture.supplyAsync(() -> parse(entry), parsers));
+            }
+            List<OsrsProfileSchema> profiles = new ArrayList<>(futures.size());
+            for (CompletableFuture<OsrsProfileSchema> future : futures) {
+                OsrsProfileSchema profile = future.join();
+                if (profile != null) {
+                    profiles.add(profile);
+                }
+            }
+            return profiles;
+        } finally {
+            parsers.shutdown();
+        }
+    }
+
+    /**
+     * Parses every premade, in parallel.
+     */
+    public List<OsrsProfileSchema> parseAll() {
+        return parseAll(getEntries());
+    }
+
+    /**
+     * Parses the premades whose name is not yet in the cache, in parallel, and adds them in one bulk insert.
+     *
+     * @return The number of premades added.
+     */
+    public int addMissingTo(OsrsProfileCache profileCache) {
+        List<Entry> missing = new ArrayList<>();
+        for (Entry entry : getEntries()) {
+            if (profileCache.getProfileIdByName(entry.getProfileName()) == null) {  // Index lookup, no map access
+                missing.add(entry);
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        long started = System.currentTimeMillis();
+        int added = profileCache.addProfiles(parseAll(missing));
+        Logger.info("OsrsPremadeProfileCatalog: Added {} premade profiles in {} ms.", added, System.currentTimeMillis() - started);
+        return added;
+    }
+
+    /**
+     * Index entry of one premade profile.
+     */
+    public static final class Entry {
+        private final String resourcePath;
+        private final String profileName;
+        private final UUID profileId;
+        private final Set<String> tags;
+
+        private Entry(String resourcePath, String profileName, UUID profileId, Set<String> tags) {
+            this.resourcePath = resourcePath;
+            this.profileName = profileName;
+            this.profileId = profileId;
+            this.tags = tags;
+        }
+
+        public String getResourcePath() {
+            return resourcePath;
+        }
+
+        public String getProfileName() {
+            return profileName;
+        }
+
+        public UUID getProfileId() {
+            return profileId;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+    }
+}
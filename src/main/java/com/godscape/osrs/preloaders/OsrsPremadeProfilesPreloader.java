@@ -2,23 +2,30 @@ package com.godscape.osrs.preloaders;
 
 import com.godscape.osrs.cache.OsrsProfileCache;
 import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 import com.godscape.system.utility.Logger;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @Singleton
+@Preload(after = GlobalSettingsPreloader.class)
 public class OsrsPremadeProfilesPreloader implements Preloadable {
 
     private final OsrsProfileCache osrsProfilesCache;
     private final OsrsDefaultProfilePreloader defaultProfilePreloader;
+    private final OsrsLoadPremadeProfilesToCache premadeProfileLoader;
 
     private OsrsPremadeProfilesPreloader() {
         this.osrsProfilesCache = DependencyFactory.getInstance().getInjection(OsrsProfileCache.class);
         this.defaultProfilePreloader = DependencyFactory.getInstance().getInjection(OsrsDefaultProfilePreloader.class);
+        this.premadeProfileLoader = DependencyFactory.getInstance().getInjection(OsrsLoadPremadeProfilesToCache.class);
         Logger.info("OsrsPremadeProfilesPreloader: Initialized.");
     }
 
@@ -32,18 +39,18 @@ public class OsrsPremadeProfilesPreloader implements Preloadable {
         Logger.info("OsrsPremadeProfilesPreloader: Loading premade profiles.");
         Map<String, Object> baseSettings = defaultProfilePreloader.getDefaultSettingsMap();
 
-        // Example premade profile setup
+        // Example premade profile setup; existing IDs and names are skipped by the bulk add
         String[] premadeProfileNames = {"Warrior", "Mage", "Skiller"};
+        List<OsrsProfileSchema> profiles = new ArrayList<>(premadeProfileNames.length);
         for (String profileName : premadeProfileNames) {
             UUID profileId = UUID.nameUUIDFromBytes(profileName.getBytes());
-
-            if (osrsProfilesCache.getProfile(profileId) == null) {
-                Map<String, Object> settings = new HashMap<>(baseSettings);
-
-                OsrsProfileSchema profile = new OsrsProfileSchema(profileId, profileName, settings, System.currentTimeMillis());
-                osrsProfilesCache.addProfile(profile);
-                Logger.info("OsrsPremadeProfilesPreloader: Added premade profile '{}'", profileName);
-            }
+            Map<String, Object> settings = new HashMap<>(baseSettings);
+            profiles.add(new OsrsProfileSchema(profileId, profileName, settings, System.currentTimeMillis()));
         }
+        int added = osrsProfilesCache.addProfiles(profiles);
+        Logger.info("OsrsPremadeProfilesPreloader: Added {} example premade profiles.", added);
+
+        // Premade builds shipped as resources, parsed in parallel and inserted in one batch
+        premadeProfileLoader.loadAllPremadeProfiles();
     }
 }
@@ -4,6 +4,7 @@ import com.godscape.osrs.enums.core.OsrsSchemas;
 import com.godscape.osrs.enums.game.EquipmentSlot;
 import com.godscape.osrs.enums.game.OsrsSkillNames;
 import com.godscape.system.schemas.BaseSchema;
+import com.godscape.system.schemas.SettingsStore;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.Accessors;
@@ -94,6 +95,9 @@ public class OsrsCharacterSchema implements Serializable, BaseSchema {
     private boolean isSynced = false;
     private boolean isActivated = false;
 
+    // ----------------- UI Settings -----------------
+    private final SettingsStore settings = new SettingsStore();  // Keyed by component id, like profile settings
+
     // ----------------- Getter and Setter for characterId -----------------
     public UUID getCharacterId() {
         return characterId;
@@ -194,6 +198,22 @@ public class OsrsCharacterSchema implements Serializable, BaseSchema {
         return new OsrsCharacterSchema();
     }
 
+    /**
+     * Returns the UI settings of the character, keyed by component id.
+     */
+    public SettingsStore getSettings() {
+        return settings;
+    }
+
+    @Override
+    public Map<String, Object> getSettingsMap() {
+        return settings;
+    }
+
+    /**
+     * Applies settings to the character. Keys naming a schema field update that field; any other key
+     * is treated as a component id and stored in the UI settings.
+     */
     @Override
     public void setSettingsMap(Map<String, Object> settingsMap) {
         if (settingsMap == null) {
@@ -225,7 +245,7 @@ public class OsrsCharacterSchema implements Serializable, BaseSchema {
                     break;
                 // Add more cases for other fields as needed
                 default:
-                    throw new UnsupportedOperationException("setSettingsMap() does not support the field: " + key);
+                    settings.put(key, value);
             }
         });
     }
@@ -1,15 +1,14 @@
 package com.godscape.osrs.schemas;
 
 import com.godscape.osrs.enums.core.OsrsSchemas;
-import com.godscape.system.factories.DependencyFactory;
-import com.godscape.system.utility.validation.MapStructure;
 import com.godscape.system.utility.validation.Normalization;
 import com.godscape.system.factories.SerializableFactory;
 import com.godscape.system.interfaces.mark.Cacheable;
 import com.godscape.system.interfaces.mark.Saveable;
 import com.godscape.system.interfaces.mark.Schemable;
 import com.godscape.system.schemas.BaseSchema;
-import com.godscape.system.utility.generators.BaseKeyGenerator;
+import com.godscape.system.schemas.SettingsStore;
+import com.godscape.system.utility.serialization.SettingsMapCodec;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -28,17 +27,15 @@ public class OsrsProfileSchema implements IdentifiedDataSerializable, BaseSchema
 
     private UUID profileId;
     private String profileName;
-    private Map<String, Object> settingsMap = new HashMap<>();  // Always initialized
+    private Map<String, Object> settingsMap = new SettingsStore();  // Always initialized
     private long lastUpdated = System.currentTimeMillis();
 
-    private final BaseKeyGenerator baseKeyGenerator = DependencyFactory.getInstance().getInjection(BaseKeyGenerator.class);
-
     public OsrsProfileSchema() {}
 
     public OsrsProfileSchema(UUID profileId, String profileName, Map<String, Object> settingsMap, long lastUpdated) {
         this.profileId = profileId;
         this.profileName = profileName;
-        this.settingsMap = settingsMap != null ? filterReservedFields(settingsMap) : new HashMap<>();
+        this.settingsMap = settingsMap != null ? new SettingsStore(filterReservedFields(settingsMap)) : new SettingsStore();
         this.lastUpdated = lastUpdated;
     }
 
@@ -57,6 +54,28 @@ public class OsrsProfileSchema implements IdentifiedDataSerializable, BaseSchema
         return new OsrsProfileSchema();
     }
 
+    /**
+     * Returns the settings as a {@link SettingsStore}, upgrading a plain map that was assigned
+     * directly (e.g. by reflection-based deserializers) on first access.
+     */
+    public SettingsStore getSettings() {
+        Map<String, Object> current = settingsMap;
+        if (current instanceof SettingsStore) {
+            return (SettingsStore) current;
+        }
+        SettingsStore store = new SettingsStore(current);
+        settingsMap = store;
+        return store;
+    }
+
+    public Map<String, Object> getSettingsMap() {
+        return getSettings();
+    }
+
+    public void setSettingsMap(Map<String, Object> settingsMap) {
+        this.settingsMap = settingsMap != null ? SettingsStore.of(settingsMap) : new SettingsStore();
+    }
+
     public Map<String, Integer> getSkillMap() {
         return getSetting("osrs_stats_skill_goals_panel", new HashMap<>());
     }
@@ -83,47 +102,55 @@ public class OsrsProfileSchema implements IdentifiedDataSerializable, BaseSchema
 
     @SuppressWarnings("unchecked")
     public <T> T getSetting(String panelPath, String key, T defaultValue) {
-        Map<String, Object> nestedMap = MapStructure.unflattenMap(settingsMap);
-        Map<String, Object> categoryMap = (Map<String, Object>) nestedMap.get(panelPath);
-        if (categoryMap != null) {
-            Object value = categoryMap.get(key);
-            if (defaultValue != null && defaultValue.getClass().isInstance(value)) {
-                return (T) value;
+        SettingsStore settings = getSettings();
+        Object value = settings.get(panelPath, key);
+        if (value == null) {
+            // Panels such as the skill goals panel are stored as a single nested map
+            Object category = settings.getSetting(panelPath);
+            if (category instanceof Map) {
+                value = ((Map<String, Object>) category).get(key);
             }
         }
+        if (defaultValue != null && defaultValue.getClass().isInstance(value)) {
+            return (T) value;
+        }
         return defaultValue;
     }
 
     @SuppressWarnings("unchecked")
     public <T> void setSetting(String panelPath, String key, T value) {
-        Map<String, Object> nestedMap = MapStructure.unflattenMap(settingsMap);
-        Map<String, Object> categoryMap = (Map<String, Object>) nestedMap.computeIfAbsent(panelPath, k -> new LinkedHashMap<>());
-
-        if (!isReservedField(key)) {
-            if (value instanceof Integer && "skill_goals".equalsIgnoreCase(key)) {
-                value = (T) Integer.valueOf(Normalization.clampSkillLevel((Integer) value, key));
-            }
-            categoryMap.put(key, value);
+        if (isReservedField(key)) {
+            return;
         }
-
-        // After modifying the nested map, flatten it back to settingsMap
-        settingsMap = filterReservedFields(MapStructure.flattenMap(nestedMap, ""));
+        if (value instanceof Integer && "skill_goals".equalsIgnoreCase(key)) {
+            value = (T) Integer.valueOf(Normalization.clampSkillLevel((Integer) value, key));
+        }
+        getSettings().put(panelPath, key, value);
     }
 
     public <T> void setSetting(String key, T value) {
         if (!isReservedField(key)) {
-            settingsMap.put(key, value);
+            getSettings().put(key, value);
         }
     }
 
     public <T> T getSetting(String key, T defaultValue) {
-        Object value = settingsMap.get(key);
+        Object value = getSettings().get(key);
         if (defaultValue != null && defaultValue.getClass().isInstance(value)) {
             return (T) value;
         }
         return defaultValue;
     }
 
+    /**
+     * Flat, immutable view of the settings for serialization, without reserved fields.
+     */
+    private Map<String, Object> persistentSettings() {
+        Map<String, Object> snapshot = getSettings().snapshot();
+        boolean hasReserved = snapshot.containsKey("profileId") || snapshot.containsKey("profileName") || snapshot.containsKey("lastUpdated");
+        return hasReserved ? filterReservedFields(snapshot) : snapshot;
+    }
+
     private boolean isReservedField(String key) {
         return "profileId".equalsIgnoreCase(key) || "profileName".equalsIgnoreCase(key) || "lastUpdated".equalsIgnoreCase(key);
     }
@@ -139,22 +166,31 @@ public class OsrsProfileSchema implements IdentifiedDataSerializable, BaseSchema
 
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
-        out.writeString(profileId != null ? profileId.toString() : "");
+        SettingsMapCodec.writeHeader(out);
+        SettingsMapCodec.writeUuid(out, profileId);
         out.writeString(profileName != null ? profileName : "");
         out.writeLong(lastUpdated);
-        out.writeObject(filterReservedFields(settingsMap));  // Filter reserved fields on write
+        SettingsMapCodec.writeSettingsMap(out, persistentSettings());
     }
 
     @Override
     public void readData(ObjectDataInput in) throws IOException {
+        if (SettingsMapCodec.readHeader(in) > 0) {
+            this.profileId = SettingsMapCodec.readUuid(in);
+            this.profileName = in.readString();
+            this.lastUpdated = in.readLong();
+            Map<String, Object> settings = SettingsMapCodec.readSettingsMap(in);
+            this.settingsMap = new SettingsStore(settings);  // Reserved fields were filtered on write
+            return;
+        }
+
+        // Legacy (unversioned) layout
         String profileIdStr = in.readString();
         this.profileId = !profileIdStr.isEmpty() ? UUID.fromString(profileIdStr) : null;
         this.profileName = in.readString();
         this.lastUpdated = in.readLong();
-        this.settingsMap = filterReservedFields(in.readObject());
-        if (this.settingsMap == null) {  // Ensure settingsMap is initialized on read
-            this.settingsMap = new HashMap<>();
-        }
+        Map<String, Object> legacySettings = in.readObject();
+        this.settingsMap = legacySettings != null ? new SettingsStore(filterReservedFields(legacySettings)) : new SettingsStore();
     }
 
     @Override
@@ -169,17 +205,17 @@ public class OsrsProfileSchema implements IdentifiedDataSerializable, BaseSchema
 
     public static Map<String, String> getColumnDefinitions() {
         Map<String, String> columns = new LinkedHashMap<>();
-        columns.put("profile_id", "UUID PRIMARY KEY"); // Ensure profile_id is a UUID type, or text if needed.
-        columns.put("profile_name", "VARCHAR(255)");
-        columns.put("last_updated", "BIGINT");
-        columns.put("settings_map", "TEXT"); // Assuming settings_map is serialized as JSON.
+        // Column names match the field names; profileId is the table's primary key and added by the DAO
+        columns.put("profileName", "VARCHAR(255)");
+        columns.put("lastUpdated", "BIGINT");
+        columns.put("settingsMap", "TEXT"); // Serialized as JSON
         return columns;
     }
 
     public void updateSkillGoal(String skillName, int value) {
         Map<String, Integer> skillGoals = getSkillMap();
         skillGoals.put(skillName, Normalization.clampSkillLevel(value, skillName));
-        setSkillMap(skillGoals);  // This will re-flatten the map properly
+        setSkillMap(skillGoals);
     }
 
 
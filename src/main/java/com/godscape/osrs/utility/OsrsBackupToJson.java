@@ -1,48 +1,66 @@
 package com.godscape.osrs.utility;
 
 import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.JsonProfileStream;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class OsrsBackupToJson {
 
     private final Gson gson;
+    private final boolean compact;
 
     public OsrsBackupToJson() {
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
-        Logger.info("OsrsBackupToJson: Initialized with Gson for OSRS profiles.");
+        this.gson = new GsonBuilder().create();
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.compact = config != null && config.getBoolean(ConfigKeys.BACKUP_JSON_COMPACT, false);
+        Logger.info("OsrsBackupToJson: Initialized with Gson for OSRS profiles (compact output: {}).", compact);
     }
 
     public void saveProfiles(Collection<OsrsProfileSchema> profiles, String targetDirectory) {
-        String filePath = Paths.get(targetDirectory, "osrs_profiles.json").toString();
+        Path filePath = Paths.get(targetDirectory, "osrs_profiles.json");
 
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try {
             Logger.info("OsrsBackupToJson: Saving OSRS profiles to {}.", filePath);
-            gson.toJson(profiles, writer);
-            Logger.info("OsrsBackupToJson: Successfully saved OSRS profiles to JSON.");
+            int saved = JsonProfileStream.write(filePath, profiles, OsrsProfileSchema.class, gson, compact);
+            Logger.info("OsrsBackupToJson: Successfully saved {} OSRS profiles to JSON.", saved);
         } catch (IOException e) {
             Logger.error("OsrsBackupToJson: Error saving OSRS profiles to JSON - {}", e.getMessage());
         }
     }
 
     public List<OsrsProfileSchema> loadProfiles(String targetDirectory) {
-        String filePath = Paths.get(targetDirectory, "osrs_profiles.json").toString();
+        List<OsrsProfileSchema> profiles = new ArrayList<>();
+        return streamProfiles(targetDirectory, profiles::add) < 0 ? Collections.emptyList() : profiles;
+    }
+
+    /**
+     * Hands each profile in the backup to the sink as it is parsed, without building a list.
+     *
+     * @return The number of profiles read, or -1 if the backup could not be read.
+     */
+    public int streamProfiles(String targetDirectory, Consumer<? super OsrsProfileSchema> sink) {
+        Path filePath = Paths.get(targetDirectory, "osrs_profiles.json");
 
-        try (FileReader reader = new FileReader(filePath)) {
+        try {
             Logger.info("OsrsBackupToJson: Loading OSRS profiles from {}.", filePath);
-            return gson.fromJson(reader, new com.google.gson.reflect.TypeToken<List<OsrsProfileSchema>>() {}.getType());
+            return JsonProfileStream.read(filePath, OsrsProfileSchema.class, gson, sink);
         } catch (IOException e) {
             Logger.error("OsrsBackupToJson: Failed to load OSRS profiles from JSON - {}", e.getMessage());
-            return Collections.emptyList();
+            return -1;
         }
     }
 }
@@ -2,33 +2,43 @@
 package com.godscape.osrs.utility;
 
 import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.utility.serialization.JsonProfileStream;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 import com.godscape.system.utility.Logger;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class OsrsRestoreFromJson {
 
     private final Gson gson;
 
     public OsrsRestoreFromJson() {
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.gson = new GsonBuilder().create();
         Logger.info("OsrsRestoreFromJson: Initialized with Gson.");
     }
 
     public List<OsrsProfileSchema> loadProfiles(String filePath) {
-        try (FileReader reader = new FileReader(filePath)) {
-            Type profileListType = new TypeToken<List<OsrsProfileSchema>>() {}.getType();
-            return gson.fromJson(reader, profileListType);
+        List<OsrsProfileSchema> profiles = new ArrayList<>();
+        return streamProfiles(filePath, profiles::add) < 0 ? Collections.emptyList() : profiles;
+    }
+
+    /**
+     * Hands each profile in the file to the sink as it is parsed, without building a list.
+     *
+     * @return The number of profiles read, or -1 if the file could not be read.
+     */
+    public int streamProfiles(String filePath, Consumer<? super OsrsProfileSchema> sink) {
+        try {
+            return JsonProfileStream.read(Paths.get(filePath), OsrsProfileSchema.class, gson, sink);
         } catch (IOException e) {
             Logger.error("OsrsRestoreFromJson: Failed to load profiles - {}", e.getMessage());
-            return Collections.emptyList();
+            return -1;
         }
     }
 }
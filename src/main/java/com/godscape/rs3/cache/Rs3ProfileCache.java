@@ -1,6 +1,12 @@
 package com.godscape.rs3.cache;
 
+import com.godscape.rs3.enums.core.Rs3Schemas;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.ProfileMapStore;
+import com.godscape.system.cache.ProfileNameIndex;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.config.HazelcastConfig;
 import com.godscape.system.enums.Observations;
 import com.godscape.system.factories.DependencyFactory;
@@ -11,15 +17,22 @@ import com.hazelcast.map.IMap;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+@Singleton
 public class Rs3ProfileCache {
     private static volatile Rs3ProfileCache instance;
     private final IMap<UUID, Rs3ProfileSchema> profileCache;
+    private final ProfileMapStore<Rs3ProfileSchema> mapStore;
+    private volatile boolean storedProfilesLoaded;
+    private final ProfileNameIndex<Rs3ProfileSchema> nameIndex =
+            new ProfileNameIndex<>(Rs3ProfileSchema::getProfileId, Rs3ProfileSchema::getProfileName);
 
     private Rs3ProfileCache() {
         HazelcastInstance hazelcastInstance = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance();
-        this.profileCache = hazelcastInstance.getMap("rs3ProfileCache");
+        this.profileCache = hazelcastInstance.getMap(Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName());
+        this.mapStore = ProfileMapStore.of(hazelcastInstance, Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName());
         initializeCacheListeners();
     }
 
@@ -37,6 +50,15 @@ public class Rs3ProfileCache {
     private void initializeCacheListeners() {
         ProfileChangeListener profileChangeListener = DependencyFactory.getInstance().getInjection(Observations.PROFILE_CHANGE_LISTENER);
         profileCache.addEntryListener(profileChangeListener, true);
+        nameIndex.attach(profileCache);
+        indexStoredNames();
+    }
+
+    // Profiles not in the map are loaded on first access; their names must be indexed all the same
+    private void indexStoredNames() {
+        if (mapStore != null) {
+            mapStore.loadProfileNames().forEach(nameIndex::index);
+        }
     }
 
     private UUID getProfileId(Rs3ProfileSchema profile) {
@@ -80,13 +102,16 @@ public class Rs3ProfileCache {
         ensureProfileId(profile);
         normalizeSettings(profile);
         profileCache.put(getProfileId(profile), profile);
+        nameIndex.index(profile);
         Logger.info("Profile added to cache with ID: '{}'", getProfileId(profile));
     }
 
     public void updateProfile(Rs3ProfileSchema profile) {
         ensureProfileId(profile);
         normalizeSettings(profile);
+        profile.setLastUpdated(System.currentTimeMillis());
         profileCache.put(getProfileId(profile), profile);
+        nameIndex.index(profile);
         Logger.info("Profile updated in cache with ID: '{}'", getProfileId(profile));
     }
 
@@ -94,7 +119,9 @@ public class Rs3ProfileCache {
         if (profile != null) {
             ensureProfileId(profile);
             normalizeSettings(profile);
+            profile.setLastUpdated(System.currentTimeMillis());
             profileCache.put(getProfileId(profile), profile);
+            nameIndex.index(profile);
             Logger.info("Profile updated in cache with ID: '{}'", getProfileId(profile));
         } else {
             Logger.warn("Profile is null, cannot update in cache.");
@@ -104,12 +131,14 @@ public class Rs3ProfileCache {
     public void removeProfile(UUID profileId) {
         if (profileId == null) return;
         profileCache.remove(profileId);
+        nameIndex.unindex(profileId);
         Logger.info("Profile removed from cache with ID: '{}'", profileId);
     }
 
     public void removeProfileFromCache(UUID profileId) {
         if (profileId != null) {
             profileCache.remove(profileId);
+            nameIndex.unindex(profileId);
             Logger.info("Profile removed from cache with ID: '{}'", profileId);
         } else {
             Logger.warn("Profile ID is null, cannot remove from cache.");
@@ -120,26 +149,85 @@ public class Rs3ProfileCache {
         return profileCache.get(profileId);
     }
 
+    /**
+     * Applies a settings update to a cached profile in place on the partition that owns it.
+     *
+     * @return The settings that changed, or null if the profile is not in the cache.
+     */
+    public SettingsDelta updateSettings(UUID profileId, SettingsEntryProcessor<Rs3ProfileSchema> processor) {
+        if (profileId == null) {
+            Logger.warn("Profile ID is null, cannot update settings in cache.");
+            return null;
+        }
+        return profileCache.executeOnKey(profileId, processor);
+    }
+
+    /**
+     * Retrieves a profile by its name (case-insensitive) through the name index.
+     *
+     * @param profileName The name of the profile.
+     * @return The profile if found, null otherwise.
+     */
+    public Rs3ProfileSchema getProfileByName(String profileName) {
+        UUID profileId = nameIndex.lookup(profileName);
+        if (profileId == null) {
+            return null;
+        }
+        Rs3ProfileSchema profile = profileCache.get(profileId);
+        if (profile == null || !profileName.trim().equalsIgnoreCase(profile.getProfileName())) {
+            nameIndex.unindex(profileId);
+            nameIndex.index(profile);
+            return null;
+        }
+        return profile;
+    }
+
+    public boolean profileNameExists(String profileName) {
+        return getProfileByName(profileName) != null;
+    }
+
     /**
      * Retrieves all profiles from the cache.
      *
      * @return A collection of all Rs3ProfileSchema profiles from the cache.
      */
     public Collection<Rs3ProfileSchema> getAllProfiles() {
+        loadStoredProfiles();
         return profileCache.values();
     }
 
+    /**
+     * Loads the stored profiles that were not warmed at startup, once, so listings are complete.
+     */
+    private void loadStoredProfiles() {
+        if (mapStore == null || storedProfilesLoaded) {
+            return;
+        }
+        Set<UUID> storedIds = mapStore.loadAllProfileIds();
+        storedIds.removeAll(profileCache.keySet());
+        if (!storedIds.isEmpty()) {
+            profileCache.getAll(storedIds);
+            Logger.info("Rs3ProfileCache: Loaded {} stored profiles on demand.", storedIds.size());
+        }
+        storedProfilesLoaded = true;
+    }
+
     /**
      * Clears all profiles from the cache.
      */
     public void clearProfileCache() {
-        profileCache.clear();
-        Logger.info("Cleared cache 'rs3ProfileCache'.");
+        // Keep stored profiles: flush pending writes, then evict instead of deleting
+        profileCache.flush();
+        profileCache.evictAll();
+        storedProfilesLoaded = false;
+        nameIndex.clear();
+        indexStoredNames();  // Evicted profiles are still stored and keep their names
+        Logger.info("Cleared cache '{}'.", Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName());
     }
 
     public void shutdownCache() {
         HazelcastInstance hazelcastInstance = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance();
         hazelcastInstance.shutdown();
-        Logger.info("Cache 'rs3ProfileCache' shutdown completed.");
+        Logger.info("Cache '{}' shutdown completed.", Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName());
     }
 }
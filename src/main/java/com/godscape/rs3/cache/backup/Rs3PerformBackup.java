@@ -1,6 +1,7 @@
 package com.godscape.rs3.cache.backup;
 
 import com.godscape.rs3.enums.core.Rs3Schemas;
+import com.godscape.rs3.schemas.Rs3CharacterSchema;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.cache.backup.PerformBackup;
 import com.godscape.system.enums.Utilities;
@@ -75,4 +76,15 @@ public class Rs3PerformBackup {
             Logger.info("No profiles to backup in cache '{}'.", cacheName);
         }
     }
+
+    /**
+     * Backs up RS3 characters to a binary snapshot in the specified directory.
+     *
+     * @param characters      The RS3 characters to back up.
+     * @param targetDirectory The directory where the snapshot file will be saved.
+     */
+    public void backupCharacters(Collection<Rs3CharacterSchema> characters, String targetDirectory) {
+        Logger.info("Rs3PerformBackup: Backing up {} RS3 characters to snapshot.", characters == null ? 0 : characters.size());
+        performBackup.backupCharacters(characters, targetDirectory);
+    }
 }
@@ -1,12 +1,17 @@
 package com.godscape.rs3.cache.backup;
 
+import com.godscape.rs3.controllers.Rs3CacheController;
+import com.godscape.rs3.schemas.Rs3CharacterSchema;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.cache.backup.PerformRestore;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Singleton class responsible for restoring RS3 profiles from backup files.
@@ -41,7 +46,7 @@ public class Rs3PerformRestore {
      * Restores RS3 profiles from a specified backup file in the given format.
      *
      * @param targetDirectory The directory where the backup file is located.
-     * @param format          The format of the file: "json" or "xml".
+     * @param format          The format of the file: "json", "xml" or "snapshot".
      * @return A collection of restored RS3 profiles.
      */
     public Collection<Rs3ProfileSchema> restoreProfiles(String targetDirectory, String format) {
@@ -60,6 +65,59 @@ public class Rs3PerformRestore {
         return rs3Profiles;
     }
 
+    /**
+     * Restores RS3 profiles straight into the profile cache, adding or replacing each one as it is
+     * read rather than collecting the whole backup first.
+     *
+     * @param targetDirectory The directory where the backup file is located.
+     * @param format          The format of the file: "json", "xml" or "snapshot".
+     * @return The number of profiles restored.
+     */
+    public int restoreProfilesToCache(String targetDirectory, String format) {
+        Logger.info("Rs3PerformRestore: Initiating restore of RS3 profiles into the cache from {} format.", format.toUpperCase());
+
+        Rs3CacheController cacheController = DependencyFactory.getInstance().getInjection(Rs3CacheController.class);
+        int restored = performRestore.restoreProfiles(targetDirectory, format, (Rs3ProfileSchema profile) -> cacheController.updateProfile(profile));
+        if (restored == 0) {
+            Logger.warn("Rs3PerformRestore: No profiles found in {} format at {}.", format.toUpperCase(), targetDirectory);
+        } else {
+            Logger.info("Rs3PerformRestore: Successfully restored {} RS3 profiles into the cache.", restored);
+        }
+        return restored;
+    }
+
+    /**
+     * Restores a single RS3 profile from a binary snapshot without decoding the rest of the backup.
+     *
+     * @param targetDirectory The directory where the snapshot file is located.
+     * @param profileId       The ID of the profile to restore.
+     * @return The restored profile, or null if the snapshot does not contain it.
+     */
+    public Rs3ProfileSchema restoreProfile(String targetDirectory, UUID profileId) {
+        Logger.info("Rs3PerformRestore: Initiating restore of RS3 profile '{}' from snapshot.", profileId);
+        return performRestore.restoreProfile(targetDirectory, profileId);
+    }
+
+    /**
+     * Restores RS3 characters from a binary snapshot. RS3 characters have no ID, so they can only be
+     * restored all at once.
+     *
+     * @param targetDirectory The directory where the snapshot file is located.
+     * @return The restored characters.
+     */
+    public Collection<Rs3CharacterSchema> restoreCharacters(String targetDirectory) {
+        Logger.info("Rs3PerformRestore: Initiating restore for RS3 characters from snapshot.");
+
+        List<Rs3CharacterSchema> characters = new ArrayList<>();
+        performRestore.restoreCharacters(targetDirectory, (Rs3CharacterSchema character) -> characters.add(character));
+        if (characters.isEmpty()) {
+            Logger.warn("Rs3PerformRestore: No characters found in snapshot at {}.", targetDirectory);
+        } else {
+            Logger.info("Rs3PerformRestore: Successfully restored {} RS3 characters.", characters.size());
+        }
+        return characters;
+    }
+
     /**
      * Casts a list of profiles to the Rs3ProfileSchema type.
      *
@@ -2,6 +2,7 @@ package com.godscape.rs3.controllers;
 
 import com.godscape.rs3.cache.backup.Rs3PerformBackup;
 import com.godscape.rs3.cache.backup.Rs3PerformRestore;
+import com.godscape.rs3.schemas.Rs3CharacterSchema;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
@@ -45,6 +46,52 @@ public class Rs3BackupController {
         return performRestore.restoreProfiles(targetDirectory, format);
     }
 
+    /**
+     * Restores a single RS3 profile from a binary snapshot backup.
+     *
+     * @param targetDirectory The directory of the snapshot file.
+     * @param profileId       The ID of the profile to restore.
+     * @return The restored profile, or null if the snapshot does not contain it.
+     */
+    public Rs3ProfileSchema restoreProfile(String targetDirectory, UUID profileId) {
+        Logger.info("Rs3BackupController: Initiating restore of RS3 profile '{}'.", profileId);
+        return performRestore.restoreProfile(targetDirectory, profileId);
+    }
+
+    /**
+     * Restores RS3 profiles directly into the profile cache without holding the whole backup in memory.
+     *
+     * @param targetDirectory The directory of the backup file.
+     * @param format          The format of the backup file: "json", "xml" or "snapshot".
+     * @return The number of profiles restored.
+     */
+    public int restoreProfilesToCache(String targetDirectory, String format) {
+        Logger.info("Rs3BackupController: Initiating restore of RS3 profiles into the cache.");
+        return performRestore.restoreProfilesToCache(targetDirectory, format);
+    }
+
+    /**
+     * Backs up RS3 characters to a binary snapshot.
+     *
+     * @param characters      The RS3 characters to back up.
+     * @param targetDirectory The directory for the backup.
+     */
+    public void backupCharacters(Collection<Rs3CharacterSchema> characters, String targetDirectory) {
+        Logger.info("Rs3BackupController: Initiating backup for RS3 characters.");
+        performBackup.backupCharacters(characters, targetDirectory);
+    }
+
+    /**
+     * Restores RS3 characters from a binary snapshot backup.
+     *
+     * @param targetDirectory The directory of the snapshot file.
+     * @return A collection of restored RS3 characters.
+     */
+    public Collection<Rs3CharacterSchema> restoreCharacters(String targetDirectory) {
+        Logger.info("Rs3BackupController: Initiating restore for RS3 characters.");
+        return performRestore.restoreCharacters(targetDirectory);
+    }
+
     public void backupSingleProfile(Rs3ProfileSchema profile, String targetDirectory, String format) {
         Logger.info("Rs3BackupController: Backing up single RS3 profile '{}'.", profile.getProfileName());
         performBackup.backupSingleProfile(profile, format);
@@ -4,6 +4,8 @@ import com.godscape.rs3.enums.core.Rs3Panels;
 import com.godscape.rs3.managers.Rs3CacheManager;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
@@ -37,6 +39,14 @@ public class Rs3CacheController {
         return cacheManager.getProfile(profileId);
     }
 
+    public Rs3ProfileSchema getProfileByName(String profileName) {
+        return cacheManager.getProfileByName(profileName);
+    }
+
+    public boolean profileExists(String profileName) {
+        return cacheManager.profileNameExists(profileName);
+    }
+
     public void addProfile(Rs3ProfileSchema profile) {
         cacheManager.addProfileToCache(profile);
     }
@@ -49,6 +59,39 @@ public class Rs3CacheController {
         cacheManager.removeProfile(profileId);
     }
 
+    // Profile Settings Methods
+
+    public void saveToProfileCache(UUID profileId, String componentId, Object value) {
+        if (applyProfileSettings(profileId, SettingsEntryProcessor.set(componentId, value))) {
+            Logger.info("Rs3CacheController: Setting '{}' saved to profile cache.", componentId);
+        }
+    }
+
+    public void removeFromProfileCache(UUID profileId, String componentId) {
+        if (applyProfileSettings(profileId, SettingsEntryProcessor.remove(componentId))) {
+            Logger.info("Rs3CacheController: Setting '{}' removed from profile cache.", componentId);
+        }
+    }
+
+    public void saveAllToProfileCache(UUID profileId, Map<String, Object> settings) {
+        if (settings == null || settings.isEmpty()) {
+            return;
+        }
+        if (applyProfileSettings(profileId, SettingsEntryProcessor.setAll(settings))) {
+            Logger.info("Rs3CacheController: {} settings saved to profile cache.", settings.size());
+        }
+    }
+
+    private boolean applyProfileSettings(UUID profileId, SettingsEntryProcessor<Rs3ProfileSchema> processor) {
+        SettingsDelta delta = cacheManager.updateProfileSettings(profileId, processor);
+        if (delta == null) {
+            Logger.error("Rs3CacheController: Profile with ID '{}' not found.", profileId);
+            return false;
+        }
+        // Observers get the change from the profile cache listener, which publishes the same delta once
+        return true;
+    }
+
     // Character Methods
 
     public void loadCharacter() {
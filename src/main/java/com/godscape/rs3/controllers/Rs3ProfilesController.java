@@ -3,6 +3,8 @@ package com.godscape.rs3.controllers;
 import com.godscape.rs3.managers.Rs3ProfilesManager;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
@@ -80,6 +82,18 @@ public class Rs3ProfilesController {
         return profilesManager.getProfile(profileId);
     }
 
+    public Rs3ProfileSchema getProfileByName(String profileName) {
+        return profilesManager.getProfileByName(profileName);
+    }
+
+    public boolean profileNameExists(String profileName) {
+        return profilesManager.profileNameExists(profileName);
+    }
+
+    public SettingsDelta updateSettings(UUID profileId, SettingsEntryProcessor<Rs3ProfileSchema> processor) {
+        return profilesManager.updateSettings(profileId, processor);
+    }
+
     public void clearProfiles() {
         profilesManager.clearProfiles();
         Logger.info("All profiles cleared from manager.");
@@ -4,6 +4,7 @@ import com.godscape.rs3.enums.core.Rs3Panels;
 import com.godscape.rs3.managers.Rs3SettingsManager;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.observers.SettingsWriteBuffer;
 import com.godscape.system.interfaces.fuse.SettingsFuse;
 import com.godscape.system.utility.Logger;
 
@@ -24,6 +25,7 @@ public class Rs3SettingController implements SettingsFuse {
 
     @Override
     public void setActiveProfileId(UUID profileId) {
+        DependencyFactory.getInstance().getInjection(SettingsWriteBuffer.class).flush(); // Persist edits to the outgoing profile first
         settingsManager.setActiveProfileId(profileId);
     }
 
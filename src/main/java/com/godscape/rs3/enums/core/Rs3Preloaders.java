@@ -13,7 +13,7 @@ public enum Rs3Preloaders implements Preloadable {
     RS3_DEFAULT_PROFILE_PRELOADER(() -> DependencyFactory.getInstance().getInjection(Rs3DefaultProfilePreloader.class)),
     RS3_CURRENT_STATS_PROFILE_PRELOADER(() -> DependencyFactory.getInstance().getInjection(Rs3CurrentStatsProfilePreloader.class)),
     RS3_LEVEL_SPREAD_PRELOADER(() -> DependencyFactory.getInstance().getInjection(Rs3LevelSpreadProfilePreloader.class)),
-    RS3_PREMADE_PROFILES_PRELOADER(() -> (Preloadable) DependencyFactory.getInstance().getInjection(Rs3PremadeProfilesPreloader.class));
+    RS3_PREMADE_PROFILES_PRELOADER(() -> DependencyFactory.getInstance().getInjection(Rs3PremadeProfilesPreloader.class));
 
     private final Supplier<? extends Preloadable> supplier;
 
@@ -38,7 +38,7 @@ public class Rs3BackupManager extends BaseBackupManager<Rs3ProfileSchema> {
      * Backs up all cached RS3 profiles in the specified format (JSON or XML).
      *
      * @param targetDirectory The directory where the backup file will be saved.
-     * @param format          The format of the backup file, either "json" or "xml".
+     * @param format          The format of the backup file, either "json", "xml" or "snapshot".
      */
     public void backupAllProfiles(String targetDirectory, String format) {
         Collection<Rs3ProfileSchema> profiles = profilesCache.getAllProfiles();
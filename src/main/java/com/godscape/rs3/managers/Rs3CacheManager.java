@@ -4,6 +4,8 @@ import com.godscape.rs3.controllers.Rs3ProfilesController;
 import com.godscape.rs3.controllers.Rs3CharacterController;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 
@@ -59,6 +61,22 @@ public class Rs3CacheManager {
         return profilesController.getProfile(profileId);
     }
 
+    public Rs3ProfileSchema getProfileByName(String profileName) {
+        return profilesController.getProfileByName(profileName);
+    }
+
+    public boolean profileNameExists(String profileName) {
+        return profileName != null && profilesController.profileNameExists(profileName);
+    }
+
+    public SettingsDelta updateProfileSettings(UUID profileId, SettingsEntryProcessor<Rs3ProfileSchema> processor) {
+        if (profileId == null) {
+            Logger.warn("Rs3CacheManager: Cannot update settings for profile with null ID.");
+            return null;
+        }
+        return profilesController.updateSettings(profileId, processor);
+    }
+
     public void removeProfile(UUID profileId) {
         if (profilesController.deleteProfile(profileId)) {
             Logger.info("Rs3CacheManager: Removed profile with ID '{}' from cache.", profileId);
@@ -4,6 +4,7 @@ import com.godscape.rs3.preloaders.Rs3ProfilePreloader;
 import com.godscape.system.config.GodscapeConfig;
 import com.godscape.system.enums.ConfigKeys;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.preloaders.PreloadGraph;
 import com.godscape.system.utility.Logger;
 
 public class Rs3PreloadManager {
@@ -14,13 +15,20 @@ public class Rs3PreloadManager {
         this.profilePreloader = Rs3ProfilePreloader.getInstance();
     }
 
-    public void initializePreload() {
+    /**
+     * Adds the RS3 profile preloaders to the graph of shared preloaders and starts it.
+     *
+     * @param graph The graph holding the preloaders shared by every game version.
+     * @return The started graph.
+     */
+    public PreloadGraph.Run initializePreload(PreloadGraph graph) {
         DependencyFactory dependencyFactory = DependencyFactory.getInstance();
         if (dependencyFactory.getInjection(GodscapeConfig.class).getBoolean(ConfigKeys.RS3_PRELOAD_PROFILES, true)) {
             Logger.info("Rs3PreloadManager: Preloading is enabled. Running profile preloaders.");
-            profilePreloader.preload();
+            graph.addAll(profilePreloader.getPreloaders());
         } else {
             Logger.info("Rs3PreloadManager: Preloading is disabled. Skipping profile preload.");
         }
+        return graph.start();
     }
 }
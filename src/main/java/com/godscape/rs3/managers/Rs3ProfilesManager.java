@@ -2,6 +2,8 @@ package com.godscape.rs3.managers;
 
 import com.godscape.rs3.cache.Rs3ProfileCache;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.utility.validation.Normalization;
@@ -41,7 +43,7 @@ public class Rs3ProfilesManager {
 
     public boolean hasChanges(Rs3ProfileSchema profile) {
         Rs3ProfileSchema cachedProfile = profileCache.getProfile(profile.getProfileId());
-        return cachedProfile != null && !cachedProfile.equals(profile);
+        return cachedProfile != null && (cachedProfile == profile || !cachedProfile.equals(profile));
     }
 
     public void removeProfile(UUID profileId) {
@@ -61,6 +63,18 @@ public class Rs3ProfilesManager {
         return profile;
     }
 
+    public Rs3ProfileSchema getProfileByName(String profileName) {
+        return profileCache.getProfileByName(profileName);
+    }
+
+    public SettingsDelta updateSettings(UUID profileId, SettingsEntryProcessor<Rs3ProfileSchema> processor) {
+        return profileCache.updateSettings(profileId, processor);
+    }
+
+    public boolean profileNameExists(String profileName) {
+        return profileCache.profileNameExists(profileName);
+    }
+
     public Collection<Rs3ProfileSchema> getAllProfiles() {
         return profileCache.getAllProfiles();
     }
@@ -2,8 +2,33 @@ package com.godscape.rs3.observations;
 
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 
+import java.util.Collection;
+
 public interface Rs3ProfileChangeObservation {
     void onProfileAdded(Rs3ProfileSchema profile);
     void onProfileUpdated(Rs3ProfileSchema profile);
     void onProfileRemoved(Rs3ProfileSchema profile);
+
+    /**
+     * Called once for each batch of profile changes, with every profile appearing at most once. By
+     * default each change is passed to the matching single-profile method; override this to refresh
+     * once per batch instead.
+     */
+    default void onProfilesChanged(Collection<Rs3ProfileChangedEvent> changes) {
+        for (Rs3ProfileChangedEvent change : changes) {
+            switch (change.getKind()) {
+                case ADDED:
+                    onProfileAdded(change.getProfile());
+                    break;
+                case UPDATED:
+                    onProfileUpdated(change.getProfile());
+                    break;
+                case REMOVED:
+                    onProfileRemoved(change.getProfile());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package com.godscape.rs3.observations;
+
+import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.events.ProfileChangedEvent;
+
+/**
+ * An RS3 profile that was added, updated or removed, delivered in a {@code ProfileChangeBatchEvent}.
+ */
+public final class Rs3ProfileChangedEvent extends ProfileChangedEvent<Rs3ProfileSchema> {
+
+    public Rs3ProfileChangedEvent(Kind kind, Rs3ProfileSchema profile) {
+        super(kind, profile);
+    }
+}
@@ -1,13 +1,16 @@
 package com.godscape.rs3.preloaders;
 
 import com.godscape.system.utility.Logger;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 
 /**
  * Preloader for loading the RS3 current stats profile.
  */
 @Singleton
+@Preload(after = GlobalSettingsPreloader.class)
 public class Rs3CurrentStatsProfilePreloader implements Preloadable {
 
     /**
@@ -1,8 +1,10 @@
 package com.godscape.rs3.preloaders;
 
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -11,6 +13,7 @@ import java.util.UUID;
 /**
  * Handles the creation of a default RS3 profile.
  */
+@Preload(after = GlobalSettingsPreloader.class)
 public class Rs3DefaultProfilePreloader implements Preloadable {
 
     /**
@@ -4,9 +4,11 @@ import com.godscape.rs3.enums.game.Rs3SkillNames;
 import com.godscape.rs3.managers.Rs3CacheManager;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.rs3.enums.core.Rs3Panels;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.interfaces.mark.Preloadable;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 import com.godscape.system.utility.validation.Normalization;
 import com.godscape.system.utility.Logger;
 
@@ -18,6 +20,7 @@ import java.util.stream.IntStream;
  * Preloader responsible for loading the RS3 Level Spread Profile into the cache.
  */
 @Singleton
+@Preload(after = GlobalSettingsPreloader.class)
 public class Rs3LevelSpreadProfilePreloader implements Preloadable {
 
     private final Rs3CacheManager rs3CacheManager;
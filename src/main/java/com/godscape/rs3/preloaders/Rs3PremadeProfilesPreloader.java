@@ -1,13 +1,17 @@
 package com.godscape.rs3.preloaders;
 
 import com.godscape.system.utility.Logger;
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.preloaders.GlobalSettingsPreloader;
 
 /**
  * Preloader for loading RS3 premade profiles.
  */
 @Singleton
-public class Rs3PremadeProfilesPreloader {
+@Preload(after = GlobalSettingsPreloader.class)
+public class Rs3PremadeProfilesPreloader implements Preloadable {
 
     /**
      * Public no-argument constructor.
@@ -17,6 +21,14 @@ public class Rs3PremadeProfilesPreloader {
         Logger.info("Rs3PremadeProfilesPreloader: Initialized.");
     }
 
+    /**
+     * Preloads the premade profiles.
+     */
+    @Override
+    public void preload() {
+        loadPremadeProfiles();
+    }
+
     /**
      * Loads premade profiles.
      */
@@ -3,8 +3,12 @@ package com.godscape.rs3.preloaders;
 import com.godscape.rs3.enums.core.Rs3Preloaders;
 import com.godscape.system.interfaces.mark.Preloadable;
 import com.godscape.system.preloaders.BaseProfilePreloader;
+import com.godscape.system.preloaders.PreloadGraph;
 import com.godscape.system.utility.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Rs3ProfilePreloader extends BaseProfilePreloader implements Preloadable {
 
     // Singleton instance
@@ -30,16 +34,24 @@ public class Rs3ProfilePreloader extends BaseProfilePreloader implements Preload
     @Override
     public void preload() {
         Logger.info("Rs3ProfilePreloader: Starting RS3-specific preloading tasks.");
-        runAllPreloaders();
+        new PreloadGraph().addAll(getPreloaders()).start().awaitCompletion();
     }
 
-    private void runAllPreloaders() {
+    // Resolves the preloaders defined in the Rs3Preloaders enum, leaving out any that cannot be created
+    public List<Preloadable> getPreloaders() {
+        List<Preloadable> preloaders = new ArrayList<>();
         for (Rs3Preloaders preloader : Rs3Preloaders.values()) {
             try {
-                preloader.preload();
+                Preloadable instance = preloader.getSupplier().get();
+                if (instance != null) {
+                    preloaders.add(instance);
+                } else {
+                    Logger.error("Rs3ProfilePreloader: Preloadable instance not found for '{}'.", preloader);
+                }
             } catch (Exception e) {
-                Logger.error("Rs3ProfilePreloader: Error running preloader '{}': {}", preloader, e.getMessage());
+                Logger.error("Rs3ProfilePreloader: Error creating preloader '{}': {}", preloader, e.getMessage());
             }
         }
+        return preloaders;
     }
 }
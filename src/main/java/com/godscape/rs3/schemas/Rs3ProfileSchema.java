@@ -5,6 +5,7 @@ import com.godscape.system.annotations.SchemaField;
 import com.godscape.system.interfaces.mark.Saveable;
 import com.godscape.system.schemas.BaseSchema;
 import com.godscape.system.factories.SerializableFactory;
+import com.godscape.system.utility.serialization.SettingsMapCodec;
 import com.godscape.system.utility.validation.MapStructure;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -98,15 +99,15 @@ public class Rs3ProfileSchema implements IdentifiedDataSerializable, BaseSchema,
      */
     public static Map<String, String> getColumnDefinitions() {
         Map<String, String> columns = new LinkedHashMap<>();
-        columns.put("profile_id", "UUID");
-        columns.put("profile_name", "VARCHAR(255)");
-        columns.put("membership_status", "BOOLEAN");
+        // Column names match the field names; profileId is the table's primary key and added by the DAO
+        columns.put("profileName", "VARCHAR(255)");
+        columns.put("membershipStatus", "BOOLEAN");
         columns.put("mode", "VARCHAR(255)");
         columns.put("playstyle", "VARCHAR(255)");
         columns.put("autoprofiler", "BOOLEAN");
-        columns.put("settings_map", "TEXT");
-        columns.put("profile_notes", "TEXT");
-        columns.put("last_updated", "BIGINT");
+        columns.put("settingsMap", "TEXT");
+        columns.put("profileNotes", "TEXT");
+        columns.put("lastUpdated", "BIGINT");
         return columns;
     }
 
@@ -130,19 +131,37 @@ public class Rs3ProfileSchema implements IdentifiedDataSerializable, BaseSchema,
 
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
-        out.writeObject(profileId);
-        out.writeObject(profileName);
-        out.writeObject(membershipStatus);
-        out.writeObject(mode);
-        out.writeObject(playstyle);
-        out.writeObject(autoprofiler);
-        out.writeObject(profileNotes);
+        SettingsMapCodec.writeHeader(out);
+        SettingsMapCodec.writeUuid(out, profileId);
+        out.writeString(profileName);
+        SettingsMapCodec.writeNullableBoolean(out, membershipStatus);
+        out.writeString(mode);
+        out.writeString(playstyle);
+        SettingsMapCodec.writeNullableBoolean(out, autoprofiler);
+        out.writeString(profileNotes);
         out.writeLong(lastUpdated);
-        out.writeObject(settingsMap);
+        SettingsMapCodec.writeSettingsMap(out, settingsMap);
     }
 
     @Override
     public void readData(ObjectDataInput in) throws IOException {
+        if (SettingsMapCodec.readHeader(in) > 0) {
+            profileId = SettingsMapCodec.readUuid(in);
+            profileName = in.readString();
+            membershipStatus = SettingsMapCodec.readNullableBoolean(in);
+            mode = in.readString();
+            playstyle = in.readString();
+            autoprofiler = SettingsMapCodec.readNullableBoolean(in);
+            profileNotes = in.readString();
+            lastUpdated = in.readLong();
+            settingsMap = SettingsMapCodec.readSettingsMap(in);
+            return;
+        }
+        readLegacyData(in);
+    }
+
+    // Reads the unversioned layout written before SettingsMapCodec was introduced
+    private void readLegacyData(ObjectDataInput in) throws IOException {
         profileId = in.readObject();
         profileName = in.readObject();
         membershipStatus = in.readObject();
@@ -1,48 +1,66 @@
 package com.godscape.rs3.utility;
 
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.JsonProfileStream;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class Rs3BackupToJson {
 
     private final Gson gson;
+    private final boolean compact;
 
     public Rs3BackupToJson() {
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
-        Logger.info("Rs3BackupToJson: Initialized with Gson for RS3 profiles.");
+        this.gson = new GsonBuilder().create();
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.compact = config != null && config.getBoolean(ConfigKeys.BACKUP_JSON_COMPACT, false);
+        Logger.info("Rs3BackupToJson: Initialized with Gson for RS3 profiles (compact output: {}).", compact);
     }
 
     public void saveProfiles(Collection<Rs3ProfileSchema> profiles, String targetDirectory) {
-        String filePath = Paths.get(targetDirectory, "rs3_profiles.json").toString();
+        Path filePath = Paths.get(targetDirectory, "rs3_profiles.json");
 
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try {
             Logger.info("Rs3BackupToJson: Saving RS3 profiles to {}.", filePath);
-            gson.toJson(profiles, writer);
-            Logger.info("Rs3BackupToJson: Successfully saved RS3 profiles to JSON.");
+            int saved = JsonProfileStream.write(filePath, profiles, Rs3ProfileSchema.class, gson, compact);
+            Logger.info("Rs3BackupToJson: Successfully saved {} RS3 profiles to JSON.", saved);
         } catch (IOException e) {
             Logger.error("Rs3BackupToJson: Error saving RS3 profiles to JSON - {}", e.getMessage());
         }
     }
 
     public List<Rs3ProfileSchema> loadProfiles(String targetDirectory) {
-        String filePath = Paths.get(targetDirectory, "rs3_profiles.json").toString();
+        List<Rs3ProfileSchema> profiles = new ArrayList<>();
+        return streamProfiles(targetDirectory, profiles::add) < 0 ? Collections.emptyList() : profiles;
+    }
+
+    /**
+     * Hands each profile in the backup to the sink as it is parsed, without building a list.
+     *
+     * @return The number of profiles read, or -1 if the backup could not be read.
+     */
+    public int streamProfiles(String targetDirectory, Consumer<? super Rs3ProfileSchema> sink) {
+        Path filePath = Paths.get(targetDirectory, "rs3_profiles.json");
 
-        try (FileReader reader = new FileReader(filePath)) {
+        try {
             Logger.info("Rs3BackupToJson: Loading RS3 profiles from {}.", filePath);
-            return gson.fromJson(reader, new com.google.gson.reflect.TypeToken<List<Rs3ProfileSchema>>() {}.getType());
+            return JsonProfileStream.read(filePath, Rs3ProfileSchema.class, gson, sink);
         } catch (IOException e) {
             Logger.error("Rs3BackupToJson: Failed to load RS3 profiles from JSON - {}", e.getMessage());
-            return Collections.emptyList();
+            return -1;
         }
     }
 }
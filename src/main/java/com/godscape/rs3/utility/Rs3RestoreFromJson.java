@@ -5,16 +5,17 @@ import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.enums.GameVersion;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.JsonProfileStream;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class Rs3RestoreFromJson {
 
@@ -22,7 +23,7 @@ public class Rs3RestoreFromJson {
     private final GameVersion gameVersion;
 
     public Rs3RestoreFromJson() {
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.gson = new GsonBuilder().create();
 
         // Retrieve GameVersion automatically without passing through the constructor
         GameVersion retrievedGameVersion = DependencyFactory.getInstance().getInjection(GameVersion.class);
@@ -37,14 +38,23 @@ public class Rs3RestoreFromJson {
     }
 
     public List<Rs3ProfileSchema> loadProfiles(String targetDirectory) {
-        String filePath = Paths.get(targetDirectory, "rs3_profiles.json").toString();
+        List<Rs3ProfileSchema> profiles = new ArrayList<>();
+        return streamProfiles(targetDirectory, profiles::add) < 0 ? Collections.emptyList() : profiles;
+    }
+
+    /**
+     * Hands each profile in the backup to the sink as it is parsed, without building a list.
+     *
+     * @return The number of profiles read, or -1 if the backup could not be read.
+     */
+    public int streamProfiles(String targetDirectory, Consumer<? super Rs3ProfileSchema> sink) {
+        Path filePath = Paths.get(targetDirectory, "rs3_profiles.json");
 
-        try (FileReader reader = new FileReader(filePath)) {
-            Type profileListType = new TypeToken<List<Rs3ProfileSchema>>() {}.getType();
-            return gson.fromJson(reader, profileListType);
+        try {
+            return JsonProfileStream.read(filePath, Rs3ProfileSchema.class, gson, sink);
         } catch (IOException e) {
             Logger.error("Rs3RestoreFromJson: Failed to load profiles from {} - {}", filePath, e.getMessage());
-            return Collections.emptyList();
+            return -1;
         }
     }
 }
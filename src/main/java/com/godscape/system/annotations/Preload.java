@@ -0,0 +1,24 @@
+package com.godscape.system.annotations;
+
+import com.godscape.system.interfaces.mark.Preloadable;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares where a {@link Preloadable} sits in the startup preload graph.
+ * Preloaders without this annotation have no dependencies and are not critical.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Preload {
+    /**
+     * Preloaders that must finish before this one starts. Dependencies that are not part of the
+     * graph being run are treated as already satisfied.
+     */
+    Class<? extends Preloadable>[] after() default {};
+
+    /**
+     * Whether the main frame waits for this preloader (and everything it depends on) before it is shown.
+     */
+    boolean critical() default false;
+}
@@ -0,0 +1,40 @@
+package com.godscape.system.cache;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Decides which version of a profile survives when {@link ProfileSyncEngine} finds it changed both
+ * in the cache and in the database since the last sync.
+ *
+ * @param <V> The profile schema type.
+ */
+@FunctionalInterface
+public interface ConflictPolicy<V> {
+
+    /**
+     * Returns the version to keep: {@code cached} keeps the cache's version and writes it to the
+     * database, {@code stored} replaces the cached version with the database's.
+     */
+    V resolve(V cached, V stored);
+
+    /**
+     * Keeps whichever version was modified last; ties keep the cached version.
+     */
+    static <V> ConflictPolicy<V> newestWins(ToLongFunction<? super V> lastUpdated) {
+        return (cached, stored) -> lastUpdated.applyAsLong(stored) > lastUpdated.applyAsLong(cached) ? stored : cached;
+    }
+
+    /**
+     * Always keeps the cached version.
+     */
+    static <V> ConflictPolicy<V> preferCache() {
+        return (cached, stored) -> cached;
+    }
+
+    /**
+     * Always keeps the database version.
+     */
+    static <V> ConflictPolicy<V> preferDatabase() {
+        return (cached, stored) -> stored;
+    }
+}
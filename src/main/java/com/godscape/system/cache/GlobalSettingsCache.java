@@ -24,7 +24,7 @@ public class GlobalSettingsCache {
     // Private constructor for Singleton pattern
     private GlobalSettingsCache() {
         this.hazelcastInstance = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance();
-        this.globalSettingsMap = hazelcastInstance.getMap("GlobalSettingsMap");
+        this.globalSettingsMap = hazelcastInstance.getMap(HazelcastConfig.GLOBAL_SETTINGS_MAP);
         Logger.info("GodscapeCache: Initialized GlobalSettingsMap in Hazelcast.");
     }
 
@@ -0,0 +1,203 @@
+package com.godscape.system.cache;
+
+import com.godscape.system.modules.database.DatabaseConnectionManager;
+import com.godscape.system.modules.database.queries.BaseProfileDAO;
+import com.godscape.system.utility.Logger;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.MapStore;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Persists a profile IMap to its SQLite table through the schema's {@link BaseProfileDAO}.
+ * <p>
+ * The map is configured for write-behind with write coalescing (see HazelcastConfig), so a profile
+ * edited many times within the write delay is written once, and Hazelcast hands the queued profiles
+ * to {@link #storeAll(Map)} in batches that become a single upsert transaction. Profiles missing
+ * from the map are loaded on demand through {@link #load(UUID)}; at startup {@link #loadAllKeys()}
+ * only returns the most recently updated profiles, so the rest of the table is not read until used.
+ * <p>
+ * Store and delete failures are rethrown so Hazelcast keeps the entries queued and retries them.
+ * Load failures are rethrown as well, so a broken database surfaces as a failed map operation instead
+ * of looking like missing or empty profiles.
+ *
+ * @param <V> The profile schema type stored in the map.
+ */
+public class ProfileMapStore<V> implements MapStore<UUID, V> {
+
+    private final String mapName;
+    private final Class<V> schemaClass;
+    private final Supplier<? extends BaseProfileDAO<V, ?>> daoSupplier;
+    private final int warmCount;
+    private volatile BaseProfileDAO<V, ?> dao;
+
+    private volatile long warmedAt;
+
+    private final AtomicLong storedProfiles = new AtomicLong();
+    private final AtomicLong storeBatches = new AtomicLong();
+    private final AtomicLong loadedProfiles = new AtomicLong();
+
+    /**
+     * @param warmCount Number of most recently updated profiles loaded when the map is first used;
+     *                  0 loads nothing up front, a negative value loads every profile.
+     */
+    public ProfileMapStore(String mapName, Class<V> schemaClass, Supplier<? extends BaseProfileDAO<V, ?>> daoSupplier, int warmCount) {
+        this.mapName = mapName;
+        this.schemaClass = schemaClass;
+        this.daoSupplier = daoSupplier;
+        this.warmCount = warmCount;
+    }
+
+    /**
+     * Returns the store configured for a map, or null if the map is not backed by one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ProfileMapStore<V> of(HazelcastInstance hazelcastInstance, String mapName) {
+        MapStoreConfig storeConfig = hazelcastInstance.getConfig().getMapConfig(mapName).getMapStoreConfig();
+        if (storeConfig != null && storeConfig.isEnabled() && storeConfig.getImplementation() instanceof ProfileMapStore) {
+            return (ProfileMapStore<V>) storeConfig.getImplementation();
+        }
+        return null;
+    }
+
+    // The DAO needs the game version and database, which are not known when Hazelcast is configured
+    private BaseProfileDAO<V, ?> dao() throws SQLException {
+        BaseProfileDAO<V, ?> current = dao;
+        if (current == null) {
+            synchronized (this) {
+                current = dao;
+                if (current == null) {
+                    current = daoSupplier.get();
+                    try (Connection connection = DatabaseConnectionManager.getConnection()) {
+                        current.initializeSchema(connection);
+                    }
+                    dao = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void store(UUID profileId, V profile) {
+        storeAll(Collections.singletonMap(profileId, profile));
+    }
+
+    @Override
+    public void storeAll(Map<UUID, V> profiles) {
+        try {
+            dao().upsertProfiles(new ArrayList<>(profiles.values()));
+            storedProfiles.addAndGet(profiles.size());
+            storeBatches.incrementAndGet();
+            Logger.debug("ProfileMapStore: Wrote {} profiles from '{}'.", profiles.size(), mapName);
+        } catch (SQLException e) {
+            Logger.error("ProfileMapStore: Failed to write {} profiles from '{}': {}", profiles.size(), mapName, e.getMessage());
+            throw new IllegalStateException("Failed to write profiles from " + mapName, e);
+        }
+    }
+
+    @Override
+    public void delete(UUID profileId) {
+        deleteAll(Collections.singleton(profileId));
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> profileIds) {
+        try {
+            dao().deleteProfiles(profileIds);
+            Logger.debug("ProfileMapStore: Deleted {} profiles from '{}'.", profileIds.size(), mapName);
+        } catch (SQLException e) {
+            Logger.error("ProfileMapStore: Failed to delete {} profiles from '{}': {}", profileIds.size(), mapName, e.getMessage());
+            throw new IllegalStateException("Failed to delete profiles from " + mapName, e);
+        }
+    }
+
+    @Override
+    public V load(UUID profileId) {
+        return loadAll(Collections.singleton(profileId)).get(profileId);
+    }
+
+    @Override
+    public Map<UUID, V> loadAll(Collection<UUID> profileIds) {
+        try {
+            Map<UUID, V> profiles = dao().getProfilesByIds(profileIds, schemaClass);
+            loadedProfiles.addAndGet(profiles.size());
+            return profiles;
+        } catch (SQLException e) {
+            Logger.error("ProfileMapStore: Failed to load {} profiles for '{}': {}", profileIds.size(), mapName, e.getMessage());
+            throw new IllegalStateException("Failed to load profiles for " + mapName, e);
+        }
+    }
+
+    @Override
+    public Iterable<UUID> loadAllKeys() {
+        warmedAt = System.currentTimeMillis();
+        if (warmCount == 0) {
+            return null;
+        }
+        try {
+            Set<UUID> profileIds = warmCount < 0 ? dao().loadProfileIds() : dao().loadRecentProfileIds(warmCount);
+            Logger.info("ProfileMapStore: Warming '{}' with {} profiles.", mapName, profileIds.size());
+            return profileIds;
+        } catch (SQLException e) {
+            Logger.error("ProfileMapStore: Could not read profile IDs for '{}': {}", mapName, e.getMessage());
+            throw new IllegalStateException("Failed to read profile IDs for " + mapName, e);
+        }
+    }
+
+    /**
+     * Returns the IDs of all stored profiles, including ones not loaded into the map.
+     */
+    public Set<UUID> loadAllProfileIds() {
+        try {
+            return dao().loadProfileIds();
+        } catch (SQLException | RuntimeException e) {
+            Logger.warn("ProfileMapStore: Could not read profile IDs for '{}': {}", mapName, e.getMessage());
+            return new HashSet<>();
+        }
+    }
+
+    /**
+     * Returns the names of all stored profiles keyed by ID, so name lookups can find profiles that
+     * have not been loaded into the map yet.
+     */
+    public Map<UUID, String> loadProfileNames() {
+        try {
+            return dao().loadProfileNames();
+        } catch (SQLException | RuntimeException e) {
+            Logger.warn("ProfileMapStore: Could not read profile names for '{}': {}", mapName, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return When Hazelcast asked for the warm set (epoch milliseconds), or 0 if the map has not
+     * been loaded yet. Profiles updated before then are loaded on demand rather than synced.
+     */
+    public long getWarmedAt() {
+        return warmedAt;
+    }
+
+    public long getStoredProfiles() {
+        return storedProfiles.get();
+    }
+
+    public long getStoreBatches() {
+        return storeBatches.get();
+    }
+
+    public long getLoadedProfiles() {
+        return loadedProfiles.get();
+    }
+}
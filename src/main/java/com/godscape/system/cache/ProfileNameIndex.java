@@ -0,0 +1,180 @@
+package com.godscape.system.cache;
+
+import com.godscape.system.utility.Logger;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Case-insensitive profile name to UUID index kept in step with a profile IMap.
+ * <p>
+ * The owning cache updates the index synchronously on its own writes, and the index is
+ * also registered as an entry listener so changes made through other paths (other members,
+ * eviction, expiry, clear) are reflected. Lookups are lock-free and do not depend on the
+ * number of cached profiles.
+ *
+ * @param <V> The profile schema type stored in the map.
+ */
+public class ProfileNameIndex<V> implements EntryAddedListener<UUID, V>,
+        EntryUpdatedListener<UUID, V>,
+        EntryRemovedListener<UUID, V>,
+        EntryEvictedListener<UUID, V>,
+        EntryExpiredListener<UUID, V>,
+        MapClearedListener {
+
+    private final Map<String, UUID> nameToId = new ConcurrentHashMap<>();
+    private final Map<UUID, String> idToName = new ConcurrentHashMap<>();
+    private final Function<V, UUID> idExtractor;
+    private final Function<V, String> nameExtractor;
+
+    public ProfileNameIndex(Function<V, UUID> idExtractor, Function<V, String> nameExtractor) {
+        this.idExtractor = idExtractor;
+        this.nameExtractor = nameExtractor;
+    }
+
+    /**
+     * Builds the index from the current map contents and registers it as a listener.
+     *
+     * @param map The profile map to index.
+     */
+    public void attach(IMap<UUID, V> map) {
+        map.addEntryListener(this, true);
+        map.values().forEach(this::index);
+        Logger.info("ProfileNameIndex: Indexed {} profile names.", nameToId.size());
+    }
+
+    /**
+     * Atomically reserves a name for a profile.
+     *
+     * @return True if the name was free (or already belongs to this profile), false otherwise.
+     */
+    public synchronized boolean reserve(UUID profileId, String profileName) {
+        String key = normalize(profileName);
+        if (profileId == null || key == null) {
+            return false;
+        }
+        UUID owner = nameToId.putIfAbsent(key, profileId);
+        if (owner != null && !owner.equals(profileId)) {
+            return false;
+        }
+        String previous = idToName.put(profileId, key);
+        if (previous != null && !previous.equals(key)) {
+            nameToId.remove(previous, profileId);
+        }
+        return true;
+    }
+
+    /**
+     * Indexes (or re-indexes after a rename) a profile.
+     */
+    public synchronized void index(V profile) {
+        if (profile == null) {
+            return;
+        }
+        index(idExtractor.apply(profile), nameExtractor.apply(profile));
+    }
+
+    /**
+     * Indexes a profile known only by ID and name, e.g. one stored in the database but not yet
+     * loaded into the map.
+     */
+    public synchronized void index(UUID profileId, String profileName) {
+        String key = normalize(profileName);
+        if (profileId == null) {
+            return;
+        }
+        String previous = key != null ? idToName.put(profileId, key) : idToName.remove(profileId);
+        if (previous != null && !previous.equals(key)) {
+            nameToId.remove(previous, profileId);
+        }
+        if (key != null) {
+            nameToId.put(key, profileId);
+        }
+    }
+
+    /**
+     * Removes a profile from the index.
+     */
+    public synchronized void unindex(UUID profileId) {
+        if (profileId == null) {
+            return;
+        }
+        String previous = idToName.remove(profileId);
+        if (previous != null) {
+            nameToId.remove(previous, profileId);
+        }
+    }
+
+    /**
+     * Looks up a profile ID by name, ignoring case.
+     *
+     * @return The UUID of the profile, or null if no profile has this name.
+     */
+    public UUID lookup(String profileName) {
+        String key = normalize(profileName);
+        return key != null ? nameToId.get(key) : null;
+    }
+
+    public boolean contains(String profileName) {
+        return lookup(profileName) != null;
+    }
+
+    public synchronized void clear() {
+        nameToId.clear();
+        idToName.clear();
+    }
+
+    public int size() {
+        return nameToId.size();
+    }
+
+    private String normalize(String profileName) {
+        if (profileName == null) {
+            return null;
+        }
+        String trimmed = profileName.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void entryAdded(EntryEvent<UUID, V> event) {
+        index(event.getValue());
+    }
+
+    @Override
+    public void entryUpdated(EntryEvent<UUID, V> event) {
+        index(event.getValue());
+    }
+
+    @Override
+    public void entryRemoved(EntryEvent<UUID, V> event) {
+        unindex(event.getKey());
+    }
+
+    @Override
+    public void entryEvicted(EntryEvent<UUID, V> event) {
+        unindex(event.getKey());
+    }
+
+    @Override
+    public void entryExpired(EntryEvent<UUID, V> event) {
+        unindex(event.getKey());
+    }
+
+    @Override
+    public void mapCleared(MapEvent event) {
+        clear();
+    }
+}
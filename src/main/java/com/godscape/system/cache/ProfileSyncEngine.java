@@ -0,0 +1,274 @@
+package com.godscape.system.cache;
+
+import com.godscape.system.config.HazelcastConfig;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.modules.database.DatabaseConnectionManager;
+import com.godscape.system.modules.database.queries.BaseProfileDAO;
+import com.godscape.system.schemas.BaseSchema;
+import com.godscape.system.utility.Logger;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one profile map and its database table in step using the profiles' {@code lastUpdated}
+ * timestamps as high-water marks, so each sync only touches what changed since the previous one.
+ * <p>
+ * A sync first reads the IDs and timestamps of the rows whose {@code lastUpdated} is past the pull
+ * mark. Rows whose timestamp equals the cached copy's, such as the ones this client pushed itself,
+ * are skipped without being loaded; only the rest (rows written by another client sharing the
+ * database) are read in full. Rows for profiles that are not cached are added without being written
+ * back. Rows for cached profiles with a different timestamp are conflicts, settled by the
+ * {@link ConflictPolicy}. It then pushes the cached profiles modified since the push mark, found
+ * through the sorted {@code lastUpdated} index of the map: on a map with a {@link ProfileMapStore}
+ * these are already queued for write-behind and are flushed, otherwise they are upserted directly.
+ * <p>
+ * Marks are kept per engine, i.e. per table, in memory only. On a store-backed map the first pull
+ * starts at the time the store's warm set was read, since older profiles are loaded on demand; that
+ * keeps the first sync from loading the whole table. Other maps start with a full pull, and
+ * {@link #fullSync()} always makes one. Rows written
+ * with a clock running behind the pull mark are not picked up.
+ *
+ * @param <V> The profile schema type.
+ */
+public class ProfileSyncEngine<V extends BaseSchema> {
+
+    private final String mapName;
+    private final Class<V> schemaClass;
+    private final Supplier<? extends BaseProfileDAO<V, ?>> daoSupplier;
+    private final Function<V, UUID> idFunction;
+    private volatile ConflictPolicy<V> conflictPolicy;
+    private volatile BaseProfileDAO<V, ?> dao;
+
+    private long pullMark;  // Guarded by this
+    private long pushMark;  // Guarded by this
+
+    private final AtomicLong syncs = new AtomicLong();
+    private final AtomicLong pulledProfiles = new AtomicLong();
+    private final AtomicLong pushedProfiles = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+
+    public ProfileSyncEngine(String mapName, Class<V> schemaClass, Supplier<? extends BaseProfileDAO<V, ?>> daoSupplier,
+                             Function<V, UUID> idFunction, ConflictPolicy<V> conflictPolicy) {
+        this.mapName = mapName;
+        this.schemaClass = schemaClass;
+        this.daoSupplier = daoSupplier;
+        this.idFunction = idFunction;
+        this.conflictPolicy = conflictPolicy;
+    }
+
+    /**
+     * Creates an engine that settles conflicts in favour of the most recently modified version.
+     */
+    public static <V extends BaseSchema> ProfileSyncEngine<V> newestWins(String mapName, Class<V> schemaClass,
+                                                                         Supplier<? extends BaseProfileDAO<V, ?>> daoSupplier,
+                                                                         Function<V, UUID> idFunction) {
+        return new ProfileSyncEngine<>(mapName, schemaClass, daoSupplier, idFunction, ConflictPolicy.newestWins(BaseSchema::getLastUpdated));
+    }
+
+    private BaseProfileDAO<V, ?> dao() throws SQLException {
+        BaseProfileDAO<V, ?> current = dao;
+        if (current == null) {
+            synchronized (this) {
+                current = dao;
+                if (current == null) {
+                    current = daoSupplier.get();
+                    try (Connection connection = DatabaseConnectionManager.getConnection()) {
+                        current.initializeSchema(connection);
+                    }
+                    dao = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Runs one pull and push. Syncs of the same engine never overlap.
+     */
+    public SyncResult sync() throws SQLException {
+        return sync(false);
+    }
+
+    /**
+     * Runs one sync that pulls every stored profile, not only those changed since the last pull, so
+     * a store-backed map holds the whole table afterwards rather than just its warm set.
+     */
+    public SyncResult fullSync() throws SQLException {
+        return sync(true);
+    }
+
+    private synchronized SyncResult sync(boolean fullPull) throws SQLException {
+        long started = System.currentTimeMillis();
+        HazelcastInstance hazelcastInstance = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance();
+        IMap<UUID, V> map = hazelcastInstance.getMap(mapName);
+        ProfileMapStore<V> store = ProfileMapStore.of(hazelcastInstance, mapName);
+        boolean storeBacked = store != null;
+        ConflictPolicy<V> policy = conflictPolicy;
+        if (pullMark == 0 && storeBacked) {
+            pullMark = warmMark(map, store, started);
+        }
+
+        // Pull
+        Map<UUID, Long> versions = dao().loadProfileVersionsSince(fullPull ? 0 : pullMark);
+        long newPullMark = pullMark;
+        for (long version : versions.values()) {
+            newPullMark = Math.max(newPullMark, version);
+        }
+        // keySet and getAll on cached keys never go to the map store
+        Set<UUID> cachedIds = new HashSet<>(versions.keySet());
+        cachedIds.retainAll(map.keySet());
+        Map<UUID, V> cached = cachedIds.isEmpty() ? new HashMap<>() : map.getAll(cachedIds);
+        Set<UUID> changedIds = new LinkedHashSet<>();
+        versions.forEach((profileId, version) -> {
+            V cachedProfile = cached.get(profileId);
+            if (cachedProfile == null || cachedProfile.getLastUpdated() != version) {
+                changedIds.add(profileId);
+            }
+        });
+        Map<UUID, V> storedById = changedIds.isEmpty() ? new HashMap<>() : dao().getProfilesByIds(changedIds, schemaClass);
+
+        int pulled = 0;
+        int conflicted = 0;
+        List<V> keptLocally = new ArrayList<>();
+        for (Map.Entry<UUID, V> entry : storedById.entrySet()) {
+            UUID profileId = entry.getKey();
+            V storedProfile = entry.getValue();
+            V cachedProfile = cached.get(profileId);
+            if (cachedProfile == null) {
+                map.putTransient(profileId, storedProfile, 0, TimeUnit.SECONDS);
+                pulled++;
+            } else if (cachedProfile.getLastUpdated() != storedProfile.getLastUpdated()) {
+                conflicted++;
+                if (policy.resolve(cachedProfile, storedProfile) == storedProfile) {
+                    // set rather than putTransient, so it replaces any write of the losing version still queued
+                    map.set(profileId, storedProfile);
+                    pulled++;
+                } else if (cachedProfile.getLastUpdated() <= pushMark) {
+                    keptLocally.add(cachedProfile);
+                }
+            }
+        }
+
+        // Push
+        List<V> modified = new ArrayList<>(map.values(Predicates.greaterThan("lastUpdated", pushMark)));
+        modified.removeIf(profile -> {
+            Long storedVersion = versions.get(idFunction.apply(profile));
+            return storedVersion != null && storedVersion >= profile.getLastUpdated();
+        });
+        int pushed = modified.size() + keptLocally.size();
+        if (storeBacked) {
+            keptLocally.forEach(profile -> map.set(idFunction.apply(profile), profile));
+            if (pushed > 0) {
+                map.flush();
+            }
+        } else if (pushed > 0) {
+            modified.addAll(keptLocally);
+            dao().upsertProfiles(modified);
+        }
+
+        pullMark = newPullMark;
+        pushMark = started - 1;  // Profiles modified while this sync ran are pushed again next time
+        syncs.incrementAndGet();
+        pulledProfiles.addAndGet(pulled);
+        pushedProfiles.addAndGet(pushed);
+        conflicts.addAndGet(conflicted);
+        return new SyncResult(pulled, pushed, conflicted, System.currentTimeMillis() - started);
+    }
+
+    // The first pull of a store-backed map starts where the warm set was read
+    private static long warmMark(IMap<?, ?> map, ProfileMapStore<?> store, long started) {
+        map.size();  // Completes the lazy initial load if nothing has touched the map yet
+        long warmedAt = store.getWarmedAt();
+        return warmedAt > 0 ? warmedAt : started;
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public void setConflictPolicy(ConflictPolicy<V> conflictPolicy) {
+        this.conflictPolicy = conflictPolicy;
+    }
+
+    public synchronized long getPullMark() {
+        return pullMark;
+    }
+
+    public synchronized long getPushMark() {
+        return pushMark;
+    }
+
+    public long getSyncs() {
+        return syncs.get();
+    }
+
+    public long getPulledProfiles() {
+        return pulledProfiles.get();
+    }
+
+    public long getPushedProfiles() {
+        return pushedProfiles.get();
+    }
+
+    public long getConflicts() {
+        return conflicts.get();
+    }
+
+    /**
+     * What one {@link #sync()} did.
+     */
+    public static final class SyncResult {
+        private final int pulled;
+        private final int pushed;
+        private final int conflicts;
+        private final long elapsedMillis;
+
+        private SyncResult(int pulled, int pushed, int conflicts, long elapsedMillis) {
+            this.pulled = pulled;
+            this.pushed = pushed;
+            this.conflicts = conflicts;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getPulled() {
+            return pulled;
+        }
+
+        public int getPushed() {
+            return pushed;
+        }
+
+        public int getConflicts() {
+            return conflicts;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public boolean isEmpty() {
+            return pulled == 0 && pushed == 0 && conflicts == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "pulled " + pulled + ", pushed " + pushed + ", conflicts " + conflicts + " in " + elapsedMillis + " ms";
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.godscape.system.cache;
+
+import com.godscape.osrs.database.OsrsProfileDAO;
+import com.godscape.osrs.enums.core.OsrsSchemas;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.rs3.database.Rs3ProfileDAO;
+import com.godscape.rs3.enums.core.Rs3Schemas;
+import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.enums.GameVersion;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.factories.PlatformFactory;
+import com.godscape.system.schemas.GlobalSettingsSchema;
+import com.godscape.system.utility.Logger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link ProfileSyncEngine} syncs for the current game's profile maps on a background thread.
+ * <p>
+ * {@code loadProfilesOnStart} in the global settings triggers one {@link ProfileSyncEngine#fullSync()}
+ * as soon as the scheduler starts, which pulls every stored profile into the cache, including those
+ * a store-backed map would otherwise load only on first access; {@code autoSyncProfiles} repeats the
+ * incremental sync every {@link ConfigKeys#PROFILE_SYNC_INTERVAL_SECONDS}. Syncs never run on the EDT.
+ */
+@Singleton
+public class ProfileSyncScheduler {
+
+    private static final int DEFAULT_SYNC_INTERVAL_SECONDS = 30;
+
+    private final ScheduledExecutorService scheduler;
+    private final List<ProfileSyncEngine<?>> engines = new CopyOnWriteArrayList<>();
+    private final int intervalSeconds;
+    private ScheduledFuture<?> periodicSync;  // Guarded by this
+    private boolean started;  // Guarded by this
+
+    public ProfileSyncScheduler() {
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.intervalSeconds = Math.max(1, config.getInt(ConfigKeys.PROFILE_SYNC_INTERVAL_SECONDS, DEFAULT_SYNC_INTERVAL_SECONDS));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ProfileSync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Logger.info("ProfileSyncScheduler: Initialized with a sync interval of {} seconds.", intervalSeconds);
+    }
+
+    /**
+     * Creates the engines for the current game version and schedules syncs according to the
+     * global settings. Later calls do nothing.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        registerEngines();
+
+        GlobalSettingsSchema settings = DependencyFactory.getInstance().getInjection(GlobalSettingsSchema.class);
+        boolean loadOnStart = settings != null && settings.isLoadProfilesOnStart();
+        boolean autoSync = settings != null && settings.isAutoSyncProfiles();
+        if (loadOnStart) {
+            scheduler.execute(() -> syncAll(true));
+        }
+        if (autoSync) {
+            periodicSync = scheduler.scheduleWithFixedDelay(() -> syncAll(false), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+        Logger.info("ProfileSyncScheduler: Started (load on start: {}, auto sync: {}).", loadOnStart, autoSync);
+    }
+
+    private void registerEngines() {
+        GameVersion gameVersion = DependencyFactory.getInstance().getInjection(PlatformFactory.class).getCurrentGameVersion();
+        if (gameVersion == GameVersion.OSRS) {
+            engines.add(ProfileSyncEngine.newestWins(OsrsSchemas.OSRS_PROFILE_SCHEMA.getCacheName(), OsrsProfileSchema.class,
+                    OsrsProfileDAO::new, OsrsProfileSchema::getProfileId));
+        } else if (gameVersion == GameVersion.RS3) {
+            engines.add(ProfileSyncEngine.newestWins(Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName(), Rs3ProfileSchema.class,
+                    Rs3ProfileDAO::new, Rs3ProfileSchema::getProfileId));
+        } else {
+            Logger.warn("ProfileSyncScheduler: No profile maps to sync for {}.", gameVersion);
+        }
+    }
+
+    /**
+     * Queues an immediate sync of every engine on the sync thread.
+     */
+    public void requestSync() {
+        if (!scheduler.isShutdown()) {
+            scheduler.execute(() -> syncAll(false));
+        }
+    }
+
+    private void syncAll(boolean fullPull) {
+        for (ProfileSyncEngine<?> engine : engines) {
+            try {
+                ProfileSyncEngine.SyncResult result = fullPull ? engine.fullSync() : engine.sync();
+                if (!result.isEmpty()) {
+                    Logger.info("ProfileSyncScheduler: Synced '{}': {}.", engine.getMapName(), result);
+                }
+            } catch (Exception e) {
+                Logger.error("ProfileSyncScheduler: Sync of '{}' failed: {}", engine.getMapName(), e.getMessage());
+            }
+        }
+    }
+
+    public List<ProfileSyncEngine<?>> getEngines() {
+        return Collections.unmodifiableList(engines);
+    }
+
+    /**
+     * Stops scheduling syncs and waits briefly for a running one to finish.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (periodicSync != null) {
+                periodicSync.cancel(false);
+                periodicSync = null;
+            }
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                Logger.warn("ProfileSyncScheduler: A sync was still running at shutdown.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.godscape.system.cache;
+
+import com.godscape.system.factories.SerializableFactory;
+import com.godscape.system.utility.serialization.SettingsMapCodec;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The settings keys that actually changed on a profile or character as the result of a
+ * settings update. Observers receive this instead of the whole schema.
+ */
+@Getter
+public class SettingsDelta implements IdentifiedDataSerializable {
+
+    private UUID entityId;
+    private Map<String, Object> changed = new LinkedHashMap<>();
+    private Set<String> removed = new LinkedHashSet<>();
+
+    public SettingsDelta() {}
+
+    public SettingsDelta(UUID entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * Compares two versions of a settings map.
+     *
+     * @param entityId The profile or character the settings belong to.
+     * @param before   The settings before the change, or null for none.
+     * @param after    The settings after the change, or null for none.
+     * @return The keys that were added or changed in {@code after} and the keys it no longer has.
+     */
+    public static SettingsDelta between(UUID entityId, Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> previous = before != null ? before : Collections.emptyMap();
+        Map<String, Object> current = after != null ? after : Collections.emptyMap();
+        SettingsDelta delta = new SettingsDelta(entityId);
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                delta.recordChanged(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                delta.recordRemoved(key);
+            }
+        }
+        return delta;
+    }
+
+    public void recordChanged(String key, Object value) {
+        changed.put(key, value);
+    }
+
+    public void recordRemoved(String key) {
+        removed.add(key);
+    }
+
+    /**
+     * Folds a later delta of the same entity into this one, so the result stands for both changes.
+     */
+    public void merge(SettingsDelta later) {
+        later.changed.forEach((key, value) -> {
+            removed.remove(key);
+            changed.put(key, value);
+        });
+        for (String key : later.removed) {
+            changed.remove(key);
+            removed.add(key);
+        }
+    }
+
+    public Set<String> getChangedKeys() {
+        Set<String> keys = new LinkedHashSet<>(changed.keySet());
+        keys.addAll(removed);
+        return Collections.unmodifiableSet(keys);
+    }
+
+    public boolean isEmpty() {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        SettingsMapCodec.writeUuid(out, entityId);
+        SettingsMapCodec.writeSettingsMap(out, changed);
+        out.writeInt(removed.size());
+        for (String key : removed) {
+            out.writeString(key);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        this.entityId = SettingsMapCodec.readUuid(in);
+        Map<String, Object> changedSettings = SettingsMapCodec.readSettingsMap(in);
+        this.changed = changedSettings != null ? new LinkedHashMap<>(changedSettings) : new LinkedHashMap<>();
+        int removedCount = in.readInt();
+        this.removed = new LinkedHashSet<>();
+        for (int i = 0; i < removedCount; i++) {
+            removed.add(in.readString());
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SerializableFactory.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SerializableFactory.SETTINGS_DELTA_ID;
+    }
+
+    @Override
+    public String toString() {
+        return "SettingsDelta{entityId=" + entityId + ", changed=" + changed.keySet() + ", removed=" + removed + "}";
+    }
+}
@@ -0,0 +1,116 @@
+package com.godscape.system.cache;
+
+import com.godscape.system.factories.SerializableFactory;
+import com.godscape.system.schemas.BaseSchema;
+import com.godscape.system.schemas.SettingsStore;
+import com.godscape.system.utility.serialization.SettingsMapCodec;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Applies set/remove operations to the settings map of a cached schema in place, on the
+ * partition that owns the entry, instead of a get/modify/put round trip of the whole schema.
+ * <p>
+ * A null value in the update map removes the setting. Keys are normalized to the lower-case
+ * flat form used by {@link SettingsStore}. The entry is only written back (and an update event
+ * only published) when at least one setting actually changed; the returned {@link SettingsDelta}
+ * lists just those keys, and the schema's last-updated time is bumped so profile sync picks it up.
+ *
+ * @param <V> The schema type stored in the map.
+ */
+public class SettingsEntryProcessor<V extends BaseSchema> implements EntryProcessor<UUID, V, SettingsDelta>, IdentifiedDataSerializable {
+
+    private Map<String, Object> updates;
+
+    public SettingsEntryProcessor() {
+        this.updates = new LinkedHashMap<>();
+    }
+
+    private SettingsEntryProcessor(Map<String, Object> updates) {
+        this.updates = updates;
+    }
+
+    public static <V extends BaseSchema> SettingsEntryProcessor<V> set(String componentId, Object value) {
+        return new SettingsEntryProcessor<>(Collections.singletonMap(SettingsStore.normalize(componentId), value));
+    }
+
+    public static <V extends BaseSchema> SettingsEntryProcessor<V> remove(String componentId) {
+        return new SettingsEntryProcessor<>(Collections.singletonMap(SettingsStore.normalize(componentId), null));
+    }
+
+    public static <V extends BaseSchema> SettingsEntryProcessor<V> setAll(Map<String, Object> settings) {
+        Map<String, Object> normalized = new LinkedHashMap<>();
+        settings.forEach((key, value) -> normalized.put(SettingsStore.normalize(key), value));
+        return new SettingsEntryProcessor<>(normalized);
+    }
+
+    @Override
+    public SettingsDelta process(Map.Entry<UUID, V> entry) {
+        V schema = entry.getValue();
+        if (schema == null) {
+            return null;
+        }
+        SettingsDelta delta = apply(entry.getKey(), schema, updates);
+        if (!delta.isEmpty()) {
+            schema.setLastUpdated(System.currentTimeMillis());
+            entry.setValue(schema);
+        }
+        return delta;
+    }
+
+    private static SettingsDelta apply(UUID entityId, BaseSchema schema, Map<String, Object> updates) {
+        Map<String, Object> settings = schema.getSettingsMap();
+        if (settings == null) {
+            settings = new SettingsStore();
+            schema.setSettingsMap(settings);
+        }
+
+        SettingsDelta delta = new SettingsDelta(entityId);
+        for (Map.Entry<String, Object> update : updates.entrySet()) {
+            String key = update.getKey();
+            Object value = update.getValue();
+            if (value == null) {
+                if (settings.remove(key) != null) {
+                    delta.recordRemoved(key);
+                }
+            } else if (!Objects.equals(settings.put(key, value), value)) {
+                delta.recordChanged(key, value);
+            }
+        }
+        return delta;
+    }
+
+    public Map<String, Object> getUpdates() {
+        return Collections.unmodifiableMap(updates);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        SettingsMapCodec.writeSettingsMap(out, updates);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        Map<String, Object> read = SettingsMapCodec.readSettingsMap(in);
+        this.updates = read != null ? read : new LinkedHashMap<>();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SerializableFactory.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SerializableFactory.SETTINGS_ENTRY_PROCESSOR_ID;
+    }
+}
@@ -23,7 +23,7 @@ public class ThemeCache {
 
     public ThemeCache(HazelcastConfig hazelcastConfig, DatabaseModule databaseModule) {
         HazelcastInstance hazelcastInstance = hazelcastConfig.getHazelcastInstance();
-        themeCacheMap = hazelcastInstance.getMap("themeCache");
+        themeCacheMap = hazelcastInstance.getMap(HazelcastConfig.THEME_CACHE);
         this.databaseModule = databaseModule;
         Logger.info("ThemeCache: Initialized and ready to cache themes.");
     }
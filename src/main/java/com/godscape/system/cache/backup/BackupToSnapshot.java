@@ -0,0 +1,125 @@
+package com.godscape.system.cache.backup;
+
+import com.godscape.osrs.schemas.OsrsCharacterSchema;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.rs3.schemas.Rs3CharacterSchema;
+import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.enums.GameVersion;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.factories.PlatformFactory;
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.BinarySnapshot;
+import com.godscape.system.utility.serialization.JavaRecordCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+
+/**
+ * Saves profiles and characters as compressed {@link BinarySnapshot}s, the compact alternative to the JSON
+ * and XML backups. Profiles are stored in their cache encoding; characters, which have none, with Java
+ * serialization.
+ */
+public class BackupToSnapshot {
+
+    private final GameVersion gameVersion;
+
+    public BackupToSnapshot() {
+        this.gameVersion = DependencyFactory.getInstance().getInjection(PlatformFactory.class).getCurrentGameVersion();
+
+        if (gameVersion == null) {
+            throw new IllegalStateException("GameVersion not available from PlatformFactory.");
+        }
+
+        Logger.info("BackupToSnapshot: Facade initialized for game version {}.", gameVersion);
+    }
+
+    /**
+     * Returns the snapshot file for the given game version in the target directory.
+     */
+    static Path snapshotPath(String targetDirectory, GameVersion gameVersion) {
+        String baseName = gameVersion == GameVersion.OSRS ? "osrs_profiles" : "rs3_profiles";
+        return Paths.get(targetDirectory, baseName + BinarySnapshot.FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the character snapshot file for the given game version in the target directory.
+     */
+    static Path characterSnapshotPath(String targetDirectory, GameVersion gameVersion) {
+        String baseName = gameVersion == GameVersion.OSRS ? "osrs_characters" : "rs3_characters";
+        return Paths.get(targetDirectory, baseName + BinarySnapshot.FILE_EXTENSION);
+    }
+
+    /**
+     * Saves profiles to a snapshot file based on the detected game version (OSRS or RS3).
+     *
+     * @param profiles        The collection of profiles to save.
+     * @param targetDirectory The directory where the snapshot file will be saved.
+     */
+    @SuppressWarnings("unchecked")
+    public void saveProfiles(Collection<?> profiles, String targetDirectory) {
+        if (profiles == null || profiles.isEmpty()) {
+            Logger.warn("BackupToSnapshot: No profiles to save.");
+            return;
+        }
+
+        Path filePath = snapshotPath(targetDirectory, gameVersion);
+        try {
+            Logger.info("BackupToSnapshot: Saving {} profiles to {}.", profiles.size(), filePath);
+            int saved;
+            switch (gameVersion) {
+                case OSRS:
+                    saved = BinarySnapshot.write(filePath, (Collection<OsrsProfileSchema>) profiles, OsrsProfileSchema::getProfileId);
+                    break;
+                case RS3:
+                    saved = BinarySnapshot.write(filePath, (Collection<Rs3ProfileSchema>) profiles, Rs3ProfileSchema::getProfileId);
+                    break;
+                default:
+                    Logger.error("BackupToSnapshot: Unsupported game version - {}", gameVersion);
+                    return;
+            }
+            Logger.info("BackupToSnapshot: Saved {} profiles ({} bytes).", saved, Files.size(filePath));
+        } catch (IOException e) {
+            Logger.error("BackupToSnapshot: Error saving profiles to {} - {}", filePath, e.getMessage());
+        }
+    }
+
+    /**
+     * Saves characters to a snapshot file based on the detected game version. OSRS characters are
+     * indexed by their character ID; RS3 characters have no ID and can only be restored all at once.
+     *
+     * @param characters      The collection of characters to save.
+     * @param targetDirectory The directory where the snapshot file will be saved.
+     */
+    @SuppressWarnings("unchecked")
+    public void saveCharacters(Collection<?> characters, String targetDirectory) {
+        if (characters == null || characters.isEmpty()) {
+            Logger.warn("BackupToSnapshot: No characters to save.");
+            return;
+        }
+
+        Path filePath = characterSnapshotPath(targetDirectory, gameVersion);
+        try {
+            Logger.info("BackupToSnapshot: Saving {} characters to {}.", characters.size(), filePath);
+            int saved;
+            switch (gameVersion) {
+                case OSRS:
+                    saved = BinarySnapshot.write(filePath, (Collection<OsrsCharacterSchema>) characters,
+                            OsrsCharacterSchema::getCharacterId, new JavaRecordCodec<>(OsrsCharacterSchema.class));
+                    break;
+                case RS3:
+                    saved = BinarySnapshot.write(filePath, (Collection<Rs3CharacterSchema>) characters,
+                            character -> null, new JavaRecordCodec<>(Rs3CharacterSchema.class));
+                    break;
+                default:
+                    Logger.error("BackupToSnapshot: Unsupported game version - {}", gameVersion);
+                    return;
+            }
+            Logger.info("BackupToSnapshot: Saved {} characters ({} bytes).", saved, Files.size(filePath));
+        } catch (IOException e) {
+            Logger.error("BackupToSnapshot: Error saving characters to {} - {}", filePath, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.godscape.system.cache.backup;
+
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.generators.HashGenerator;
+import com.godscape.system.utility.serialization.BinarySnapshot;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Differential profile backups: every profile is stored once as a content-addressed chunk, and each
+ * backup run only writes a small manifest listing the chunk of every profile.
+ * <p>
+ * A chunk is the Deflate-compressed {@link BinarySnapshot#encodeCanonical} output of one profile,
+ * stored under {@code chunks/<first two hex digits>/<SHA-256 of the uncompressed bytes>}. Every
+ * profile is encoded and hashed on each run, and change detection compares that hash with the latest
+ * manifest's rather than trusting {@code lastUpdated}, which not every edit path bumps; the canonical
+ * encoding writes settings in key order, so equal profiles always hash alike. Backing up a profile
+ * whose bytes are already stored writes nothing. Manifests are named after their creation time, so
+ * they sort chronologically; {@link #restore} can rebuild the profile set of any of them, and
+ * {@link #collectGarbage} removes old manifests and the chunks no remaining manifest references.
+ * Chunks and manifests are written to a temporary file and renamed into place, so a run that dies
+ * midway never leaves a partial file behind a valid name.
+ * <p>
+ * Methods are synchronized; backups, restores and collections of one store never overlap.
+ *
+ * @param <T> The profile schema type.
+ */
+public class DifferentialBackupStore<T extends IdentifiedDataSerializable> {
+
+    private static final String MANIFEST_HEADER = "godscape-differential-manifest 1";
+    private static final String MANIFEST_EXTENSION = ".manifest";
+    private static final String CHUNK_EXTENSION = ".chunk";
+
+    private final Path chunksDirectory;
+    private final Path manifestsDirectory;
+    private final Function<? super T, UUID> idFunction;
+    private final ToLongFunction<? super T> lastUpdatedFunction;
+    private final Supplier<? extends T> factory;
+
+    private Map<UUID, ManifestEntry> latest;  // Entries of the newest manifest, loaded on first backup
+
+    public DifferentialBackupStore(Path rootDirectory, Function<? super T, UUID> idFunction,
+                                   ToLongFunction<? super T> lastUpdatedFunction, Supplier<? extends T> factory) {
+        this.chunksDirectory = rootDirectory.resolve("chunks");
+        this.manifestsDirectory = rootDirectory.resolve("manifests");
+        this.idFunction = idFunction;
+        this.lastUpdatedFunction = lastUpdatedFunction;
+        this.factory = factory;
+    }
+
+    /**
+     * Backs up the profiles, writing chunks only for content not stored yet, and records them in a new manifest.
+     */
+    public synchronized BackupResult backup(Collection<? extends T> profiles) throws IOException {
+        long started = System.currentTimeMillis();
+        Files.createDirectories(chunksDirectory);
+        Files.createDirectories(manifestsDirectory);
+        Map<UUID, ManifestEntry> previous = latestEntries();
+
+        Map<UUID, ManifestEntry> entries = new LinkedHashMap<>();
+        int unchanged = 0;
+        int written = 0;
+        long bytesWritten = 0;
+        for (T profile : profiles) {
+            UUID profileId = idFunction.apply(profile);
+            if (profileId == null) {
+                Logger.warn("DifferentialBackupStore: Skipping a profile without an ID.");
+                continue;
+            }
+            long lastUpdated = lastUpdatedFunction.applyAsLong(profile);
+            byte[] data = BinarySnapshot.encodeCanonical(profile);
+            String hash = HashGenerator.sha256Hex(data);
+            ManifestEntry previousEntry = previous.get(profileId);
+            if (previousEntry != null && previousEntry.hash.equals(hash)) {
+                entries.put(profileId, previousEntry);
+                unchanged++;
+                continue;
+            }
+
+            Path chunk = chunkPath(hash);
+            if (!Files.exists(chunk)) {
+                bytesWritten += writeChunk(chunk, data);
+                written++;
+            }
+            entries.put(profileId, new ManifestEntry(profileId, lastUpdated, hash));
+        }
+
+        String manifestName = writeManifest(entries.values(), started);
+        latest = entries;
+        return new BackupResult(manifestName, entries.size(), unchanged, written, bytesWritten, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Returns the manifest names, oldest first.
+     */
+    public synchronized List<String> listManifests() throws IOException {
+        List<String> names = new ArrayList<>();
+        if (!Files.isDirectory(manifestsDirectory)) {
+            return names;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(manifestsDirectory, "*" + MANIFEST_EXTENSION)) {
+            for (Path manifest : stream) {
+                String fileName = manifest.getFileName().toString();
+                names.add(fileName.substring(0, fileName.length() - MANIFEST_EXTENSION.length()));
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Hands every profile recorded in the manifest to the sink, verifying each chunk's hash.
+     *
+     * @return The number of profiles restored.
+     */
+    public synchronized int restore(String manifestName, Consumer<? super T> sink) throws IOException {
+        int restored = 0;
+        for (ManifestEntry entry : readManifest(manifestName).values()) {
+            byte[] data = readChunk(entry.hash);
+            sink.accept(BinarySnapshot.decode(data, factory));
+            restored++;
+        }
+        return restored;
+    }
+
+    /**
+     * Restores the profiles of the newest manifest.
+     *
+     * @return The number of profiles restored, or 0 if there is no backup yet.
+     */
+    public synchronized int restoreLatest(Consumer<? super T> sink) throws IOException {
+        List<String> manifests = listManifests();
+        return manifests.isEmpty() ? 0 : restore(manifests.get(manifests.size() - 1), sink);
+    }
+
+    /**
+     * Deletes all but the newest {@code keepManifests} manifests (at least one is always kept), then
+     * every chunk that none of the remaining manifests references.
+     */
+    public synchronized GcResult collectGarbage(int keepManifests) throws IOException {
+        List<String> manifests = listManifests();
+        int removeCount = Math.max(0, manifests.size() - Math.max(1, keepManifests));
+        for (String manifestName : manifests.subList(0, removeCount)) {
+            Files.deleteIfExists(manifestPath(manifestName));
+        }
+
+        Set<String> referenced = new HashSet<>();
+        for (String manifestName : manifests.subList(removeCount, manifests.size())) {
+            for (ManifestEntry entry : readManifest(manifestName).values()) {
+                referenced.add(entry.hash);
+            }
+        }
+
+        int chunksRemoved = 0;
+        long bytesFreed = 0;
+        if (Files.isDirectory(chunksDirectory)) {
+            try (DirectoryStream<Path> shards = Files.newDirectoryStream(chunksDirectory)) {
+                for (Path shard : shards) {
+                    if (!Files.isDirectory(shard)) {
+                        continue;
+                    }
+                    try (DirectoryStream<Path> chunks = Files.newDirectoryStream(shard)) {
+                        for (Path chunk : chunks) {
+                            String fileName = chunk.getFileName().toString();
+                            // Leftover temp files from an interrupted write are never referenced either
+                            String hash = fileName.endsWith(CHUNK_EXTENSION)
+                                    ? fileName.substring(0, fileName.length() - CHUNK_EXTENSION.length()) : null;
+                            if (hash == null || !referenced.contains(hash)) {
+                                bytesFreed += Files.size(chunk);
+                                Files.delete(chunk);
+                                chunksRemoved++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return new GcResult(removeCount, chunksRemoved, bytesFreed);
+    }
+
+    // ---------------------------------------------------------------------
+    // Chunks
+    // ---------------------------------------------------------------------
+
+    private Path chunkPath(String hash) {
+        return chunksDirectory.resolve(hash.substring(0, 2)).resolve(hash + CHUNK_EXTENSION);
+    }
+
+    private long writeChunk(Path chunk, byte[] data) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 2 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(data);
+        } finally {
+            deflater.end();
+        }
+        Files.createDirectories(chunk.getParent());
+        writeAtomically(chunk, compressed.toByteArray());
+        return compressed.size();
+    }
+
+    private byte[] readChunk(String hash) throws IOException {
+        Path chunk = chunkPath(hash);
+        byte[] data;
+        try (InputStream in = new InflaterInputStream(Files.newInputStream(chunk))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            data = out.toByteArray();
+        } catch (NoSuchFileException e) {
+            throw new IOException("DifferentialBackupStore: Missing chunk " + hash + ".", e);
+        }
+        if (!HashGenerator.sha256Hex(data).equals(hash)) {
+            throw new IOException("DifferentialBackupStore: Chunk " + hash + " is corrupt.");
+        }
+        return data;
+    }
+
+    // ---------------------------------------------------------------------
+    // Manifests
+    // ---------------------------------------------------------------------
+
+    private Path manifestPath(String manifestName) {
+        return manifestsDirectory.resolve(manifestName + MANIFEST_EXTENSION);
+    }
+
+    private Map<UUID, ManifestEntry> latestEntries() throws IOException {
+        if (latest == null) {
+            List<String> manifests = listManifests();
+            latest = manifests.isEmpty() ? new HashMap<>() : readManifest(manifests.get(manifests.size() - 1));
+        }
+        return latest;
+    }
+
+    private String writeManifest(Collection<ManifestEntry> entries, long createdAt) throws IOException {
+        String baseName = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date(createdAt));
+        String manifestName = baseName;
+        for (int attempt = 1; Files.exists(manifestPath(manifestName)); attempt++) {
+            manifestName = baseName + "-" + attempt;
+        }
+
+        StringBuilder content = new StringBuilder(64 + entries.size() * 120);
+        content.append(MANIFEST_HEADER).append('\n');
+        content.append("created ").append(createdAt).append('\n');
+        for (ManifestEntry entry : entries) {
+            content.append(entry.profileId).append(' ').append(entry.lastUpdated).append(' ').append(entry.hash).append('\n');
+        }
+        writeAtomically(manifestPath(manifestName), content.toString().getBytes(StandardCharsets.UTF_8));
+        return manifestName;
+    }
+
+    private Map<UUID, ManifestEntry> readManifest(String manifestName) throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(manifestPath(manifestName), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new IOException("DifferentialBackupStore: No manifest named '" + manifestName + "'.", e);
+        }
+        if (lines.isEmpty() || !MANIFEST_HEADER.equals(lines.get(0))) {
+            throw new IOException("DifferentialBackupStore: Manifest '" + manifestName + "' has an unsupported format.");
+        }
+        Map<UUID, ManifestEntry> entries = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isEmpty() || line.startsWith("created ")) {
+                continue;
+            }
+            String[] parts = line.split(" ");
+            if (parts.length != 3) {
+                throw new IOException("DifferentialBackupStore: Malformed line in manifest '" + manifestName + "': " + line);
+            }
+            UUID profileId = UUID.fromString(parts[0]);
+            entries.put(profileId, new ManifestEntry(profileId, Long.parseLong(parts[1]), parts[2]));
+        }
+        return entries;
+    }
+
+    private static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private static final class ManifestEntry {
+        private final UUID profileId;
+        private final long lastUpdated;
+        private final String hash;
+
+        ManifestEntry(UUID profileId, long lastUpdated, String hash) {
+            this.profileId = profileId;
+            this.lastUpdated = lastUpdated;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * What one {@link #backup} did.
+     */
+    public static final class BackupResult {
+        private final String manifestName;
+        private final int profiles;
+        private final int unchanged;
+        private final int chunksWritten;
+        private final long bytesWritten;
+        private final long elapsedMillis;
+
+        private BackupResult(String manifestName, int profiles, int unchanged, int chunksWritten, long bytesWritten, long elapsedMillis) {
+            this.manifestName = manifestName;
+            this.profiles = profiles;
+            this.unchanged = unchanged;
+            this.chunksWritten = chunksWritten;
+            this.bytesWritten = bytesWritten;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public String getManifestName() {
+            return manifestName;
+        }
+
+        public int getProfiles() {
+            return profiles;
+        }
+
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        public int getChunksWritten() {
+            return chunksWritten;
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "manifest " + manifestName + ": " + profiles + " profiles, " + unchanged + " unchanged, "
+                    + chunksWritten + " new chunks (" + bytesWritten + " bytes) in " + elapsedMillis + " ms";
+        }
+    }
+
+    /**
+     * What one {@link #collectGarbage} removed.
+     */
+    public static final class GcResult {
+        private final int manifestsRemoved;
+        private final int chunksRemoved;
+        private final long bytesFreed;
+
+        private GcResult(int manifestsRemoved, int chunksRemoved, long bytesFreed) {
+            this.manifestsRemoved = manifestsRemoved;
+            this.chunksRemoved = chunksRemoved;
+            this.bytesFreed = bytesFreed;
+        }
+
+        public int getManifestsRemoved() {
+            return manifestsRemoved;
+        }
+
+        public int getChunksRemoved() {
+            return chunksRemoved;
+        }
+
+        public long getBytesFreed() {
+            return bytesFreed;
+        }
+
+        @Override
+        public String toString() {
+            return manifestsRemoved + " manifests and " + chunksRemoved + " chunks removed, " + bytesFreed + " bytes freed";
+        }
+    }
+}
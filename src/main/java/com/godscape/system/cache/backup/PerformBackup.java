@@ -13,6 +13,7 @@ public class PerformBackup {
 
     private final BackupToJson backupToJson;
     private final BackupToXml backupToXml;
+    private final BackupToSnapshot backupToSnapshot;
     private final GameVersion gameVersion;
 
     private static volatile PerformBackup instance;
@@ -27,6 +28,7 @@ public class PerformBackup {
         // Retrieve backup utilities through dependency injection
         this.backupToJson = dependencyFactory.getInjection(Utilities.BACKUP_TO_JSON);
         this.backupToXml = dependencyFactory.getInjection(Utilities.BACKUP_TO_XML);
+        this.backupToSnapshot = dependencyFactory.getInjection(Utilities.BACKUP_TO_SNAPSHOT);
 
         Logger.info("PerformBackup: Initialized with GameVersion '{}'.", gameVersion);
     }
@@ -48,11 +50,11 @@ public class PerformBackup {
     }
 
     /**
-     * Backs up profiles to a JSON or XML file based on the format specified.
+     * Backs up profiles to a JSON, XML or binary snapshot file based on the format specified.
      *
      * @param profiles        The collection of profiles to back up.
      * @param targetDirectory The directory where the file will be saved.
-     * @param format          The format of the file: "json" or "xml".
+     * @param format          The format of the file: "json", "xml" or "snapshot".
      */
     public void backupProfiles(Collection<?> profiles, String targetDirectory, String format) {
         Logger.info("PerformBackup: Starting backup for {} format and {} game version.", format.toUpperCase(), gameVersion);
@@ -64,8 +66,22 @@ public class PerformBackup {
             case "xml":
                 backupToXml.saveProfiles(profiles, targetDirectory);
                 break;
+            case "snapshot":
+                backupToSnapshot.saveProfiles(profiles, targetDirectory);
+                break;
             default:
-                Logger.error("PerformBackup: Unsupported format '{}'. Only 'json' and 'xml' are supported.", format);
+                Logger.error("PerformBackup: Unsupported format '{}'. Only 'json', 'xml' and 'snapshot' are supported.", format);
         }
     }
+
+    /**
+     * Backs up characters to a binary snapshot file. Characters are only backed up as snapshots.
+     *
+     * @param characters      The collection of characters to back up.
+     * @param targetDirectory The directory where the file will be saved.
+     */
+    public void backupCharacters(Collection<?> characters, String targetDirectory) {
+        Logger.info("PerformBackup: Starting character backup for {} game version.", gameVersion);
+        backupToSnapshot.saveCharacters(characters, targetDirectory);
+    }
 }
@@ -6,11 +6,14 @@ import com.godscape.system.utility.Logger;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public class PerformRestore {
 
     private final RestoreFromJson restoreFromJson;
     private final RestoreFromXml restoreFromXml;
+    private final RestoreFromSnapshot restoreFromSnapshot;
 
     private static volatile PerformRestore instance;
 
@@ -18,6 +21,7 @@ public class PerformRestore {
         DependencyFactory dependencyFactory = DependencyFactory.getInstance();
         this.restoreFromJson = dependencyFactory.getInjection(Utilities.RESTORE_FROM_JSON);
         this.restoreFromXml = dependencyFactory.getInjection(Utilities.RESTORE_FROM_XML);
+        this.restoreFromSnapshot = dependencyFactory.getInjection(Utilities.RESTORE_FROM_SNAPSHOT);
         Logger.info("PerformRestore: Initialized.");
     }
 
@@ -32,14 +36,17 @@ public class PerformRestore {
         return instance;
     }
 
+    @SuppressWarnings("unchecked")
     public <T> List<T> restoreProfiles(String targetDirectory, String format) {
         try {
             if ("json".equalsIgnoreCase(format)) {
                 return (List<T>) restoreFromJson.loadProfiles(targetDirectory);
             } else if ("xml".equalsIgnoreCase(format)) {
                 return (List<T>) restoreFromXml.loadProfiles(targetDirectory);
+            } else if ("snapshot".equalsIgnoreCase(format)) {
+                return (List<T>) restoreFromSnapshot.loadProfiles(targetDirectory);
             } else {
-                Logger.error("PerformRestore: Unsupported format '{}'. Only 'json' and 'xml' are supported.", format);
+                Logger.error("PerformRestore: Unsupported format '{}'. Only 'json', 'xml' and 'snapshot' are supported.", format);
                 return Collections.emptyList();
             }
         } catch (Exception e) {
@@ -47,4 +54,77 @@ public class PerformRestore {
             return Collections.emptyList();
         }
     }
+
+    /**
+     * Hands each restored profile to the sink instead of returning them as a list. JSON backups are
+     * streamed, so only the profile being handed over is held in memory, and snapshots one block at
+     * a time; XML backups are loaded whole and then handed over one by one.
+     *
+     * @return The number of profiles handed to the sink.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int restoreProfiles(String targetDirectory, String format, Consumer<T> sink) {
+        try {
+            if ("json".equalsIgnoreCase(format)) {
+                return Math.max(0, restoreFromJson.streamProfiles(targetDirectory, profile -> sink.accept((T) profile)));
+            } else if ("snapshot".equalsIgnoreCase(format)) {
+                return Math.max(0, restoreFromSnapshot.streamProfiles(targetDirectory, profile -> sink.accept((T) profile)));
+            } else if ("xml".equalsIgnoreCase(format)) {
+                List<T> profiles = (List<T>) restoreFromXml.loadProfiles(targetDirectory);
+                profiles.forEach(sink);
+                return profiles.size();
+            } else {
+                Logger.error("PerformRestore: Unsupported format '{}'. Only 'json', 'xml' and 'snapshot' are supported.", format);
+                return 0;
+            }
+        } catch (Exception e) {
+            Logger.error("PerformRestore: Error occurred during restore - {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Restores a single profile from a binary snapshot, reading only the block that holds it.
+     *
+     * @return The profile, or null if the snapshot does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T restoreProfile(String targetDirectory, UUID profileId) {
+        try {
+            return (T) restoreFromSnapshot.loadProfile(targetDirectory, profileId);
+        } catch (Exception e) {
+            Logger.error("PerformRestore: Error occurred while restoring profile {} - {}", profileId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Restores the characters of a binary snapshot, handing each to the sink as its block is decoded.
+     *
+     * @return The number of characters handed to the sink.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int restoreCharacters(String targetDirectory, Consumer<T> sink) {
+        try {
+            return Math.max(0, restoreFromSnapshot.streamCharacters(targetDirectory, character -> sink.accept((T) character)));
+        } catch (Exception e) {
+            Logger.error("PerformRestore: Error occurred during character restore - {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Restores a single character from a binary snapshot, reading only the block that holds it.
+     *
+     * @return The character, or null if the snapshot does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T restoreCharacter(String targetDirectory, UUID characterId) {
+        try {
+            return (T) restoreFromSnapshot.loadCharacter(targetDirectory, characterId);
+        } catch (Exception e) {
+            Logger.error("PerformRestore: Error occurred while restoring character {} - {}", characterId, e.getMessage());
+            return null;
+        }
+    }
 }
@@ -6,16 +6,17 @@ import com.godscape.system.enums.GameVersion;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.PlatformFactory;
 import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.JsonProfileStream;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class RestoreFromJson {
 
@@ -23,7 +24,7 @@ public class RestoreFromJson {
     private final GameVersion gameVersion;
 
     public RestoreFromJson() {
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.gson = new GsonBuilder().create();
 
         // Retrieve GameVersion from PlatformFactory
         GameVersion retrievedGameVersion = DependencyFactory.getInstance().getInjection(PlatformFactory.class).getCurrentGameVersion();
@@ -38,16 +39,25 @@ public class RestoreFromJson {
     }
 
     public List<?> loadProfiles(String targetDirectory) {
-        String filePath = Paths.get(targetDirectory, gameVersion == GameVersion.OSRS ? "osrs_profiles.json" : "rs3_profiles.json").toString();
+        List<Object> profiles = new ArrayList<>();
+        return streamProfiles(targetDirectory, profiles::add) < 0 ? Collections.emptyList() : profiles;
+    }
 
-        try (FileReader reader = new FileReader(filePath)) {
-            Type profileListType = gameVersion == GameVersion.OSRS
-                    ? new TypeToken<List<OsrsProfileSchema>>() {}.getType()
-                    : new TypeToken<List<Rs3ProfileSchema>>() {}.getType();
-            return gson.fromJson(reader, profileListType);
+    /**
+     * Hands each profile in the current game's backup to the sink as it is parsed, so memory use
+     * does not grow with the size of the backup.
+     *
+     * @return The number of profiles read, or -1 if the backup could not be read.
+     */
+    public int streamProfiles(String targetDirectory, Consumer<Object> sink) {
+        Path filePath = Paths.get(targetDirectory, gameVersion == GameVersion.OSRS ? "osrs_profiles.json" : "rs3_profiles.json");
+        Class<?> profileType = gameVersion == GameVersion.OSRS ? OsrsProfileSchema.class : Rs3ProfileSchema.class;
+
+        try {
+            return JsonProfileStream.read(filePath, profileType, gson, sink);
         } catch (IOException e) {
             Logger.error("RestoreFromJson: Failed to load profiles from {} - {}", filePath, e.getMessage());
-            return Collections.emptyList();
+            return -1;
         }
     }
 }
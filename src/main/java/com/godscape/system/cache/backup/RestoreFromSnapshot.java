@@ -0,0 +1,135 @@
+package com.godscape.system.cache.backup;
+
+import com.godscape.osrs.schemas.OsrsCharacterSchema;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.rs3.schemas.Rs3CharacterSchema;
+import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.enums.GameVersion;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.factories.PlatformFactory;
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.BinarySnapshot;
+import com.godscape.system.utility.serialization.JavaRecordCodec;
+import com.godscape.system.utility.serialization.SnapshotCodec;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Restores profiles and characters from the {@link BinarySnapshot}s written by {@link BackupToSnapshot},
+ * either all of them block by block or a single one by ID.
+ */
+public class RestoreFromSnapshot {
+
+    private final GameVersion gameVersion;
+
+    public RestoreFromSnapshot() {
+        this.gameVersion = DependencyFactory.getInstance().getInjection(PlatformFactory.class).getCurrentGameVersion();
+
+        if (gameVersion == null) {
+            throw new IllegalStateException("GameVersion not available from PlatformFactory.");
+        }
+
+        Logger.info("RestoreFromSnapshot: Facade initialized for game version {}.", gameVersion);
+    }
+
+    private Supplier<? extends IdentifiedDataSerializable> profileFactory() {
+        return gameVersion == GameVersion.OSRS ? OsrsProfileSchema::new : Rs3ProfileSchema::new;
+    }
+
+    private SnapshotCodec<?> characterCodec() {
+        return gameVersion == GameVersion.OSRS
+                ? new JavaRecordCodec<>(OsrsCharacterSchema.class)
+                : new JavaRecordCodec<>(Rs3CharacterSchema.class);
+    }
+
+    public List<?> loadProfiles(String targetDirectory) {
+        List<Object> profiles = new ArrayList<>();
+        return streamProfiles(targetDirectory, profiles::add) < 0 ? Collections.emptyList() : profiles;
+    }
+
+    /**
+     * Hands each profile in the current game's snapshot to the sink as its block is decoded.
+     *
+     * @return The number of profiles read, or -1 if the snapshot could not be read.
+     */
+    public int streamProfiles(String targetDirectory, Consumer<Object> sink) {
+        Path filePath = BackupToSnapshot.snapshotPath(targetDirectory, gameVersion);
+
+        try {
+            return BinarySnapshot.read(filePath, profileFactory(), sink);
+        } catch (IOException e) {
+            Logger.error("RestoreFromSnapshot: Failed to load profiles from {} - {}", filePath, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Loads one profile from the current game's snapshot without decoding the rest.
+     *
+     * @return The profile, or null if it is not in the snapshot or the snapshot could not be read.
+     */
+    public Object loadProfile(String targetDirectory, UUID profileId) {
+        Path filePath = BackupToSnapshot.snapshotPath(targetDirectory, gameVersion);
+
+        try {
+            Object profile = BinarySnapshot.readOne(filePath, profileId, profileFactory());
+            if (profile == null) {
+                Logger.warn("RestoreFromSnapshot: Profile {} not found in {}.", profileId, filePath);
+            }
+            return profile;
+        } catch (IOException e) {
+            Logger.error("RestoreFromSnapshot: Failed to load profile {} from {} - {}", profileId, filePath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Hands each character in the current game's character snapshot to the sink as its block is decoded.
+     *
+     * @return The number of characters read, or -1 if the snapshot could not be read.
+     */
+    public int streamCharacters(String targetDirectory, Consumer<Object> sink) {
+        Path filePath = BackupToSnapshot.characterSnapshotPath(targetDirectory, gameVersion);
+
+        try {
+            return BinarySnapshot.read(filePath, characterCodec(), sink);
+        } catch (IOException e) {
+            Logger.error("RestoreFromSnapshot: Failed to load characters from {} - {}", filePath, e.getMessage());
+            return -1;
+        }
+    }
+
+    public List<?> loadCharacters(String targetDirectory) {
+        List<Object> characters = new ArrayList<>();
+        return streamCharacters(targetDirectory, characters::add) < 0 ? Collections.emptyList() : characters;
+    }
+
+    /**
+     * Loads one character from the current game's character snapshot without decoding the rest. Only
+     * OSRS characters are indexed.
+     *
+     * @return The character, or null if it is not in the snapshot or the snapshot could not be read.
+     */
+    public Object loadCharacter(String targetDirectory, UUID characterId) {
+        Path filePath = BackupToSnapshot.characterSnapshotPath(targetDirectory, gameVersion);
+
+        try {
+            Object character = BinarySnapshot.readOne(filePath, characterId, characterCodec());
+            if (character == null) {
+                Logger.warn("RestoreFromSnapshot: Character {} not found in {}.", characterId, filePath);
+            }
+            return character;
+        } catch (IOException e) {
+            Logger.error("RestoreFromSnapshot: Failed to load character {} from {} - {}", characterId, filePath, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -55,10 +55,46 @@ public class GodscapeConfig {
         configMap.put(ConfigKeys.ENABLE_XML, "true");
         configMap.put(ConfigKeys.BACKUP_PROFILES, "true");
         configMap.put(ConfigKeys.BACKUP_CHARACTERS, "true");
+        configMap.put(ConfigKeys.BACKUP_JSON_COMPACT, "false");
+        configMap.put(ConfigKeys.DIFFERENTIAL_BACKUP_RETAIN_MANIFESTS, "10");
 
         // Logging Configuration
         configMap.put(ConfigKeys.LOGGING_LEVEL, "DEBUG");
         configMap.put(ConfigKeys.LOG_TO_FILE, "true");
+        configMap.put(ConfigKeys.LOG_OVERFLOW_POLICY, "DROP_OLDEST");
+
+        // Cache Configuration
+        configMap.put(ConfigKeys.CACHE_MODE, "LOCAL");
+
+        // Settings Write Buffer
+        configMap.put(ConfigKeys.SETTINGS_FLUSH_DELAY_MS, "250");
+        configMap.put(ConfigKeys.SETTINGS_FLUSH_BATCH_SIZE, "32");
+
+        // Profile Change Events
+        configMap.put(ConfigKeys.PROFILE_EVENT_FRAME_MS, "16");
+
+        // Tab Prefetching
+        configMap.put(ConfigKeys.PANEL_CACHE_SIZE, "8");
+        configMap.put(ConfigKeys.PANEL_PREFETCH_COUNT, "2");
+
+        // Theme Animation
+        configMap.put(ConfigKeys.ANIMATION_MAX_FPS, "33");
+        configMap.put(ConfigKeys.ANIMATION_MIN_FPS, "10");
+        configMap.put(ConfigKeys.ANIMATION_BACKGROUND_FPS, "10");
+        configMap.put(ConfigKeys.ANIMATION_CPU_BUDGET_PERCENT, "25");
+
+        // SQLite Connection Pool
+        configMap.put(ConfigKeys.SQLITE_READER_CONNECTIONS, "3");
+        configMap.put(ConfigKeys.SQLITE_CACHE_SIZE_KB, "8192");
+        configMap.put(ConfigKeys.SQLITE_MMAP_SIZE_MB, "64");
+        configMap.put(ConfigKeys.SQLITE_SYNCHRONOUS, "NORMAL");
+
+        // Profile Map Store
+        configMap.put(ConfigKeys.PROFILE_WRITE_DELAY_SECONDS, "5");
+        configMap.put(ConfigKeys.PROFILE_WRITE_BATCH_SIZE, "100");
+        configMap.put(ConfigKeys.PROFILE_WARM_COUNT, "25");
+        configMap.put(ConfigKeys.NORMALIZED_PROFILE_SETTINGS, "false");
+        configMap.put(ConfigKeys.PROFILE_SYNC_INTERVAL_SECONDS, "30");
 
         // New Keys
         configMap.put(ConfigKeys.PRELOAD_PROFILES, "true");
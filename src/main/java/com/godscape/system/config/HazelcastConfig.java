@@ -1,47 +1,103 @@
 package com.godscape.system.config;
 
+import com.godscape.osrs.database.OsrsProfileDAO;
+import com.godscape.osrs.enums.core.OsrsSchemas;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.rs3.database.Rs3ProfileDAO;
+import com.godscape.rs3.enums.core.Rs3Schemas;
+import com.godscape.rs3.schemas.Rs3ProfileSchema;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.ProfileMapStore;
+import com.godscape.system.enums.CacheMode;
+import com.godscape.system.enums.ConfigKeys;
 import com.godscape.system.enums.Factories;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.SerializableFactory;
 import com.godscape.system.utility.Logger;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.networking.nio.iobalancer.CustomIOBalancer;
 import com.hazelcast.logging.LoggingService;
+import com.hazelcast.spi.properties.ClusterProperty;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Singleton
 public class HazelcastConfig {
 
+    public static final String THEME_CACHE = "themeCache";
+    public static final String GLOBAL_SETTINGS_MAP = "GlobalSettingsMap";
+
+    private static final String INSTANCE_NAME = "godscape-hazelcast-instance";
+    private static final String CONFIG_FILE = "godscape.properties";
+
+    // Local (single member) mode tuning: one bot process needs neither a large partition table nor big thread pools
+    private static final String LOCAL_CLUSTER_PREFIX = "godscape-local-";
+    private static final int LOCAL_PORT = 5701;
+    private static final int LOCAL_PORT_COUNT = 100;
+    private static final int LOCAL_PARTITION_COUNT = 7;
+    private static final int LOCAL_PARTITION_OPERATION_THREADS = 2;
+    private static final int LOCAL_GENERIC_OPERATION_THREADS = 1;
+    private static final int LOCAL_IO_THREADS = 1;
+    private static final int LOCAL_EVENT_THREADS = 1;
+
+    // Near cache sizing (entries per map) and idle expiry for hot reads from the settings panels
+    private static final int PROFILE_NEAR_CACHE_SIZE = 5000;
+    private static final int CHARACTER_NEAR_CACHE_SIZE = 1000;
+    private static final int THEME_NEAR_CACHE_SIZE = 64;
+    private static final int GLOBAL_SETTINGS_NEAR_CACHE_SIZE = 4;
+    private static final int NEAR_CACHE_MAX_IDLE_SECONDS = 3600;
+
+    // Profile map write-behind defaults, overridable through GodscapeConfig
+    private static final int DEFAULT_PROFILE_WRITE_DELAY_SECONDS = 5;
+    private static final int DEFAULT_PROFILE_WRITE_BATCH_SIZE = 100;
+    private static final int DEFAULT_PROFILE_WARM_COUNT = 25;
+
+    private final CacheMode cacheMode;
     private final HazelcastInstance hazelcastInstance;
 
     // Constructor for initializing the Hazelcast instance
     public HazelcastConfig() {
+        this.cacheMode = resolveCacheMode();
         this.hazelcastInstance = initializeHazelcastInstance();
     }
 
     // Initialize Hazelcast instance with configuration
     private HazelcastInstance initializeHazelcastInstance() {
         try {
-            Config config = new Config();
-            config.setInstanceName("godscape-hazelcast-instance");
-
-            // Configure network settings
-            configureNetwork(config);
-
-            // Get SerializableFactory from Factories enum
-            SerializableFactory serializableFactory = (SerializableFactory) Factories.SERIALIZABLE_FACTORY.getSupplier().get();
-            config.getSerializationConfig().addDataSerializableFactory(SerializableFactory.FACTORY_ID, serializableFactory);
+            Config config = createConfig(cacheMode);
 
             // Initialize Hazelcast instance
+            long startTime = System.nanoTime();
             HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
-            Logger.info("HazelcastConfig: Hazelcast instance '{}' initialized successfully on port {}.", config.getInstanceName(), config.getNetworkConfig().getPort());
+            long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            Logger.info("HazelcastConfig: Hazelcast instance '{}' initialized in {} ms ({} mode, port {}).",
+                    config.getInstanceName(), startupMillis, cacheMode, config.getNetworkConfig().getPort());
 
-            // Set up custom IOBalancer
-            setupCustomIOBalancer(instance);
+            // Set up custom IOBalancer (only useful when members exchange traffic)
+            if (cacheMode == CacheMode.CLUSTER) {
+                setupCustomIOBalancer(instance);
+            }
 
             return instance;
         } catch (Throwable t) {
@@ -50,8 +106,98 @@ public class HazelcastConfig {
         }
     }
 
+    /**
+     * Builds the full Hazelcast configuration for the given cache mode.
+     *
+     * @param cacheMode The cache mode to configure.
+     * @return The Hazelcast configuration.
+     */
+    public static Config createConfig(CacheMode cacheMode) {
+        Config config = new Config();
+        config.setInstanceName(INSTANCE_NAME);
+
+        // Configure network settings
+        if (cacheMode == CacheMode.LOCAL) {
+            configureLocalMember(config);
+        } else {
+            configureNetwork(config);
+        }
+
+        // Declare per-map settings before any map is created, otherwise they are ignored
+        configureMaps(config);
+
+        // Get SerializableFactory from Factories enum
+        SerializableFactory serializableFactory = (SerializableFactory) Factories.SERIALIZABLE_FACTORY.getSupplier().get();
+        config.getSerializationConfig().addDataSerializableFactory(SerializableFactory.FACTORY_ID, serializableFactory);
+        return config;
+    }
+
+    // Reads the cache mode from godscape.properties. The Hazelcast instance starts before the global settings
+    // are loaded (they are cached in Hazelcast themselves), so the file is read directly here.
+    private CacheMode resolveCacheMode() {
+        GodscapeConfig godscapeConfig = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        CacheMode defaultMode = CacheMode.fromString(godscapeConfig.getString(ConfigKeys.CACHE_MODE), CacheMode.LOCAL);
+        Path configFile = Paths.get(godscapeConfig.getString(ConfigKeys.SAVE_DIRECTORY), CONFIG_FILE).toAbsolutePath().normalize();
+
+        if (!Files.exists(configFile)) {
+            return defaultMode;
+        }
+
+        try (InputStream input = Files.newInputStream(configFile)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            return CacheMode.fromString(properties.getProperty(ConfigKeys.CACHE_MODE.getKey()), defaultMode);
+        } catch (IOException e) {
+            Logger.warn("HazelcastConfig: Could not read cache mode from '{}': {}. Using {}.", configFile, e.getMessage(), defaultMode);
+            return defaultMode;
+        }
+    }
+
+    /*
+     * Configure a single isolated member with reduced partition/thread counts.
+     *
+     * A Hazelcast member always opens a server socket, so it is bound to the loopback interface only and
+     * takes the first free port from LOCAL_PORT upwards: a second bot process on the same machine gets the
+     * next port instead of failing to bind. Every join and discovery mechanism is disabled, and each process
+     * uses a cluster name of its own, so two local members never form a cluster even if one connects to the
+     * other's port.
+     */
+    private static void configureLocalMember(Config config) {
+        config.setClusterName(LOCAL_CLUSTER_PREFIX + UUID.randomUUID());
+
+        NetworkConfig networkConfig = config.getNetworkConfig();
+        networkConfig.setPort(LOCAL_PORT)
+                .setPortAutoIncrement(true)
+                .setPortCount(LOCAL_PORT_COUNT);
+        networkConfig.setPublicAddress("127.0.0.1");
+        networkConfig.getInterfaces().setEnabled(true).addInterface("127.0.0.1");
+
+        JoinConfig joinConfig = networkConfig.getJoin();
+        joinConfig.getMulticastConfig().setEnabled(false);
+        joinConfig.getTcpIpConfig().setEnabled(false);
+        joinConfig.getAutoDetectionConfig().setEnabled(false);
+        joinConfig.getAwsConfig().setEnabled(false);
+        joinConfig.getGcpConfig().setEnabled(false);
+        joinConfig.getAzureConfig().setEnabled(false);
+        joinConfig.getKubernetesConfig().setEnabled(false);
+        joinConfig.getEurekaConfig().setEnabled(false);
+        joinConfig.getDiscoveryConfig().getDiscoveryStrategyConfigs().clear();
+
+        config.setProperty(ClusterProperty.DISCOVERY_SPI_ENABLED.getName(), "false");
+        config.setProperty(ClusterProperty.SOCKET_BIND_ANY.getName(), "false");
+        config.setProperty(ClusterProperty.WAIT_SECONDS_BEFORE_JOIN.getName(), "0");
+        config.setProperty(ClusterProperty.MAX_WAIT_SECONDS_BEFORE_JOIN.getName(), "0");
+        config.setProperty(ClusterProperty.PARTITION_COUNT.getName(), String.valueOf(LOCAL_PARTITION_COUNT));
+        config.setProperty(ClusterProperty.PARTITION_OPERATION_THREAD_COUNT.getName(), String.valueOf(LOCAL_PARTITION_OPERATION_THREADS));
+        config.setProperty(ClusterProperty.GENERIC_OPERATION_THREAD_COUNT.getName(), String.valueOf(LOCAL_GENERIC_OPERATION_THREADS));
+        config.setProperty(ClusterProperty.IO_THREAD_COUNT.getName(), String.valueOf(LOCAL_IO_THREADS));
+        config.setProperty(ClusterProperty.EVENT_THREAD_COUNT.getName(), String.valueOf(LOCAL_EVENT_THREADS));
+        config.setProperty(ClusterProperty.PHONE_HOME_ENABLED.getName(), "false");
+        config.getJetConfig().setEnabled(false);
+    }
+
     // Configure network settings
-    private void configureNetwork(Config config) {
+    private static void configureNetwork(Config config) {
         NetworkConfig networkConfig = config.getNetworkConfig();
         int randomPort = new Random().nextInt(5001) + 5000; // Random port between 5000-10000
         networkConfig.setPort(randomPort)
@@ -61,6 +207,94 @@ public class HazelcastConfig {
         networkConfig.getJoin().getTcpIpConfig().setEnabled(true);
     }
 
+    // Declare typed map configurations for the profile, character, theme and global settings maps
+    private static void configureMaps(Config config) {
+        GodscapeConfig godscapeConfig = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        int warmCount = godscapeConfig.getInt(ConfigKeys.PROFILE_WARM_COUNT, DEFAULT_PROFILE_WARM_COUNT);
+
+        String osrsProfiles = OsrsSchemas.OSRS_PROFILE_SCHEMA.getCacheName();
+        config.addMapConfig(createMapConfig(osrsProfiles, PROFILE_NEAR_CACHE_SIZE)
+                .addIndexConfig(lastUpdatedIndex())
+                .setMapStoreConfig(createProfileStoreConfig(godscapeConfig,
+                        new ProfileMapStore<>(osrsProfiles, OsrsProfileSchema.class, OsrsProfileDAO::new, warmCount))));
+        config.addMapConfig(createMapConfig(OsrsSchemas.OSRS_CHARACTER_SCHEMA.getCacheName(), CHARACTER_NEAR_CACHE_SIZE));
+        String rs3Profiles = Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName();
+        config.addMapConfig(createMapConfig(rs3Profiles, PROFILE_NEAR_CACHE_SIZE)
+                .addIndexConfig(lastUpdatedIndex())
+                .setMapStoreConfig(createProfileStoreConfig(godscapeConfig,
+                        new ProfileMapStore<>(rs3Profiles, Rs3ProfileSchema.class, Rs3ProfileDAO::new, warmCount))));
+        config.addMapConfig(createMapConfig(Rs3Schemas.RS3_CHARACTER_SCHEMA.getCacheName(), CHARACTER_NEAR_CACHE_SIZE));
+        config.addMapConfig(createMapConfig(THEME_CACHE, THEME_NEAR_CACHE_SIZE));
+        config.addMapConfig(createMapConfig(GLOBAL_SETTINGS_MAP, GLOBAL_SETTINGS_NEAR_CACHE_SIZE));
+        Logger.info("HazelcastConfig: Declared {} map configurations.", config.getMapConfigs().size());
+    }
+
+    /**
+     * Builds a single-node map configuration with an OBJECT-format near cache.
+     * <p>
+     * Near-cached values are shared instances: callers must put a modified value back into the map
+     * (which invalidates the near cache entry) rather than rely on in-place mutation.
+     *
+     * @param mapName          The name of the map.
+     * @param nearCacheEntries The maximum number of entries kept in the near cache.
+     * @return The map configuration.
+     */
+    private static MapConfig createMapConfig(String mapName, int nearCacheEntries) {
+        EvictionConfig nearCacheEviction = new EvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setSize(nearCacheEntries);
+
+        NearCacheConfig nearCacheConfig = new NearCacheConfig(mapName)
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setInvalidateOnChange(true)
+                .setCacheLocalEntries(true) // All entries are local on a single member
+                .setMaxIdleSeconds(NEAR_CACHE_MAX_IDLE_SECONDS)
+                .setEvictionConfig(nearCacheEviction);
+
+        return new MapConfig(mapName)
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setBackupCount(0)
+                .setAsyncBackupCount(0)
+                .setNearCacheConfig(nearCacheConfig);
+    }
+
+    // Serves the range query profile sync uses to find profiles modified since its last push
+    private static IndexConfig lastUpdatedIndex() {
+        return new IndexConfig(IndexType.SORTED, "lastUpdated");
+    }
+
+    /**
+     * Write-behind store configuration for a profile map: writes are delayed and coalesced per
+     * profile, and the map loads lazily (only the store's warm set on first use, the rest on miss).
+     */
+    private static MapStoreConfig createProfileStoreConfig(GodscapeConfig godscapeConfig, ProfileMapStore<?> store) {
+        return new MapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(store)
+                .setInitialLoadMode(MapStoreConfig.InitialLoadMode.LAZY)
+                .setWriteDelaySeconds(Math.max(1, godscapeConfig.getInt(ConfigKeys.PROFILE_WRITE_DELAY_SECONDS, DEFAULT_PROFILE_WRITE_DELAY_SECONDS)))
+                .setWriteBatchSize(Math.max(1, godscapeConfig.getInt(ConfigKeys.PROFILE_WRITE_BATCH_SIZE, DEFAULT_PROFILE_WRITE_BATCH_SIZE)))
+                .setWriteCoalescing(true);
+    }
+
+    /**
+     * Writes out profile changes still queued for write-behind. Called before the database is closed.
+     */
+    public void flushMapStores() {
+        if (hazelcastInstance == null) {
+            return;
+        }
+        for (String mapName : new String[]{OsrsSchemas.OSRS_PROFILE_SCHEMA.getCacheName(), Rs3Schemas.RS3_PROFILE_SCHEMA.getCacheName()}) {
+            try {
+                hazelcastInstance.getMap(mapName).flush();
+            } catch (Exception e) {
+                Logger.error("HazelcastConfig: Failed to flush map store for '{}' - {}", mapName, e.getMessage());
+            }
+        }
+        Logger.info("HazelcastConfig: Flushed profile map stores.");
+    }
+
     // Set up custom IOBalancer
     private void setupCustomIOBalancer(HazelcastInstance instance) {
         try {
@@ -73,6 +307,10 @@ public class HazelcastConfig {
         }
     }
 
+    public CacheMode getCacheMode() {
+        return cacheMode;
+    }
+
     // Retrieve the HazelcastInstance
     public HazelcastInstance getHazelcastInstance() {
         if (hazelcastInstance != null) {
@@ -3,6 +3,7 @@ package com.godscape.system.config;
 import com.godscape.system.enums.Factories;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.PlatformFactory;
+import com.godscape.system.modules.database.SQLiteConnectionPool;
 import com.godscape.system.preloaders.GlobalSettingsPreloader;
 import com.godscape.system.schemas.GlobalSettingsSchema;
 import com.godscape.system.utility.Logger;
@@ -61,9 +62,6 @@ public class SQLConfig {
         // Ensure the game-specific directory exists
         ensureDirectoryExists(gameTypeDirectory.toString());
 
-        // Ensure the database exists before proceeding
-        createDatabaseIfNotExists();
-
         // Explicitly load SQLite driver
         try {
             Class.forName("org.sqlite.JDBC");
@@ -73,6 +71,9 @@ public class SQLConfig {
             return;  // Return early if the driver isn't loaded
         }
 
+        // Ensure the database exists before proceeding
+        createDatabaseIfNotExists();
+
         // Perform database operations (e.g., create admin user, create tables)
         createUsersTable();
         createAdminUser();
@@ -95,6 +96,17 @@ public class SQLConfig {
         }
     }
 
+    /**
+     * Borrows the pooled writer connection for this database. Closing it returns it to the pool.
+     */
+    private Connection getConnection() throws SQLException {
+        return SQLiteConnectionPool.forUrl(DATABASE_URL).getWriteConnection();
+    }
+
+    private Connection getReadConnection() throws SQLException {
+        return SQLiteConnectionPool.forUrl(DATABASE_URL).getReadConnection();
+    }
+
     /**
      * Creates the SQLite database if it doesn't already exist.
      */
@@ -103,7 +115,7 @@ public class SQLConfig {
         File dbFile = new File(filePath);
 
         if (!dbFile.exists()) {
-            try (Connection connection = DriverManager.getConnection(DATABASE_URL)) {
+            try (Connection connection = getConnection()) {
                 if (connection != null) {
                     Logger.info("SQLConfig: Database created at {}", filePath);
                 }
@@ -124,7 +136,7 @@ public class SQLConfig {
                 "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
                 ");";
 
-        try (Connection connection = DriverManager.getConnection(DATABASE_URL);
+        try (Connection connection = getConnection();
              Statement statement = connection.createStatement()) {
 
             statement.execute(createUsersTable);
@@ -147,7 +159,7 @@ public class SQLConfig {
                 "   SELECT RAISE(ABORT, 'Cannot insert empty username or password'); " +
                 "END;";
 
-        try (Connection connection = DriverManager.getConnection(DATABASE_URL);
+        try (Connection connection = getConnection();
              Statement statement = connection.createStatement()) {
 
             statement.execute(createTrigger);
@@ -167,7 +179,7 @@ public class SQLConfig {
 
         String insertAdminUser = "INSERT OR IGNORE INTO users (username, password) VALUES (?, ?);";
 
-        try (Connection connection = DriverManager.getConnection(DATABASE_URL);
+        try (Connection connection = getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(insertAdminUser)) {
 
             preparedStatement.setString(1, username);
@@ -190,14 +202,16 @@ public class SQLConfig {
      */
     public boolean verifyUser(String username, String password) {
         String query = "SELECT * FROM users WHERE username = ? AND password = ?";
-        try (Connection connection = DriverManager.getConnection(DATABASE_URL);
+        try (Connection connection = getReadConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
             preparedStatement.setString(1, username);
             preparedStatement.setString(2, password);
 
-            ResultSet resultSet = preparedStatement.executeQuery();
-            boolean isValid = resultSet.next();
+            boolean isValid;
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                isValid = resultSet.next();
+            }
 
             if (isValid) {
                 Logger.info("SQLConfig: User '{}' successfully verified.", username);
@@ -0,0 +1,31 @@
+package com.godscape.system.enums;
+
+/**
+ * Selects how the embedded Hazelcast member is configured.
+ * <p>
+ * LOCAL runs a single member with joining disabled, a small partition table and reduced thread pools,
+ * which is all a single bot process needs. CLUSTER keeps the TCP-IP join behaviour for multi-process setups.
+ */
+public enum CacheMode {
+    LOCAL,
+    CLUSTER;
+
+    /**
+     * Parses a cache mode from a configuration value, falling back to the given default.
+     *
+     * @param value        The configured value (case-insensitive).
+     * @param defaultValue The mode to use when the value is missing or unknown.
+     * @return The parsed cache mode.
+     */
+    public static CacheMode fromString(String value, CacheMode defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        for (CacheMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -30,10 +30,46 @@ public enum ConfigKeys {
     ENABLE_XML("enableXml", ""),
     BACKUP_PROFILES("backupProfiles", ""),
     BACKUP_CHARACTERS("backupCharacters", ""),
+    BACKUP_JSON_COMPACT("backupJsonCompact", ""),
+    DIFFERENTIAL_BACKUP_RETAIN_MANIFESTS("differentialBackupRetainManifests", ""),
 
     // Logging Configuration
     LOGGING_LEVEL("loggingLevel", ""),
     LOG_TO_FILE("logToFile", ""),
+    LOG_OVERFLOW_POLICY("logOverflowPolicy", ""),
+
+    // Cache Configuration
+    CACHE_MODE("cacheMode", ""),
+
+    // Settings Write Buffer
+    SETTINGS_FLUSH_DELAY_MS("settingsFlushDelayMs", ""),
+    SETTINGS_FLUSH_BATCH_SIZE("settingsFlushBatchSize", ""),
+
+    // Profile Change Events
+    PROFILE_EVENT_FRAME_MS("profileEventFrameMs", ""),
+
+    // Tab Prefetching
+    PANEL_CACHE_SIZE("panelCacheSize", ""),
+    PANEL_PREFETCH_COUNT("panelPrefetchCount", ""),
+
+    // Theme Animation
+    ANIMATION_MAX_FPS("animationMaxFps", ""),
+    ANIMATION_MIN_FPS("animationMinFps", ""),
+    ANIMATION_BACKGROUND_FPS("animationBackgroundFps", ""),
+    ANIMATION_CPU_BUDGET_PERCENT("animationCpuBudgetPercent", ""),
+
+    // SQLite Connection Pool
+    SQLITE_READER_CONNECTIONS("sqliteReaderConnections", ""),
+    SQLITE_CACHE_SIZE_KB("sqliteCacheSizeKb", ""),
+    SQLITE_MMAP_SIZE_MB("sqliteMmapSizeMb", ""),
+    SQLITE_SYNCHRONOUS("sqliteSynchronous", ""),
+
+    // Profile Map Store
+    PROFILE_WRITE_DELAY_SECONDS("profileWriteDelaySeconds", ""),
+    PROFILE_WRITE_BATCH_SIZE("profileWriteBatchSize", ""),
+    PROFILE_WARM_COUNT("profileWarmCount", ""),
+    NORMALIZED_PROFILE_SETTINGS("normalizedProfileSettings", ""),
+    PROFILE_SYNC_INTERVAL_SECONDS("profileSyncIntervalSeconds", ""),
 
     // Additional Keys
     PRELOAD_PROFILES("preloadProfiles", ""),
@@ -1,5 +1,33 @@
 package com.godscape.system.enums;
 
 public enum LogLevel {
-    INFO, DEBUG, WARN, ERROR, FATAL
+    INFO(1), DEBUG(0), WARN(2), ERROR(3), FATAL(4);
+
+    private final int severity;
+
+    LogLevel(int severity) {
+        this.severity = severity;
+    }
+
+    public int getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Parses a level name, ignoring case.
+     *
+     * @param value        The level name, e.g. from the loggingLevel setting.
+     * @param defaultLevel The level to use if the value is empty or unknown.
+     */
+    public static LogLevel fromString(String value, LogLevel defaultLevel) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultLevel;
+        }
+        for (LogLevel level : values()) {
+            if (level.name().equalsIgnoreCase(value.trim())) {
+                return level;
+            }
+        }
+        return defaultLevel;
+    }
 }
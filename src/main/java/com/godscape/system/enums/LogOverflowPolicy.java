@@ -0,0 +1,21 @@
+package com.godscape.system.enums;
+
+/**
+ * What the logger does when its buffer is full because the consumer thread cannot keep up.
+ */
+public enum LogOverflowPolicy {
+    BLOCK,          // Caller waits for space; nothing is lost
+    DROP_NEWEST,    // The message being logged is discarded
+    DROP_OLDEST;    // The oldest buffered message is discarded to make room
+
+    public static LogOverflowPolicy fromString(String value, LogOverflowPolicy defaultPolicy) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultPolicy;
+        }
+        try {
+            return LogOverflowPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultPolicy;
+        }
+    }
+}
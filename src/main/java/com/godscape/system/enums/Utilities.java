@@ -55,6 +55,12 @@ public enum Utilities {
             return new BackupToJson();
         }
     }),
+    BACKUP_TO_SNAPSHOT(BackupToSnapshot.class, new Supplier<Object>() {
+        @Override
+        public Object get() {
+            return new BackupToSnapshot();
+        }
+    }),
     RESTORE_FROM_XML(RestoreFromXml.class, new Supplier<Object>() {
         @Override
         public Object get() {
@@ -67,6 +73,12 @@ public enum Utilities {
             return new RestoreFromJson();
         }
     }),
+    RESTORE_FROM_SNAPSHOT(RestoreFromSnapshot.class, new Supplier<Object>() {
+        @Override
+        public Object get() {
+            return new RestoreFromSnapshot();
+        }
+    }),
     PERFORM_BACKUP(PerformBackup.class, new Supplier<Object>() {
         @Override
         public Object get() {
@@ -0,0 +1,17 @@
+package com.godscape.system.events;
+
+/**
+ * Published when the bot starts or stops running.
+ */
+public final class BotStateChangedEvent {
+
+    private final boolean running;
+
+    public BotStateChangedEvent(boolean running) {
+        this.running = running;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
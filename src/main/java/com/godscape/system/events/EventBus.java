@@ -0,0 +1,275 @@
+package com.godscape.system.events;
+
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.utility.Logger;
+
+import javax.swing.SwingUtilities;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Central, typed event bus shared by the OSRS and RS3 observation managers and panels.
+ * <p>
+ * Subscribers are kept per event class in copy-on-write arrays swapped with compare-and-set, so
+ * publishing never locks and may run on any thread while panels subscribe and unsubscribe.
+ * An event reaches the subscribers of exactly its own class. Each subscriber picks its
+ * {@link EventDelivery}. Weak subscriptions hold their target weakly and are dropped once it has
+ * been collected, so a disposed panel that never unsubscribed does not leak.
+ */
+@Singleton
+public class EventBus {
+
+    private static final Subscriber<?>[] NO_SUBSCRIBERS = new Subscriber<?>[0];
+
+    private final ConcurrentHashMap<Class<?>, AtomicReference<Subscriber<?>[]>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService backgroundExecutor;
+
+    public EventBus() {
+        this.backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EventBus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Logger.info("EventBus: Initialized.");
+    }
+
+    /**
+     * Subscribes a handler that is held strongly until it is unsubscribed.
+     *
+     * @return The subscription; subscribing the same handler again returns the existing one.
+     */
+    public <E> Subscription subscribe(Class<E> eventType, Consumer<? super E> handler, EventDelivery delivery) {
+        return add(new Subscriber<>(this, eventType, handler, false, (target, event) -> handler.accept(event), delivery));
+    }
+
+    /**
+     * Subscribes a target that is held weakly. The handler receives the target with each event and
+     * must not capture it itself (an unbound method reference such as
+     * {@code ThemeChangeObservation::onThemeChange} is safe), otherwise the target is never collected.
+     *
+     * @return The subscription; subscribing the same target with the same handler to the same event type again
+     * returns the existing one, while a different handler for the same target is added alongside it.
+     */
+    public <E, T> Subscription subscribeWeak(Class<E> eventType, T target, BiConsumer<? super T, ? super E> handler,
+                                             EventDelivery delivery) {
+        return add(new Subscriber<>(this, eventType, target, true, handler, delivery));
+    }
+
+    /**
+     * Removes every subscription of the target (or strongly subscribed handler) to the event type.
+     *
+     * @return Whether a subscription was removed.
+     */
+    public boolean unsubscribe(Class<?> eventType, Object target) {
+        AtomicReference<Subscriber<?>[]> slot = subscribers.get(eventType);
+        if (slot == null || target == null) {
+            return false;
+        }
+        boolean removed = false;
+        for (Subscriber<?> subscriber : slot.get()) {
+            if (subscriber.target() == target) {
+                removed |= remove(subscriber);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every subscription of the target, whatever its event type.
+     */
+    public void unsubscribeAll(Object target) {
+        for (Class<?> eventType : subscribers.keySet()) {
+            unsubscribe(eventType, target);
+        }
+    }
+
+    /**
+     * Delivers the event to the current subscribers of its class. A subscriber that throws is
+     * logged and does not stop delivery to the others.
+     */
+    public void publish(Object event) {
+        if (event == null) {
+            return;
+        }
+        AtomicReference<Subscriber<?>[]> slot = subscribers.get(event.getClass());
+        if (slot == null) {
+            return;
+        }
+        for (Subscriber<?> subscriber : slot.get()) {
+            if (!subscriber.deliver(event, backgroundExecutor)) {
+                remove(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of live subscribers to the event type.
+     */
+    public int getSubscriberCount(Class<?> eventType) {
+        AtomicReference<Subscriber<?>[]> slot = subscribers.get(eventType);
+        if (slot == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Subscriber<?> subscriber : slot.get()) {
+            if (subscriber.target() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Subscription add(Subscriber<?> subscriber) {
+        AtomicReference<Subscriber<?>[]> slot = subscribers.computeIfAbsent(subscriber.eventType,
+                type -> new AtomicReference<>(NO_SUBSCRIBERS));
+        Object target = subscriber.target();
+        while (true) {
+            Subscriber<?>[] current = slot.get();
+            // Copying also drops subscribers whose weak target has been collected
+            Subscriber<?>[] next = new Subscriber<?>[current.length + 1];
+            int size = 0;
+            for (Subscriber<?> existing : current) {
+                Object existingTarget = existing.target();
+                if (existingTarget == target && existing.sameHandler(subscriber)) {
+                    return existing;
+                }
+                if (existingTarget != null) {
+                    next[size++] = existing;
+                }
+            }
+            next[size++] = subscriber;
+            if (size != next.length) {
+                next = Arrays.copyOf(next, size);
+            }
+            if (slot.compareAndSet(current, next)) {
+                return subscriber;
+            }
+        }
+    }
+
+    private boolean remove(Subscriber<?> subscriber) {
+        subscriber.active = false;
+        AtomicReference<Subscriber<?>[]> slot = subscribers.get(subscriber.eventType);
+        if (slot == null) {
+            return false;
+        }
+        while (true) {
+            Subscriber<?>[] current = slot.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscriber) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return false;
+            }
+            Subscriber<?>[] next = current.length == 1 ? NO_SUBSCRIBERS : new Subscriber<?>[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            if (slot.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Handle to one subscription.
+     */
+    public interface Subscription {
+        void unsubscribe();
+
+        /**
+         * False once unsubscribed or, for a weak subscription, once the target has been collected.
+         */
+        boolean isActive();
+    }
+
+    private static final class Subscriber<E> implements Subscription {
+        private final EventBus bus;
+        private final Class<E> eventType;
+        private final Object strongTarget;
+        private final WeakReference<Object> weakTarget;
+        private final BiConsumer<Object, E> handler;
+        private final EventDelivery delivery;
+        private volatile boolean active = true;
+
+        @SuppressWarnings("unchecked")
+        Subscriber(EventBus bus, Class<E> eventType, Object target, boolean weak, BiConsumer<?, ? super E> handler,
+                   EventDelivery delivery) {
+            this.bus = bus;
+            this.eventType = eventType;
+            this.strongTarget = weak ? null : target;
+            this.weakTarget = weak ? new WeakReference<>(target) : null;
+            this.handler = (BiConsumer<Object, E>) handler;
+            this.delivery = delivery;
+        }
+
+        Object target() {
+            return weakTarget != null ? weakTarget.get() : strongTarget;
+        }
+
+        // A strong subscriber's target is its handler; a weak one is identified by target and handler
+        boolean sameHandler(Subscriber<?> other) {
+            if ((weakTarget == null) != (other.weakTarget == null)) {
+                return false;
+            }
+            return weakTarget == null || handler == other.handler;
+        }
+
+        // Returns false if the weak target has been collected and the subscriber should be removed
+        @SuppressWarnings("unchecked")
+        boolean deliver(Object event, ExecutorService backgroundExecutor) {
+            Object target = target();
+            if (target == null) {
+                return false;
+            }
+            E typedEvent = (E) event;
+            switch (delivery) {
+                case EDT:
+                    if (SwingUtilities.isEventDispatchThread()) {
+                        invoke(target, typedEvent);
+                    } else {
+                        SwingUtilities.invokeLater(() -> invoke(target, typedEvent));
+                    }
+                    break;
+                case BACKGROUND:
+                    backgroundExecutor.execute(() -> invoke(target, typedEvent));
+                    break;
+                default:
+                    invoke(target, typedEvent);
+                    break;
+            }
+            return true;
+        }
+
+        private void invoke(Object target, E event) {
+            if (!active) {
+                return;  // Unsubscribed after the event was queued
+            }
+            try {
+                handler.accept(target, event);
+            } catch (Exception e) {
+                Logger.error("EventBus: Error delivering {} to {}: {}", eventType.getSimpleName(),
+                        target.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void unsubscribe() {
+            bus.remove(this);
+        }
+
+        @Override
+        public boolean isActive() {
+            return active && target() != null;
+        }
+    }
+}
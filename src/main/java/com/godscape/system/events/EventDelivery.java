@@ -0,0 +1,20 @@
+package com.godscape.system.events;
+
+/**
+ * Where an {@link EventBus} subscriber receives its events.
+ */
+public enum EventDelivery {
+    /**
+     * On the publishing thread, before {@link EventBus#publish(Object)} returns.
+     */
+    SYNC,
+    /**
+     * On the Swing event dispatch thread: immediately when published from it, otherwise queued with
+     * {@code SwingUtilities.invokeLater}.
+     */
+    EDT,
+    /**
+     * On the bus's background thread, in publishing order.
+     */
+    BACKGROUND
+}
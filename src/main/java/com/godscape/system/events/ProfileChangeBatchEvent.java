@@ -0,0 +1,35 @@
+package com.godscape.system.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published with the profile changes collected over one frame, in the order their profiles first
+ * changed. Each profile appears at most once, with its changes already merged.
+ */
+public final class ProfileChangeBatchEvent {
+
+    private final List<ProfileChangedEvent<?>> changes;
+
+    public ProfileChangeBatchEvent(List<? extends ProfileChangedEvent<?>> changes) {
+        this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+    }
+
+    public List<ProfileChangedEvent<?>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the changes of one game, such as {@code OsrsProfileChangedEvent}, in batch order.
+     */
+    public <E extends ProfileChangedEvent<?>> List<E> getChanges(Class<E> type) {
+        List<E> matching = new ArrayList<>();
+        for (ProfileChangedEvent<?> change : changes) {
+            if (type.isInstance(change)) {
+                matching.add(type.cast(change));
+            }
+        }
+        return matching;
+    }
+}
@@ -0,0 +1,78 @@
+package com.godscape.system.events;
+
+import com.godscape.osrs.observations.OsrsProfileChangedEvent;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.rs3.observations.Rs3ProfileChangedEvent;
+import com.godscape.rs3.schemas.Rs3ProfileSchema;
+
+/**
+ * Base of the per-game profile changes, {@link OsrsProfileChangedEvent} and {@link Rs3ProfileChangedEvent}.
+ * They are published inside a {@link ProfileChangeBatchEvent}; use
+ * {@link ProfileChangeBatchEvent#getChanges(Class)} to pick out the changes of one game.
+ *
+ * @param <P> The profile schema type.
+ */
+public abstract class ProfileChangedEvent<P> {
+
+    /**
+     * What happened to the profile. The event type strings are the ones used by
+     * {@code ProfileChangeObserver.updateSettings}.
+     */
+    public enum Kind {
+        ADDED("PROFILE_ADDED"),
+        UPDATED("PROFILE_UPDATED"),
+        REMOVED("PROFILE_REMOVED"),
+        SETTING_UPDATED("SETTING_UPDATED");
+
+        private final String eventType;
+
+        Kind(String eventType) {
+            this.eventType = eventType;
+        }
+
+        public String getEventType() {
+            return eventType;
+        }
+
+        /**
+         * Returns the kind for an event type string, or null if there is none.
+         */
+        public static Kind fromEventType(String eventType) {
+            for (Kind kind : values()) {
+                if (kind.eventType.equals(eventType)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Kind kind;
+    private final P profile;
+
+    protected ProfileChangedEvent(Kind kind, P profile) {
+        this.kind = kind;
+        this.profile = profile;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public P getProfile() {
+        return profile;
+    }
+
+    /**
+     * Wraps a profile of either game in its typed event, for callers that only have an untyped
+     * profile (such as Hazelcast entry listeners). Returns null for anything that is not a profile.
+     */
+    public static ProfileChangedEvent<?> of(Kind kind, Object profile) {
+        if (profile instanceof OsrsProfileSchema) {
+            return new OsrsProfileChangedEvent(kind, (OsrsProfileSchema) profile);
+        } else if (profile instanceof Rs3ProfileSchema) {
+            return new Rs3ProfileChangedEvent(kind, (Rs3ProfileSchema) profile);
+        }
+        return null;
+    }
+}
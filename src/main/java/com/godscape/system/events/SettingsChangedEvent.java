@@ -0,0 +1,22 @@
+package com.godscape.system.events;
+
+import com.godscape.system.cache.SettingsDelta;
+
+/**
+ * Published when individual settings of a profile or character change in place.
+ */
+public final class SettingsChangedEvent {
+
+    private final SettingsDelta delta;
+
+    public SettingsChangedEvent(SettingsDelta delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Only the settings keys that changed.
+     */
+    public SettingsDelta getDelta() {
+        return delta;
+    }
+}
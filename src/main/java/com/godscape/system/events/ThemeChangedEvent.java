@@ -0,0 +1,19 @@
+package com.godscape.system.events;
+
+import com.godscape.system.enums.Themes;
+
+/**
+ * Published when the active theme changes.
+ */
+public final class ThemeChangedEvent {
+
+    private final Themes theme;
+
+    public ThemeChangedEvent(Themes theme) {
+        this.theme = theme;
+    }
+
+    public Themes getTheme() {
+        return theme;
+    }
+}
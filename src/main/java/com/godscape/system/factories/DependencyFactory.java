@@ -55,6 +55,14 @@ public class DependencyFactory {
         throw new IllegalArgumentException("No mapping found for enum: " + enumValue);
     }
 
+    /**
+     * Releases a singleton instance, so it can be garbage collected once nothing else refers to it
+     * and the next injection of its class builds a new one.
+     */
+    public boolean release(Object instance) {
+        return registry.releaseSingleton(instance);
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T getInstance(String key) {
         return (T) registry.getInstance(key);
@@ -2,6 +2,8 @@ package com.godscape.system.factories;
 
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.cache.SettingsEntryProcessor;
 import com.godscape.system.enums.GameVersion;
 import com.godscape.system.schemas.ThemeSchema;
 import com.godscape.system.utility.Logger;
@@ -20,6 +22,8 @@ public class SerializableFactory implements DataSerializableFactory {
     public static final int OSRS_PROFILE_SCHEMA_ID = 1; // Unique ID for OsrsProfileSchema
     public static final int RS3_PROFILE_SCHEMA_ID = 3;  // Unique ID for Rs3ProfileSchema
     public static final int THEME_SCHEMA_ID = 2;        // Unique ID for ThemeSchema
+    public static final int SETTINGS_ENTRY_PROCESSOR_ID = 4; // Unique ID for SettingsEntryProcessor
+    public static final int SETTINGS_DELTA_ID = 5;      // Unique ID for SettingsDelta
 
     @Override
     public IdentifiedDataSerializable create(int typeId) {
@@ -29,6 +33,10 @@ public class SerializableFactory implements DataSerializableFactory {
                 return createProfileSchemaForCurrentGameVersion();
             case THEME_SCHEMA_ID:
                 return createThemeSchema();
+            case SETTINGS_ENTRY_PROCESSOR_ID:
+                return new SettingsEntryProcessor<>();
+            case SETTINGS_DELTA_ID:
+                return new SettingsDelta();
             default:
                 Logger.error("SerializableFactory: No matching type for typeId: {}", typeId);
                 return null;
@@ -5,7 +5,10 @@ import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.enums.Schemas;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.preloaders.PreloadTimings;
+import com.godscape.system.utility.TabSwitchMetrics;
 import com.godscape.system.schemas.ThemeSchema;
+import com.godscape.system.themes.AnimationClock;
 import com.godscape.system.config.HazelcastConfig;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.utility.ProfilesListTools;
@@ -162,6 +165,9 @@ public class DebugPanel extends JPanel {
             // Add the schema branch for OSRS profiles
             addSchemaBranch(root, OsrsSchemas.OSRS_PROFILE_SCHEMA, hazelcastInstance);
             addSchemaBranch(root, OsrsSchemas.OSRS_CHARACTER_SCHEMA, hazelcastInstance);
+            addPreloadTimingsBranch(root);
+            addTabSwitchBranch(root);
+            addAnimationBranch(root);
 
             // Set the model for the tree
             DefaultTreeModel model = new DefaultTreeModel(root);
@@ -243,6 +249,70 @@ public class DebugPanel extends JPanel {
         }
     }
 
+    /**
+     * Adds a branch with the timings of the startup preloaders, in the order they started.
+     *
+     * @param parent The parent node.
+     */
+    private void addPreloadTimingsBranch(DefaultMutableTreeNode parent) {
+        PreloadTimings preloadTimings = DependencyFactory.getInstance().getInjection(PreloadTimings.class);
+        long criticalPathMillis = preloadTimings.getCriticalPathMillis();
+        long totalMillis = preloadTimings.getTotalMillis();
+        String label = "Preload Timings (critical path " + (criticalPathMillis >= 0 ? criticalPathMillis + " ms" : "running")
+                + ", total " + (totalMillis >= 0 ? totalMillis + " ms" : "running") + ")";
+        DefaultMutableTreeNode timingsNode = new DefaultMutableTreeNode(label);
+        parent.add(timingsNode);
+
+        List<PreloadTimings.Timing> timings = preloadTimings.getTimings();
+        if (timings.isEmpty()) {
+            timingsNode.add(new DefaultMutableTreeNode("No preloaders have finished"));
+            return;
+        }
+        for (PreloadTimings.Timing timing : timings) {
+            String displayName = timing.getName() + " - " + timing.getDurationMillis() + " ms"
+                    + (timing.isCritical() ? " (critical)" : "") + (timing.getError() != null ? " (failed)" : "");
+            timingsNode.add(new DefaultMutableTreeNode(new DisplayNode(displayName, timing)));
+        }
+    }
+
+    /**
+     * Adds a branch with the tab-switch latencies recorded by the panel prefetcher.
+     *
+     * @param parent The parent node.
+     */
+    private void addTabSwitchBranch(DefaultMutableTreeNode parent) {
+        TabSwitchMetrics metrics = DependencyFactory.getInstance().getInjection(TabSwitchMetrics.class);
+        String label = String.format("Tab Switches (%d, %d prebuilt, mean %.1f ms, max %.1f ms)",
+                metrics.getSwitches(), metrics.getHits(), metrics.getMeanSwitchMillis(), metrics.getMaxSwitchMillis());
+        DefaultMutableTreeNode switchesNode = new DefaultMutableTreeNode(label);
+        parent.add(switchesNode);
+
+        switchesNode.add(new DefaultMutableTreeNode(String.format("Prefetched %d tabs in %.1f ms, released %d",
+                metrics.getPrefetchBuilds(), metrics.getPrefetchBuildMillis(), metrics.getEvictions())));
+        for (TabSwitchMetrics.TabStats stats : metrics.getTabStats()) {
+            String displayName = String.format("%s - last %.1f ms", stats.getTabTitle(), stats.getLastMillis());
+            switchesNode.add(new DefaultMutableTreeNode(new DisplayNode(displayName, stats)));
+        }
+    }
+
+    /**
+     * Adds a branch with the frame rate and frame times of the theme animation clock.
+     *
+     * @param parent The parent node.
+     */
+    private void addAnimationBranch(DefaultMutableTreeNode parent) {
+        AnimationClock clock = DependencyFactory.getInstance().getInjection(AnimationClock.class);
+        String label = String.format("Animation (%.1f FPS, target %d, %s)",
+                clock.getMeasuredFps(), clock.getTargetFps(), clock.isRunning() ? "running" : "paused");
+        DefaultMutableTreeNode animationNode = new DefaultMutableTreeNode(new DisplayNode(label, clock));
+        parent.add(animationNode);
+
+        animationNode.add(new DefaultMutableTreeNode(String.format("Frame time p50 %.2f ms, p95 %.2f ms, p99 %.2f ms",
+                clock.getFrameTimePercentileMillis(50), clock.getFrameTimePercentileMillis(95), clock.getFrameTimePercentileMillis(99))));
+        animationNode.add(new DefaultMutableTreeNode(String.format("%d frames, %d dropped",
+                clock.getFrames(), clock.getDroppedFrames())));
+    }
+
     /**
      * Displays details of a selected node in the details area.
      *
@@ -301,6 +371,41 @@ public class DebugPanel extends JPanel {
                     details.append("  ").append(category).append(": ").append(categoryContent).append("\n");
                 }
             }
+        } else if (actualObject instanceof PreloadTimings.Timing) {
+            PreloadTimings.Timing timing = (PreloadTimings.Timing) actualObject;
+            details.append("Preloader Timing:\n");
+            details.append("-----------------\n");
+            details.append("Preloader: ").append(timing.getName()).append("\n");
+            details.append("Critical: ").append(timing.isCritical()).append("\n");
+            details.append("Depends On: ").append(timing.getDependencies().isEmpty() ? "-" : String.join(", ", timing.getDependencies())).append("\n");
+            details.append("Thread: ").append(timing.getThreadName()).append("\n");
+            details.append("Started At: ").append(timing.getStartMillis()).append(" ms\n");
+            details.append("Duration: ").append(timing.getDurationMillis()).append(" ms\n");
+            if (timing.getError() != null) {
+                details.append("Error: ").append(timing.getError()).append("\n");
+            }
+        } else if (actualObject instanceof TabSwitchMetrics.TabStats) {
+            TabSwitchMetrics.TabStats stats = (TabSwitchMetrics.TabStats) actualObject;
+            details.append("Tab Switches:\n");
+            details.append("-------------\n");
+            details.append("Tab: ").append(stats.getTabTitle()).append("\n");
+            details.append("Switches: ").append(stats.getSwitches()).append("\n");
+            details.append("Prebuilt: ").append(stats.getHits()).append("\n");
+            details.append(String.format("Last: %.1f ms%n", stats.getLastMillis()));
+            details.append(String.format("Mean: %.1f ms%n", stats.getMeanMillis()));
+            details.append(String.format("Max: %.1f ms%n", stats.getMaxMillis()));
+        } else if (actualObject instanceof AnimationClock) {
+            AnimationClock clock = (AnimationClock) actualObject;
+            details.append("Animation Clock:\n");
+            details.append("----------------\n");
+            details.append("Running: ").append(clock.isRunning()).append("\n");
+            details.append(String.format("Measured: %.1f FPS%n", clock.getMeasuredFps()));
+            details.append("Target: ").append(clock.getTargetFps()).append(" FPS\n");
+            details.append("Frames: ").append(clock.getFrames()).append("\n");
+            details.append("Dropped: ").append(clock.getDroppedFrames()).append("\n");
+            details.append(String.format("Frame Time p50: %.2f ms%n", clock.getFrameTimePercentileMillis(50)));
+            details.append(String.format("Frame Time p95: %.2f ms%n", clock.getFrameTimePercentileMillis(95)));
+            details.append(String.format("Frame Time p99: %.2f ms%n", clock.getFrameTimePercentileMillis(99)));
         } else {
             details.append("Unknown Object Type:\n");
             details.append(actualObject.toString());
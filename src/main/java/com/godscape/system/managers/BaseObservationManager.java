@@ -2,175 +2,184 @@ package com.godscape.system.managers;
 
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.enums.Themes;
+import com.godscape.system.events.BotStateChangedEvent;
+import com.godscape.system.events.EventBus;
+import com.godscape.system.events.EventDelivery;
+import com.godscape.system.events.ProfileChangeBatchEvent;
+import com.godscape.system.events.ProfileChangedEvent;
+import com.godscape.system.events.SettingsChangedEvent;
+import com.godscape.system.events.ThemeChangedEvent;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.fuse.ObservationFuse;
 import com.godscape.system.interfaces.mark.Observable;
 import com.godscape.system.observers.BotStateObservation;
 import com.godscape.system.observers.ThemeChangeObservation;
 import com.godscape.osrs.observations.OsrsProfileChangeObservation;
-import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.osrs.observations.OsrsProfileChangedEvent;
+import com.godscape.system.cache.SettingsDelta;
 import com.godscape.system.utility.Logger;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * Registers the observation interfaces with the shared {@link EventBus} and publishes their events.
+ * <p>
+ * Observers are subscribed weakly with {@link EventDelivery#EDT} delivery, so a panel that is disposed
+ * without unregistering is not kept alive, and its callbacks always run on the event dispatch thread.
+ * The OSRS and RS3 managers extend this class but share the same bus, so an observer receives an
+ * event no matter which manager it registered with.
+ * <p>
+ * Profile changes are always published as a {@link ProfileChangeBatchEvent}: cache entry events
+ * arrive batched per frame from {@code ProfileChangeCoalescer}, and a change notified directly is a
+ * batch of one.
+ */
 @Singleton
 public class BaseObservationManager implements Observable, ObservationFuse<Object> {
 
-    protected final List<ThemeChangeObservation> themeListeners;
-    protected final List<BotStateObservation> botStateObservations;
-    protected final List<OsrsProfileChangeObservation> profileListeners;
+    protected final EventBus eventBus;
 
     public BaseObservationManager() {
-        this.themeListeners = new ArrayList<>();
-        this.botStateObservations = new ArrayList<>();
-        this.profileListeners = new ArrayList<>();
+        this.eventBus = DependencyFactory.getInstance().getInjection(EventBus.class);
         Logger.info("BaseObservationManager: Initialized.");
     }
 
-    // Add an observer based on its type
+    // Subscribe the observer to every observation it implements
     @Override
     public void addObserver(Object observer) {
+        boolean supported = false;
         if (observer instanceof ThemeChangeObservation) {
             addThemeListener((ThemeChangeObservation) observer);
-        } else if (observer instanceof BotStateObservation) {
+            supported = true;
+        }
+        if (observer instanceof BotStateObservation) {
             addBotStateListener((BotStateObservation) observer);
-        } else if (observer instanceof OsrsProfileChangeObservation) {
+            supported = true;
+        }
+        if (observer instanceof OsrsProfileChangeObservation) {
             addProfileObserver((OsrsProfileChangeObservation) observer);
-        } else {
+            supported = true;
+        }
+        if (!supported) {
             Logger.warn("BaseObservationManager: Unsupported observer type.");
         }
     }
 
-    // Remove an observer based on its type
     @Override
     public void removeObserver(Object observer) {
-        if (observer instanceof ThemeChangeObservation) {
-            removeThemeListener((ThemeChangeObservation) observer);
-        } else if (observer instanceof BotStateObservation) {
-            removeBotStateListener((BotStateObservation) observer);
-        } else if (observer instanceof OsrsProfileChangeObservation) {
-            removeProfileObserver((OsrsProfileChangeObservation) observer);
-        } else {
-            Logger.warn("BaseObservationManager: Unsupported observer type.");
+        if (observer != null) {
+            eventBus.unsubscribeAll(observer);
         }
     }
 
-    // Notify observers based on the update type
+    /**
+     * Publishes a typed event (such as {@link ThemeChangedEvent}) to its subscribers.
+     */
     @Override
-    public void notifyObservers(Object update) {
-        if (update instanceof Themes) {
-            notifyThemeChange((Themes) update);
-        } else if (update instanceof Boolean) {
-            notifyBotStateChanged((Boolean) update);
-        } else {
-            Logger.warn("BaseObservationManager: Unsupported update type.");
-        }
+    public void notifyObservers(Object event) {
+        eventBus.publish(event);
     }
 
     // Methods for managing ThemeChangeObservation listeners
     public void addThemeListener(ThemeChangeObservation listener) {
-        if (listener != null && !themeListeners.contains(listener)) {
-            themeListeners.add(listener);
+        if (listener != null) {
+            eventBus.subscribeWeak(ThemeChangedEvent.class, listener,
+                    (observer, event) -> observer.onThemeChange(event.getTheme()), EventDelivery.EDT);
             Logger.info("BaseObservationManager: Registered ThemeChangeObserver.");
         }
     }
 
     public void removeThemeListener(ThemeChangeObservation listener) {
-        if (listener != null && themeListeners.remove(listener)) {
+        if (listener != null && eventBus.unsubscribe(ThemeChangedEvent.class, listener)) {
             Logger.info("BaseObservationManager: Unregistered ThemeChangeObserver.");
         }
     }
 
     public void notifyThemeChange(Themes newTheme) {
-        for (ThemeChangeObservation listener : themeListeners) {
-            try {
-                listener.onThemeChange(newTheme);
-            } catch (Exception e) {
-                Logger.error("Error notifying ThemeChangeObserver: {}", e.getMessage());
-            }
-        }
+        eventBus.publish(new ThemeChangedEvent(newTheme));
     }
 
     // Methods for managing BotStateObservation listeners
     public void addBotStateListener(BotStateObservation listener) {
-        if (listener != null && !botStateObservations.contains(listener)) {
-            botStateObservations.add(listener);
+        if (listener != null) {
+            eventBus.subscribeWeak(BotStateChangedEvent.class, listener,
+                    (observer, event) -> observer.onBotStatusChanged(event.isRunning()), EventDelivery.EDT);
             Logger.info("BaseObservationManager: Registered BotStateObserver.");
         }
     }
 
     public void removeBotStateListener(BotStateObservation listener) {
-        if (listener != null && botStateObservations.remove(listener)) {
+        if (listener != null && eventBus.unsubscribe(BotStateChangedEvent.class, listener)) {
             Logger.info("BaseObservationManager: Unregistered BotStateObserver.");
         }
     }
 
     public void notifyBotStateChanged(boolean isRunning) {
-        for (BotStateObservation listener : botStateObservations) {
-            try {
-                listener.onBotStatusChanged(isRunning);
-            } catch (Exception e) {
-                Logger.error("Error notifying BotStateObserver: {}", e.getMessage());
-            }
-        }
+        eventBus.publish(new BotStateChangedEvent(isRunning));
     }
 
     // Methods for managing OsrsProfileChangeObservation listeners
     public void addProfileObserver(OsrsProfileChangeObservation observer) {
-        if (observer != null && !profileListeners.contains(observer)) {
-            profileListeners.add(observer);
+        if (observer != null) {
+            eventBus.subscribeWeak(ProfileChangeBatchEvent.class, observer,
+                    BaseObservationManager::dispatchProfileChanges, EventDelivery.EDT);
+            eventBus.subscribeWeak(SettingsChangedEvent.class, observer,
+                    (listener, event) -> listener.onSettingsChanged(event.getDelta()), EventDelivery.EDT);
             Logger.info("BaseObservationManager: Registered OsrsProfileChangeObserver.");
         }
     }
 
     public void removeProfileObserver(OsrsProfileChangeObservation observer) {
-        if (observer != null && profileListeners.remove(observer)) {
-            Logger.info("BaseObservationManager: Unregistered OsrsProfileChangeObserver.");
+        if (observer != null) {
+            eventBus.unsubscribe(SettingsChangedEvent.class, observer);
+            if (eventBus.unsubscribe(ProfileChangeBatchEvent.class, observer)) {
+                Logger.info("BaseObservationManager: Unregistered OsrsProfileChangeObserver.");
+            }
         }
     }
 
-    public void notifyProfileAdded(Object profile) {
-        if (profile instanceof OsrsProfileSchema) {
-            OsrsProfileSchema osrsProfile = (OsrsProfileSchema) profile;
-            for (OsrsProfileChangeObservation listener : profileListeners) {
-                try {
-                    listener.onProfileAdded(osrsProfile);
-                } catch (Exception e) {
-                    Logger.error("Error notifying OsrsProfileChangeObserver for profile added: {}", e.getMessage());
-                }
-            }
-        } else {
-            Logger.warn("BaseObservationManager: notifyProfileAdded received unsupported profile type.");
+    private static void dispatchProfileChanges(OsrsProfileChangeObservation observer, ProfileChangeBatchEvent batch) {
+        List<OsrsProfileChangedEvent> changes = batch.getChanges(OsrsProfileChangedEvent.class);
+        if (!changes.isEmpty()) {
+            observer.onProfilesChanged(changes);
         }
     }
 
+    public void notifyProfileAdded(Object profile) {
+        publishProfileChange(ProfileChangedEvent.Kind.ADDED, profile);
+    }
+
     public void notifyProfileUpdated(Object profile) {
-        if (profile instanceof OsrsProfileSchema) {
-            OsrsProfileSchema osrsProfile = (OsrsProfileSchema) profile;
-            for (OsrsProfileChangeObservation listener : profileListeners) {
-                try {
-                    listener.onProfileUpdated(osrsProfile);
-                } catch (Exception e) {
-                    Logger.error("Error notifying OsrsProfileChangeObserver for profile updated: {}", e.getMessage());
-                }
-            }
-        } else {
-            Logger.warn("BaseObservationManager: notifyProfileUpdated received unsupported profile type.");
-        }
+        publishProfileChange(ProfileChangedEvent.Kind.UPDATED, profile);
     }
 
     public void notifyProfileRemoved(Object profile) {
-        if (profile instanceof OsrsProfileSchema) {
-            OsrsProfileSchema osrsProfile = (OsrsProfileSchema) profile;
-            for (OsrsProfileChangeObservation listener : profileListeners) {
-                try {
-                    listener.onProfileRemoved(osrsProfile);
-                } catch (Exception e) {
-                    Logger.error("Error notifying OsrsProfileChangeObserver for profile removed: {}", e.getMessage());
-                }
-            }
+        publishProfileChange(ProfileChangedEvent.Kind.REMOVED, profile);
+    }
+
+    /**
+     * Publishes a batch of profile changes, such as the ones collected over a frame by
+     * {@code ProfileChangeCoalescer}.
+     */
+    public void notifyProfilesChanged(List<? extends ProfileChangedEvent<?>> changes) {
+        if (changes != null && !changes.isEmpty()) {
+            eventBus.publish(new ProfileChangeBatchEvent(changes));
+        }
+    }
+
+    public void notifySettingsChanged(SettingsDelta delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        eventBus.publish(new SettingsChangedEvent(delta));
+    }
+
+    protected void publishProfileChange(ProfileChangedEvent.Kind kind, Object profile) {
+        ProfileChangedEvent<?> event = ProfileChangedEvent.of(kind, profile);
+        if (event != null) {
+            eventBus.publish(new ProfileChangeBatchEvent(Collections.singletonList(event)));
         } else {
-            Logger.warn("BaseObservationManager: notifyProfileRemoved received unsupported profile type.");
+            Logger.warn("BaseObservationManager: Unsupported profile type for {}.", kind);
         }
     }
 }
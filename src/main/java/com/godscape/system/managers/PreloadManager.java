@@ -1,11 +1,14 @@
 package com.godscape.system.managers;
 
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.ProfileSyncScheduler;
 import com.godscape.system.enums.GameVersion;
 import com.godscape.system.enums.Preloaders;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.PlatformFactory;
 import com.godscape.system.preloaders.GlobalSettingsPreloader;
+import com.godscape.system.preloaders.PreloadGraph;
+import com.godscape.system.preloaders.ThemePreloader;
 import com.godscape.system.utility.Logger;
 import com.godscape.osrs.managers.OsrsPreloadManager;
 import com.godscape.rs3.managers.Rs3PreloadManager;
@@ -23,50 +26,55 @@ public class PreloadManager {
     }
 
     /**
-     * Detects the game version and loads the appropriate preloaders.
+     * Detects the game version and starts the global, theme and game-specific preloaders as one
+     * dependency graph. Returns without waiting; the profile sync starts once every preloader has finished.
+     *
+     * @return The started graph, whose critical path covers what the main frame needs.
      */
-    public void loadPreloader() {
-        preloadGlobalSettings();
-        preloadGameSpecificManager();
+    public PreloadGraph.Run loadPreloader() {
+        PreloadGraph graph = new PreloadGraph()
+                .add(dependencyFactory.getInjection(GlobalSettingsPreloader.class))
+                .add(dependencyFactory.getInjection(ThemePreloader.class));
+        PreloadGraph.Run run = preloadGameSpecificManager(graph);
+        run.getCompletion().thenRun(this::startProfileSync);
+        return run;
     }
 
     /**
-     * Loads and runs the GlobalSettingsPreloader.
+     * Starts the background profile sync once global settings are known.
      */
-    private void preloadGlobalSettings() {
-        GlobalSettingsPreloader globalSettingsPreloader = dependencyFactory.getInjection(GlobalSettingsPreloader.class);
-        if (globalSettingsPreloader != null) {
-            globalSettingsPreloader.preload();
-            Logger.info("PreloadManager: Global settings preloaded successfully.");
+    private void startProfileSync() {
+        ProfileSyncScheduler syncScheduler = dependencyFactory.getInjection(ProfileSyncScheduler.class);
+        if (syncScheduler != null) {
+            syncScheduler.start();
         } else {
-            Logger.error("PreloadManager: Failed to load global settings preloader.");
+            Logger.error("PreloadManager: Failed to start profile sync.");
         }
     }
 
     /**
-     * Determines and loads the appropriate game-specific preload manager.
+     * Lets the game-specific preload manager add its preloaders to the graph and start it.
      */
-    private void preloadGameSpecificManager() {
+    private PreloadGraph.Run preloadGameSpecificManager(PreloadGraph graph) {
         GameVersion currentGameVersion = platformFactory.getCurrentGameVersion();
 
         if (currentGameVersion == GameVersion.OSRS) {
             OsrsPreloadManager osrsManager = dependencyFactory.getInjection(OsrsPreloadManager.class);
             if (osrsManager != null) {
-                osrsManager.initializePreload();
-                Logger.info("PreloadManager: OSRS preloader manager initialized.");
-            } else {
-                Logger.error("PreloadManager: Failed to initialize OSRS preloader manager.");
+                Logger.info("PreloadManager: Starting OSRS preloaders.");
+                return osrsManager.initializePreload(graph);
             }
+            Logger.error("PreloadManager: Failed to initialize OSRS preloader manager.");
         } else if (currentGameVersion == GameVersion.RS3) {
             Rs3PreloadManager rs3Manager = dependencyFactory.getInjection(Rs3PreloadManager.class);
             if (rs3Manager != null) {
-                rs3Manager.initializePreload();
-                Logger.info("PreloadManager: RS3 preloader manager initialized.");
-            } else {
-                Logger.error("PreloadManager: Failed to initialize RS3 preloader manager.");
+                Logger.info("PreloadManager: Starting RS3 preloaders.");
+                return rs3Manager.initializePreload(graph);
             }
+            Logger.error("PreloadManager: Failed to initialize RS3 preloader manager.");
         } else {
             Logger.warn("PreloadManager: No preloader manager found for {}", currentGameVersion);
         }
+        return graph.start();
     }
 }
@@ -53,13 +53,27 @@ public class ThemeManager {
      */
     public void loadSettings(OsrsProfileSchema profile) {
         Logger.info("Loading theme settings from profile: {}", profile.getProfileName());
-        Themes activeTheme = profile.getSetting(Schemas.THEME_SCHEMA.name(), "activeTheme", Themes.LIGHT);
+        Themes activeTheme = resolveTheme(profile.getSettings().get(Schemas.THEME_SCHEMA.name(), "activeTheme"));
         SwingUtilities.invokeLater(() -> {
             Themes.setCurrentTheme(activeTheme);
             Logger.info("Applied theme '{}' from profile settings.", activeTheme.name());
         });
     }
 
+    private Themes resolveTheme(Object stored) {
+        if (stored instanceof Themes) {
+            return (Themes) stored;
+        }
+        if (stored instanceof String) {
+            try {
+                return Themes.valueOf(((String) stored).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                Logger.warn("Unknown theme '{}' in profile settings; using default.", stored);
+            }
+        }
+        return Themes.LIGHT;
+    }
+
     /**
      * Saves the currently active theme to the specified profile.
      *
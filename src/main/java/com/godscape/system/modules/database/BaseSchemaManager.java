@@ -4,6 +4,7 @@ import com.godscape.system.utility.Logger;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -18,11 +19,13 @@ public abstract class BaseSchemaManager {
     protected boolean tableExists(String tableName) {
         String checkTableSQL = "SELECT name FROM sqlite_master WHERE type='table' AND name=?";
 
-        try (Connection connection = DatabaseConnectionManager.getConnection();
+        try (Connection connection = DatabaseConnectionManager.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(checkTableSQL)) {
 
             statement.setString(1, tableName);
-            return statement.executeQuery().next();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
 
         } catch (SQLException e) {
             Logger.error("{}: Error checking if table '{}' exists - {}", getClass().getSimpleName(), tableName, e.getMessage());
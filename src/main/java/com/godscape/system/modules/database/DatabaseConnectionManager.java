@@ -7,12 +7,14 @@ import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.PlatformFactory;
 import com.godscape.system.utility.Logger;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.nio.file.Path;
 
+/**
+ * Hands out connections to the game's database from a shared {@link SQLiteConnectionPool}.
+ * Closing a connection returns it to the pool.
+ */
 public class DatabaseConnectionManager {
-    private static String DB_URL;
+    private static volatile String DB_URL;
 
     static {
         initializeDatabaseUrl();
@@ -21,7 +23,7 @@ public class DatabaseConnectionManager {
     /**
      * Initializes the database URL based on the global settings and current game version.
      */
-    private static void initializeDatabaseUrl() {
+    private static synchronized void initializeDatabaseUrl() {
         if (DB_URL == null) {
             GameVersion currentGameVersion = DependencyFactory.getInstance().getInjection(PlatformFactory.class).getCurrentGameVersion();
             if (currentGameVersion == null) {
@@ -55,12 +57,34 @@ public class DatabaseConnectionManager {
     }
 
     /**
-     * Obtains a connection to the database, initializing the URL if needed.
+     * Obtains the writer connection to the database, initializing the URL if needed. Use this for
+     * anything that modifies the database.
      *
      * @return A Connection to the SQLite database
      * @throws SQLException if the connection cannot be obtained
      */
     public static Connection getConnection() throws SQLException {
+        return getPool().getWriteConnection();
+    }
+
+    /**
+     * Obtains a read-only connection to the database. Several can be in use at once, alongside the writer.
+     *
+     * @return A read-only Connection to the SQLite database
+     * @throws SQLException if the connection cannot be obtained
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return getPool().getReadConnection();
+    }
+
+    /**
+     * Checkpoints the write-ahead log and closes all pooled connections.
+     */
+    public static void shutdown() {
+        SQLiteConnectionPool.shutdownAll();
+    }
+
+    private static SQLiteConnectionPool getPool() throws SQLException {
         if (DB_URL == null) {
             Logger.warn("DatabaseConnectionManager: DB_URL is not initialized. Attempting to initialize now.");
             initializeDatabaseUrl();
@@ -68,11 +92,11 @@ public class DatabaseConnectionManager {
                 throw new SQLException("DatabaseConnectionManager: DB_URL is not set. Cannot obtain a database connection.");
             }
         }
-        return DriverManager.getConnection(DB_URL);
+        return SQLiteConnectionPool.forUrl(DB_URL);
     }
 
     /**
-     * Closes the provided database connection, logging any errors encountered.
+     * Closes the provided database connection (returning it to the pool), logging any errors encountered.
      *
      * @param connection The Connection to close
      */
@@ -80,7 +104,6 @@ public class DatabaseConnectionManager {
         if (connection != null) {
             try {
                 connection.close();
-                Logger.info("DatabaseConnectionManager: Connection closed successfully.");
             } catch (SQLException e) {
                 Logger.error("DatabaseConnectionManager: Error closing connection - {}", e.getMessage(), e);
             }
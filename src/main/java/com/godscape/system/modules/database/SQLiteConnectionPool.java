@@ -0,0 +1,423 @@
+package com.godscape.system.modules.database;
+
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.utility.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Small connection pool for one SQLite database file.
+ * <p>
+ * SQLite allows a single writer at a time, so the pool holds one writer connection and a fixed
+ * number of read-only connections, all in WAL mode so readers never wait on the writer. Every
+ * connection gets the configured pragmas once when it is opened.
+ * <p>
+ * Connections handed out are proxies: {@code close()} returns the connection to the pool
+ * (rolling back an unfinished transaction and restoring auto-commit), and
+ * {@code prepareStatement(String)} is served from a per-connection cache keyed by SQL text, where
+ * closing the statement only resets it. A thread that asks for a connection of the same kind while
+ * it already holds one gets the same connection back, so nested DAO calls do not deadlock on the
+ * single writer.
+ */
+public class SQLiteConnectionPool {
+
+    private static final Map<String, SQLiteConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    private static final int DEFAULT_READER_CONNECTIONS = 3;
+    private static final int DEFAULT_CACHE_SIZE_KB = 8192;
+    private static final int DEFAULT_MMAP_SIZE_MB = 64;
+    private static final int STATEMENT_CACHE_SIZE = 64;
+    private static final int BUSY_TIMEOUT_MS = 5000;
+    private static final long ACQUIRE_TIMEOUT_MS = 10000;
+
+    private final String url;
+    private final int cacheSizeKb;
+    private final long mmapSizeBytes;
+    private final String synchronous;
+
+    private final ReentrantLock writerLock = new ReentrantLock(true);
+    private final PooledConnection writer;
+    private final List<PooledConnection> readers = new ArrayList<>();
+    private final BlockingQueue<PooledConnection> idleReaders;
+    private final ThreadLocal<PooledConnection> heldReader = new ThreadLocal<>();
+    private volatile boolean closed;
+
+    public SQLiteConnectionPool(String url, int readerConnections, int cacheSizeKb, long mmapSizeBytes, String synchronous) throws SQLException {
+        this.url = url;
+        this.cacheSizeKb = cacheSizeKb;
+        this.mmapSizeBytes = mmapSizeBytes;
+        this.synchronous = synchronous;
+
+        this.writer = new PooledConnection(open(false), false);
+        int readerCount = Math.max(1, readerConnections);
+        this.idleReaders = new ArrayBlockingQueue<>(readerCount);
+        for (int i = 0; i < readerCount; i++) {
+            PooledConnection reader = new PooledConnection(open(true), true);
+            readers.add(reader);
+            idleReaders.add(reader);
+        }
+        Logger.info("SQLiteConnectionPool: Opened 1 writer and {} reader connections for {}", readerCount, url);
+    }
+
+    /**
+     * Returns the shared pool for a database URL, opening it with the configured settings on first use.
+     */
+    public static SQLiteConnectionPool forUrl(String url) throws SQLException {
+        SQLiteConnectionPool pool = POOLS.get(url);
+        if (pool != null && !pool.closed) {
+            return pool;
+        }
+        synchronized (POOLS) {
+            pool = POOLS.get(url);
+            if (pool == null || pool.closed) {
+                GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+                pool = new SQLiteConnectionPool(url,
+                        config.getInt(ConfigKeys.SQLITE_READER_CONNECTIONS, DEFAULT_READER_CONNECTIONS),
+                        config.getInt(ConfigKeys.SQLITE_CACHE_SIZE_KB, DEFAULT_CACHE_SIZE_KB),
+                        config.getInt(ConfigKeys.SQLITE_MMAP_SIZE_MB, DEFAULT_MMAP_SIZE_MB) * 1024L * 1024L,
+                        config.getString(ConfigKeys.SQLITE_SYNCHRONOUS));
+                POOLS.put(url, pool);
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * Checkpoints and closes every open pool. Called on bot termination.
+     */
+    public static void shutdownAll() {
+        synchronized (POOLS) {
+            for (SQLiteConnectionPool pool : POOLS.values()) {
+                pool.close();
+            }
+            POOLS.clear();
+        }
+    }
+
+    /**
+     * Leases the writer connection. Blocks while another thread holds it.
+     */
+    public Connection getWriteConnection() throws SQLException {
+        ensureOpen();
+        try {
+            if (!writerLock.tryLock(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("SQLiteConnectionPool: Timed out waiting for the writer connection of " + url);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("SQLiteConnectionPool: Interrupted while waiting for the writer connection", e);
+        }
+        return writer.lease();
+    }
+
+    /**
+     * Leases a read-only connection. Statements that modify the database fail on it.
+     */
+    public Connection getReadConnection() throws SQLException {
+        ensureOpen();
+        PooledConnection held = heldReader.get();
+        if (held != null) {
+            return held.lease();
+        }
+        PooledConnection reader;
+        try {
+            reader = idleReaders.poll(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("SQLiteConnectionPool: Interrupted while waiting for a reader connection", e);
+        }
+        if (reader == null) {
+            throw new SQLException("SQLiteConnectionPool: Timed out waiting for a reader connection of " + url);
+        }
+        heldReader.set(reader);
+        return reader.lease();
+    }
+
+    /**
+     * Moves the write-ahead log into the database file and truncates it.
+     */
+    public void checkpoint() {
+        try (Connection connection = getWriteConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+            Logger.info("SQLiteConnectionPool: Checkpointed {}", url);
+        } catch (SQLException e) {
+            Logger.error("SQLiteConnectionPool: Checkpoint failed for {} - {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Checkpoints the database and closes all connections.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        checkpoint();
+        closed = true;
+        for (PooledConnection reader : readers) {
+            reader.closePhysical();
+        }
+        writer.closePhysical();
+        Logger.info("SQLiteConnectionPool: Closed connections for {}", url);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("SQLiteConnectionPool: Pool for " + url + " is closed.");
+        }
+    }
+
+    private Connection open(boolean readOnly) throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
+            if (!readOnly) {
+                // journal_mode is stored in the database file; setting it once on the writer is enough
+                statement.execute("PRAGMA journal_mode = WAL");
+            }
+            statement.execute("PRAGMA synchronous = " + normalizeSynchronous(synchronous));
+            statement.execute("PRAGMA cache_size = -" + Math.max(0, cacheSizeKb));
+            statement.execute("PRAGMA mmap_size = " + Math.max(0, mmapSizeBytes));
+            statement.execute("PRAGMA temp_store = MEMORY");
+            if (readOnly) {
+                statement.execute("PRAGMA query_only = 1");
+            }
+        }
+        return connection;
+    }
+
+    private static String normalizeSynchronous(String value) {
+        if (value != null) {
+            switch (value.trim().toUpperCase()) {
+                case "OFF":
+                case "NORMAL":
+                case "FULL":
+                case "EXTRA":
+                    return value.trim().toUpperCase();
+                default:
+                    break;
+            }
+        }
+        return "NORMAL";  // Durable across application crashes in WAL mode; only an OS crash can lose the last commits
+    }
+
+    /**
+     * A physical connection with its statement cache and lease count.
+     */
+    private final class PooledConnection implements InvocationHandler {
+        private final Connection physical;
+        private final boolean reader;
+        private final Connection proxy;
+        private final Map<String, CachedStatement> statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > STATEMENT_CACHE_SIZE && !eldest.getValue().inUse) {
+                    eldest.getValue().closePhysical();
+                    return true;
+                }
+                return false;
+            }
+        };
+        private final Set<Statement> openStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int leases;  // Only touched by the thread holding the connection
+
+        private PooledConnection(Connection physical, boolean reader) {
+            this.physical = physical;
+            this.reader = reader;
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        private Connection lease() {
+            leases++;
+            return proxy;
+        }
+
+        private void release() {
+            boolean last = --leases == 0;
+            if (last) {
+                reset();
+            }
+            if (!reader) {
+                writerLock.unlock();  // Taken once per lease, including nested ones
+            } else if (last) {
+                heldReader.remove();
+                idleReaders.offer(this);
+            }
+        }
+
+        private void reset() {
+            for (Statement statement : new ArrayList<>(openStatements)) {
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+                    // Already unusable; nothing left to release
+                }
+            }
+            openStatements.clear();
+            for (CachedStatement cached : statements.values()) {
+                if (cached.inUse) {
+                    try {
+                        cached.reset();
+                    } catch (SQLException e) {
+                        Logger.warn("SQLiteConnectionPool: Failed to reset statement for {} - {}", url, e.getMessage());
+                    }
+                }
+            }
+            try {
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                Logger.warn("SQLiteConnectionPool: Failed to reset connection for {} - {}", url, e.getMessage());
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (leases > 0) {
+                        release();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "prepareStatement":
+                    if (args != null && args.length == 1) {
+                        return prepare((String) args[0]);
+                    }
+                    break;
+                case "createStatement":
+                    Statement statement = (Statement) forward(method, args);
+                    openStatements.add(statement);
+                    return statement;
+                default:
+                    break;
+            }
+            return forward(method, args);
+        }
+
+        private Object forward(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            CachedStatement cached = statements.get(sql);
+            if (cached == null || cached.inUse) {
+                PreparedStatement statement = physical.prepareStatement(sql);
+                if (cached != null) {
+                    // Same SQL already open on this connection (nested use); hand out an uncached copy
+                    openStatements.add(statement);
+                    return statement;
+                }
+                cached = new CachedStatement(statement);
+                statements.put(sql, cached);
+            }
+            cached.inUse = true;
+            return cached.proxy;
+        }
+
+        private void closePhysical() {
+            for (Iterator<CachedStatement> iterator = statements.values().iterator(); iterator.hasNext(); ) {
+                iterator.next().closePhysical();
+                iterator.remove();
+            }
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                Logger.error("SQLiteConnectionPool: Error closing connection for {} - {}", url, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A prepared statement kept open between leases. Closing the proxy closes any open result
+     * set and clears parameters and batch instead of closing the statement.
+     */
+    private static final class CachedStatement implements InvocationHandler {
+        private final PreparedStatement physical;
+        private final PreparedStatement proxy;
+        private ResultSet openResultSet;
+        private boolean inUse;
+
+        private CachedStatement(PreparedStatement physical) {
+            this.physical = physical;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName())) {
+                if (inUse) {
+                    reset();
+                }
+                return null;
+            }
+            if ("isClosed".equals(method.getName())) {
+                return !inUse;
+            }
+            Object result;
+            try {
+                result = method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                openResultSet = (ResultSet) result;
+            }
+            return result;
+        }
+
+        private void reset() throws SQLException {
+            inUse = false;
+            if (openResultSet != null) {
+                openResultSet.close();
+                openResultSet = null;
+            }
+            physical.clearParameters();
+            physical.clearBatch();
+        }
+
+        private void closePhysical() {
+            try {
+                physical.close();
+            } catch (SQLException ignored) {
+                // Closing the connection releases it anyway
+            }
+        }
+    }
+}
@@ -73,7 +73,7 @@ public class TriggerManager {
      * @return true if the trigger exists, false otherwise.
      */
     public static boolean doesTriggerExist(String triggerName) {
-        try (Connection connection = DatabaseConnectionManager.getConnection()) {
+        try (Connection connection = DatabaseConnectionManager.getReadConnection()) {
             DatabaseMetaData metaData = connection.getMetaData();
             try (ResultSet rs = metaData.getTables(null, null, triggerName, new String[]{"TRIGGER"})) {
                 boolean exists = rs.next();
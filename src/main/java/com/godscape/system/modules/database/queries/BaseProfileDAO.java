@@ -1,30 +1,40 @@
 package com.godscape.system.modules.database.queries;
 
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.interfaces.mark.Schemable;
 import com.godscape.system.modules.database.DatabaseConnectionManager;
-import com.godscape.system.utility.validation.MapStructure;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.utility.builders.FileSystemBuilder;
+import com.godscape.system.utility.validation.FieldAccessorTable;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
-import java.lang.reflect.Field;
 import java.sql.*;
 import java.util.*;
 import java.util.function.Supplier;
 
 public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
 
+    private static final int ID_CHUNK_SIZE = 500;  // Stays below SQLite's bound parameter limit
+    private static final String SETTINGS_COLUMN = "settingsMap";
+    private static final String LAST_UPDATED_COLUMN = "lastUpdated";
+
     protected final Gson gson = new GsonBuilder().setPrettyPrinting().create();
     protected final Supplier<S> schemaSupplier;
     protected final Supplier<Map<String, String>> columnDefinitionsSupplier;
     private final FileSystemBuilder fileSystemBuilder;
+    private volatile ProfileSettingsDAO settingsDAO;  // Null when settings are kept in the JSON column
 
     protected BaseProfileDAO(Supplier<S> schemaSupplier, Supplier<Map<String, String>> columnDefinitionsSupplier) {
         this.schemaSupplier = schemaSupplier;
         this.columnDefinitionsSupplier = columnDefinitionsSupplier;
         this.fileSystemBuilder = DependencyFactory.getInstance().getInjection(FileSystemBuilder.class);
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        boolean normalized = config.getBoolean(ConfigKeys.NORMALIZED_PROFILE_SETTINGS, false)
+                && columnDefinitionsSupplier.get().containsKey(SETTINGS_COLUMN);
+        this.settingsDAO = normalized ? new ProfileSettingsDAO() : null;
     }
 
     public void initializeSchema(Connection connection) {
@@ -41,37 +51,90 @@ public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
 
         try (Statement stmt = connection.createStatement()) {
             stmt.executeUpdate(createTableSQL.toString());
+            addMissingColumns(connection, tableName, columns);
+            if (columns.containsKey(LAST_UPDATED_COLUMN)) {
+                // Serves the watermark queries of profile sync and the most-recent warm-up query
+                stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_" + tableName + "_lastupdated ON " + tableName + " (" + LAST_UPDATED_COLUMN + ");");
+            }
+            if (settingsDAO == null && columns.containsKey(SETTINGS_COLUMN) && ProfileSettingsDAO.isMigrated(connection, tableName)) {
+                // The JSON column stopped being written at migration, so reading it again would lose later changes
+                Logger.warn("BaseProfileDAO: Settings of '{}' were migrated to '{}'; keeping normalized settings on.",
+                        tableName, ProfileSettingsDAO.TABLE_NAME);
+                settingsDAO = new ProfileSettingsDAO();
+            }
+            if (settingsDAO != null) {
+                settingsDAO.initializeSchema(connection);
+                settingsDAO.migrateFromJsonColumn(connection, tableName, SETTINGS_COLUMN);
+            }
             Logger.info("BaseProfileDAO: Initialized table '{}'.", tableName);
         } catch (SQLException e) {
             Logger.error("BaseProfileDAO: Failed to create table '{}' - {}", tableName, e.getMessage());
         }
     }
 
+    // Tables created by older versions can lack columns added to the schema since
+    private void addMissingColumns(Connection connection, String tableName, Map<String, String> columns) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + tableName + ")")) {
+            while (rs.next()) {
+                existing.add(rs.getString("name").toLowerCase());
+            }
+        }
+        for (Map.Entry<String, String> column : columns.entrySet()) {
+            if (!existing.contains(column.getKey().toLowerCase())) {
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.executeUpdate("ALTER TABLE " + tableName + " ADD COLUMN " + column.getKey() + " " + column.getValue());
+                    Logger.info("BaseProfileDAO: Added column '{}' to table '{}'.", column.getKey(), tableName);
+                }
+            }
+        }
+    }
+
     public void updateProfilesInDatabase(List<T> profiles) {
         if (profiles == null || profiles.isEmpty()) {
             Logger.info("BaseProfileDAO: No profiles to update in the database.");
             return;
         }
 
-        Set<String> fieldNames = collectFieldNames(profiles);
-        String upsertQuery = generateDynamicUpsertQuery(fieldNames);
+        try {
+            upsertProfiles(profiles);
+            Logger.info("BaseProfileDAO: Successfully updated profiles in the database for table '{}'.", schemaSupplier.get().name().toLowerCase());
+        } catch (SQLException e) {
+            Logger.error("BaseProfileDAO: Error updating profiles in the database for table '{}': {}", schemaSupplier.get().name().toLowerCase(), e.getMessage());
+        }
+    }
+
+    /**
+     * Inserts or updates the given profiles in one transaction. Unlike
+     * {@link #updateProfilesInDatabase(List)} failures are thrown, so callers such as the
+     * profile map store can retry.
+     */
+    public void upsertProfiles(Collection<T> profiles) throws SQLException {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        ProfileRowMapper<T> mapper = rowMapper((Class<T>) profiles.iterator().next().getClass());
 
         try (Connection conn = DatabaseConnectionManager.getConnection()) {
             conn.setAutoCommit(false);
-            try (PreparedStatement upsertStmt = conn.prepareStatement(upsertQuery)) {
+            try (PreparedStatement upsertStmt = conn.prepareStatement(mapper.getUpsertSql())) {
                 for (T profile : profiles) {
-                    prepareStatementForUpsert(upsertStmt, profile, fieldNames);
+                    mapper.bindUpsert(upsertStmt, profile);
                     upsertStmt.addBatch();
                 }
                 upsertStmt.executeBatch();
+                ProfileSettingsDAO.SettingsWrite settingsWrite = settingsDAO != null
+                        ? settingsDAO.saveSettings(conn, settingsOf(mapper, profiles)) : null;
                 conn.commit();
-                Logger.info("BaseProfileDAO: Successfully updated profiles in the database for table '{}'.", schemaSupplier.get().name().toLowerCase());
+                if (settingsWrite != null) {
+                    settingsWrite.committed();
+                }
             } catch (SQLException e) {
                 conn.rollback();
-                Logger.error("BaseProfileDAO: Error executing upsert for table '{}'. Rolling back transaction.", schemaSupplier.get().name().toLowerCase(), e);
+                throw e;
             }
-        } catch (SQLException e) {
-            Logger.error("BaseProfileDAO: Error updating profiles in the database for table '{}': {}", schemaSupplier.get().name().toLowerCase(), e.getMessage());
         }
     }
 
@@ -79,14 +142,16 @@ public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
         List<T> profiles = new ArrayList<>();
         String query = "SELECT * FROM " + schemaSupplier.get().name().toLowerCase();
 
-        try (Connection conn = DatabaseConnectionManager.getConnection();
+        try (Connection conn = DatabaseConnectionManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query);
              ResultSet rs = stmt.executeQuery()) {
 
+            ProfileRowMapper<T>.RowReader reader = rowMapper(schemaClass).reader(rs);
             while (rs.next()) {
-                T profile = schemaClass.getDeclaredConstructor().newInstance();
-                populateProfileFromResultSet(rs, profile);
-                profiles.add(profile);
+                profiles.add(reader.read(rs));
+            }
+            if (settingsDAO != null) {
+                attachSettings(schemaClass, profiles, settingsDAO.loadAllSettings(conn));
             }
             Logger.info("BaseProfileDAO: Loaded {} profiles from '{}' table.", profiles.size(), schemaSupplier.get().name().toLowerCase());
         } catch (Exception e) {
@@ -102,6 +167,9 @@ public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
         try (Connection conn = DatabaseConnectionManager.getConnection();
              PreparedStatement deleteStmt = conn.prepareStatement(deleteQuery)) {
 
+            if (settingsDAO != null) {
+                settingsDAO.deleteSettings(conn, Collections.singleton(profileId));
+            }
             deleteStmt.setString(1, profileId.toString());
             int rowsAffected = deleteStmt.executeUpdate();
 
@@ -119,7 +187,7 @@ public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
         String tableName = schemaSupplier.get().name().toLowerCase();
         String query = "SELECT 1 FROM " + tableName + " WHERE profileId = ?";
 
-        try (Connection conn = DatabaseConnectionManager.getConnection();
+        try (Connection conn = DatabaseConnectionManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, profileId.toString());
@@ -136,14 +204,17 @@ public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
         String tableName = schemaSupplier.get().name().toLowerCase();
         String query = "SELECT * FROM " + tableName + " WHERE profileId = ?";
 
-        try (Connection conn = DatabaseConnectionManager.getConnection();
+        try (Connection conn = DatabaseConnectionManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, profileId.toString());
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    T profile = schemaClass.getDeclaredConstructor().newInstance();
-                    populateProfileFromResultSet(rs, profile);
+                    T profile = rowMapper(schemaClass).reader(rs).read(rs);
+                    if (settingsDAO != null) {
+                        attachSettings(schemaClass, Collections.singletonList(profile),
+                                settingsDAO.loadSettings(conn, Collections.singleton(profileId)));
+                    }
                     Logger.info("BaseProfileDAO: Retrieved profile '{}' from '{}'.", profileId, tableName);
                     return profile;
                 }
@@ -154,98 +225,192 @@ public abstract class BaseProfileDAO<T, S extends Enum<S> & Schemable> {
         return null;
     }
 
-    private Set<String> collectFieldNames(List<T> profiles) {
-        Set<String> fieldNames = new LinkedHashSet<>();
-        for (T profile : profiles) {
-            fieldNames.addAll(MapStructure.extractFields(profile, false).keySet());
+    /**
+     * Loads the given profiles, keyed by ID. IDs without a row are left out.
+     */
+    public Map<UUID, T> getProfilesByIds(Collection<UUID> profileIds, Class<T> schemaClass) throws SQLException {
+        Map<UUID, T> profiles = new HashMap<>();
+        if (profileIds.isEmpty()) {
+            return profiles;
         }
-        return fieldNames;
+        String tableName = schemaSupplier.get().name().toLowerCase();
+        List<UUID> ids = new ArrayList<>(profileIds);
+        ProfileRowMapper<T> mapper = rowMapper(schemaClass);
+
+        try (Connection conn = DatabaseConnectionManager.getReadConnection()) {
+            for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + ID_CHUNK_SIZE));
+                String query = "SELECT * FROM " + tableName + " WHERE profileId IN (" + placeholders(chunk.size()) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setString(i + 1, chunk.get(i).toString());
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        ProfileRowMapper<T>.RowReader reader = mapper.reader(rs);
+                        while (rs.next()) {
+                            profiles.put(UUID.fromString(rs.getString("profileId")), reader.read(rs));
+                        }
+                    }
+                }
+            }
+            if (settingsDAO != null && !profiles.isEmpty()) {
+                attachSettings(schemaClass, profiles.values(), settingsDAO.loadSettings(conn, profiles.keySet()));
+            }
+        }
+        return profiles;
     }
 
-    private String generateDynamicUpsertQuery(Set<String> fieldNames) {
-        String tableName = schemaSupplier.get().name().toLowerCase();
-        StringBuilder query = new StringBuilder("INSERT INTO ")
-                .append(tableName)
-                .append(" (profileId");
+    /**
+     * Returns the {@code lastUpdated} of every profile updated after the given time, keyed by ID,
+     * without loading the profiles.
+     */
+    public Map<UUID, Long> loadProfileVersionsSince(long since) throws SQLException {
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        String query = "SELECT profileId, " + LAST_UPDATED_COLUMN + " FROM " + schemaSupplier.get().name().toLowerCase()
+                + " WHERE " + LAST_UPDATED_COLUMN + " > ? ORDER BY " + LAST_UPDATED_COLUMN;
+        try (Connection conn = DatabaseConnectionManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setLong(1, since);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String id = rs.getString(1);
+                    if (id != null) {
+                        versions.put(UUID.fromString(id), rs.getLong(2));
+                    }
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the IDs of every stored profile.
+     */
+    public Set<UUID> loadProfileIds() throws SQLException {
+        return queryProfileIds("SELECT profileId FROM " + schemaSupplier.get().name().toLowerCase(), -1);
+    }
 
-        for (String fieldName : fieldNames) {
-            if (!fieldName.equals("profileId")) {
-                query.append(", ").append(fieldName);
+    /**
+     * Returns the name of every stored profile, keyed by ID, without loading the profiles.
+     */
+    public Map<UUID, String> loadProfileNames() throws SQLException {
+        Map<UUID, String> names = new HashMap<>();
+        String query = "SELECT profileId, profileName FROM " + schemaSupplier.get().name().toLowerCase();
+        try (Connection conn = DatabaseConnectionManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String id = rs.getString(1);
+                if (id != null) {
+                    names.put(UUID.fromString(id), rs.getString(2));
+                }
             }
         }
-        query.append(") VALUES (?");
+        return names;
+    }
 
-        for (int i = 1; i < fieldNames.size(); i++) {
-            query.append(", ?");
+    /**
+     * Returns the IDs of the most recently updated profiles, newest first.
+     */
+    public Set<UUID> loadRecentProfileIds(int limit) throws SQLException {
+        return queryProfileIds("SELECT profileId FROM " + schemaSupplier.get().name().toLowerCase()
+                + " ORDER BY " + LAST_UPDATED_COLUMN + " DESC LIMIT ?", limit);
+    }
+
+    private Set<UUID> queryProfileIds(String query, int limit) throws SQLException {
+        Set<UUID> ids = new LinkedHashSet<>();
+        try (Connection conn = DatabaseConnectionManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            if (limit >= 0) {
+                stmt.setInt(1, limit);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String id = rs.getString(1);
+                    if (id != null) {
+                        ids.add(UUID.fromString(id));
+                    }
+                }
+            }
         }
-        query.append(") ON CONFLICT(profileId) DO UPDATE SET ");
+        return ids;
+    }
 
-        Iterator<String> iterator = fieldNames.iterator();
-        while (iterator.hasNext()) {
-            String fieldName = iterator.next();
-            if (!fieldName.equals("profileId")) {
-                query.append(fieldName).append("=excluded.").append(fieldName);
-                if (iterator.hasNext()) {
-                    query.append(", ");
+    /**
+     * Deletes the given profiles in one transaction, throwing on failure.
+     */
+    public void deleteProfiles(Collection<UUID> profileIds) throws SQLException {
+        if (profileIds.isEmpty()) {
+            return;
+        }
+        String deleteQuery = "DELETE FROM " + schemaSupplier.get().name().toLowerCase() + " WHERE profileId = ?";
+        try (Connection conn = DatabaseConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement deleteStmt = conn.prepareStatement(deleteQuery)) {
+                if (settingsDAO != null) {
+                    settingsDAO.deleteSettings(conn, profileIds);
                 }
+                for (UUID profileId : profileIds) {
+                    deleteStmt.setString(1, profileId.toString());
+                    deleteStmt.addBatch();
+                }
+                deleteStmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
             }
         }
-        query.append(";");
+    }
 
-        return query.toString();
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ", ?");
+        }
+        return builder.toString();
     }
 
-    private void prepareStatementForUpsert(PreparedStatement stmt, T profile, Set<String> fieldNames) throws SQLException {
-        int index = 1;
-        Map<String, Object> fields = MapStructure.extractFields(profile, false);
+    // Only fields with a column in the schema's column definitions are persisted; with normalized
+    // settings the settings column is left out and kept in the settings table instead
+    protected ProfileRowMapper<T> rowMapper(Class<T> schemaClass) {
+        Set<String> columns = new LinkedHashSet<>(columnDefinitionsSupplier.get().keySet());
+        if (settingsDAO != null) {
+            columns.remove(SETTINGS_COLUMN);
+        }
+        return ProfileRowMapper.forSchema(schemaClass, schemaSupplier.get().name().toLowerCase(), columns);
+    }
 
-        Object profileId = fields.get("profileId");
-        stmt.setObject(index++, profileId != null ? profileId.toString() : null);
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Map<String, ?>> settingsOf(ProfileRowMapper<T> mapper, Collection<T> profiles) {
+        FieldAccessorTable.FieldAccessor accessor = FieldAccessorTable.of(mapper.getType()).find(SETTINGS_COLUMN);
+        Map<UUID, Map<String, ?>> settings = new LinkedHashMap<>();
+        for (T profile : profiles) {
+            Object value = accessor != null ? accessor.get(profile) : null;
+            settings.put(mapper.getId(profile), value instanceof Map ? (Map<String, ?>) value : Collections.emptyMap());
+        }
+        return settings;
+    }
 
-        for (String fieldName : fieldNames) {
-            if (fieldName.equals("profileId")) {
+    // Fills the profiles' existing settings map where there is one, so schemas keep their map type
+    @SuppressWarnings("unchecked")
+    private void attachSettings(Class<T> schemaClass, Collection<T> profiles, Map<UUID, Map<String, Object>> settings) {
+        ProfileRowMapper<T> mapper = rowMapper(schemaClass);
+        FieldAccessorTable.FieldAccessor accessor = FieldAccessorTable.of(schemaClass).find(SETTINGS_COLUMN);
+        if (accessor == null) {
+            return;
+        }
+        for (T profile : profiles) {
+            Map<String, Object> profileSettings = settings.get(mapper.getId(profile));
+            if (profileSettings == null) {
                 continue;
             }
-            Object value = fields.getOrDefault(fieldName, null);
-            if (value instanceof Boolean) {
-                value = (Boolean) value ? 1 : 0;
-            } else if (value instanceof Map || value instanceof List) {
-                value = gson.toJson(value);
-            } else if (value instanceof Enum) {
-                value = value.toString();
-            }
-            stmt.setObject(index++, value);
-        }
-    }
-
-    private void populateProfileFromResultSet(ResultSet rs, T profile) throws SQLException {
-        Map<String, Object> fields = MapStructure.extractFields(profile, false);
-        for (String fieldName : fields.keySet()) {
-            try {
-                Field field = profile.getClass().getDeclaredField(fieldName);
-                field.setAccessible(true);
-                Object value = rs.getObject(fieldName);
-
-                if (value != null) {
-                    if (field.getType() == Boolean.class || field.getType() == boolean.class) {
-                        field.set(profile, ((Integer) value) != 0);
-                    } else if (field.getType() == Map.class || field.getType() == List.class) {
-                        String json = rs.getString(fieldName);
-                        if (json != null) {
-                            field.set(profile, gson.fromJson(json, field.getType()));
-                        }
-                    } else if (Enum.class.isAssignableFrom(field.getType())) {
-                        @SuppressWarnings("unchecked")
-                        Class<? extends Enum> enumType = (Class<? extends Enum>) field.getType();
-                        field.set(profile, Enum.valueOf(enumType, value.toString()));
-                    } else if (field.getType() == UUID.class) {
-                        field.set(profile, UUID.fromString(value.toString()));
-                    } else {
-                        field.set(profile, value);
-                    }
-                }
-            } catch (NoSuchFieldException | IllegalAccessException | IllegalArgumentException e) {
-                Logger.warn("BaseProfileDAO: Unable to set field '{}' in profile: {}", fieldName, e.getMessage());
+            Object existing = accessor.get(profile);
+            if (existing instanceof Map) {
+                ((Map<String, Object>) existing).clear();
+                ((Map<String, Object>) existing).putAll(profileSettings);
+            } else {
+                accessor.set(profile, profileSettings);
             }
         }
     }
@@ -73,6 +73,7 @@ public class BaseThemeDAO {
                 + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?);";
 
         try (PreparedStatement insertStmt = connection.prepareStatement(insertSQL)) {
+            connection.setAutoCommit(false);
             insertTheme(insertStmt, Themes.LIGHT, "Medium", true, true, true, true, true, true, true);
             insertTheme(insertStmt, Themes.CELESTIAL, "Low", true, true, true, true, true, true, false);
             insertStmt.executeBatch();
@@ -143,7 +144,7 @@ public class BaseThemeDAO {
         List<ThemeSchema> themes = new ArrayList<>();
         String fetchSQL = "SELECT * FROM " + TABLE_NAME;
 
-        try (Connection connection = DatabaseConnectionManager.getConnection();
+        try (Connection connection = DatabaseConnectionManager.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(fetchSQL);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -163,7 +164,7 @@ public class BaseThemeDAO {
     public ThemeSchema fetchActiveTheme() {
         String fetchSQL = "SELECT * FROM " + TABLE_NAME + " WHERE is_active = 1 LIMIT 1";
 
-        try (Connection connection = DatabaseConnectionManager.getConnection();
+        try (Connection connection = DatabaseConnectionManager.getReadConnection();
              PreparedStatement stmt = connection.prepareStatement(fetchSQL);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -0,0 +1,391 @@
+package com.godscape.system.modules.database.queries;
+
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.validation.FieldAccessorTable;
+import com.godscape.system.utility.validation.FieldAccessorTable.FieldAccessor;
+import com.google.gson.Gson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps a profile schema class to and from rows of its table, worked out once per class, table and
+ * column set.
+ * <p>
+ * The persisted fields are the mutable instance fields that have a column in the schema's column
+ * definitions, plus {@code profileId}. Each is paired with a {@link FieldAccessorTable} accessor and
+ * a converter chosen from the field's declared type, so binding and reading a row is a fixed loop
+ * over pre-resolved columns: booleans are stored as 1/0, maps and lists as JSON, enums and UUIDs as
+ * strings. The upsert statement is generated once here as well.
+ *
+ * @param <T> The profile schema type.
+ */
+public final class ProfileRowMapper<T> {
+
+    public static final String ID_COLUMN = "profileId";
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Gson GSON = new Gson();
+
+    private static final ClassValue<ConcurrentMap<String, ProfileRowMapper<?>>> MAPPERS =
+            new ClassValue<ConcurrentMap<String, ProfileRowMapper<?>>>() {
+                @Override
+                protected ConcurrentMap<String, ProfileRowMapper<?>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final Class<T> type;
+    private final String tableName;
+    private final Column[] columns;  // columns[0] is always the ID
+    private final MethodHandle constructor;
+    private final String upsertSql;
+
+    private ProfileRowMapper(Class<T> type, String tableName, Collection<String> columnNames) {
+        this.type = type;
+        this.tableName = tableName;
+
+        Set<String> persisted = new HashSet<>();
+        columnNames.forEach(column -> persisted.add(column.toLowerCase()));
+
+        FieldAccessorTable table = FieldAccessorTable.of(type);
+        FieldAccessor id = table.find(ID_COLUMN);
+        if (id == null || !id.isMutableInstanceField()) {
+            throw new IllegalArgumentException(type.getName() + " has no writable " + ID_COLUMN + " field");
+        }
+        List<Column> columns = new ArrayList<>();
+        columns.add(new Column(ID_COLUMN, id));
+        for (FieldAccessor accessor : table.getAccessors()) {
+            if (accessor != id && accessor.isMutableInstanceField() && persisted.contains(accessor.getLowerCaseName())) {
+                columns.add(new Column(accessor.getName(), accessor));
+            }
+        }
+        this.columns = columns.toArray(new Column[0]);
+        this.constructor = findConstructor(type);
+        this.upsertSql = buildUpsertSql();
+    }
+
+    /**
+     * Returns the mapper for a schema class, table and set of persisted columns, creating it on first
+     * use. The same table can be mapped with different columns, e.g. with and without its settings
+     * column once settings are normalized, so each column set gets its own mapper.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ProfileRowMapper<T> forSchema(Class<T> type, String tableName, Collection<String> columnNames) {
+        return (ProfileRowMapper<T>) MAPPERS.get(type)
+                .computeIfAbsent(cacheKey(tableName, columnNames), key -> new ProfileRowMapper<>(type, tableName, columnNames));
+    }
+
+    // Column names are matched case-insensitively and their order does not matter
+    private static String cacheKey(String tableName, Collection<String> columnNames) {
+        Set<String> sorted = new TreeSet<>();
+        columnNames.forEach(column -> sorted.add(column.toLowerCase()));
+        return tableName + ':' + String.join(",", sorted);
+    }
+
+    private static MethodHandle findConstructor(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String buildUpsertSql() {
+        StringBuilder query = new StringBuilder("INSERT INTO ").append(tableName).append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            query.append(i == 0 ? "" : ", ").append(columns[i].name);
+        }
+        query.append(") VALUES (");
+        for (int i = 0; i < columns.length; i++) {
+            query.append(i == 0 ? "?" : ", ?");
+        }
+        query.append(")");
+
+        if (columns.length == 1) {
+            return query.append(" ON CONFLICT(").append(ID_COLUMN).append(") DO NOTHING;").toString();
+        }
+        query.append(" ON CONFLICT(").append(ID_COLUMN).append(") DO UPDATE SET ");
+        for (int i = 1; i < columns.length; i++) {
+            query.append(i == 1 ? "" : ", ").append(columns[i].name).append("=excluded.").append(columns[i].name);
+        }
+        return query.append(";").toString();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String getUpsertSql() {
+        return upsertSql;
+    }
+
+    public UUID getId(T profile) {
+        Object id = columns[0].accessor.get(profile);
+        return id instanceof UUID ? (UUID) id : id != null ? UUID.fromString(id.toString()) : null;
+    }
+
+    /**
+     * Binds a profile to a statement prepared from {@link #getUpsertSql()}.
+     */
+    public void bindUpsert(PreparedStatement stmt, T profile) throws SQLException {
+        for (int i = 0; i < columns.length; i++) {
+            Column column = columns[i];
+            stmt.setObject(i + 1, column.converter.toColumn(column.accessor.get(profile)));
+        }
+    }
+
+    /**
+     * Returns a reader for the rows of a result set, matching its columns to fields once.
+     */
+    public RowReader reader(ResultSet rs) throws SQLException {
+        Map<String, Integer> indexes = new HashMap<>();
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            indexes.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(), i);
+        }
+        int[] columnIndexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnIndexes[i] = indexes.getOrDefault(columns[i].accessor.getLowerCaseName(), 0);
+        }
+        return new RowReader(columnIndexes);
+    }
+
+    private T newInstance() throws SQLException {
+        if (constructor == null) {
+            throw new SQLException("Cannot instantiate " + type.getSimpleName() + ": no accessible no-argument constructor");
+        }
+        try {
+            return type.cast((Object) constructor.invokeExact());
+        } catch (Throwable t) {
+            throw new SQLException("Cannot instantiate " + type.getSimpleName(), t);
+        }
+    }
+
+    /**
+     * Reads profiles from the current row of the result set it was created for.
+     */
+    public final class RowReader {
+        private final int[] columnIndexes;
+
+        private RowReader(int[] columnIndexes) {
+            this.columnIndexes = columnIndexes;
+        }
+
+        public T read(ResultSet rs) throws SQLException {
+            T profile = newInstance();
+            for (int i = 0; i < columns.length; i++) {
+                int index = columnIndexes[i];
+                if (index == 0) {
+                    continue;
+                }
+                Column column = columns[i];
+                try {
+                    Object value = column.converter.fromColumn(rs, index);
+                    if (value != null) {
+                        column.accessor.set(profile, value);
+                    }
+                } catch (RuntimeException e) {
+                    Logger.warn("ProfileRowMapper: Unable to set field '{}' in profile: {}", column.name, e.getMessage());
+                }
+            }
+            return profile;
+        }
+    }
+
+    private static final class Column {
+        private final String name;
+        private final FieldAccessor accessor;
+        private final ColumnConverter converter;
+
+        private Column(String name, FieldAccessor accessor) {
+            this.name = name;
+            this.accessor = accessor;
+            this.converter = converterFor(accessor.getFieldType());
+        }
+    }
+
+    /**
+     * Converts between a field value and the value stored in its column. Reads return null for
+     * SQL NULL, which leaves the field at its default.
+     */
+    private interface ColumnConverter {
+        Object toColumn(Object value);
+
+        Object fromColumn(ResultSet rs, int index) throws SQLException;
+    }
+
+    private static final ColumnConverter BOOLEAN = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value == null ? null : (Boolean) value ? 1 : 0;
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            Object value = rs.getObject(index);
+            if (value instanceof Number) {
+                return ((Number) value).intValue() != 0;
+            }
+            return value == null ? null : Boolean.valueOf(value.toString());
+        }
+    };
+
+    private static final ColumnConverter LONG = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value;
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            long value = rs.getLong(index);
+            return rs.wasNull() ? null : value;
+        }
+    };
+
+    private static final ColumnConverter INTEGER = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value;
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            int value = rs.getInt(index);
+            return rs.wasNull() ? null : value;
+        }
+    };
+
+    private static final ColumnConverter DOUBLE = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value;
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            double value = rs.getDouble(index);
+            return rs.wasNull() ? null : value;
+        }
+    };
+
+    private static final ColumnConverter STRING = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value;
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            return rs.getString(index);
+        }
+    };
+
+    private static final ColumnConverter UUID_STRING = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value == null ? null : value.toString();
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            String value = rs.getString(index);
+            return value == null ? null : UUID.fromString(value);
+        }
+    };
+
+    private static final ColumnConverter PLAIN = new ColumnConverter() {
+        @Override
+        public Object toColumn(Object value) {
+            return value;
+        }
+
+        @Override
+        public Object fromColumn(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index);
+        }
+    };
+
+    private static ColumnConverter converterFor(Class<?> fieldType) {
+        if (fieldType == boolean.class || fieldType == Boolean.class) {
+            return BOOLEAN;
+        } else if (fieldType == long.class || fieldType == Long.class) {
+            return LONG;
+        } else if (fieldType == int.class || fieldType == Integer.class) {
+            return INTEGER;
+        } else if (fieldType == double.class || fieldType == Double.class) {
+            return DOUBLE;
+        } else if (fieldType == String.class) {
+            return STRING;
+        } else if (fieldType == UUID.class) {
+            return UUID_STRING;
+        } else if (fieldType.isEnum()) {
+            return enumConverter(fieldType);
+        } else if (Map.class.isAssignableFrom(fieldType)) {
+            return jsonConverter(isConcrete(fieldType) ? fieldType : LinkedHashMap.class);
+        } else if (List.class.isAssignableFrom(fieldType)) {
+            return jsonConverter(isConcrete(fieldType) ? fieldType : ArrayList.class);
+        }
+        return PLAIN;
+    }
+
+    private static boolean isConcrete(Class<?> type) {
+        return !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ColumnConverter enumConverter(Class<?> enumType) {
+        return new ColumnConverter() {
+            @Override
+            public Object toColumn(Object value) {
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public Object fromColumn(ResultSet rs, int index) throws SQLException {
+                String value = rs.getString(index);
+                return value == null ? null : Enum.valueOf((Class<? extends Enum>) enumType, value);
+            }
+        };
+    }
+
+    private static ColumnConverter jsonConverter(Class<?> targetType) {
+        return new ColumnConverter() {
+            @Override
+            public Object toColumn(Object value) {
+                return value == null ? null : GSON.toJson(value);
+            }
+
+            @Override
+            public Object fromColumn(ResultSet rs, int index) throws SQLException {
+                String json = rs.getString(index);
+                return json == null ? null : GSON.fromJson(json, targetType);
+            }
+        };
+    }
+}
@@ -0,0 +1,395 @@
+package com.godscape.system.modules.database.queries;
+
+import com.godscape.system.utility.Logger;
+import com.google.gson.Gson;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stores profile settings one row per key in {@code profile_settings(profileId, key, type, value)}
+ * instead of one JSON document per profile.
+ * <p>
+ * The table is {@code WITHOUT ROWID} with {@code (profileId, key)} as its primary key, so the rows
+ * are clustered by profile and the primary key index covers every column: loading a profile's
+ * settings is a single range scan with no lookups back into a rowid table.
+ * <p>
+ * The DAO remembers the value of every key it last wrote or read for the most recently used
+ * profiles. A save compares the profile's settings with that and only upserts keys whose value
+ * changed and deletes keys that were removed, so changing one setting on a profile with thousands of
+ * them writes one row. Scalar values are remembered as they are and compared with {@code equals};
+ * only collections and other objects are encoded to JSON for the comparison. Profiles the DAO has not
+ * seen yet, or has forgotten, are written in full. The remembered state is only updated once the
+ * caller's transaction commits ({@link SettingsWrite#committed()}).
+ * <p>
+ * Migrating a table from its JSON column is one way: once a table is recorded as migrated its
+ * settings are read from this table even if normalized settings are turned off again, and the JSON
+ * column is left as it was at migration time rather than cleared.
+ */
+public class ProfileSettingsDAO {
+
+    public static final String TABLE_NAME = "profile_settings";
+    private static final String MIGRATIONS_TABLE = "profile_settings_migrations";
+    private static final int ID_CHUNK_SIZE = 500;  // Stays below SQLite's bound parameter limit
+
+    private static final String UPSERT = "INSERT INTO " + TABLE_NAME + " (profileId, key, type, value) VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT(profileId, key) DO UPDATE SET type=excluded.type, value=excluded.value;";
+    private static final String DELETE_KEY = "DELETE FROM " + TABLE_NAME + " WHERE profileId = ? AND key = ?";
+    private static final String DELETE_PROFILE = "DELETE FROM " + TABLE_NAME + " WHERE profileId = ?";
+
+    // Value type tags stored in the type column
+    private static final String TYPE_STRING = "s";
+    private static final String TYPE_BOOLEAN = "b";
+    private static final String TYPE_INT = "i";
+    private static final String TYPE_LONG = "l";
+    private static final String TYPE_DOUBLE = "d";
+    private static final String TYPE_JSON = "j";
+
+    private static final int MAX_TRACKED_PROFILES = 512;
+
+    // profileId -> key -> scalar value or JsonValue, as last persisted, least recently used profile
+    // first. Shared by every instance so DAOs created in different places never skip a write based on
+    // an outdated view of the table
+    private static final Map<UUID, Map<String, Object>> PERSISTED = Collections.synchronizedMap(
+            new LinkedHashMap<UUID, Map<String, Object>>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Map<String, Object>> eldest) {
+                    return size() > MAX_TRACKED_PROFILES;
+                }
+            });
+
+    private final Gson gson = new Gson();
+
+    public void initializeSchema(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (profileId TEXT NOT NULL, key TEXT NOT NULL, "
+                    + "type TEXT NOT NULL, value TEXT, PRIMARY KEY (profileId, key)) WITHOUT ROWID;");
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS " + MIGRATIONS_TABLE + " (tableName TEXT PRIMARY KEY, migratedAt INTEGER);");
+        }
+    }
+
+    /**
+     * Returns whether the settings of a profile table have been migrated into the settings table.
+     * A migrated table keeps using the settings table, whatever the configuration says.
+     */
+    public static boolean isMigrated(Connection connection, String profileTable) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS " + MIGRATIONS_TABLE + " (tableName TEXT PRIMARY KEY, migratedAt INTEGER);");
+        }
+        try (PreparedStatement check = connection.prepareStatement("SELECT 1 FROM " + MIGRATIONS_TABLE + " WHERE tableName = ?")) {
+            check.setString(1, profileTable);
+            try (ResultSet rs = check.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Copies settings stored as a JSON column of a profile table into the settings table. Runs once
+     * per table; later calls return 0 immediately. The column itself is not changed, so the settings
+     * as they were before the migration stay in the profile table.
+     *
+     * @return The number of profiles migrated.
+     */
+    public int migrateFromJsonColumn(Connection connection, String profileTable, String jsonColumn) throws SQLException {
+        if (isMigrated(connection, profileTable)) {
+            return 0;
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        int migrated = 0;
+        try (PreparedStatement select = connection.prepareStatement("SELECT profileId, " + jsonColumn + " FROM " + profileTable
+                + " WHERE " + jsonColumn + " IS NOT NULL");
+             PreparedStatement upsert = connection.prepareStatement(UPSERT)) {
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String profileId = rs.getString(1);
+                    Map<?, ?> settings = parseJson(rs.getString(2));
+                    if (profileId == null || settings == null) {
+                        continue;
+                    }
+                    for (Map.Entry<?, ?> entry : settings.entrySet()) {
+                        if (entry.getKey() != null && entry.getValue() != null) {
+                            String encoded = encode(entry.getValue());
+                            bindUpsert(upsert, profileId, entry.getKey().toString(), encoded);
+                            upsert.addBatch();
+                        }
+                    }
+                    migrated++;
+                }
+            }
+            upsert.executeBatch();
+            try (PreparedStatement mark = connection.prepareStatement("INSERT INTO " + MIGRATIONS_TABLE + " (tableName, migratedAt) VALUES (?, ?)")) {
+                mark.setString(1, profileTable);
+                mark.setLong(2, System.currentTimeMillis());
+                mark.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        Logger.info("ProfileSettingsDAO: Migrated settings of {} profiles from '{}.{}'.", migrated, profileTable, jsonColumn);
+        return migrated;
+    }
+
+    private Map<?, ?> parseJson(String json) {
+        try {
+            return json == null || json.isEmpty() ? null : gson.fromJson(json, LinkedHashMap.class);
+        } catch (RuntimeException e) {
+            Logger.warn("ProfileSettingsDAO: Skipping unreadable settings JSON: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the changes to the given profiles' settings on the caller's connection and
+     * transaction. Call {@link SettingsWrite#committed()} once the transaction commits.
+     */
+    public SettingsWrite saveSettings(Connection connection, Map<UUID, ? extends Map<String, ?>> settingsByProfile) throws SQLException {
+        SettingsWrite write = new SettingsWrite();
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT);
+             PreparedStatement deleteKey = connection.prepareStatement(DELETE_KEY);
+             PreparedStatement deleteProfile = connection.prepareStatement(DELETE_PROFILE)) {
+            for (Map.Entry<UUID, ? extends Map<String, ?>> profile : settingsByProfile.entrySet()) {
+                String profileId = profile.getKey().toString();
+                Map<String, Object> previous = PERSISTED.get(profile.getKey());
+                Map<String, ?> settings = profile.getValue();
+                Map<String, Object> current = new HashMap<>(settings == null ? 16 : settings.size() * 2);
+
+                if (previous == null) {
+                    // Not read or written by this DAO yet, or forgotten since, so the stored rows are unknown
+                    deleteProfile.setString(1, profileId);
+                    deleteProfile.addBatch();
+                }
+                if (settings != null) {
+                    for (Map.Entry<String, ?> entry : settings.entrySet()) {
+                        if (entry.getKey() == null || entry.getValue() == null) {
+                            continue;
+                        }
+                        Object state = toState(entry.getValue());
+                        current.put(entry.getKey(), state);
+                        if (previous == null || !state.equals(previous.get(entry.getKey()))) {
+                            bindUpsert(upsert, profileId, entry.getKey(), encodeState(state));
+                            upsert.addBatch();
+                            write.upserted++;
+                        }
+                    }
+                }
+                if (previous != null) {
+                    for (String key : previous.keySet()) {
+                        if (!current.containsKey(key)) {
+                            deleteKey.setString(1, profileId);
+                            deleteKey.setString(2, key);
+                            deleteKey.addBatch();
+                            write.deleted++;
+                        }
+                    }
+                }
+                write.staged.put(profile.getKey(), current);
+            }
+            deleteProfile.executeBatch();
+            deleteKey.executeBatch();
+            upsert.executeBatch();
+        }
+        return write;
+    }
+
+    /**
+     * Streams the settings of the given profiles out of the table. Profiles without settings rows
+     * are left out.
+     */
+    public Map<UUID, Map<String, Object>> loadSettings(Connection connection, Collection<UUID> profileIds) throws SQLException {
+        Map<UUID, Map<String, Object>> settings = new HashMap<>();
+        List<UUID> ids = new ArrayList<>(profileIds);
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + ID_CHUNK_SIZE));
+            StringBuilder query = new StringBuilder("SELECT profileId, key, type, value FROM ").append(TABLE_NAME)
+                    .append(" WHERE profileId IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                query.append(i == 0 ? "?" : ", ?");
+            }
+            query.append(")");
+            try (PreparedStatement stmt = connection.prepareStatement(query.toString())) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setString(i + 1, chunk.get(i).toString());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    readRows(rs, settings);
+                }
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * Streams the settings of every profile out of the table.
+     */
+    public Map<UUID, Map<String, Object>> loadAllSettings(Connection connection) throws SQLException {
+        Map<UUID, Map<String, Object>> settings = new HashMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT profileId, key, type, value FROM " + TABLE_NAME);
+             ResultSet rs = stmt.executeQuery()) {
+            readRows(rs, settings);
+        }
+        return settings;
+    }
+
+    private void readRows(ResultSet rs, Map<UUID, Map<String, Object>> settings) throws SQLException {
+        Map<UUID, Map<String, Object>> read = new HashMap<>();
+        String lastId = null;
+        UUID profileId = null;
+        Map<String, Object> profileSettings = null;
+        Map<String, Object> persistedSettings = null;
+        while (rs.next()) {
+            String id = rs.getString(1);
+            // Rows arrive clustered by profile, so the per-profile maps are looked up once per run
+            if (!id.equals(lastId)) {
+                lastId = id;
+                profileId = UUID.fromString(id);
+                profileSettings = settings.computeIfAbsent(profileId, key -> new LinkedHashMap<>());
+                persistedSettings = read.computeIfAbsent(profileId, key -> new HashMap<>());
+            }
+            String key = rs.getString(2);
+            String type = rs.getString(3);
+            String value = rs.getString(4);
+            try {
+                Object decoded = decode(type, value);
+                profileSettings.put(key, decoded);
+                persistedSettings.put(key, TYPE_JSON.equals(type) ? new JsonValue(value) : decoded);
+            } catch (RuntimeException e) {
+                Logger.warn("ProfileSettingsDAO: Skipping unreadable setting '{}' of profile '{}': {}", key, id, e.getMessage());
+            }
+        }
+        PERSISTED.putAll(read);
+    }
+
+    /**
+     * Deletes the settings rows of the given profiles on the caller's connection and transaction.
+     */
+    public void deleteSettings(Connection connection, Collection<UUID> profileIds) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(DELETE_PROFILE)) {
+            for (UUID profileId : profileIds) {
+                stmt.setString(1, profileId.toString());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        profileIds.forEach(PERSISTED::remove);
+    }
+
+    private static void bindUpsert(PreparedStatement stmt, String profileId, String key, String encoded) throws SQLException {
+        stmt.setString(1, profileId);
+        stmt.setString(2, key);
+        stmt.setString(3, encoded.substring(0, 1));
+        stmt.setString(4, encoded.substring(1));
+    }
+
+    // What is remembered of a value: scalars as they are, anything else (which may be changed in
+    // place) as its JSON
+    private Object toState(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Short
+                || value instanceof Byte || value instanceof Long || value instanceof Double || value instanceof Float) {
+            return value;
+        }
+        return new JsonValue(gson.toJson(value));
+    }
+
+    private String encodeState(Object state) {
+        return state instanceof JsonValue ? TYPE_JSON + ((JsonValue) state).json : encode(state);
+    }
+
+    // The type tag followed by the value text
+    private String encode(Object value) {
+        if (value instanceof String) {
+            return TYPE_STRING + value;
+        } else if (value instanceof Boolean) {
+            return TYPE_BOOLEAN + value;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return TYPE_INT + value;
+        } else if (value instanceof Long) {
+            return TYPE_LONG + value;
+        } else if (value instanceof Double || value instanceof Float) {
+            return TYPE_DOUBLE + value;
+        }
+        return TYPE_JSON + gson.toJson(value);
+    }
+
+    private Object decode(String type, String value) {
+        switch (type) {
+            case TYPE_STRING:
+                return value;
+            case TYPE_BOOLEAN:
+                return Boolean.valueOf(value);
+            case TYPE_INT:
+                return Integer.valueOf(value);
+            case TYPE_LONG:
+                return Long.valueOf(value);
+            case TYPE_DOUBLE:
+                return Double.valueOf(value);
+            case TYPE_JSON:
+                return gson.fromJson(value, Object.class);
+            default:
+                throw new IllegalArgumentException("Unknown setting type '" + type + "'");
+        }
+    }
+
+    private static final class JsonValue {
+        private final String json;
+
+        private JsonValue(String json) {
+            this.json = json;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof JsonValue && json.equals(((JsonValue) other).json);
+        }
+
+        @Override
+        public int hashCode() {
+            return json.hashCode();
+        }
+    }
+
+    /**
+     * The outcome of {@link #saveSettings(Connection, Map)}.
+     */
+    public final class SettingsWrite {
+        private final Map<UUID, Map<String, Object>> staged = new HashMap<>();
+        private int upserted;
+        private int deleted;
+
+        private SettingsWrite() {
+        }
+
+        /**
+         * Records the written settings as persisted. Only call after the transaction committed;
+         * if it rolled back, drop this object and the next save writes the same changes again.
+         */
+        public void committed() {
+            PERSISTED.putAll(staged);
+        }
+
+        public int getUpserted() {
+            return upserted;
+        }
+
+        public int getDeleted() {
+            return deleted;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.godscape.system.observers;
+
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.events.ProfileChangedEvent;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.managers.BaseObservationManager;
+import com.godscape.system.utility.Logger;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects profile cache entry events and hands them to {@link BaseObservationManager} once per frame.
+ * <p>
+ * A bulk preload or a restore fires an entry event for every profile. Instead of queueing an EDT
+ * runnable per event, changes are kept per cache entry and merged (an add followed by updates stays
+ * an add with the latest value, an add followed by a remove cancels out, a remove followed by an add
+ * becomes an update). Settings deltas of an entry are merged the same way. The first change of a
+ * frame schedules a flush one frame later, and that flush publishes everything collected so far as a
+ * single batch on the event dispatch thread, followed by one settings notification per changed entry.
+ */
+@Singleton
+public class ProfileChangeCoalescer {
+
+    private static final long DEFAULT_FRAME_MS = 16;
+
+    private final Map<PendingKey, ProfileChangedEvent<?>> pending = new LinkedHashMap<>();  // Guarded by this
+    private final Map<PendingKey, SettingsDelta> pendingSettings = new LinkedHashMap<>();  // Guarded by this
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledFlush;  // Guarded by this
+
+    private final long frameMs;
+
+    private final AtomicLong receivedChanges = new AtomicLong();
+    private final AtomicLong mergedChanges = new AtomicLong();
+    private final AtomicLong deliveredChanges = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public ProfileChangeCoalescer() {
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.frameMs = Math.max(0, config.getInt(ConfigKeys.PROFILE_EVENT_FRAME_MS, (int) DEFAULT_FRAME_MS));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ProfileChangeCoalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Logger.info("ProfileChangeCoalescer: Initialized with a frame of {} ms.", frameMs);
+    }
+
+    /**
+     * Queues a change to one cache entry, merging it with any change to the same entry still pending.
+     * Values that are not profiles (such as characters sharing the listener) are ignored.
+     *
+     * @param mapName The name of the cache the entry belongs to.
+     * @param key     The entry key.
+     * @param profile The new value, or the old value for a removal.
+     */
+    public void submit(String mapName, Object key, ProfileChangedEvent.Kind kind, Object profile) {
+        ProfileChangedEvent<?> change = ProfileChangedEvent.of(kind, profile);
+        if (change == null) {
+            return;
+        }
+        synchronized (this) {
+            receivedChanges.incrementAndGet();
+            PendingKey pendingKey = new PendingKey(mapName, key);
+            ProfileChangedEvent<?> previous = pending.get(pendingKey);
+            if (previous == null) {
+                pending.put(pendingKey, change);
+            } else {
+                mergedChanges.incrementAndGet();
+                ProfileChangedEvent.Kind merged = merge(previous.getKind(), kind);
+                if (merged == null) {
+                    pending.remove(pendingKey);
+                } else {
+                    pending.put(pendingKey, ProfileChangedEvent.of(merged, profile));
+                }
+            }
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Queues the settings keys that changed on one cache entry, merging them with any delta of the same
+     * entry still pending. Settings observers receive it with the next batch.
+     *
+     * @param mapName The name of the cache the entry belongs to.
+     * @param key     The entry key.
+     * @param delta   The settings that changed.
+     */
+    public void submitSettings(String mapName, Object key, SettingsDelta delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            SettingsDelta previous = pendingSettings.putIfAbsent(new PendingKey(mapName, key), delta);
+            if (previous != null) {
+                previous.merge(delta);
+            }
+            scheduleFlush();
+        }
+    }
+
+    // Must be called holding this
+    private void scheduleFlush() {
+        if (scheduledFlush == null && !scheduler.isShutdown()) {
+            scheduledFlush = scheduler.schedule(() -> SwingUtilities.invokeLater(this::flush), frameMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Returns the kind that stands for both changes, or null if they cancel out
+    private static ProfileChangedEvent.Kind merge(ProfileChangedEvent.Kind previous, ProfileChangedEvent.Kind next) {
+        switch (previous) {
+            case ADDED:
+                return next == ProfileChangedEvent.Kind.REMOVED ? null : ProfileChangedEvent.Kind.ADDED;
+            case REMOVED:
+                return next == ProfileChangedEvent.Kind.ADDED ? ProfileChangedEvent.Kind.UPDATED : next;
+            default:
+                return next;
+        }
+    }
+
+    /**
+     * Publishes the pending changes as one batch on the calling thread. The scheduled flush runs on
+     * the event dispatch thread, so observers are called there without further hand-offs.
+     */
+    public void flush() {
+        List<ProfileChangedEvent<?>> batch;
+        List<SettingsDelta> settingsBatch;
+        synchronized (this) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            if (pending.isEmpty() && pendingSettings.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+            settingsBatch = new ArrayList<>(pendingSettings.values());
+            pendingSettings.clear();
+        }
+        BaseObservationManager observationManager = DependencyFactory.getInstance().getInjection(BaseObservationManager.class);
+        if (!batch.isEmpty()) {
+            observationManager.notifyProfilesChanged(batch);
+            deliveredChanges.addAndGet(batch.size());
+            batches.incrementAndGet();
+        }
+        for (SettingsDelta delta : settingsBatch) {
+            observationManager.notifySettingsChanged(delta);
+        }
+        Logger.debug("ProfileChangeCoalescer: Delivered {} profile changes and {} settings deltas.", batch.size(), settingsBatch.size());
+    }
+
+    /**
+     * Stops the background scheduling thread. Changes still pending are dropped, as the UI observing
+     * them is closing.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            pending.clear();
+            pendingSettings.clear();
+            scheduler.shutdown();
+        }
+        Logger.info("ProfileChangeCoalescer: Shut down. Received {}, merged {}, delivered {} in {} batches.",
+                receivedChanges.get(), mergedChanges.get(), deliveredChanges.get(), batches.get());
+    }
+
+    /**
+     * @return Number of profile changes received from the caches.
+     */
+    public long getReceivedChanges() {
+        return receivedChanges.get();
+    }
+
+    /**
+     * @return Number of changes merged into a change to the same entry still pending.
+     */
+    public long getMergedChanges() {
+        return mergedChanges.get();
+    }
+
+    /**
+     * @return Number of changes passed on to observers.
+     */
+    public long getDeliveredChanges() {
+        return deliveredChanges.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    private static final class PendingKey {
+        private final String mapName;
+        private final Object key;
+
+        private PendingKey(String mapName, Object key) {
+            this.mapName = mapName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PendingKey)) return false;
+            PendingKey other = (PendingKey) o;
+            return Objects.equals(mapName, other.mapName) && Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(mapName) + Objects.hashCode(key);
+        }
+    }
+}
@@ -2,45 +2,86 @@ package com.godscape.system.observers;
 
 import com.godscape.osrs.schemas.OsrsProfileSchema;
 import com.godscape.rs3.schemas.Rs3ProfileSchema;
+import com.godscape.system.cache.SettingsDelta;
+import com.godscape.system.events.ProfileChangedEvent;
 import com.godscape.system.factories.DependencyFactory;
-import com.godscape.system.managers.BaseObservationManager;
 import com.godscape.system.utility.Logger;
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.map.listener.EntryAddedListener;
 import com.hazelcast.map.listener.EntryRemovedListener;
 import com.hazelcast.map.listener.EntryUpdatedListener;
 
-import javax.swing.*;
+import java.util.Objects;
 
+/**
+ * Hazelcast entry listener for the profile caches. Entry events are handed to the
+ * {@link ProfileChangeCoalescer}, which delivers them to observers in one batch per frame.
+ * <p>
+ * Every update reaches profile observers, whatever wrote it. An update that changes nothing but the
+ * settings (and the last-updated time), such as one written by a
+ * {@link com.godscape.system.cache.SettingsEntryProcessor}, additionally carries a {@link SettingsDelta}
+ * of the changed keys for settings observers, delivered with the same batch.
+ */
 public class ProfileChangeListener implements EntryAddedListener<Object, Object>,
         EntryUpdatedListener<Object, Object>,
         EntryRemovedListener<Object, Object> {
 
-    private final BaseObservationManager baseObservationManager;
+    private final ProfileChangeCoalescer coalescer;
 
     public ProfileChangeListener() {
-        this.baseObservationManager = DependencyFactory.getInstance().getInjection(BaseObservationManager.class);
+        this.coalescer = DependencyFactory.getInstance().getInjection(ProfileChangeCoalescer.class);
     }
 
     @Override
     public void entryAdded(EntryEvent<Object, Object> event) {
         Object profile = event.getValue();
-        Logger.info("Profile added: {}", getProfileName(profile));
-        SwingUtilities.invokeLater(() -> baseObservationManager.notifyProfileAdded(profile));
+        Logger.debug("Profile added: {}", getProfileName(profile));
+        coalescer.submit(event.getName(), event.getKey(), ProfileChangedEvent.Kind.ADDED, profile);
     }
 
     @Override
     public void entryUpdated(EntryEvent<Object, Object> event) {
         Object profile = event.getValue();
-        Logger.info("Profile updated: {}", getProfileName(profile));
-        SwingUtilities.invokeLater(() -> baseObservationManager.notifyProfileUpdated(profile));
+        SettingsDelta settingsDelta = settingsOnlyChange(event.getOldValue(), profile);
+        if (settingsDelta != null) {
+            Logger.debug("Profile settings updated: {} ({} keys)", getProfileName(profile), settingsDelta.getChangedKeys().size());
+            coalescer.submitSettings(event.getName(), event.getKey(), settingsDelta);
+        } else {
+            Logger.debug("Profile updated: {}", getProfileName(profile));
+        }
+        coalescer.submit(event.getName(), event.getKey(), ProfileChangedEvent.Kind.UPDATED, profile);
     }
 
     @Override
     public void entryRemoved(EntryEvent<Object, Object> event) {
         Object profile = event.getOldValue();
-        Logger.info("Profile removed: {}", getProfileName(profile));
-        SwingUtilities.invokeLater(() -> baseObservationManager.notifyProfileRemoved(profile));
+        Logger.debug("Profile removed: {}", getProfileName(profile));
+        coalescer.submit(event.getName(), event.getKey(), ProfileChangedEvent.Kind.REMOVED, profile);
+    }
+
+    // Returns the settings delta if only the settings differ between the two versions, null otherwise
+    private static SettingsDelta settingsOnlyChange(Object before, Object after) {
+        if (before instanceof OsrsProfileSchema && after instanceof OsrsProfileSchema) {
+            OsrsProfileSchema previous = (OsrsProfileSchema) before;
+            OsrsProfileSchema current = (OsrsProfileSchema) after;
+            if (Objects.equals(previous.getProfileId(), current.getProfileId())
+                    && Objects.equals(previous.getProfileName(), current.getProfileName())) {
+                return SettingsDelta.between(current.getProfileId(), previous.getSettingsMap(), current.getSettingsMap());
+            }
+        } else if (before instanceof Rs3ProfileSchema && after instanceof Rs3ProfileSchema) {
+            Rs3ProfileSchema previous = (Rs3ProfileSchema) before;
+            Rs3ProfileSchema current = (Rs3ProfileSchema) after;
+            if (Objects.equals(previous.getProfileId(), current.getProfileId())
+                    && Objects.equals(previous.getProfileName(), current.getProfileName())
+                    && Objects.equals(previous.getMembershipStatus(), current.getMembershipStatus())
+                    && Objects.equals(previous.getMode(), current.getMode())
+                    && Objects.equals(previous.getPlaystyle(), current.getPlaystyle())
+                    && Objects.equals(previous.getAutoprofiler(), current.getAutoprofiler())
+                    && Objects.equals(previous.getProfileNotes(), current.getProfileNotes())) {
+                return SettingsDelta.between(current.getProfileId(), previous.getSettingsMap(), current.getSettingsMap());
+            }
+        }
+        return null;
     }
 
     private String getProfileName(Object profile) {
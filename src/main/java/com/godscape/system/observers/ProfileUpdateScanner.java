@@ -15,6 +15,7 @@ import java.util.Optional;
 public class ProfileUpdateScanner {
 
     private final SettingsController settingsController;
+    private final SettingsWriteBuffer writeBuffer;
 
     /**
      * Constructor that injects `SettingsController` using `DependencyFactory`.
@@ -22,6 +23,7 @@ public class ProfileUpdateScanner {
     public ProfileUpdateScanner() {
         // Inject SettingsController
         this.settingsController = DependencyFactory.getInstance().getInjection(SettingsController.class);
+        this.writeBuffer = DependencyFactory.getInstance().getInjection(SettingsWriteBuffer.class);
 
         // Check if dependency is properly injected
         if (this.settingsController == null) {
@@ -32,7 +34,8 @@ public class ProfileUpdateScanner {
     }
 
     /**
-     * Attaches the appropriate listener based on component type, updating settings immediately on any change.
+     * Attaches the appropriate listener based on component type. Changes are passed to the
+     * {@link SettingsWriteBuffer}, which coalesces bursts of edits before writing them.
      *
      * @param component The Swing component to attach the listener to.
      * @param key       The setting key associated with the component.
@@ -104,11 +107,14 @@ public class ProfileUpdateScanner {
     }
 
     private Object loadSetting(Enum<?> schema, String key) {
+        if (writeBuffer.hasPending(schema, key)) {
+            return writeBuffer.getPending(schema, key);
+        }
         return settingsController.loadSetting(schema, key);
     }
 
     private void saveSetting(Enum<?> schema, String key, Object value) {
-        Logger.info("Saving setting for key '{}'", key);
-        settingsController.saveSetting(schema, key, value);
+        Logger.debug("Buffering setting for key '{}'", key);
+        writeBuffer.submit(schema, key, value);
     }
 }
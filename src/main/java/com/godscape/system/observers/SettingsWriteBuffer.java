@@ -0,0 +1,194 @@
+package com.godscape.system.observers;
+
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.controllers.SettingsController;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.utility.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer between {@link ProfileUpdateScanner} and {@link SettingsController}.
+ * <p>
+ * UI components can fire many change events for a single edit (every keystroke in a text field,
+ * every step of a spinner or slider drag). Writes are coalesced per (schema, key) so only the
+ * latest value is kept, and the pending set is flushed once no new write has arrived for the quiet
+ * period, or immediately when it reaches the maximum batch size. Callers that need the buffered
+ * values persisted before continuing (profile switch, shutdown) call {@link #flush()}.
+ */
+@Singleton
+public class SettingsWriteBuffer {
+
+    private static final long DEFAULT_QUIET_PERIOD_MS = 250;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    private final Map<PendingKey, Object> pending = new LinkedHashMap<>();  // Guarded by this
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledFlush;  // Guarded by this
+
+    private final long quietPeriodMs;
+    private final int maxBatchSize;
+
+    private final AtomicLong submittedWrites = new AtomicLong();
+    private final AtomicLong absorbedWrites = new AtomicLong();
+    private final AtomicLong flushedWrites = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    public SettingsWriteBuffer() {
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.quietPeriodMs = Math.max(0, config.getInt(ConfigKeys.SETTINGS_FLUSH_DELAY_MS, (int) DEFAULT_QUIET_PERIOD_MS));
+        this.maxBatchSize = Math.max(1, config.getInt(ConfigKeys.SETTINGS_FLUSH_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SettingsWriteBuffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Logger.info("SettingsWriteBuffer: Initialized with quiet period {} ms and max batch size {}.", quietPeriodMs, maxBatchSize);
+    }
+
+    /**
+     * Buffers a setting write, replacing any pending value for the same schema and key.
+     */
+    public void submit(Enum<?> schema, String key, Object value) {
+        boolean flushNow;
+        synchronized (this) {
+            submittedWrites.incrementAndGet();
+            PendingKey pendingKey = new PendingKey(schema, key);
+            if (pending.containsKey(pendingKey)) {
+                absorbedWrites.incrementAndGet();
+            }
+            pending.put(pendingKey, value);
+            flushNow = pending.size() >= maxBatchSize || quietPeriodMs == 0;
+            if (!flushNow) {
+                scheduleFlush();
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * Checks whether a write for this key is waiting to be flushed, so readers can see their own
+     * unflushed writes through {@link #getPending(Enum, String)}.
+     */
+    public synchronized boolean hasPending(Enum<?> schema, String key) {
+        return pending.containsKey(new PendingKey(schema, key));
+    }
+
+    public synchronized Object getPending(Enum<?> schema, String key) {
+        return pending.get(new PendingKey(schema, key));
+    }
+
+    /**
+     * Writes all buffered settings to the {@link SettingsController} on the calling thread.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<PendingKey, Object> batch;
+            synchronized (this) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+            }
+
+            SettingsController settingsController = DependencyFactory.getInstance().getInjection(SettingsController.class);
+            for (Map.Entry<PendingKey, Object> write : batch.entrySet()) {
+                PendingKey pendingKey = write.getKey();
+                try {
+                    settingsController.saveSetting(pendingKey.schema, pendingKey.key, write.getValue());
+                } catch (Exception e) {
+                    Logger.error("SettingsWriteBuffer: Failed to write setting '{}': {}", pendingKey.key, e.getMessage());
+                }
+            }
+            flushedWrites.addAndGet(batch.size());
+            flushes.incrementAndGet();
+            Logger.debug("SettingsWriteBuffer: Flushed {} settings.", batch.size());
+        }
+    }
+
+    /**
+     * Flushes any pending writes and stops the background flush thread.
+     */
+    public void shutdown() {
+        flush();
+        scheduler.shutdown();
+        Logger.info("SettingsWriteBuffer: Shut down. Submitted {}, absorbed {}, flushed {} in {} flushes.",
+                submittedWrites.get(), absorbedWrites.get(), flushedWrites.get(), flushes.get());
+    }
+
+    private void scheduleFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        if (scheduler.isShutdown()) {
+            scheduledFlush = null;
+            return;
+        }
+        scheduledFlush = scheduler.schedule(this::flush, quietPeriodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return Number of writes handed to the buffer.
+     */
+    public long getSubmittedWrites() {
+        return submittedWrites.get();
+    }
+
+    /**
+     * @return Number of writes replaced by a later write to the same key before being flushed.
+     */
+    public long getAbsorbedWrites() {
+        return absorbedWrites.get();
+    }
+
+    /**
+     * @return Number of writes passed on to the settings controller.
+     */
+    public long getFlushedWrites() {
+        return flushedWrites.get();
+    }
+
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    private static final class PendingKey {
+        private final Enum<?> schema;
+        private final String key;
+
+        private PendingKey(Enum<?> schema, String key) {
+            this.schema = schema;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PendingKey)) return false;
+            PendingKey other = (PendingKey) o;
+            return schema == other.schema && Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(schema) + Objects.hashCode(key);
+        }
+    }
+}
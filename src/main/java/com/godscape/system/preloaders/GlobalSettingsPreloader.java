@@ -1,5 +1,7 @@
 package com.godscape.system.preloaders;
 
+import com.godscape.system.annotations.Preload;
+import com.godscape.system.annotations.Singleton;
 import com.godscape.system.config.GodscapeConfig;
 import com.godscape.system.enums.ConfigKeys;
 import com.godscape.system.enums.GameVersion;
@@ -18,10 +20,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+@Singleton
+@Preload(critical = true)
 public class GlobalSettingsPreloader implements Preloadable {
 
-    private static volatile GlobalSettingsPreloader instance;
-
     private final GlobalSettingsSchema settingsSchema;
     private final PathBuilder pathBuilder;
     private final GodscapeConfig config;
@@ -40,6 +42,8 @@ public class GlobalSettingsPreloader implements Preloadable {
         defaultSettings.put("backupCharacters", "true");
         defaultSettings.put("loggingLevel", "INFO");
         defaultSettings.put("logToFile", "true");
+        defaultSettings.put("logOverflowPolicy", "DROP_OLDEST");
+        defaultSettings.put("cacheMode", "LOCAL");
     }
 
     private GlobalSettingsPreloader() {
@@ -51,15 +55,12 @@ public class GlobalSettingsPreloader implements Preloadable {
         preloadSettings();
     }
 
+    /**
+     * Returns the registry's instance, the same one {@code getInjection(GlobalSettingsPreloader.class)}
+     * returns, so the settings file is only read once.
+     */
     public static GlobalSettingsPreloader getInstance() {
-        if (instance == null) {
-            synchronized (GlobalSettingsPreloader.class) {
-                if (instance == null) {
-                    instance = new GlobalSettingsPreloader();
-                }
-            }
-        }
-        return instance;
+        return DependencyFactory.getInstance().getInjection(GlobalSettingsPreloader.class);
     }
 
     @Override
@@ -104,6 +105,8 @@ public class GlobalSettingsPreloader implements Preloadable {
 
         settingsSchema.setLoggingLevel(prop.getProperty("loggingLevel", defaultSettings.get("loggingLevel")));
         settingsSchema.setLogToFile(Boolean.parseBoolean(prop.getProperty("logToFile", defaultSettings.get("logToFile"))));
+        settingsSchema.setLogOverflowPolicy(prop.getProperty("logOverflowPolicy", defaultSettings.get("logOverflowPolicy")));
+        settingsSchema.setCacheMode(prop.getProperty("cacheMode", defaultSettings.get("cacheMode")));
 
         settingsSchema.setPreloadProfiles(Boolean.parseBoolean(prop.getProperty("preloadProfiles", defaultSettings.get("preloadProfiles"))));
         settingsSchema.setAutoSyncProfiles(Boolean.parseBoolean(prop.getProperty("autoSyncProfiles", defaultSettings.get("autoSyncProfiles"))));
@@ -111,6 +114,7 @@ public class GlobalSettingsPreloader implements Preloadable {
 
         setGameSpecificPaths(prop);
         settingsSchema.setLastUpdated(System.currentTimeMillis());
+        Logger.applySettings(settingsSchema);
         Logger.debug("Settings loaded and applied.");
     }
 
@@ -140,6 +144,8 @@ public class GlobalSettingsPreloader implements Preloadable {
 
         settingsSchema.setLoggingLevel(defaultSettings.get("loggingLevel"));
         settingsSchema.setLogToFile(Boolean.parseBoolean(defaultSettings.get("logToFile")));
+        settingsSchema.setLogOverflowPolicy(defaultSettings.get("logOverflowPolicy"));
+        settingsSchema.setCacheMode(defaultSettings.get("cacheMode"));
 
         settingsSchema.setPreloadProfiles(Boolean.parseBoolean(defaultSettings.get("preloadProfiles")));
         settingsSchema.setAutoSyncProfiles(Boolean.parseBoolean(defaultSettings.get("autoSyncProfiles")));
@@ -147,6 +153,7 @@ public class GlobalSettingsPreloader implements Preloadable {
 
         setGameSpecificPaths(new Properties());
         settingsSchema.setLastUpdated(System.currentTimeMillis());
+        Logger.applySettings(settingsSchema);
         Logger.debug("Default settings applied successfully.");
     }
 
@@ -0,0 +1,233 @@
+package com.godscape.system.preloaders;
+
+import com.godscape.system.annotations.Preload;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.interfaces.mark.Preloadable;
+import com.godscape.system.utility.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a set of preloaders as a dependency graph on a fork-join pool.
+ * <p>
+ * Each preloader starts as soon as the preloaders named in its {@link Preload#after()} have finished,
+ * so independent preloaders run side by side. A preloader that fails is logged and counted as
+ * finished, matching the sequential launchers, which carried on after a failing preloader.
+ * Timings of every run are recorded in {@link PreloadTimings}.
+ */
+public class PreloadGraph {
+
+    private static final int MAX_PARALLELISM = 4;
+
+    private final Map<Class<?>, Preloadable> preloaders = new LinkedHashMap<>();
+
+    /**
+     * Adds a preloader to the graph. Null preloaders are ignored, and a preloader of a class
+     * already in the graph replaces the earlier one.
+     */
+    public PreloadGraph add(Preloadable preloader) {
+        if (preloader != null) {
+            preloaders.put(preloader.getClass(), preloader);
+        }
+        return this;
+    }
+
+    public PreloadGraph addAll(Iterable<? extends Preloadable> preloaders) {
+        for (Preloadable preloader : preloaders) {
+            add(preloader);
+        }
+        return this;
+    }
+
+    /**
+     * Starts every preloader in the graph and returns immediately.
+     *
+     * @throws IllegalStateException If the dependencies form a cycle.
+     */
+    public Run start() {
+        List<Class<?>> order = topologicalOrder();
+        PreloadTimings timings = DependencyFactory.getInstance().getInjection(PreloadTimings.class);
+        timings.reset();
+
+        int parallelism = Math.max(1, Math.min(MAX_PARALLELISM, Math.min(order.size(), Runtime.getRuntime().availableProcessors())));
+        AtomicInteger threadCount = new AtomicInteger();
+        // A dedicated pool rather than the common one, so workers inherit the caller's context class loader
+        ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("Preloader-" + threadCount.incrementAndGet());
+            return thread;
+        }, null, true);
+
+        long started = System.nanoTime();
+        Map<Class<?>, CompletableFuture<Void>> futures = new HashMap<>();
+        List<CompletableFuture<Void>> critical = new ArrayList<>();
+        for (Class<?> type : order) {
+            List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+            for (Class<?> dependency : dependenciesOf(type)) {
+                dependencies.add(futures.get(dependency));
+            }
+            Preloadable preloader = preloaders.get(type);
+            CompletableFuture<Void> future = allOf(dependencies)
+                    .thenRunAsync(() -> run(preloader, started, timings), pool);
+            futures.put(type, future);
+            if (isCritical(type)) {
+                critical.add(future);
+            }
+        }
+
+        // A critical preloader only finishes after its dependencies, so its future covers the whole path to it
+        CompletableFuture<Void> criticalPath = allOf(critical);
+        CompletableFuture<Void> completion = allOf(futures.values());
+        criticalPath.thenRun(() -> {
+            long elapsed = elapsedMillis(started);
+            timings.setCriticalPathMillis(elapsed);
+            Logger.info("PreloadGraph: Critical preloaders finished in {} ms.", elapsed);
+        });
+        completion.thenRun(() -> {
+            long elapsed = elapsedMillis(started);
+            timings.setTotalMillis(elapsed);
+            Logger.info("PreloadGraph: All {} preloaders finished in {} ms.", order.size(), elapsed);
+            pool.shutdown();
+        });
+        return new Run(criticalPath, completion);
+    }
+
+    private static CompletableFuture<Void> allOf(Collection<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private void run(Preloadable preloader, long graphStarted, PreloadTimings timings) {
+        Class<?> type = preloader.getClass();
+        String name = type.getSimpleName();
+        long started = System.nanoTime();
+        String error = null;
+        try {
+            Logger.info("PreloadGraph: Running preloader '{}'.", name);
+            preloader.preload();
+        } catch (Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            Logger.error("PreloadGraph: Error running preloader '{}': {}", name, error, e);
+        }
+        long duration = elapsedMillis(started);
+        List<String> dependencyNames = new ArrayList<>();
+        for (Class<?> dependency : dependenciesOf(type)) {
+            dependencyNames.add(dependency.getSimpleName());
+        }
+        timings.record(new PreloadTimings.Timing(name, Collections.unmodifiableList(dependencyNames), isCritical(type),
+                Thread.currentThread().getName(), TimeUnit.NANOSECONDS.toMillis(started - graphStarted), duration, error));
+        Logger.info("PreloadGraph: Preloader '{}' finished in {} ms.", name, duration);
+    }
+
+    // Dependencies of a preloader that are part of this graph
+    private List<Class<?>> dependenciesOf(Class<?> type) {
+        Preload preload = type.getAnnotation(Preload.class);
+        if (preload == null) {
+            return Collections.emptyList();
+        }
+        List<Class<?>> dependencies = new ArrayList<>();
+        for (Class<?> dependency : preload.after()) {
+            if (preloaders.containsKey(dependency)) {
+                dependencies.add(dependency);
+            }
+        }
+        return dependencies;
+    }
+
+    private static boolean isCritical(Class<?> type) {
+        Preload preload = type.getAnnotation(Preload.class);
+        return preload != null && preload.critical();
+    }
+
+    // Kahn's algorithm, keeping insertion order among preloaders that are ready at the same time
+    private List<Class<?>> topologicalOrder() {
+        Map<Class<?>, Integer> pending = new LinkedHashMap<>();
+        Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        for (Class<?> type : preloaders.keySet()) {
+            List<Class<?>> dependencies = dependenciesOf(type);
+            pending.put(type, dependencies.size());
+            for (Class<?> dependency : dependencies) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(type);
+            }
+        }
+
+        Deque<Class<?>> ready = new ArrayDeque<>();
+        pending.forEach((type, count) -> {
+            if (count == 0) {
+                ready.add(type);
+            }
+        });
+        List<Class<?>> order = new ArrayList<>(preloaders.size());
+        while (!ready.isEmpty()) {
+            Class<?> type = ready.poll();
+            order.add(type);
+            for (Class<?> dependent : dependents.getOrDefault(type, Collections.emptyList())) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() != preloaders.size()) {
+            List<String> cyclic = new ArrayList<>();
+            pending.forEach((type, count) -> {
+                if (count > 0) {
+                    cyclic.add(type.getSimpleName());
+                }
+            });
+            throw new IllegalStateException("Preloader dependencies form a cycle between " + cyclic);
+        }
+        return order;
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    /**
+     * A started preload graph. Neither future completes exceptionally.
+     */
+    public static final class Run {
+        private final CompletableFuture<Void> criticalPath;
+        private final CompletableFuture<Void> completion;
+
+        private Run(CompletableFuture<Void> criticalPath, CompletableFuture<Void> completion) {
+            this.criticalPath = criticalPath;
+            this.completion = completion;
+        }
+
+        /**
+         * Completes when every critical preloader has finished.
+         */
+        public CompletableFuture<Void> getCriticalPath() {
+            return criticalPath;
+        }
+
+        /**
+         * Completes when every preloader has finished.
+         */
+        public CompletableFuture<Void> getCompletion() {
+            return completion;
+        }
+
+        public void awaitCriticalPath() {
+            criticalPath.join();
+        }
+
+        public void awaitCompletion() {
+            completion.join();
+        }
+    }
+}
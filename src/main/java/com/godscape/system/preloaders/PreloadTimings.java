@@ -0,0 +1,116 @@
+package com.godscape.system.preloaders;
+
+import com.godscape.system.annotations.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Timings of the most recent preload run, shown in the debug panel.
+ * All times are in milliseconds from the start of the run.
+ */
+@Singleton
+public class PreloadTimings {
+
+    private final List<Timing> timings = new ArrayList<>();
+    private volatile long criticalPathMillis = -1;
+    private volatile long totalMillis = -1;
+
+    public synchronized void reset() {
+        timings.clear();
+        criticalPathMillis = -1;
+        totalMillis = -1;
+    }
+
+    synchronized void record(Timing timing) {
+        timings.add(timing);
+    }
+
+    void setCriticalPathMillis(long criticalPathMillis) {
+        this.criticalPathMillis = criticalPathMillis;
+    }
+
+    void setTotalMillis(long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    /**
+     * Returns the recorded timings ordered by start time.
+     */
+    public synchronized List<Timing> getTimings() {
+        List<Timing> copy = new ArrayList<>(timings);
+        copy.sort(Comparator.comparingLong(Timing::getStartMillis));
+        return Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Time until every critical preloader had finished, or -1 while they are still running.
+     */
+    public long getCriticalPathMillis() {
+        return criticalPathMillis;
+    }
+
+    /**
+     * Time until every preloader had finished, or -1 while some are still running.
+     */
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    /**
+     * Timing of one preloader.
+     */
+    public static final class Timing {
+        private final String name;
+        private final List<String> dependencies;
+        private final boolean critical;
+        private final String threadName;
+        private final long startMillis;
+        private final long durationMillis;
+        private final String error;
+
+        Timing(String name, List<String> dependencies, boolean critical, String threadName,
+               long startMillis, long durationMillis, String error) {
+            this.name = name;
+            this.dependencies = dependencies;
+            this.critical = critical;
+            this.threadName = threadName;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.error = error;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getDependencies() {
+            return dependencies;
+        }
+
+        public boolean isCritical() {
+            return critical;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * The failure message, or null if the preloader completed normally.
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
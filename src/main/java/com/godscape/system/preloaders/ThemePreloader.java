@@ -1,7 +1,9 @@
 package com.godscape.system.preloaders;
 
+import com.godscape.system.annotations.Preload;
 import com.godscape.system.enums.Themes;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.interfaces.mark.Preloadable;
 import com.godscape.system.modules.DatabaseModule;
 import com.godscape.system.schemas.ThemeSchema;
 import com.godscape.system.utility.Logger;
@@ -20,7 +22,8 @@ import java.util.stream.Collectors;
  * if they are missing. It also manages the active theme to ensure only one theme
  * is active at any given time.
  */
-public class ThemePreloader {
+@Preload(after = GlobalSettingsPreloader.class, critical = true)
+public class ThemePreloader implements Preloadable {
 
     private static final DatabaseModule databaseModule = DependencyFactory.getInstance().getInjection(DatabaseModule.class);
     private static volatile ThemePreloader instance;
@@ -40,6 +43,14 @@ public class ThemePreloader {
         return instance;
     }
 
+    /**
+     * Initializes the themes database using the preloaded global settings.
+     */
+    @Override
+    public void preload() {
+        initializeDatabase(DependencyFactory.getInstance().getInjection(GlobalSettingsPreloader.class).getSettingsSchema());
+    }
+
     /**
      * Initializes the database for theme settings using the provided global settings.
      *
@@ -126,7 +137,7 @@ public class ThemePreloader {
      * Refreshes the Hazelcast cache with the current themes from the database.
      */
     private void refreshHazelcastCache() {
-        IMap<String, ThemeSchema> themeCache = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance().getMap("themeCache");
+        IMap<String, ThemeSchema> themeCache = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance().getMap(HazelcastConfig.THEME_CACHE);
         themeCache.clear();
 
         for (ThemeSchema theme : databaseModule.getAllThemes()) {
@@ -0,0 +1,211 @@
+package com.godscape.system.registries;
+
+import com.godscape.system.annotations.Singleton;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * How {@link DependencyRegistry} builds instances of one class, worked out once per class.
+ * <p>
+ * Analysis collects the declared constructors whose parameters could be injected at all, ordered
+ * by parameter count (most first, as the registry has always preferred), and binds each to a
+ * {@link MethodHandle} taking an {@code Object[]} of arguments. The first candidate that
+ * succeeds is remembered, so later instantiations go straight to it without reflection or
+ * retrying the others. Constructors ruled out during analysis are remembered with the parameter that
+ * ruled them out, so a class that cannot be built says why instead of just that it cannot.
+ */
+public final class ConstructorPlan {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Class<?> type;
+    private final boolean singleton;
+    private final Candidate[] candidates;
+    private final String[] rejected;
+    private volatile int chosen = -1;
+
+    private ConstructorPlan(Class<?> type, Candidate[] candidates, String[] rejected) {
+        this.type = type;
+        this.singleton = type.isAnnotationPresent(Singleton.class);
+        this.candidates = candidates;
+        this.rejected = rejected;
+    }
+
+    /**
+     * Analyses a class. Does not create or resolve anything.
+     */
+    public static ConstructorPlan analyse(Class<?> type) {
+        List<Constructor<?>> constructors = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        if (isInstantiable(type)) {
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                Class<?> unsupported = findUnsupportedParameter(constructor);
+                if (unsupported == null) {
+                    constructors.add(constructor);
+                } else {
+                    rejected.add(constructor + " (cannot inject " + describeUnsupported(unsupported) + ")");
+                }
+            }
+        } else {
+            rejected.add(type.getName() + " is not a concrete class");
+        }
+        constructors.sort(Comparator.comparingInt((Constructor<?> constructor) -> constructor.getParameterCount()).reversed());
+
+        List<Candidate> candidates = new ArrayList<>(constructors.size());
+        for (Constructor<?> constructor : constructors) {
+            try {
+                constructor.setAccessible(true);
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, constructor.getParameterCount())
+                        .asType(GENERIC_TYPE);
+                candidates.add(new Candidate(constructor.toString(), constructor.getParameterTypes(), handle));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // Not accessible from here (e.g. module restrictions); the class may still have other candidates
+                rejected.add(constructor + " (not accessible: " + e.getMessage() + ")");
+            }
+        }
+        return new ConstructorPlan(type, candidates.toArray(new Candidate[0]), rejected.toArray(new String[0]));
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isSingleton() {
+        return singleton;
+    }
+
+    public boolean isEmpty() {
+        return candidates.length == 0;
+    }
+
+    /**
+     * @return The constructors ruled out during analysis, each with the reason.
+     */
+    public String[] getRejected() {
+        return rejected.clone();
+    }
+
+    /**
+     * Creates an instance, resolving constructor arguments through the resolver. A resolver
+     * returning null marks the argument as unavailable and moves on to the next candidate.
+     */
+    Object instantiate(Function<Class<?>, Object> resolver) throws Exception {
+        int index = chosen;
+        if (index >= 0) {
+            Candidate candidate = candidates[index];
+            Object[] arguments = candidate.resolve(resolver);
+            if (arguments != null) {
+                return candidate.invoke(arguments);
+            }
+        }
+
+        Exception lastFailure = null;
+        for (int i = 0; i < candidates.length; i++) {
+            Candidate candidate = candidates[i];
+            Object[] arguments = candidate.resolve(resolver);
+            if (arguments == null) {
+                continue;
+            }
+            try {
+                Object instance = candidate.invoke(arguments);
+                chosen = i;
+                return instance;
+            } catch (DependencyRegistry.DependencyCycleException e) {
+                throw e;
+            } catch (Exception e) {
+                lastFailure = e;
+            }
+        }
+        StringBuilder message = new StringBuilder("No suitable constructor found for ").append(type.getName());
+        if (candidates.length > 0) {
+            message.append("; ").append(candidates.length).append(" candidate(s) had unresolvable arguments or failed");
+        }
+        if (rejected.length > 0) {
+            message.append("; skipped ").append(String.join(", ", rejected));
+        }
+        NoSuchMethodException failure = new NoSuchMethodException(message.toString());
+        if (lastFailure != null) {
+            failure.initCause(lastFailure);
+        }
+        throw failure;
+    }
+
+    private static boolean isInstantiable(Class<?> type) {
+        return !type.isInterface() && !type.isPrimitive() && !type.isArray() && !type.isEnum()
+                && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    // Parameters the registry could never supply, such as primitives, strings and collections,
+    // rule the constructor out up front instead of failing on every attempt
+    private static Class<?> findUnsupportedParameter(Constructor<?> constructor) {
+        for (Class<?> parameter : constructor.getParameterTypes()) {
+            if (!isInstantiable(parameter) || parameter.getName().startsWith("java.")) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+
+    private static String describeUnsupported(Class<?> parameter) {
+        if (parameter.isInterface()) {
+            return "interface " + parameter.getName() + ", only concrete classes are injected";
+        }
+        if (parameter.isEnum()) {
+            return "enum " + parameter.getName();
+        }
+        if (parameter.isPrimitive() || parameter.isArray()) {
+            return parameter.getTypeName();
+        }
+        if (parameter.getName().startsWith("java.")) {
+            return "JDK type " + parameter.getName();
+        }
+        return "abstract class " + parameter.getName();
+    }
+
+    private static final class Candidate {
+        private final String description;
+        private final Class<?>[] parameterTypes;
+        private final MethodHandle handle;
+
+        private Candidate(String description, Class<?>[] parameterTypes, MethodHandle handle) {
+            this.description = description;
+            this.parameterTypes = parameterTypes;
+            this.handle = handle;
+        }
+
+        private Object[] resolve(Function<Class<?>, Object> resolver) {
+            if (parameterTypes.length == 0) {
+                return NO_ARGUMENTS;
+            }
+            Object[] arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                arguments[i] = resolver.apply(parameterTypes[i]);
+                if (arguments[i] == null) {
+                    return null;
+                }
+            }
+            return arguments;
+        }
+
+        private Object invoke(Object[] arguments) throws Exception {
+            try {
+                return (Object) handle.invokeExact(arguments);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Constructor " + description + " failed", t);
+            }
+        }
+    }
+}
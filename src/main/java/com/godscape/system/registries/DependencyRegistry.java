@@ -1,20 +1,40 @@
 package com.godscape.system.registries;
 
-import com.godscape.system.annotations.Singleton;
 import com.godscape.system.utility.Logger;
 
-import java.lang.reflect.Constructor;
-import java.util.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+/**
+ * Resolves injections for {@link com.godscape.system.factories.DependencyFactory}.
+ * <p>
+ * Each class is analysed once into a {@link ConstructorPlan}; later injections reuse it. Singletons
+ * are kept in a concurrent map and built exactly once per class even when several threads (EDT,
+ * Hazelcast, script thread) ask for them at the same time. Classes currently being built on a
+ * thread are tracked so a dependency cycle is reported with its path instead of recursing until
+ * the stack overflows.
+ * <p>
+ * A cycle can also span threads: one thread builds A and needs B while another builds B and needs
+ * A, and each would block forever on the other's singleton lock. Before blocking, a thread records
+ * the singleton it waits for and follows the chain of builders and the singletons they wait for;
+ * if the chain leads back to itself it throws instead of blocking.
+ */
 public class DependencyRegistry {
 
     private static volatile DependencyRegistry instance;
-    private final Map<Class<?>, Object> singletonInstances = new HashMap<Class<?>, Object>();
-    private final Map<Enum<?>, Supplier<?>> enumToSupplierMapping = new HashMap<Enum<?>, Supplier<?>>();
-    private final Map<Enum<?>, Class<?>> enumToClassMapping = new HashMap<Enum<?>, Class<?>>();
-    private final Map<String, Supplier<?>> entries = new HashMap<String, Supplier<?>>();
-    private boolean initialized = false;
+    private final Map<Class<?>, Object> singletonInstances = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> singletonLocks = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ConstructorPlan> constructorPlans = new ConcurrentHashMap<>();
+    private final Map<Enum<?>, Supplier<?>> enumToSupplierMapping = new ConcurrentHashMap<>();
+    private final Map<Enum<?>, Class<?>> enumToClassMapping = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<?>> entries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Thread> singletonBuilders = new ConcurrentHashMap<>();
+    private final Map<Thread, Class<?>> awaitedSingletons = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Class<?>>> underConstruction = ThreadLocal.withInitial(ArrayDeque::new);
+    private volatile boolean initialized = false;
 
     private DependencyRegistry() {}
 
@@ -46,8 +66,7 @@ public class DependencyRegistry {
     }
 
     public void registerEnumMapping(Enum<?> enumValue, Supplier<?> supplier, Class<?> clazz) {
-        if (!enumToSupplierMapping.containsKey(enumValue)) {
-            enumToSupplierMapping.put(enumValue, supplier);
+        if (enumToSupplierMapping.putIfAbsent(enumValue, supplier) == null) {
             enumToClassMapping.put(enumValue, clazz);
             Logger.info("DependencyRegistry: Registered enum mapping {} -> {}",
                     enumValue.name(), clazz.getName());
@@ -64,8 +83,10 @@ public class DependencyRegistry {
 
     @SuppressWarnings("unchecked")
     public <T> T getInjection(Class<T> clazz) {
-        Logger.debug("DependencyRegistry: Attempting to retrieve injection for {}",
-                clazz.getName());
+        Object existing = singletonInstances.get(clazz);
+        if (existing != null) {
+            return (T) existing;
+        }
 
         if (clazz.isEnum()) {
             Logger.warn("DependencyRegistry: Cannot inject enum class {}. Returning null.",
@@ -73,15 +94,72 @@ public class DependencyRegistry {
             return null;
         }
 
-        if (singletonInstances.containsKey(clazz)) {
-            return (T) singletonInstances.get(clazz);
+        ConstructorPlan plan = getConstructorPlan(clazz);
+        if (!plan.isSingleton()) {
+            return (T) createInstance(plan);
         }
 
-        T instance = (T) createInstance(clazz);
-        if (clazz.isAnnotationPresent(Singleton.class)) {
-            singletonInstances.put(clazz, instance);
+        // Per-class lock so a singleton is built once without holding up unrelated injections
+        Object lock = singletonLocks.computeIfAbsent(clazz, key -> new Object());
+        Thread current = Thread.currentThread();
+        awaitedSingletons.put(current, clazz);
+        try {
+            checkCrossThreadCycle(clazz, current);
+            synchronized (lock) {
+                awaitedSingletons.remove(current);
+                existing = singletonInstances.get(clazz);
+                if (existing == null) {
+                    Thread previousBuilder = singletonBuilders.put(clazz, current);
+                    try {
+                        existing = createInstance(plan);
+                    } finally {
+                        if (previousBuilder == null) {
+                            singletonBuilders.remove(clazz);
+                        }
+                    }
+                    singletonInstances.put(clazz, existing);
+                }
+                return (T) existing;
+            }
+        } finally {
+            awaitedSingletons.remove(current);
         }
-        return instance;
+    }
+
+    // Follows builder -> awaited singleton -> builder from the singleton about to be awaited; a chain
+    // that returns to this thread would deadlock. Re-entry on the building thread is left to the
+    // per-thread check in createInstance, which reports the full path.
+    private void checkCrossThreadCycle(Class<?> awaited, Thread current) {
+        StringBuilder chain = null;
+        Class<?> next = awaited;
+        Thread builder = singletonBuilders.get(next);
+        for (int steps = 0; builder != null && builder != current && steps <= singletonBuilders.size(); steps++) {
+            if (chain == null) {
+                chain = new StringBuilder(current.getName()).append(" awaits ");
+            }
+            chain.append(next.getSimpleName()).append(" (built by ").append(builder.getName()).append(") -> ");
+            next = awaitedSingletons.get(builder);
+            if (next == null) {
+                return;  // The builder is running, not waiting
+            }
+            Thread nextBuilder = singletonBuilders.get(next);
+            if (nextBuilder == current) {
+                String cycle = chain.append(next.getSimpleName()).append(" (built by ").append(current.getName()).append(")").toString();
+                Logger.error("DependencyRegistry: Dependency cycle across threads detected: {}", cycle);
+                throw new DependencyCycleException(cycle);
+            }
+            builder = nextBuilder;
+        }
+    }
+
+    /**
+     * Forgets a singleton so the next injection of its class builds a new instance. Does nothing if
+     * the singleton registered for the class is a different instance.
+     *
+     * @return Whether the instance was released.
+     */
+    public boolean releaseSingleton(Object instance) {
+        return instance != null && singletonInstances.remove(instance.getClass(), instance);
     }
 
     @SuppressWarnings("unchecked")
@@ -111,80 +189,84 @@ public class DependencyRegistry {
         return (T) supplier.get();
     }
 
-    private Object createInstance(Class<?> clazz) {
-        Logger.debug("DependencyRegistry: Creating instance of class {}", clazz.getName());
-        try {
-            Constructor<?>[] constructors = clazz.getDeclaredConstructors();
-
-            // Convert to a list
-            List<Constructor<?>> constructorList = Arrays.asList(constructors);
-
-            // Sort constructors by parameter count in descending order
-            Collections.sort(constructorList, new Comparator<Constructor<?>>() {
-                @Override
-                public int compare(Constructor<?> c1, Constructor<?> c2) {
-                    int p1 = c1.getParameterTypes().length;
-                    int p2 = c2.getParameterTypes().length;
-                    return p2 - p1; // Descending order
-                }
-            });
-
-            for (Constructor<?> constructor : constructorList) {
-                Logger.debug("DependencyRegistry: Trying constructor with {} parameters for class {}",
-                        constructor.getParameterTypes().length, clazz.getName());
-                try {
-                    Class<?>[] paramTypes = constructor.getParameterTypes();
-                    Object[] parameters = new Object[paramTypes.length];
-                    boolean canInstantiate = true;
-
-                    for (int i = 0; i < paramTypes.length; i++) {
-                        parameters[i] = resolveParameter(paramTypes[i]);
-                        if (parameters[i] == null) {
-                            Logger.warn("DependencyRegistry: Cannot resolve parameter of type {} for constructor of {}",
-                                    paramTypes[i].getName(), clazz.getName());
-                            canInstantiate = false;
-                            break;
-                        }
-                    }
+    /**
+     * Returns the cached constructor plan for a class, analysing it on first use.
+     */
+    public ConstructorPlan getConstructorPlan(Class<?> clazz) {
+        ConstructorPlan plan = constructorPlans.get(clazz);
+        if (plan == null) {
+            plan = constructorPlans.computeIfAbsent(clazz, ConstructorPlan::analyse);
+            Logger.debug("DependencyRegistry: Analysed constructors of {}", clazz.getName());
+            if (plan.isEmpty()) {
+                Logger.warn("DependencyRegistry: {} has no injectable constructor: {}",
+                        clazz.getName(), String.join(", ", plan.getRejected()));
+            }
+        }
+        return plan;
+    }
 
-                    if (!canInstantiate) {
-                        Logger.debug("DependencyRegistry: Skipping constructor due to unresolvable dependencies.");
-                        continue;
-                    }
+    private Object createInstance(ConstructorPlan plan) {
+        Class<?> clazz = plan.getType();
+        Deque<Class<?>> path = underConstruction.get();
+        if (path.contains(clazz)) {
+            String cycle = describeCycle(path, clazz);
+            Logger.error("DependencyRegistry: Dependency cycle detected: {}", cycle);
+            throw new DependencyCycleException(cycle);
+        }
 
-                    constructor.setAccessible(true);
-                    Object instance = constructor.newInstance(parameters);
-                    Logger.info("DependencyRegistry: Successfully created instance of {}",
-                            clazz.getName());
-                    return instance;
-                } catch (Exception e) {
-                    Logger.warn("DependencyRegistry: Failed to instantiate {} with constructor {}: {}",
-                            clazz.getName(), constructor.toString(), e.getMessage());
-                    // Continue to next constructor
-                }
+        path.addLast(clazz);
+        try {
+            Object instance = plan.instantiate(this::resolveParameter);
+            if (plan.isSingleton()) {
+                Logger.info("DependencyRegistry: Successfully created instance of {}", clazz.getName());
             }
-
-            throw new NoSuchMethodException("No suitable constructor found for " + clazz.getName());
+            return instance;
+        } catch (DependencyCycleException e) {
+            throw e;
         } catch (Exception e) {
             Logger.error("DependencyRegistry: Failed to create instance of {}: {}",
                     clazz.getName(), e.getMessage(), e);
             throw new RuntimeException(e);
+        } finally {
+            path.removeLast();
         }
     }
 
     private Object resolveParameter(Class<?> paramClass) {
-        Logger.debug("DependencyRegistry: Resolving parameter of type {}",
-                paramClass.getName());
         try {
             Object dependency = getInjection(paramClass);
             if (dependency == null) {
                 Logger.error("DependencyRegistry: Cannot resolve dependency for type {}", paramClass.getName());
             }
             return dependency;
+        } catch (DependencyCycleException e) {
+            throw e;
         } catch (Exception e) {
             Logger.warn("DependencyRegistry: Unable to resolve parameter of type {}: {}",
                     paramClass.getName(), e.getMessage());
             return null;
         }
     }
+
+    private static String describeCycle(Deque<Class<?>> path, Class<?> repeated) {
+        StringBuilder cycle = new StringBuilder();
+        boolean inCycle = false;
+        for (Class<?> type : path) {
+            inCycle |= type == repeated;
+            if (inCycle) {
+                cycle.append(type.getSimpleName()).append(" -> ");
+            }
+        }
+        return cycle.append(repeated.getSimpleName()).toString();
+    }
+
+    /**
+     * Thrown when building a class requires an instance of a class that is already being built on
+     * the same thread, or that is being built by a thread waiting on this one.
+     */
+    public static class DependencyCycleException extends IllegalStateException {
+        public DependencyCycleException(String cycle) {
+            super("Dependency cycle: " + cycle);
+        }
+    }
 }
@@ -42,4 +42,21 @@ public interface BaseSchema {
     default void setSettingsMap(Map<String, Object> settingsMap) {
         throw new UnsupportedOperationException("setSettingsMap() is not implemented for this schema.");
     }
+
+    /**
+     * Retrieves when the schema was last modified.
+     *
+     * @return Epoch milliseconds of the last modification, or 0 if the schema does not track it.
+     */
+    default long getLastUpdated() {
+        return 0L;
+    }
+
+    /**
+     * Records when the schema was last modified. Schemas that do not track it ignore the call.
+     *
+     * @param lastUpdated Epoch milliseconds of the modification.
+     */
+    default void setLastUpdated(long lastUpdated) {
+    }
 }
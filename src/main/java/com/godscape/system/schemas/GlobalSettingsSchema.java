@@ -5,6 +5,7 @@ import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.PlatformFactory;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.cache.GlobalSettingsCache;
+import com.godscape.system.annotations.Singleton;
 import lombok.Data;
 
 import java.io.FileInputStream;
@@ -12,11 +13,9 @@ import java.io.IOException;
 import java.util.Properties;
 
 @Data
+@Singleton
 public class GlobalSettingsSchema {
 
-    // Singleton instance
-    private static volatile GlobalSettingsSchema instance;
-
     // General Settings
     private String saveDirectory;
 
@@ -48,6 +47,10 @@ public class GlobalSettingsSchema {
     // Logging Settings
     private String loggingLevel;
     private boolean logToFile;
+    private String logOverflowPolicy;
+
+    // Cache Settings
+    private String cacheMode;
 
     private long lastUpdated;
 
@@ -57,20 +60,13 @@ public class GlobalSettingsSchema {
     }
 
     /**
-     * Retrieves the singleton instance of GlobalSettingsSchema.
+     * Retrieves the singleton instance of GlobalSettingsSchema, the same one the dependency registry
+     * injects.
      *
      * @return The singleton instance.
      */
     public static GlobalSettingsSchema getInstance() {
-        if (instance == null) {
-            synchronized (GlobalSettingsSchema.class) {
-                if (instance == null) {
-                    instance = new GlobalSettingsSchema();
-                    Logger.info("GlobalSettingsSchema: Singleton instance initialized.");
-                }
-            }
-        }
-        return instance;
+        return DependencyFactory.getInstance().getInjection(GlobalSettingsSchema.class);
     }
 
     /**
@@ -96,6 +92,10 @@ public class GlobalSettingsSchema {
             // Logging settings
             this.loggingLevel = props.getProperty("loggingLevel", "INFO");
             this.logToFile = Boolean.parseBoolean(props.getProperty("logToFile", "false"));
+            this.logOverflowPolicy = props.getProperty("logOverflowPolicy", "DROP_OLDEST");
+
+            // Cache settings
+            this.cacheMode = props.getProperty("cacheMode", "LOCAL");
 
             // OSRS settings
             this.osrsDatabaseFilename = props.getProperty("osrsDatabaseFilename", "");
@@ -119,6 +119,7 @@ public class GlobalSettingsSchema {
 
             // Cache the loaded settings
             GlobalSettingsCache.getInstance().putGlobalSettings(this);
+            Logger.applySettings(this);
 
             Logger.info("Configuration loaded successfully from {}", configPath);
         } catch (IOException e) {
@@ -231,6 +232,8 @@ public class GlobalSettingsSchema {
         this.createMissingFiles = other.createMissingFiles;
         this.loggingLevel = other.loggingLevel;
         this.logToFile = other.logToFile;
+        this.logOverflowPolicy = other.logOverflowPolicy;
+        this.cacheMode = other.cacheMode;
         this.osrsDatabaseFilename = other.osrsDatabaseFilename;
         this.osrsProfilesXmlPath = other.osrsProfilesXmlPath;
         this.osrsProfilesJsonPath = other.osrsProfilesJsonPath;
@@ -0,0 +1,292 @@
+package com.godscape.system.schemas;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flat settings container for profile and character schemas.
+ * <p>
+ * Settings are stored under a single flat key of the form {@code panelpath_componentid}
+ * (lower case), which is the same layout that is persisted to the cache and database, so the
+ * store itself is the flat view and no flatten/unflatten pass is needed on access. Composed keys
+ * are interned once per (panel path, component id) pair, making {@link #get(String, String)}
+ * and {@link #put(String, String, Object)} constant time without string building on the hot path.
+ * The intern pools are shared by all stores and bounded: once {@value #MAX_POOLED_KEYS} keys are
+ * pooled, further keys (such as ids of dynamically created components) are still normalized but no
+ * longer retained.
+ * <p>
+ * Keys are case-insensitive: every key is lower-cased on the way in, whichever method writes or
+ * reads it.
+ * <p>
+ * Readers on other threads can take a {@link #snapshot()}: an immutable copy that is rebuilt
+ * lazily on the first read after a write, so a burst of writes costs a single copy.
+ * <p>
+ * Null values are not stored; putting null removes the key.
+ */
+public class SettingsStore extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int MAX_POOLED_KEYS = 16384;
+
+    // panel path -> component id -> interned flat key
+    private static final Map<String, Map<String, String>> KEY_TABLE = new ConcurrentHashMap<>();
+    private static final Map<String, String> KEY_POOL = new ConcurrentHashMap<>();
+    private static final AtomicInteger TABLE_ENTRIES = new AtomicInteger();
+    private static final AtomicInteger POOL_ENTRIES = new AtomicInteger();
+
+    private final ConcurrentHashMap<String, Object> settings;
+    private final AtomicLong version = new AtomicLong();
+    private transient volatile Snapshot snapshot;
+
+    public SettingsStore() {
+        this.settings = new ConcurrentHashMap<>();
+    }
+
+    public SettingsStore(Map<String, ?> source) {
+        this.settings = new ConcurrentHashMap<>(source != null ? Math.max(16, source.size() * 2) : 16);
+        if (source != null) {
+            source.forEach((key, value) -> {
+                if (key != null && value != null) {
+                    settings.put(normalize(key), value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Wraps a map in a store, reusing it if it already is one.
+     */
+    public static SettingsStore of(Map<String, ?> source) {
+        return source instanceof SettingsStore ? (SettingsStore) source : new SettingsStore(source);
+    }
+
+    /**
+     * Returns the interned flat key for a panel path and component id.
+     */
+    public static String key(String panelPath, String componentId) {
+        Map<String, String> componentKeys = KEY_TABLE.get(panelPath);
+        String flatKey = componentKeys != null ? componentKeys.get(componentId) : null;
+        if (flatKey != null) {
+            return flatKey;
+        }
+        flatKey = intern(panelPath.toLowerCase() + "_" + componentId.toLowerCase());
+        if (TABLE_ENTRIES.get() < MAX_POOLED_KEYS
+                && KEY_TABLE.computeIfAbsent(panelPath, path -> new ConcurrentHashMap<>()).putIfAbsent(componentId, flatKey) == null) {
+            TABLE_ENTRIES.incrementAndGet();
+        }
+        return flatKey;
+    }
+
+    /**
+     * Returns the interned, lower-cased form of a flat key.
+     */
+    public static String normalize(String flatKey) {
+        String pooled = KEY_POOL.get(flatKey);
+        return pooled != null ? pooled : intern(flatKey.toLowerCase());
+    }
+
+    // Pools an already lower-cased key, unless the pool is full
+    private static String intern(String key) {
+        String existing = KEY_POOL.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (POOL_ENTRIES.get() >= MAX_POOLED_KEYS) {
+            return key;
+        }
+        existing = KEY_POOL.putIfAbsent(key, key);
+        if (existing != null) {
+            return existing;
+        }
+        POOL_ENTRIES.incrementAndGet();
+        return key;
+    }
+
+    private static Object normalizeKey(Object key) {
+        return key instanceof String ? normalize((String) key) : key;
+    }
+
+    public Object get(String panelPath, String componentId) {
+        return settings.get(key(panelPath, componentId));
+    }
+
+    public Object put(String panelPath, String componentId, Object value) {
+        return put(key(panelPath, componentId), value);
+    }
+
+    public Object remove(String panelPath, String componentId) {
+        return remove(key(panelPath, componentId));
+    }
+
+    /**
+     * Reads a setting by flat component id, ignoring case.
+     */
+    public Object getSetting(String componentId) {
+        return settings.get(normalize(componentId));
+    }
+
+    /**
+     * Writes a setting by flat component id, ignoring case.
+     */
+    public Object putSetting(String componentId, Object value) {
+        return put(normalize(componentId), value);
+    }
+
+    /**
+     * Returns an immutable, point-in-time copy of all settings that is safe to hand to other
+     * threads or to serializers. The copy is shared until the store is next modified.
+     */
+    public Map<String, Object> snapshot() {
+        long current = version.get();
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version == current) {
+            return cached.view;
+        }
+        Map<String, Object> view = Collections.unmodifiableMap(new HashMap<>(settings));
+        snapshot = new Snapshot(current, view);
+        return view;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return settings.get(normalizeKey(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return settings.containsKey(normalizeKey(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (value == null) {
+            return remove(key);
+        }
+        Object previous = settings.put(normalize(key), value);
+        if (previous != value) {
+            version.incrementAndGet();
+        }
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = settings.remove(normalizeKey(key));
+        if (previous != null) {
+            version.incrementAndGet();
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (!settings.isEmpty()) {
+            settings.clear();
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public int size() {
+        return settings.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return settings.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> delegate = settings.entrySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        return new StoreEntry(delegate.next());
+                    }
+
+                    @Override
+                    public void remove() {
+                        delegate.remove();
+                        version.incrementAndGet();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return settings.size();
+            }
+        };
+    }
+
+    private final class StoreEntry implements Entry<String, Object> {
+        private final Entry<String, Object> entry;
+
+        private StoreEntry(Entry<String, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public Object getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (value == null) {
+                throw new NullPointerException("SettingsStore does not hold null values");
+            }
+            Object previous = entry.setValue(value);
+            version.incrementAndGet();
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return entry.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final Map<String, Object> view;
+
+        private Snapshot(long version, Map<String, Object> view) {
+            this.version = version;
+            this.view = view;
+        }
+    }
+}
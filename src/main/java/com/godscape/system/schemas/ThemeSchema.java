@@ -5,6 +5,7 @@ import com.godscape.system.enums.Themes;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.SerializableFactory;
 import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.SettingsMapCodec;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -35,7 +36,7 @@ public class ThemeSchema implements IdentifiedDataSerializable {
     private boolean shadows;
 
     private static final HazelcastInstance hazelcastInstance = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance();
-    private static final IMap<String, ThemeSchema> themeCache = hazelcastInstance != null ? hazelcastInstance.getMap("themeCache") : null;
+    private static final IMap<String, ThemeSchema> themeCache = hazelcastInstance != null ? hazelcastInstance.getMap(HazelcastConfig.THEME_CACHE) : null;
 
     public ThemeSchema() {}
 
@@ -180,20 +181,24 @@ public class ThemeSchema implements IdentifiedDataSerializable {
 
     @Override
     public void writeData(com.hazelcast.nio.ObjectDataOutput out) throws IOException {
+        SettingsMapCodec.writeHeader(out);
         out.writeInt(themeId);
         out.writeString(themeName != null ? themeName : "");
-        out.writeBoolean(isActive);
         out.writeString(intensity != null ? intensity : "");
-        out.writeBoolean(smoothCorners);
-        out.writeBoolean(smoothButtons);
-        out.writeBoolean(animations);
-        out.writeBoolean(transparency);
-        out.writeBoolean(highlights);
-        out.writeBoolean(shadows);
+        out.writeByte(packFlags());
     }
 
     @Override
     public void readData(com.hazelcast.nio.ObjectDataInput in) throws IOException {
+        if (SettingsMapCodec.readHeader(in) > 0) {
+            this.themeId = in.readInt();
+            this.themeName = in.readString();
+            this.intensity = in.readString();
+            unpackFlags(in.readByte());
+            return;
+        }
+
+        // Legacy (unversioned) layout
         this.themeId = in.readInt();
         this.themeName = in.readString();
         this.isActive = in.readBoolean();
@@ -205,4 +210,27 @@ public class ThemeSchema implements IdentifiedDataSerializable {
         this.highlights = in.readBoolean();
         this.shadows = in.readBoolean();
     }
+
+    // Boolean options packed into one byte, bit order matches the legacy field order
+    private int packFlags() {
+        int flags = 0;
+        flags |= isActive ? 1 : 0;
+        flags |= smoothCorners ? 1 << 1 : 0;
+        flags |= smoothButtons ? 1 << 2 : 0;
+        flags |= animations ? 1 << 3 : 0;
+        flags |= transparency ? 1 << 4 : 0;
+        flags |= highlights ? 1 << 5 : 0;
+        flags |= shadows ? 1 << 6 : 0;
+        return flags;
+    }
+
+    private void unpackFlags(int flags) {
+        this.isActive = (flags & 1) != 0;
+        this.smoothCorners = (flags & 1 << 1) != 0;
+        this.smoothButtons = (flags & 1 << 2) != 0;
+        this.animations = (flags & 1 << 3) != 0;
+        this.transparency = (flags & 1 << 4) != 0;
+        this.highlights = (flags & 1 << 5) != 0;
+        this.shadows = (flags & 1 << 6) != 0;
+    }
 }
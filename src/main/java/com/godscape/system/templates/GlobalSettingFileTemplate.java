@@ -1,6 +1,7 @@
 package com.godscape.system.templates;
 
 import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.CacheMode;
 import com.godscape.system.enums.ConfigKeys;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.schemas.GlobalSettingsSchema;
@@ -152,6 +153,19 @@ public class GlobalSettingFileTemplate {
         writer.newLine();
         writer.write("logToFile=" + config.getBoolean(ConfigKeys.LOG_TO_FILE, false));
         writer.newLine();
+        writer.write("# BLOCK, DROP_NEWEST or DROP_OLDEST when the log buffer is full");
+        writer.newLine();
+        writer.write("logOverflowPolicy=" + config.getString(ConfigKeys.LOG_OVERFLOW_POLICY));
+        writer.newLine();
+        writer.newLine();
+
+        // Cache Settings
+        writer.write("[Cache]");
+        writer.newLine();
+        writer.write("# LOCAL = single isolated member on loopback with joining disabled, CLUSTER = TCP-IP join");
+        writer.newLine();
+        writer.write("cacheMode=" + CacheMode.fromString(settingsSchema.getCacheMode(), CacheMode.LOCAL).name());
+        writer.newLine();
         writer.newLine();
     }
 }
@@ -0,0 +1,307 @@
+package com.godscape.system.themes;
+
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.utility.Logger;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.awt.Frame;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single animation clock that drives every animated theme panel.
+ * <p>
+ * Theme panels register themselves instead of starting their own {@code javax.swing.Timer}. On each
+ * tick the clock advances only the panels that are showing in a window that is not iconified, and
+ * paints them immediately so the cost of the whole frame (update and paint) can be measured. When no
+ * registered panel can be seen, the clock stops until one is shown or its window is restored.
+ * <p>
+ * The frame rate adapts to a CPU budget: with an average frame cost of {@code c} seconds and a budget
+ * of {@code b} (a fraction of one core), the rate is {@code b / c}, kept between the configured
+ * minimum and maximum. Occlusion by other windows cannot be detected from Swing, so a window that is
+ * not active is capped at the background frame rate instead.
+ * <p>
+ * Registered panels are held weakly, so theme panels that are replaced and dropped are not kept alive.
+ * Everything runs on the event dispatch thread.
+ */
+@Singleton
+public class AnimationClock {
+
+    private static final int DEFAULT_MAX_FPS = 33;
+    private static final int DEFAULT_MIN_FPS = 10;
+    private static final int DEFAULT_BACKGROUND_FPS = 10;
+    private static final int DEFAULT_CPU_BUDGET_PERCENT = 25;
+    private static final int FRAME_SAMPLES = 256;
+    private static final double COST_SMOOTHING = 0.1;  // Weight of the newest frame in the average cost
+
+    private final List<WeakReference<JComponent>> animations = new ArrayList<>();
+    private final Map<Window, Boolean> watchedWindows = new WeakHashMap<>();
+    private final Timer timer;
+    private final ActionEvent frameEvent;
+
+    private final int maxFps;
+    private final int minFps;
+    private final int backgroundFps;
+    private final double cpuBudget;
+
+    private final long[] frameSamples = new long[FRAME_SAMPLES];  // Ring buffer of frame costs in nanoseconds
+    private int sampleCount;
+    private int sampleIndex;
+    private double averageCostNanos;
+    private int targetFps;
+    private long lastTickNanos;
+    private long frames;
+    private long droppedFrames;
+    private long fpsWindowStart;
+    private int fpsWindowFrames;
+    private double measuredFps;
+
+    public AnimationClock() {
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.maxFps = Math.max(1, config.getInt(ConfigKeys.ANIMATION_MAX_FPS, DEFAULT_MAX_FPS));
+        this.minFps = Math.max(1, Math.min(maxFps, config.getInt(ConfigKeys.ANIMATION_MIN_FPS, DEFAULT_MIN_FPS)));
+        this.backgroundFps = Math.max(minFps, Math.min(maxFps, config.getInt(ConfigKeys.ANIMATION_BACKGROUND_FPS, DEFAULT_BACKGROUND_FPS)));
+        this.cpuBudget = Math.max(1, Math.min(100, config.getInt(ConfigKeys.ANIMATION_CPU_BUDGET_PERCENT, DEFAULT_CPU_BUDGET_PERCENT))) / 100.0;
+        this.targetFps = maxFps;
+        this.timer = new Timer(1000 / maxFps, e -> tick());
+        this.timer.setCoalesce(true);
+        this.frameEvent = new ActionEvent(this, ActionEvent.ACTION_PERFORMED, "frame");
+        Logger.info("AnimationClock: Initialized at up to {} FPS with a CPU budget of {}%.", maxFps, (int) (cpuBudget * 100));
+    }
+
+    /**
+     * Registers an animated panel. Its {@code actionPerformed} is called once per frame while it is
+     * showing, after which the panel is painted. Registering a panel twice has no effect.
+     */
+    public <T extends JComponent & ActionListener> void register(T animation) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> register(animation));
+            return;
+        }
+        for (WeakReference<JComponent> reference : animations) {
+            if (reference.get() == animation) {
+                return;
+            }
+        }
+        animations.add(new WeakReference<>(animation));
+        animation.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & (HierarchyEvent.SHOWING_CHANGED | HierarchyEvent.PARENT_CHANGED)) != 0) {
+                watchWindow(SwingUtilities.getWindowAncestor(animation));
+                updateRunning();
+            }
+        });
+        watchWindow(SwingUtilities.getWindowAncestor(animation));
+        updateRunning();
+    }
+
+    /**
+     * Stops driving a panel.
+     */
+    public void unregister(JComponent animation) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> unregister(animation));
+            return;
+        }
+        animations.removeIf(reference -> reference.get() == null || reference.get() == animation);
+        updateRunning();
+    }
+
+    // Window state and focus decide whether the clock runs and at which rate
+    private void watchWindow(Window window) {
+        if (window == null || watchedWindows.put(window, Boolean.TRUE) != null) {
+            return;
+        }
+        WindowAdapter listener = new WindowAdapter() {
+            @Override
+            public void windowStateChanged(WindowEvent e) {
+                updateRunning();
+            }
+
+            @Override
+            public void windowGainedFocus(WindowEvent e) {
+                adaptFrameRate(true);
+            }
+
+            @Override
+            public void windowLostFocus(WindowEvent e) {
+                adaptFrameRate(false);
+            }
+        };
+        window.addWindowStateListener(listener);
+        window.addWindowFocusListener(listener);
+    }
+
+    private void updateRunning() {
+        boolean visible = false;
+        Iterator<WeakReference<JComponent>> iterator = animations.iterator();
+        while (iterator.hasNext()) {
+            JComponent animation = iterator.next().get();
+            if (animation == null) {
+                iterator.remove();
+            } else if (isVisible(animation)) {
+                visible = true;
+            }
+        }
+        if (visible && !timer.isRunning()) {
+            lastTickNanos = 0;
+            timer.start();
+            Logger.debug("AnimationClock: Resumed.");
+        } else if (!visible && timer.isRunning()) {
+            timer.stop();
+            Logger.debug("AnimationClock: Paused, no animation is visible.");
+        }
+    }
+
+    private static boolean isVisible(JComponent animation) {
+        if (!animation.isShowing()) {
+            return false;
+        }
+        Window window = SwingUtilities.getWindowAncestor(animation);
+        return !(window instanceof Frame) || (((Frame) window).getExtendedState() & Frame.ICONIFIED) == 0;
+    }
+
+    private void tick() {
+        long started = System.nanoTime();
+        long period = TimeUnit.MILLISECONDS.toNanos(timer.getDelay());
+        if (lastTickNanos != 0) {
+            // The timer coalesces late ticks, so a long gap stands for the frames that were skipped
+            long interval = started - lastTickNanos;
+            if (interval > period * 3 / 2) {
+                droppedFrames += Math.max(1, Math.round((double) interval / period) - 1);
+            }
+        }
+        lastTickNanos = started;
+
+        int driven = 0;
+        boolean focused = false;
+        Iterator<WeakReference<JComponent>> iterator = animations.iterator();
+        while (iterator.hasNext()) {
+            JComponent animation = iterator.next().get();
+            if (animation == null) {
+                iterator.remove();
+                continue;
+            }
+            if (!isVisible(animation)) {
+                continue;
+            }
+            try {
+                ((ActionListener) animation).actionPerformed(frameEvent);
+                // Paint now rather than through the repaint the panel just queued, so the paint is part of the measured frame
+                RepaintManager.currentManager(animation).markCompletelyClean(animation);
+                animation.paintImmediately(0, 0, animation.getWidth(), animation.getHeight());
+            } catch (Exception e) {
+                Logger.error("AnimationClock: Error animating {}: {}", animation.getClass().getSimpleName(), e.getMessage(), e);
+            }
+            driven++;
+            Window window = SwingUtilities.getWindowAncestor(animation);
+            focused |= window != null && window.isActive();
+        }
+        if (driven == 0) {
+            updateRunning();
+            return;
+        }
+
+        long now = System.nanoTime();
+        recordFrame(now - started, now);
+        adaptFrameRate(focused);
+    }
+
+    private synchronized void recordFrame(long costNanos, long now) {
+        frames++;
+        frameSamples[sampleIndex] = costNanos;
+        sampleIndex = (sampleIndex + 1) % FRAME_SAMPLES;
+        sampleCount = Math.min(sampleCount + 1, FRAME_SAMPLES);
+        averageCostNanos = averageCostNanos == 0 ? costNanos
+                : averageCostNanos + COST_SMOOTHING * (costNanos - averageCostNanos);
+
+        fpsWindowFrames++;
+        if (fpsWindowStart == 0) {
+            fpsWindowStart = now;
+        } else if (now - fpsWindowStart >= TimeUnit.SECONDS.toNanos(1)) {
+            measuredFps = fpsWindowFrames * (double) TimeUnit.SECONDS.toNanos(1) / (now - fpsWindowStart);
+            fpsWindowStart = now;
+            fpsWindowFrames = 0;
+        }
+    }
+
+    private void adaptFrameRate(boolean focused) {
+        int cap = focused ? maxFps : backgroundFps;
+        double costSeconds = averageCostNanos / TimeUnit.SECONDS.toNanos(1);
+        int budgetFps = costSeconds > 0 ? (int) Math.min(Integer.MAX_VALUE, cpuBudget / costSeconds) : cap;
+        int fps = Math.max(minFps, Math.min(cap, budgetFps));
+        synchronized (this) {
+            if (fps == targetFps) {
+                return;
+            }
+            targetFps = fps;
+        }
+        timer.setDelay(Math.max(1, 1000 / fps));
+        Logger.debug("AnimationClock: Frame rate set to {} FPS.", fps);
+    }
+
+    /**
+     * @return Frames per second over the last full second of animation.
+     */
+    public synchronized double getMeasuredFps() {
+        return measuredFps;
+    }
+
+    /**
+     * @return The frame rate the clock currently aims for.
+     */
+    public synchronized int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * Returns a percentile of the cost of recent frames, from the start of the update to the end of
+     * the paint.
+     *
+     * @param percentile Between 0 and 100.
+     */
+    public synchronized double getFrameTimePercentileMillis(double percentile) {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(frameSamples, sampleCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sampleCount) - 1;
+        return sorted[Math.max(0, Math.min(sampleCount - 1, index))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public synchronized long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return Frames skipped because a tick arrived later than the frame period allowed.
+     */
+    public synchronized long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * @return Whether the clock is running; it is paused while no animation is visible.
+     */
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+}
@@ -0,0 +1,81 @@
+package com.godscape.system.themes;
+
+/**
+ * Keeps a population of particles of one {@link ParticleType} alive in a {@link ParticleSystem}.
+ * <p>
+ * Areas are given as fractions of the system bounds, so emitters follow the panel when it is resized;
+ * fractions outside 0..1 spawn particles just off screen. When the bounds are set the whole population
+ * is placed in the fill area. Afterwards every particle that expires or leaves the bounds is replaced by
+ * one spawned in the spawn area, so the population stays constant. Both areas default to the whole
+ * bounds.
+ */
+public final class ParticleEmitter {
+
+    // Read directly by ParticleSystem
+    final ParticleType type;
+    final int population;
+    float spawnX0 = 0, spawnY0 = 0, spawnX1 = 1, spawnY1 = 1;
+    float fillX0 = 0, fillY0 = 0, fillX1 = 1, fillY1 = 1;
+    float minVx, maxVx, minVy, maxVy;
+    float minLife, maxLife;  // In frames, zero for particles that only die by leaving the bounds
+
+    /**
+     * @param type       The type of the particles.
+     * @param population The number of particles to keep alive.
+     */
+    public ParticleEmitter(ParticleType type, int population) {
+        this.type = type;
+        this.population = population;
+    }
+
+    /**
+     * Sets the area new particles are spawned in, as fractions of the bounds.
+     */
+    public ParticleEmitter spawnArea(float x0, float y0, float x1, float y1) {
+        this.spawnX0 = x0;
+        this.spawnY0 = y0;
+        this.spawnX1 = x1;
+        this.spawnY1 = y1;
+        return this;
+    }
+
+    /**
+     * Sets the area the initial population is placed in, as fractions of the bounds.
+     */
+    public ParticleEmitter fillArea(float x0, float y0, float x1, float y1) {
+        this.fillX0 = x0;
+        this.fillY0 = y0;
+        this.fillX1 = x1;
+        this.fillY1 = y1;
+        return this;
+    }
+
+    /**
+     * Sets the range of the initial velocity, in pixels per frame.
+     */
+    public ParticleEmitter velocity(float minVx, float maxVx, float minVy, float maxVy) {
+        this.minVx = minVx;
+        this.maxVx = maxVx;
+        this.minVy = minVy;
+        this.maxVy = maxVy;
+        return this;
+    }
+
+    /**
+     * Sets the range of the life of the particles in frames. Without a life they live until they leave
+     * the bounds.
+     */
+    public ParticleEmitter life(float minFrames, float maxFrames) {
+        this.minLife = minFrames;
+        this.maxLife = Math.max(minFrames, maxFrames);
+        return this;
+    }
+
+    public ParticleType getType() {
+        return type;
+    }
+
+    public int getPopulation() {
+        return population;
+    }
+}
@@ -0,0 +1,335 @@
+package com.godscape.system.themes;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulates and draws the particles of a theme (ash, embers, snow) without an object per particle.
+ * <p>
+ * Particle state is kept in parallel primitive arrays indexed by slot, so an update is a single pass
+ * over a few float arrays and does not allocate. Dead slots go onto a free list and are reused by the
+ * next particle spawned; nothing is allocated after construction. Particles are spawned by
+ * {@link ParticleEmitter}s, which keep their population constant, and are drawn grouped by type and
+ * alpha level, so the colour is set once per group instead of once per particle.
+ * <p>
+ * A theme calls {@link #resize} when its size changes, {@link #update} once per animation frame and
+ * {@link #draw} from {@code paintComponent}. Instances are not thread safe; themes use them on the
+ * event dispatch thread only.
+ */
+public class ParticleSystem {
+
+    private static final int ALPHA_LEVELS = 16;       // Fading particles are drawn in this many alpha steps
+    private static final float BOUNDS_MARGIN = 32;     // Particles die this many pixels outside the bounds
+    private static final int SINE_SIZE = 1024;         // Entries of the sine table, a power of two
+    private static final float SINE_SCALE = SINE_SIZE / (float) (2 * Math.PI);
+    private static final float[] SINE = new float[SINE_SIZE];
+
+    static {
+        for (int i = 0; i < SINE_SIZE; i++) {
+            SINE[i] = (float) Math.sin(i / SINE_SCALE);
+        }
+    }
+
+    private final int capacity;
+
+    // Particle state, one slot per particle
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;    // Remaining life from 1 down to 0
+    private final float[] decay;   // Life lost per frame, zero for particles without a life
+    private final float[] size;
+    private final int[] typeOf;
+    private final int[] emitterOf; // -1 for a free slot
+
+    private final int[] freeSlots;
+    private int freeCount;
+    private int highWater;         // No live particle at or above this slot
+    private int aliveCount;
+
+    // Drawing scratch space: a counting sort of the live slots by type and alpha level
+    private final int[] drawKey;
+    private final int[] drawOrder;
+    private int[] bucketStart = new int[1];
+    private int[] bucketCursor = new int[0];
+
+    // Per type, copied from the ParticleTypes when they are first added
+    private final Map<ParticleType, Integer> typeIndex = new IdentityHashMap<>();
+    private float[] typeGravity = new float[0];
+    private float[] typeJitter = new float[0];
+    private float[] typeSway = new float[0];
+    private float[] typeSwayFrequency = new float[0];  // Sine table steps per pixel
+    private boolean[] typeFading = new boolean[0];
+    private boolean[] typeOval = new boolean[0];
+    private Color[][] typeColors = new Color[0][];     // Per alpha level
+
+    private final List<ParticleEmitter> emitters = new ArrayList<>();
+    private int[] emitterAlive = new int[0];
+
+    private float width;
+    private float height;
+    private int seed = 0x2545F491;
+
+    /**
+     * @param capacity The largest number of particles alive at once. Emitters stop short of their
+     *                 population when it is reached.
+     */
+    public ParticleSystem(int capacity) {
+        this.capacity = capacity;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.life = new float[capacity];
+        this.decay = new float[capacity];
+        this.size = new float[capacity];
+        this.typeOf = new int[capacity];
+        this.emitterOf = new int[capacity];
+        this.freeSlots = new int[capacity];
+        this.drawKey = new int[capacity];
+        this.drawOrder = new int[capacity];
+        clear();
+    }
+
+    /**
+     * Adds an emitter. Its particles appear at the next {@link #resize}.
+     */
+    public void addEmitter(ParticleEmitter emitter) {
+        registerType(emitter.type);
+        emitters.add(emitter);
+        emitterAlive = Arrays.copyOf(emitterAlive, emitters.size());
+    }
+
+    private void registerType(ParticleType type) {
+        if (typeIndex.containsKey(type)) {
+            return;
+        }
+        int index = typeIndex.size();
+        typeIndex.put(type, index);
+        int types = index + 1;
+        typeGravity = Arrays.copyOf(typeGravity, types);
+        typeJitter = Arrays.copyOf(typeJitter, types);
+        typeSway = Arrays.copyOf(typeSway, types);
+        typeSwayFrequency = Arrays.copyOf(typeSwayFrequency, types);
+        typeFading = Arrays.copyOf(typeFading, types);
+        typeOval = Arrays.copyOf(typeOval, types);
+        typeColors = Arrays.copyOf(typeColors, types);
+
+        typeGravity[index] = type.getGravity();
+        typeJitter[index] = type.getJitter();
+        typeSway[index] = type.getSwayAmplitude();
+        typeSwayFrequency[index] = SINE_SCALE / type.getSwayWavelength();
+        typeFading[index] = type.isFading();
+        typeOval[index] = type.getShape() == ParticleType.Shape.OVAL;
+        Color color = type.getColor();
+        Color[] levels = new Color[ALPHA_LEVELS];
+        for (int level = 0; level < ALPHA_LEVELS; level++) {
+            int alpha = Math.round(color.getAlpha() * level / (float) (ALPHA_LEVELS - 1));
+            levels[level] = new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+        }
+        typeColors[index] = levels;
+
+        bucketStart = new int[types * ALPHA_LEVELS + 1];
+        bucketCursor = new int[types * ALPHA_LEVELS];
+    }
+
+    /**
+     * Sets the bounds and replaces all particles with the full population of every emitter, placed in
+     * their fill areas. Nothing is spawned while either dimension is zero.
+     */
+    public void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        clear();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        for (int e = 0; e < emitters.size(); e++) {
+            spawn(e, true);
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(emitterOf, -1);
+        Arrays.fill(emitterAlive, 0);
+        // Highest slot at the bottom of the stack, so slots are handed out from the lowest up
+        freeCount = 0;
+        for (int i = capacity - 1; i >= 0; i--) {
+            freeSlots[freeCount++] = i;
+        }
+        highWater = 0;
+        aliveCount = 0;
+    }
+
+    /**
+     * Advances every particle by one frame, then replaces those that expired or left the bounds.
+     */
+    public void update() {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        float minX = -BOUNDS_MARGIN;
+        float minY = -BOUNDS_MARGIN;
+        float maxX = width + BOUNDS_MARGIN;
+        float maxY = height + BOUNDS_MARGIN;
+
+        for (int i = 0; i < highWater; i++) {
+            if (emitterOf[i] < 0) {
+                continue;
+            }
+            int type = typeOf[i];
+            float px = x[i] + vx[i];
+            float sway = typeSway[type];
+            if (sway != 0) {
+                px += sway * SINE[(int) (y[i] * typeSwayFrequency[type]) & (SINE_SIZE - 1)];
+            }
+            float jitter = typeJitter[type];
+            if (jitter != 0) {
+                px += jitter * (nextFloat() - 0.5f);
+            }
+            float velocityY = vy[i] + typeGravity[type];
+            float py = y[i] + velocityY;
+            float remaining = life[i] - decay[i];
+
+            x[i] = px;
+            y[i] = py;
+            vy[i] = velocityY;
+            life[i] = remaining;
+            if (remaining <= 0 || px < minX || px > maxX || py < minY || py > maxY) {
+                kill(i);
+            }
+        }
+        while (highWater > 0 && emitterOf[highWater - 1] < 0) {
+            highWater--;
+        }
+
+        for (int e = 0; e < emitters.size(); e++) {
+            spawn(e, false);
+        }
+    }
+
+    private void kill(int slot) {
+        emitterAlive[emitterOf[slot]]--;
+        emitterOf[slot] = -1;
+        freeSlots[freeCount++] = slot;
+        aliveCount--;
+    }
+
+    // Tops the emitter up to its population, in its fill area or its spawn area
+    private void spawn(int e, boolean fill) {
+        ParticleEmitter emitter = emitters.get(e);
+        ParticleType type = emitter.type;
+        int typeSlot = typeIndex.get(type);
+        float x0 = fill ? emitter.fillX0 : emitter.spawnX0;
+        float y0 = fill ? emitter.fillY0 : emitter.spawnY0;
+        float x1 = fill ? emitter.fillX1 : emitter.spawnX1;
+        float y1 = fill ? emitter.fillY1 : emitter.spawnY1;
+
+        while (emitterAlive[e] < emitter.population && freeCount > 0) {
+            int slot = freeSlots[--freeCount];
+            if (slot >= highWater) {
+                highWater = slot + 1;
+            }
+            x[slot] = width * lerp(x0, x1, nextFloat());
+            y[slot] = height * lerp(y0, y1, nextFloat());
+            vx[slot] = lerp(emitter.minVx, emitter.maxVx, nextFloat());
+            vy[slot] = lerp(emitter.minVy, emitter.maxVy, nextFloat());
+            size[slot] = lerp(type.getMinSize(), type.getMaxSize(), nextFloat());
+            if (emitter.maxLife > 0) {
+                decay[slot] = 1 / lerp(emitter.minLife, emitter.maxLife, nextFloat());
+                // The initial population starts part way through its life, so it does not expire all at once
+                life[slot] = fill ? 1 - 0.99f * nextFloat() : 1;
+            } else {
+                decay[slot] = 0;
+                life[slot] = 1;
+            }
+            typeOf[slot] = typeSlot;
+            emitterOf[slot] = e;
+            emitterAlive[e]++;
+            aliveCount++;
+        }
+    }
+
+    /**
+     * Draws every live particle, setting the colour once per type and alpha level.
+     */
+    public void draw(Graphics2D g2d) {
+        int[] start = bucketStart;
+        int[] cursor = bucketCursor;
+        Arrays.fill(start, 0);
+
+        for (int i = 0; i < highWater; i++) {
+            if (emitterOf[i] < 0) {
+                drawKey[i] = -1;
+                continue;
+            }
+            int type = typeOf[i];
+            int level = typeFading[type] ? (int) (life[i] * (ALPHA_LEVELS - 1) + 0.5f) : ALPHA_LEVELS - 1;
+            if (level <= 0) {
+                drawKey[i] = -1;  // Fully transparent
+                continue;
+            }
+            int key = type * ALPHA_LEVELS + Math.min(level, ALPHA_LEVELS - 1);
+            drawKey[i] = key;
+            start[key + 1]++;
+        }
+        for (int key = 0; key < cursor.length; key++) {
+            start[key + 1] += start[key];
+            cursor[key] = start[key];
+        }
+        for (int i = 0; i < highWater; i++) {
+            int key = drawKey[i];
+            if (key >= 0) {
+                drawOrder[cursor[key]++] = i;
+            }
+        }
+
+        for (int key = 0; key < cursor.length; key++) {
+            int from = start[key];
+            int to = start[key + 1];
+            if (from == to) {
+                continue;
+            }
+            int type = key / ALPHA_LEVELS;
+            g2d.setColor(typeColors[type][key % ALPHA_LEVELS]);
+            boolean oval = typeOval[type];
+            for (int n = from; n < to; n++) {
+                int slot = drawOrder[n];
+                int diameter = (int) size[slot];
+                if (oval) {
+                    g2d.fillOval((int) x[slot], (int) y[slot], diameter, diameter);
+                } else {
+                    g2d.fillRect((int) x[slot], (int) y[slot], diameter, diameter);
+                }
+            }
+        }
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static float lerp(float from, float to, float t) {
+        return from + (to - from) * t;
+    }
+
+    // Xorshift; java.util.Random would add a compare-and-set per call to the update loop
+    private float nextFloat() {
+        int s = seed;
+        s ^= s << 13;
+        s ^= s >>> 17;
+        s ^= s << 5;
+        seed = s;
+        return (s >>> 8) * 0x1p-24f;
+    }
+}
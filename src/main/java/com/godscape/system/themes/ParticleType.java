@@ -0,0 +1,111 @@
+package com.godscape.system.themes;
+
+import java.awt.Color;
+
+/**
+ * How a kind of particle looks and moves: its colour, shape and size, whether it fades out over its
+ * life, and the forces applied to it every frame.
+ * <p>
+ * A {@link ParticleSystem} copies these values when the first emitter of the type is added, so later
+ * changes to a type are not picked up.
+ */
+public final class ParticleType {
+
+    public enum Shape {
+        OVAL,
+        SQUARE
+    }
+
+    private final Color color;
+    private final Shape shape;
+    private final float minSize;
+    private final float maxSize;
+    private boolean fading;
+    private float gravity;
+    private float jitter;
+    private float swayAmplitude;
+    private float swayWavelength = 1;
+
+    /**
+     * @param color   The colour, including the alpha the particle has at full life.
+     * @param shape   The shape drawn for each particle.
+     * @param minSize The smallest size in pixels, chosen per particle when it is spawned.
+     * @param maxSize The largest size in pixels.
+     */
+    public ParticleType(Color color, Shape shape, float minSize, float maxSize) {
+        this.color = color;
+        this.shape = shape;
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+    }
+
+    /**
+     * Makes the alpha of the particles follow their remaining life, so they fade out as they expire.
+     */
+    public ParticleType fading() {
+        this.fading = true;
+        return this;
+    }
+
+    /**
+     * Adds to the vertical velocity every frame; positive values pull downwards.
+     */
+    public ParticleType gravity(float gravity) {
+        this.gravity = gravity;
+        return this;
+    }
+
+    /**
+     * Moves the particles sideways by a random amount of up to half the given number of pixels every frame.
+     */
+    public ParticleType jitter(float jitter) {
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Moves the particles sideways by {@code amplitude * sin(y / wavelength)} pixels every frame, so they
+     * drift in a wave as they rise or fall.
+     */
+    public ParticleType sway(float amplitude, float wavelength) {
+        this.swayAmplitude = amplitude;
+        this.swayWavelength = wavelength;
+        return this;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public float getMinSize() {
+        return minSize;
+    }
+
+    public float getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isFading() {
+        return fading;
+    }
+
+    public float getGravity() {
+        return gravity;
+    }
+
+    public float getJitter() {
+        return jitter;
+    }
+
+    public float getSwayAmplitude() {
+        return swayAmplitude;
+    }
+
+    public float getSwayWavelength() {
+        return swayWavelength;
+    }
+}
@@ -1,8 +1,8 @@
 // File: com/godscape/system/themes/ThemeAbstraction.java
 package com.godscape.system.themes;
 
+import com.godscape.system.factories.DependencyFactory;
 import javax.swing.JPanel;
-import javax.swing.Timer;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -17,7 +17,6 @@ import java.util.ArrayList;
 public abstract class ThemeAbstraction extends JPanel implements ActionListener {
     protected ArrayList<ThemeObject> themeObjects;
     protected Dimension canvasSize;
-    private Timer timer;
     protected int frameCount = 0;
 
     /**
@@ -40,7 +39,7 @@ public abstract class ThemeAbstraction extends JPanel implements ActionListener
         this.themeObjects = new ArrayList<>();
         setDoubleBuffered(true); // Enable double buffering for smooth rendering
         initializeObjects();      // Initialize theme-specific objects
-        initializeTimer();        // Set up the animation timer
+        start();                  // Register with the animation clock
     }
 
     /**
@@ -56,15 +55,7 @@ public abstract class ThemeAbstraction extends JPanel implements ActionListener
     protected abstract void drawBackground(Graphics2D g2d);
 
     /**
-     * Initialize the animation timer.
-     */
-    private void initializeTimer() {
-        timer = new Timer(30, this); // Approximately 33 FPS
-        timer.start();
-    }
-
-    /**
-     * Handle timer events to repaint the panel.
+     * Handle animation clock frames to repaint the panel.
      *
      * @param e ActionEvent
      */
@@ -101,16 +92,16 @@ public abstract class ThemeAbstraction extends JPanel implements ActionListener
     }
 
     /**
-     * Start the animation timer.
+     * Start animating by registering with the shared {@link AnimationClock}.
      */
     protected void start() {
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
     }
 
     /**
-     * Stop the animation timer.
+     * Stop animating by unregistering from the shared {@link AnimationClock}.
      */
     protected void stop() {
-        timer.stop();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).unregister(this);
     }
 }
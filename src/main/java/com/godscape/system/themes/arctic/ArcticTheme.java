@@ -1,5 +1,10 @@
 package com.godscape.system.themes.arctic;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
+import com.godscape.system.themes.ParticleEmitter;
+import com.godscape.system.themes.ParticleSystem;
+import com.godscape.system.themes.ParticleType;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -15,16 +20,16 @@ import java.util.Random;
  * The scene auto-adapts to the canvas size.
  */
 public class ArcticTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<ArcticObject> arcticObjects;
     private Random rand = new Random();
+    private final ParticleSystem particles = new ParticleSystem(200); // Snowflakes
     private int frameCount = 0;
 
     public ArcticTheme() {
         arcticObjects = new ArrayList<>();
+        initParticles();
         initArcticObjects();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add a listener to handle resizing
         this.addComponentListener(new ComponentAdapter() {
@@ -35,11 +40,22 @@ public class ArcticTheme extends JPanel implements ActionListener {
         });
     }
 
+    /**
+     * Declares the snowflakes falling from the top of the panel.
+     */
+    private void initParticles() {
+        particles.addEmitter(new ParticleEmitter(
+                new ParticleType(Color.WHITE, ParticleType.Shape.OVAL, 2, 5).sway(1, 20), 200)
+                .spawnArea(0, 0, 1, 0)
+                .velocity(0, 0, 0.5f, 1.5f));
+    }
+
     /**
      * Initializes arctic objects based on the current panel size.
      */
     private void initArcticObjects() {
         arcticObjects.clear();
+        particles.resize(getWidth(), getHeight());
 
         int width = getWidth();
         int height = getHeight();
@@ -54,11 +70,6 @@ public class ArcticTheme extends JPanel implements ActionListener {
         arcticObjects.add(new Mountain(width * 3 / 4.0, height * 2 / 3.0, width, height));
         arcticObjects.add(new Iceberg(width / 2.0, height * 3 / 4.0, width, height));
 
-        // Snowflakes
-        for (int i = 0; i < 200; i++) {
-            arcticObjects.add(new Snowflake(rand.nextInt(width), rand.nextInt(height), rand.nextDouble() + 0.5, width, height));
-        }
-
         // Polar bears
         for (int i = 0; i < 3; i++) {
             arcticObjects.add(new PolarBear(rand.nextInt(width), height - 50 - rand.nextInt(50), 1 + rand.nextDouble(), width, height));
@@ -105,6 +116,7 @@ public class ArcticTheme extends JPanel implements ActionListener {
             obj.move();
             obj.draw(g2d);
         }
+        particles.draw(g2d);
 
         g2d.dispose();
     }
@@ -126,6 +138,7 @@ public class ArcticTheme extends JPanel implements ActionListener {
 
     @Override
     public void actionPerformed(ActionEvent e) {
+        particles.update();
         repaint();
     }
 
@@ -203,31 +216,6 @@ public class ArcticTheme extends JPanel implements ActionListener {
         }
     }
 
-    // Snowflake class
-    class Snowflake extends ArcticObject {
-
-        Snowflake(double x, double y, double speed, int width, int height) {
-            super(x, y, speed, width, height);
-        }
-
-        @Override
-        void move() {
-            y += speed;
-            x += Math.sin(y / 20.0) * 1;
-            if (y > panelHeight) {
-                y = -10;
-                x = rand.nextInt(panelWidth);
-            }
-        }
-
-        @Override
-        void draw(Graphics2D g2d) {
-            g2d.setColor(Color.WHITE);
-            int size = 2 + rand.nextInt(3);
-            g2d.fillOval((int) x, (int) y, size, size);
-        }
-    }
-
     // PolarBear class
     class PolarBear extends ArcticObject {
 
@@ -1,5 +1,7 @@
 package com.godscape.system.themes.celestial;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -12,7 +14,6 @@ import java.util.Random;
  * incorporating various astronomical phenomena and objects.
  */
 public class CelestialTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<CelestialObject> celestialObjects;
     private Random rand = new Random();
     private int width = 1200, height = 800;
@@ -22,8 +23,7 @@ public class CelestialTheme extends JPanel implements ActionListener {
         setPreferredSize(new Dimension(width, height));
         celestialObjects = new ArrayList<>();
         initCelestialObjects();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Ensure objects are initialized based on actual size
         addComponentListener(new ComponentAdapter() {
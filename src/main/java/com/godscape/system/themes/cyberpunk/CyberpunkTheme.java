@@ -1,5 +1,7 @@
 package com.godscape.system.themes.cyberpunk;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -11,15 +13,13 @@ import java.util.Random;
  * CyberpunkTheme represents an animated cyberpunk city scene with neon lights, flying cars, and rain.
  */
 public class CyberpunkTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<CyberpunkElement> cyberpunkElements;
     private Random rand = new Random();
     private int frameCount = 0;
 
     public CyberpunkTheme() {
         cyberpunkElements = new ArrayList<>();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add component listener to handle window resizing
         addComponentListener(new ComponentAdapter() {
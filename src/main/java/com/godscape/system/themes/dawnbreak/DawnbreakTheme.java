@@ -1,5 +1,7 @@
 package com.godscape.system.themes.dawnbreak;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -11,15 +13,13 @@ import java.util.Random;
  * DawnbreakTheme represents a New Year's celebration scene with fireworks, sparkling lights, and festive elements.
  */
 public class DawnbreakTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<NewYearElement> newYearElements;
     private Random rand = new Random();
     private int frameCount = 0;
 
     public DawnbreakTheme() {
         newYearElements = new ArrayList<>();
-        timer = new Timer(30, this); // ~33 FPS for smooth animations
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add component listener to handle window resizing
         addComponentListener(new ComponentAdapter() {
@@ -1,5 +1,10 @@
 package com.godscape.system.themes.frostfall;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
+import com.godscape.system.themes.ParticleEmitter;
+import com.godscape.system.themes.ParticleSystem;
+import com.godscape.system.themes.ParticleType;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -16,16 +21,16 @@ import java.util.Random;
  * reindeer animations, falling presents, and twinkling stars.
  */
 public class FrostfallTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<WinterElement> winterElements;
     private Random rand = new Random();
+    private final ParticleSystem particles = new ParticleSystem(150); // Snowflakes
     private int frameCount = 0;
 
     public FrostfallTheme() {
         winterElements = new ArrayList<>();
+        initParticles();
         initWinterElements();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add a listener to handle resizing
         this.addComponentListener(new ComponentAdapter() {
@@ -36,11 +41,22 @@ public class FrostfallTheme extends JPanel implements ActionListener {
         });
     }
 
+    /**
+     * Declares the snowflakes falling from the top of the panel.
+     */
+    private void initParticles() {
+        particles.addEmitter(new ParticleEmitter(
+                new ParticleType(new Color(255, 255, 255, 180), ParticleType.Shape.OVAL, 5, 10).sway(0.5f, 10), 150)
+                .spawnArea(0, 0, 1, 0)
+                .velocity(0, 0, 1, 2));
+    }
+
     /**
      * Initializes winter elements based on the current panel size.
      */
     private void initWinterElements() {
         winterElements.clear();
+        particles.resize(getWidth(), getHeight());
 
         int width = getWidth();
         int height = getHeight();
@@ -50,11 +66,6 @@ public class FrostfallTheme extends JPanel implements ActionListener {
             return;
         }
 
-        // Add falling snowflakes
-        for (int i = 0; i < 150; i++) { // Increased number for denser snowfall
-            winterElements.add(new Snowflake(rand.nextInt(width), rand.nextInt(height), 1 + rand.nextDouble()));
-        }
-
         // Add snow-covered pine trees
         for (int i = 0; i < 7; i++) { // Increased number for a denser forest
             winterElements.add(new PineTree(rand.nextInt(width), height - 150 + rand.nextInt(50)));
@@ -102,6 +113,9 @@ public class FrostfallTheme extends JPanel implements ActionListener {
         int currentHeight = getHeight();
         drawWinterBackground(g2d, currentWidth, currentHeight);
 
+        // Draw the snowflakes behind all winter elements
+        particles.draw(g2d);
+
         // Draw all winter elements
         for (WinterElement element : winterElements) {
             element.move(currentWidth, currentHeight, frameCount);
@@ -128,6 +142,7 @@ public class FrostfallTheme extends JPanel implements ActionListener {
 
     @Override
     public void actionPerformed(ActionEvent e) {
+        particles.update();
         repaint();
     }
 
@@ -147,33 +162,6 @@ public class FrostfallTheme extends JPanel implements ActionListener {
         abstract void draw(Graphics2D g2d);
     }
 
-    // Snowflake class for falling snow
-    class Snowflake extends WinterElement {
-        int size;
-
-        Snowflake(double x, double y, double speed) {
-            this.x = x;
-            this.y = y;
-            this.speed = speed;
-            this.size = 5 + rand.nextInt(5);
-        }
-
-        @Override
-        void move(int canvasWidth, int canvasHeight, int frameCount) {
-            y += speed;
-            x += Math.sin(frameCount / 10.0) * 0.5;
-            if (y > canvasHeight) {
-                y = -size;
-                x = rand.nextInt(canvasWidth);
-            }
-        }
-
-        @Override
-        void draw(Graphics2D g2d) {
-            g2d.setColor(new Color(255, 255, 255, 180));
-            g2d.fillOval((int) x, (int) y, size, size);
-        }
-    }
 
     // PineTree class representing snow-covered pine trees
     class PineTree extends WinterElement {
@@ -1,5 +1,7 @@
 package com.godscape.system.themes.heartswake;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -11,15 +13,13 @@ import java.util.Random;
  * HeartswakeTheme represents a romantic Valentine's Day scene with animated hearts, petals, and a dreamy atmosphere.
  */
 public class HeartswakeTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<ValentineElement> valentineElements;
     private Random rand = new Random();
     private int frameCount = 0;
 
     public HeartswakeTheme() {
         valentineElements = new ArrayList<>();
-        timer = new Timer(30, this); // ~33 FPS for smooth animations
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add component listener to handle window resizing
         addComponentListener(new ComponentAdapter() {
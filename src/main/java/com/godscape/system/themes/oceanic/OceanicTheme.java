@@ -1,5 +1,7 @@
 package com.godscape.system.themes.oceanic;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -14,7 +16,6 @@ import java.util.Random;
  * fish, sharks, whales, corals, and more. The scene adjusts automatically to the canvas size.
  */
 public class OceanicTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<SeaObject> seaObjects;
     private Random rand = new Random();
     private int frameCount = 0;
@@ -22,8 +23,7 @@ public class OceanicTheme extends JPanel implements ActionListener {
     public OceanicTheme() {
         seaObjects = new ArrayList<>();
         initSeaObjects();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add a listener to handle resizing
         this.addComponentListener(new ComponentAdapter() {
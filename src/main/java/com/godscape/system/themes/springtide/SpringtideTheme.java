@@ -1,5 +1,7 @@
 package com.godscape.system.themes.springtide;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -8,7 +10,6 @@ import java.util.ArrayList;
 import java.util.Random;
 
 public class SpringtideTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<SpringObject> springObjects;
     private Random rand = new Random();
     private int frameCount = 0;
@@ -16,8 +17,7 @@ public class SpringtideTheme extends JPanel implements ActionListener {
     public SpringtideTheme() {
         springObjects = new ArrayList<>();
         initSpringObjects();
-        timer = new Timer(30, this);
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add a component listener to handle resizing
         addComponentListener(new ComponentAdapter() {
@@ -1,5 +1,7 @@
 package com.godscape.system.themes.viridian;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -15,7 +17,6 @@ import java.util.Random;
  * The scene adapts dynamically to the canvas size.
  */
 public class ViridianTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<ForestObject> forestObjects;
     private Random rand = new Random();
     private int frameCount = 0;
@@ -23,8 +24,7 @@ public class ViridianTheme extends JPanel implements ActionListener {
     public ViridianTheme() {
         forestObjects = new ArrayList<>();
         initForestObjects();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add a listener to handle resizing
         this.addComponentListener(new ComponentAdapter() {
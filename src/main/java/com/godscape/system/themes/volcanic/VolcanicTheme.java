@@ -1,5 +1,10 @@
 package com.godscape.system.themes.volcanic;
 
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.themes.AnimationClock;
+import com.godscape.system.themes.ParticleEmitter;
+import com.godscape.system.themes.ParticleSystem;
+import com.godscape.system.themes.ParticleType;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -15,10 +20,10 @@ import java.util.Random;
  * meteors resembling the FF7 meteor, lightning, earthquakes, geysers, lava fountains, and other cataclysmic events.
  */
 public class VolcanicTheme extends JPanel implements ActionListener {
-    private Timer timer;
     private ArrayList<VolcanicObject> volcanicObjects;
     private ArrayList<VolcanicObject> newObjects; // To store new objects safely
     private ArrayList<VolcanicObject> objectsToRemove; // To collect objects to remove
+    private final ParticleSystem particles = new ParticleSystem(300); // Ash and fire embers
     private Random rand = new Random();
     private int frameCount = 0;
     private int shakeOffsetX = 0;
@@ -28,9 +33,9 @@ public class VolcanicTheme extends JPanel implements ActionListener {
         volcanicObjects = new ArrayList<>();
         newObjects = new ArrayList<>();
         objectsToRemove = new ArrayList<>();
+        initParticles();
         initVolcanicObjects();
-        timer = new Timer(30, this); // ~33 FPS
-        timer.start();
+        DependencyFactory.getInstance().getInjection(AnimationClock.class).register(this);
 
         // Add a listener to handle resizing
         this.addComponentListener(new ComponentAdapter() {
@@ -41,11 +46,30 @@ public class VolcanicTheme extends JPanel implements ActionListener {
         });
     }
 
+    /**
+     * Declares the ash and fire embers rising from the bottom of the panel.
+     */
+    private void initParticles() {
+        // Ash drifting upwards in a wave
+        particles.addEmitter(new ParticleEmitter(
+                new ParticleType(new Color(169, 169, 169, 100), ParticleType.Shape.OVAL, 2, 4).sway(0.5f, 20), 200)
+                .spawnArea(0, 1, 1, 1)
+                .velocity(0, 0, -1.5f, -0.5f));
+
+        // Fire embers flickering upwards and burning out
+        particles.addEmitter(new ParticleEmitter(
+                new ParticleType(new Color(255, 140, 0), ParticleType.Shape.OVAL, 3, 3).jitter(1).fading(), 100)
+                .spawnArea(0, 1, 1, 1)
+                .velocity(0, 0, -1.5f, -0.5f)
+                .life(200, 200));
+    }
+
     /**
      * Initializes volcanic objects based on the current panel size.
      */
     private void initVolcanicObjects() {
         volcanicObjects.clear();
+        particles.resize(getWidth(), getHeight());
 
         int width = getWidth();
         int height = getHeight();
@@ -67,11 +91,6 @@ public class VolcanicTheme extends JPanel implements ActionListener {
         // Explosions
         volcanicObjects.add(new ExplosionManager(width, height));
 
-        // Ash particles
-        for (int i = 0; i < 200; i++) {
-            volcanicObjects.add(new AshParticle(rand.nextInt(width), rand.nextInt(height), rand.nextDouble() + 0.5, width, height));
-        }
-
         // Smoke
         volcanicObjects.add(new Smoke(width / 4.0, height - 150, width, height));
         volcanicObjects.add(new Smoke(width * 3 / 4.0, height - 150, width, height));
@@ -84,11 +103,6 @@ public class VolcanicTheme extends JPanel implements ActionListener {
 
         // Lava Fountains
         volcanicObjects.add(new LavaFountain(width / 2.0, height - 80, width, height));
-
-        // Fire Embers
-        for (int i = 0; i < 100; i++) {
-            volcanicObjects.add(new FireEmber(rand.nextInt(width), rand.nextInt(height), rand.nextDouble() + 0.5, width, height));
-        }
     }
 
     @Override
@@ -108,21 +122,25 @@ public class VolcanicTheme extends JPanel implements ActionListener {
 
         drawBackground(g2d, width, height);
 
-        // Iterate over a copy of the list to prevent ConcurrentModificationException
-        ArrayList<VolcanicObject> objectsCopy = new ArrayList<>(volcanicObjects);
-
-        for (VolcanicObject obj : objectsCopy) {
+        // Objects queue additions and removals in newObjects and objectsToRemove, so the list is not modified while iterating
+        for (int i = 0; i < volcanicObjects.size(); i++) {
+            VolcanicObject obj = volcanicObjects.get(i);
             obj.move();
             obj.draw(g2d);
         }
+        particles.draw(g2d);
 
         // Remove expired objects
-        volcanicObjects.removeAll(objectsToRemove);
-        objectsToRemove.clear();
+        if (!objectsToRemove.isEmpty()) {
+            volcanicObjects.removeAll(objectsToRemove);
+            objectsToRemove.clear();
+        }
 
         // Add any new objects collected during the update
-        volcanicObjects.addAll(newObjects);
-        newObjects.clear();
+        if (!newObjects.isEmpty()) {
+            volcanicObjects.addAll(newObjects);
+            newObjects.clear();
+        }
 
         g2d.dispose();
 
@@ -152,6 +170,7 @@ public class VolcanicTheme extends JPanel implements ActionListener {
 
     @Override
     public void actionPerformed(ActionEvent e) {
+        particles.update();
         repaint();
     }
 
@@ -401,32 +420,6 @@ public class VolcanicTheme extends JPanel implements ActionListener {
         }
     }
 
-    // AshParticle class
-    class AshParticle extends VolcanicObject {
-        Color color = new Color(169, 169, 169, 100); // Semi-transparent DarkGray
-
-        AshParticle(double x, double y, double speed, int width, int height) {
-            super(x, y, speed, width, height);
-        }
-
-        @Override
-        void move() {
-            y -= speed;
-            x += Math.sin(y / 20.0) * 0.5;
-            if (y < -10) {
-                y = panelHeight;
-                x = rand.nextInt(panelWidth);
-            }
-        }
-
-        @Override
-        void draw(Graphics2D g2d) {
-            int size = 2 + rand.nextInt(2);
-            g2d.setColor(color);
-            g2d.fillOval((int) x, (int) y, size, size);
-        }
-    }
-
     // Smoke class
     class Smoke extends VolcanicObject {
         ArrayList<SmokeParticle> smokeParticles;
@@ -701,34 +694,6 @@ public class VolcanicTheme extends JPanel implements ActionListener {
         }
     }
 
-    // FireEmber class
-    class FireEmber extends VolcanicObject {
-        double alpha = 1.0;
-
-        FireEmber(double x, double y, double speed, int width, int height) {
-            super(x, y, speed, width, height);
-        }
-
-        @Override
-        void move() {
-            y -= speed;
-            x += rand.nextDouble() - 0.5;
-            alpha -= 0.005;
-            if (alpha <= 0 || y < -10) {
-                y = panelHeight;
-                x = rand.nextInt(panelWidth);
-                alpha = 1.0;
-            }
-        }
-
-        @Override
-        void draw(Graphics2D g2d) {
-            int size = 3;
-            g2d.setColor(new Color(255, 140, 0, (int) (alpha * 255)));
-            g2d.fillOval((int) x, (int) y, size, size);
-        }
-    }
-
     /**
      * Main method to test the VolcanicTheme panel independently.
      */
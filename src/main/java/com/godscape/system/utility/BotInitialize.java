@@ -7,6 +7,7 @@ import com.godscape.system.enums.Utilities;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.FrameFactory;
 import com.godscape.system.managers.PreloadManager;
+import com.godscape.system.preloaders.PreloadGraph;
 import lombok.Data;
 
 @Singleton
@@ -24,7 +25,10 @@ public class BotInitialize {
         FrameFactory frameFactory = dependencyFactory.getInjection(Factories.FRAME_FACTORY);
 
         // Use the generic loadPreloader method that auto-detects the game type
-        preloadManager.loadPreloader();
+        PreloadGraph.Run preload = preloadManager.loadPreloader();
+
+        // The frame only needs global settings and the theme; profile preloaders finish in the background
+        preload.awaitCriticalPath();
 
         // Initialize the main frame
         frameFactory.getFrame();
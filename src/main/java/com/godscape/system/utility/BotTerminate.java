@@ -1,11 +1,17 @@
 package com.godscape.system.utility;
 
+import com.godscape.osrs.managers.OsrsBackupManager;
 import com.godscape.system.annotations.Singleton;
+import com.godscape.system.cache.ProfileSyncScheduler;
+import com.godscape.system.config.HazelcastConfig;
 import com.godscape.system.controllers.BotController;
 import com.godscape.system.enums.BotState;
 import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.FrameFactory;
 import com.godscape.system.interfaces.mark.Shutdownable;
+import com.godscape.system.modules.database.DatabaseConnectionManager;
+import com.godscape.system.observers.ProfileChangeCoalescer;
+import com.godscape.system.observers.SettingsWriteBuffer;
 import com.godscape.system.utility.Logger;
 import org.dreambot.api.script.ScriptManager;
 import lombok.Data;
@@ -42,9 +48,16 @@ public class BotTerminate implements Shutdownable {
      * any running scripts, and closes the UI.
      */
     public void execute() {
+        flushSettings(); // Persists buffered setting edits before anything shuts down
         stop();    // Stops the bot and any ongoing tasks
         closeUI(); // Closes the main UI
+        stopProfileEvents(); // Profile changes need no further delivery once the UI is gone
+        stopProfileSync(); // No background sync may start once the stores are being flushed
+        stopBackups(); // Lets a running differential backup finish while the cache is still up
+        flushProfileStores(); // Writes out profile changes still queued for write-behind
+        DatabaseConnectionManager.shutdown(); // Checkpoints the WAL and closes pooled connections
         Logger.info("Bot termination process executed.");
+        Logger.shutdown(2000); // Let the background logger and log file write out what is still buffered
     }
 
     /**
@@ -55,6 +68,53 @@ public class BotTerminate implements Shutdownable {
         execute();
     }
 
+    /**
+     * Flushes setting writes still held in the SettingsWriteBuffer.
+     */
+    private void flushSettings() {
+        SettingsWriteBuffer writeBuffer = DependencyFactory.getInstance().getInjection(SettingsWriteBuffer.class);
+        if (writeBuffer != null) {
+            writeBuffer.shutdown();
+        }
+    }
+
+    /**
+     * Stops batching profile change events for the UI.
+     */
+    private void stopProfileEvents() {
+        ProfileChangeCoalescer coalescer = DependencyFactory.getInstance().getInjection(ProfileChangeCoalescer.class);
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    /**
+     * Stops the background profile sync.
+     */
+    private void stopProfileSync() {
+        ProfileSyncScheduler syncScheduler = DependencyFactory.getInstance().getInjection(ProfileSyncScheduler.class);
+        if (syncScheduler != null) {
+            syncScheduler.shutdown();
+        }
+    }
+
+    /**
+     * Stops the background backup thread, waiting briefly for a running backup.
+     */
+    private void stopBackups() {
+        OsrsBackupManager.shutdownIfStarted();
+    }
+
+    /**
+     * Flushes the write-behind queues of the profile maps into the database.
+     */
+    private void flushProfileStores() {
+        HazelcastConfig hazelcastConfig = DependencyFactory.getInstance().getInjection(HazelcastConfig.class);
+        if (hazelcastConfig != null) {
+            hazelcastConfig.flushMapStores();
+        }
+    }
+
     /**
      * Stops the bot using the BotController and performs necessary cleanup tasks.
      */
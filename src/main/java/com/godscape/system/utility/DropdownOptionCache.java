@@ -0,0 +1,69 @@
+package com.godscape.system.utility;
+
+import com.godscape.system.annotations.Singleton;
+
+import javax.swing.DefaultComboBoxModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputes the option lists of the dropdowns of a panel, so a rebuild does not create them on the
+ * event dispatch thread.
+ * <p>
+ * The option lists are declared inline by each panel, so they are only known once a panel has been
+ * built. Each build records them; {@link #prepare} then turns the recorded lists of a panel into fresh
+ * combo box models, which is safe off the event dispatch thread because nothing is attached to them
+ * yet. The next build of the panel takes the prepared models instead of creating its own.
+ */
+@Singleton
+public class DropdownOptionCache {
+
+    private final Map<Enum<?>, Map<String, List<String>>> recorded = new ConcurrentHashMap<>();
+    private final Map<Enum<?>, Map<String, DefaultComboBoxModel<String>>> prepared = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the model for a dropdown: the prepared one if its options are unchanged, otherwise a new
+     * one. Records the options for the next build of the panel.
+     *
+     * @param panel   The panel the dropdown belongs to.
+     * @param key     The identifier of the dropdown within the panel.
+     * @param options The options of the dropdown.
+     * @return A model that is not attached to any component.
+     */
+    public DefaultComboBoxModel<String> modelFor(Enum<?> panel, String key, List<String> options) {
+        Map<String, List<String>> panelOptions = recorded.computeIfAbsent(panel, p -> new ConcurrentHashMap<>());
+        List<String> previous = panelOptions.put(key, Collections.unmodifiableList(new ArrayList<>(options)));
+
+        Map<String, DefaultComboBoxModel<String>> panelModels = prepared.get(panel);
+        DefaultComboBoxModel<String> model = panelModels != null ? panelModels.remove(key) : null;
+        if (model != null && options.equals(previous)) {
+            return model;
+        }
+        return new DefaultComboBoxModel<>(options.toArray(new String[0]));
+    }
+
+    /**
+     * Builds the models of every dropdown the panel had when it was last built. May run on any thread.
+     *
+     * @param panel The panel about to be built.
+     * @return The number of models prepared.
+     */
+    public int prepare(Enum<?> panel) {
+        Map<String, List<String>> panelOptions = recorded.get(panel);
+        if (panelOptions == null) {
+            return 0;  // Never built, so its options are not known yet
+        }
+        Map<String, DefaultComboBoxModel<String>> panelModels = prepared.computeIfAbsent(panel, p -> new ConcurrentHashMap<>());
+        int count = 0;
+        for (Map.Entry<String, List<String>> entry : panelOptions.entrySet()) {
+            if (!panelModels.containsKey(entry.getKey())) {
+                panelModels.put(entry.getKey(), new DefaultComboBoxModel<>(entry.getValue().toArray(new String[0])));
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -1,72 +1,98 @@
 package com.godscape.system.utility;
 
+import com.godscape.osrs.controllers.OsrsSettingsController;
 import com.godscape.osrs.managers.panels.OsrsFooterManager;
 import com.godscape.osrs.enums.core.OsrsPanels;
+import com.godscape.system.factories.DependencyFactory;
 import com.godscape.system.factories.PanelFactory;
+import com.godscape.system.managers.BaseObservationManager;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ComponentAdapter;
-import java.awt.event.ComponentEvent;
+import java.awt.event.HierarchyEvent;
 
 /**
- * A JPanel that lazily initializes its content when shown.
+ * A JPanel that builds its content when it is first shown, unless the {@link PanelPrefetcher} has
+ * already built it. The prefetcher may release the content of a hidden tab to stay within its budget;
+ * the content is then rebuilt the next time the tab is shown.
  */
 public class LazyTabPanel extends JPanel {
     private final PanelFactory panelFactory;
     private final OsrsPanels panelEnum;
     private final OsrsFooterManager footerManager;
-    private boolean initialized = false;
+    private final PanelPrefetcher prefetcher;
+    private JPanel content;  // Null while not built
 
     public LazyTabPanel(PanelFactory panelFactory, OsrsPanels panelEnum, OsrsFooterManager footerManager) {
         this.panelFactory = panelFactory;
         this.panelEnum = panelEnum;
         this.footerManager = footerManager;
+        this.prefetcher = DependencyFactory.getInstance().getInjection(PanelPrefetcher.class);
 
         // Set transparent background if necessary
         setOpaque(false);
+        setLayout(new BorderLayout());
 
-        // Add a component listener to detect when the panel becomes visible
-        addComponentListener(new ComponentAdapter() {
-            @Override
-            public void componentShown(ComponentEvent e) {
-                Logger.info("LazyTabPanel '{}' became visible. Initializing if not already done.", panelEnum.getTabTitle());
-                initialize();
+        // Showing covers both selecting this tab and selecting the parent tab of a nested pane it is selected in
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing()) {
+                prefetcher.onTabShown(this);
             }
         });
 
-        setLayout(new BorderLayout());
+        prefetcher.register(this);
+    }
+
+    public OsrsPanels getPanelEnum() {
+        return panelEnum;
     }
 
-    private void initialize() {
-        if (!initialized) {
-            SwingUtilities.invokeLater(() -> {
-                try {
-                    Logger.info("Initializing content for '{}'", panelEnum.getTabTitle());
+    public boolean isBuilt() {
+        return content != null;
+    }
+
+    /**
+     * Builds the content if it is not built yet. Must be called on the event dispatch thread.
+     */
+    void build() {
+        if (content != null) {
+            return;
+        }
+        try {
+            Logger.info("Initializing content for '{}'", panelEnum.getTabTitle());
+            JPanel panel = panelFactory.createPanel(panelEnum, footerManager);
+            if (panel != null) {
+                panel.setOpaque(false); // Make the loaded panel transparent if required
+                content = panel;
+                Logger.info("Successfully initialized tab: '{}'", panelEnum.getTabTitle());
+            } else {
+                Logger.warn("Panel creation failed for '{}'. Displaying error panel.", panelEnum.getTabTitle());
+                content = createErrorPanel(panelEnum.getTabTitle());
+            }
+        } catch (Exception ex) {
+            Logger.error("Exception during initialization of '{}': {}", panelEnum.getTabTitle(), ex.getMessage());
+            content = createErrorPanel(panelEnum.getTabTitle());
+        }
 
-                    JPanel panel = panelFactory.createPanel(panelEnum, footerManager);
-                    if (panel != null) {
-                        panel.setOpaque(false); // Make the loaded panel transparent if required
-                        this.add(panel, BorderLayout.CENTER);
-                        Logger.info("Successfully initialized tab: '{}'", panelEnum.getTabTitle());
-                    } else {
-                        Logger.warn("Panel creation failed for '{}'. Displaying error panel.", panelEnum.getTabTitle());
-                        this.add(createErrorPanel(panelEnum.getTabTitle()), BorderLayout.CENTER);
-                    }
+        this.add(content, BorderLayout.NORTH); // Align components to the top
+        this.revalidate();
+        this.repaint();
+    }
 
-                    this.revalidate();
-                    this.repaint();
-                    initialized = true;
-                } catch (Exception ex) {
-                    Logger.error("Exception during initialization of '{}': {}", panelEnum.getTabTitle(), ex.getMessage());
-                    this.removeAll();
-                    this.add(createErrorPanel(panelEnum.getTabTitle()), BorderLayout.CENTER);
-                    this.revalidate();
-                    this.repaint();
-                }
-            });
-        } else {
-            Logger.debug("Tab '{}' already initialized. Skipping re-initialization.", panelEnum.getTabTitle());
+    /**
+     * Drops the built content, unregistering it and its settings components from the observation
+     * managers, the settings manager and the dependency registry so it can be garbage collected. Must be called on the event dispatch thread.
+     */
+    void release() {
+        if (content == null) {
+            return;
         }
+        this.remove(content);
+        DependencyFactory.getInstance().getInjection(OsrsSettingsController.class).unregisterComponents(content);
+        DependencyFactory.getInstance().getInjection(BaseObservationManager.class).removeObserver(content);
+        DependencyFactory.getInstance().release(content);
+        content = null;
+        this.revalidate();
+        this.repaint();
     }
 
     /**
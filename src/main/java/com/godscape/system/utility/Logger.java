@@ -1,26 +1,232 @@
 package com.godscape.system.utility;
 
 import com.godscape.system.enums.LogLevel;
+import com.godscape.system.enums.LogOverflowPolicy;
 import com.godscape.system.enums.Platforms;
-import com.godscape.system.factories.PlatformFactory;
+import com.godscape.system.schemas.GlobalSettingsSchema;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.time.Duration;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+/**
+ * Asynchronous logger.
+ * <p>
+ * The level is checked before any other work. Enabled calls capture only the raw message, a snapshot
+ * of its parameters, the thread name and (if caller output is turned on) the calling class and method,
+ * then hand the event to a bounded ring buffer. A single background thread formats the message and
+ * writes it to the output, so callers on the EDT or Hazelcast event threads never wait on formatting
+ * or I/O.
+ * <p>
+ * Parameters of immutable value types are kept as they are; any other parameter is converted with
+ * {@code String.valueOf} on the calling thread, so the line shows its state at the time of the call
+ * and the consumer never touches objects that other threads may be changing.
+ * When the buffer is full the configured {@link LogOverflowPolicy} decides what happens.
+ * <p>
+ * With logToFile enabled, rendered lines are also handed to a {@link RollingFileLogSink}, which
+ * writes them from its own thread. A bot session started with {@link #beginSession} gets a sink and a
+ * file of its own: the session is remembered per thread (and inherited by threads the session starts),
+ * so lines logged by the session's threads go to its file. Lines from threads no session owns, such as
+ * the EDT or Hazelcast's, go to the file of the process.
+ */
 public class Logger {
 
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final String LOGGER_CLASS = Logger.class.getName();
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static volatile int threshold = LogLevel.DEBUG.getSeverity();
+    private static volatile boolean includeCaller = false;
+    private static volatile LogOverflowPolicy overflowPolicy = LogOverflowPolicy.DROP_OLDEST;
+    private static volatile boolean consoleEnabled = true;
+    private static volatile RollingFileLogSink fileSink;
+    private static final Map<String, RollingFileLogSink> sessionSinks = new ConcurrentHashMap<>();  // Opened by the consumer
+    private static final InheritableThreadLocal<String> session = new InheritableThreadLocal<>();
+    private static final AtomicInteger sessionCounter = new AtomicInteger();
+
+    private static final BlockingQueue<LogEvent> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private static final AtomicLong droppedEvents = new AtomicLong();
+    private static final Thread consumer = startConsumer();
+
     // Helper method to check if logging is enabled for the current log level
     private static boolean isLogLevelEnabled(LogLevel logLevel) {
-        // You can add more sophisticated level filtering logic here if needed
-        return true; // By default, all log levels are enabled.
+        return logLevel.getSeverity() >= threshold;
+    }
+
+    public static boolean isEnabled(LogLevel logLevel) {
+        return isLogLevelEnabled(logLevel);
+    }
+
+    /**
+     * Applies the logging settings from the global settings (level, overflow policy and file output).
+     */
+    public static void applySettings(GlobalSettingsSchema settings) {
+        if (settings == null) {
+            return;
+        }
+        setLevel(LogLevel.fromString(settings.getLoggingLevel(), LogLevel.INFO));
+        setOverflowPolicy(LogOverflowPolicy.fromString(settings.getLogOverflowPolicy(), LogOverflowPolicy.DROP_OLDEST));
+        if (settings.isLogToFile()) {
+            try {
+                String directory = settings.getLogFileDirectory();
+                if (directory != null && !directory.trim().isEmpty()) {
+                    enableFileLogging(Paths.get(directory));
+                }
+            } catch (RuntimeException e) {
+                warn("Could not resolve log file directory: {}", e.getMessage());
+            }
+        } else {
+            disableFileLogging();
+        }
+    }
+
+    /**
+     * Starts writing log lines to a new file in the given directory, replacing the current one. Does
+     * nothing if file logging is already active for this directory.
+     */
+    public static synchronized void enableFileLogging(Path directory) {
+        RollingFileLogSink current = fileSink;
+        if (current != null && current.getDirectory().equals(directory)) {
+            return;
+        }
+        try {
+            fileSink = new RollingFileLogSink(directory);
+            info("Logging to file '{}'.", fileSink.getActiveFile());
+        } catch (IOException e) {
+            warn("Could not open log file in '{}': {}", directory, e.getMessage());
+            return;
+        }
+        if (current != null) {
+            current.close(1000);
+            closeSessionSinks(1000);  // Reopened in the new directory with the next line of each session
+        }
+    }
+
+    /**
+     * Writes out everything still queued for the log file and closes it.
+     */
+    public static synchronized void disableFileLogging() {
+        RollingFileLogSink current = fileSink;
+        if (current != null) {
+            flush(2000);
+            fileSink = null;
+            current.close(2000);
+            closeSessionSinks(2000);
+        }
+    }
+
+    /**
+     * Starts a bot session on the calling thread. From now on, what this thread and the threads it
+     * starts log is also written to a file of the session's own.
+     *
+     * @param label Describes the session, such as the platform; a counter is appended to keep it unique.
+     * @return The session id.
+     */
+    public static String beginSession(String label) {
+        String id = label + "-" + sessionCounter.incrementAndGet();
+        session.set(id);
+        return id;
+    }
+
+    /**
+     * Ends a session: writes out what it has logged so far and closes its file. May be called from any
+     * thread; lines its threads still log afterwards open the file again.
+     *
+     * @param id The id returned by {@link #beginSession}.
+     */
+    public static void endSession(String id) {
+        if (id == null) {
+            return;
+        }
+        if (id.equals(session.get())) {
+            session.remove();
+        }
+        flush(2000);
+        RollingFileLogSink sink = sessionSinks.remove(id);
+        if (sink != null && sink != fileSink) {
+            sink.close(2000);
+        }
+    }
+
+    private static void closeSessionSinks(long timeoutMillis) {
+        for (String id : sessionSinks.keySet()) {
+            RollingFileLogSink sink = sessionSinks.remove(id);
+            if (sink != null && sink != fileSink) {
+                sink.close(timeoutMillis);
+            }
+        }
+    }
+
+    // Runs on the consumer thread, so opening a session's file never blocks the thread that logs
+    private static RollingFileLogSink sinkFor(String sessionId) {
+        RollingFileLogSink processSink = fileSink;
+        if (processSink == null || sessionId == null) {
+            return processSink;
+        }
+        return sessionSinks.computeIfAbsent(sessionId, id -> {
+            try {
+                return new RollingFileLogSink(processSink.getDirectory(), id);
+            } catch (IOException e) {
+                System.err.println("Logger: Could not open log file for session '" + id + "': " + e.getMessage());
+                return processSink;  // Not retried for every line; the session logs to the process file
+            }
+        });
+    }
+
+    public static void setLevel(LogLevel logLevel) {
+        threshold = logLevel.getSeverity();
+    }
+
+    public static void setOverflowPolicy(LogOverflowPolicy policy) {
+        overflowPolicy = policy;
+    }
+
+    /**
+     * Enables or disables the [Class:method] part of each line. Off by default: resolving the caller
+     * walks the stack on the logging thread for every call. When disabled, no stack frames are
+     * inspected at all.
+     */
+    public static void setIncludeCaller(boolean include) {
+        includeCaller = include;
+    }
+
+    /**
+     * Enables or disables console output (DreamBot's logger or System.out).
+     */
+    public static void setConsoleEnabled(boolean enabled) {
+        consoleEnabled = enabled;
+    }
+
+    public static long getDroppedCount() {
+        return droppedEvents.get();
     }
 
     // Handles the actual logging operation based on the platform
     private static void echo(String message, LogLevel logLevel) {
-        if (!isLogLevelEnabled(logLevel)) {
-            return; // Don't log if the log level is not enabled.
+        if (!consoleEnabled) {
+            return;
         }
-
         Platforms currentPlatform = Platforms.DREAMBOT_OSRS;
         try {
             if (currentPlatform == Platforms.DREAMBOT_OSRS || currentPlatform == Platforms.DREAMBOT_RS3) {
@@ -28,88 +234,231 @@ public class Logger {
             } else {
                 System.out.println(message); // Fallback to console logging
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             System.err.println("Logging failed: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
-    // Replaces `{}` placeholders with `%s` to support parameterized messages
+    // Substitutes `{}` placeholders in order; missing params leave the placeholder in place
     private static String formatMessage(String message, Object... params) {
-        if (message.contains("{}")) {
-            // Replace `{}` with `%s` for each occurrence, to allow for param substitution
-            message = message.replace("{}", "%s");
+        if (message == null) {
+            return "null";
+        }
+        if (params == null || params.length == 0) {
+            return message;
+        }
+        StringBuilder builder = new StringBuilder(message.length() + 16 * params.length);
+        int paramIndex = 0;
+        int start = 0;
+        int placeholder;
+        while (paramIndex < params.length && (placeholder = message.indexOf("{}", start)) >= 0) {
+            builder.append(message, start, placeholder).append(params[paramIndex++]);
+            start = placeholder + 2;
+        }
+        return builder.append(message, start, message.length()).toString();
+    }
+
+    // Generic logging method; only captures the event, formatting happens on the consumer thread
+    private static void log(LogLevel logLevel, String message, Object[] params, Throwable throwable) {
+        String[] caller = includeCaller ? CallerResolver.resolve() : null;
+        enqueue(new LogEvent(logLevel, Thread.currentThread().getName(), session.get(), caller, message, snapshot(params), throwable));
+    }
+
+    // Replaces parameters that may change after the call with their string form; copies the array only when needed
+    private static Object[] snapshot(Object[] params) {
+        if (params == null) {
+            return null;
+        }
+        Object[] copy = null;
+        for (int i = 0; i < params.length; i++) {
+            Object param = params[i];
+            if (isImmutable(param)) {
+                continue;
+            }
+            if (copy == null) {
+                copy = params.clone();
+            }
+            try {
+                copy[i] = String.valueOf(param);
+            } catch (Exception e) {
+                // Fallback if a parameter's toString() fails
+                copy[i] = "[toString failed: " + e.getMessage() + "]";
+            }
         }
-        return params.length > 0 ? String.format(message, params) : message; // Format message if params exist
+        return copy != null ? copy : params;
+    }
+
+    private static boolean isImmutable(Object param) {
+        return param == null
+                || param instanceof String
+                || param instanceof Integer
+                || param instanceof Long
+                || param instanceof Double
+                || param instanceof Float
+                || param instanceof Short
+                || param instanceof Byte
+                || param instanceof Boolean
+                || param instanceof Character
+                || param instanceof Enum
+                || param instanceof UUID
+                || param instanceof Path
+                || param instanceof Duration
+                || param instanceof Instant
+                || param instanceof Throwable;
     }
 
-    // Generic logging method that also adds the caller class and method name
-    private static void log(LogLevel logLevel, String message, Object... params) {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace(); // Get stack trace
-        String className = "UnknownClass";
-        String methodName = "UnknownMethod";
-        if (stackTrace.length > 3) {
-            StackTraceElement callerFrame = stackTrace[3]; // Extract the caller's frame
-            className = trimClassName(callerFrame.getClassName()); // Trim package name
-            methodName = callerFrame.getMethodName();
+    private static void enqueue(LogEvent event) {
+        if (buffer.offer(event)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    buffer.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedEvents.incrementAndGet();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!buffer.offer(event)) {
+                    LogEvent evicted = buffer.poll();
+                    if (evicted != null && evicted.flushLatch != null) {
+                        evicted.flushLatch.countDown();  // Never strand a waiting flush()
+                    } else if (evicted != null) {
+                        droppedEvents.incrementAndGet();
+                    }
+                }
+                break;
+            case DROP_NEWEST:
+            default:
+                droppedEvents.incrementAndGet();
+                break;
         }
+    }
+
+    private static Thread startConsumer() {
+        Thread thread = new Thread(Logger::consume, "Godscape-Logger");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
 
-        String threadName = Thread.currentThread().getName(); // Get the current thread name
+    private static void consume() {
+        long reportedDrops = 0;
+        while (true) {
+            LogEvent event;
+            try {
+                event = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long dropped = droppedEvents.get();
+            if (dropped != reportedDrops) {
+                echo(String.format("[%s] [%s]: Log buffer full, %d messages dropped.", LogLevel.WARN, Thread.currentThread().getName(), dropped - reportedDrops), LogLevel.WARN);
+                reportedDrops = dropped;
+            }
+
+            if (event.flushLatch != null) {
+                event.flushLatch.countDown();
+                continue;
+            }
+            try {
+                String line = event.render();
+                echo(line, event.level);
+                if (event.throwable != null) {
+                    event.throwable.printStackTrace();
+                }
+                RollingFileLogSink sink = sinkFor(event.session);
+                if (sink != null) {
+                    sink.append(event.renderForFile(line));
+                }
+            } catch (Throwable e) {
+                System.err.println("Logging failed: " + e.getMessage());
+            }
+        }
+    }
 
-        String formattedMessage;
+    /**
+     * Waits until every message logged before this call has been written.
+     *
+     * @param timeoutMillis Maximum time to wait.
+     * @return True if the buffer was drained in time.
+     */
+    public static boolean flush(long timeoutMillis) {
+        if (!consumer.isAlive()) {
+            return false;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
         try {
-            // Format the message with params
-            String userMessage = formatMessage(message, params);
-            // Create the formatted log message
-            formattedMessage = String.format("[%s] [%s] [%s:%s]: %s", logLevel, threadName, className, methodName, userMessage);
-        } catch (Exception e) {
-            // Fallback if there's a formatting issue
-            formattedMessage = String.format("[%s] [%s] [FORMAT ERROR] [%s:%s]: %s | Exception: %s",
-                    logLevel, threadName, className, methodName, message, e.getMessage());
+            if (!buffer.offer(LogEvent.flushMarker(latch), timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            return latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
+    }
 
-        echo(formattedMessage, logLevel); // Output the log message
+    /**
+     * Writes out buffered messages, closes the log file and waits for rolled segments to be
+     * compressed. Logging to the console keeps working afterwards.
+     */
+    public static void shutdown(long timeoutMillis) {
+        flush(timeoutMillis);
+        disableFileLogging();
+        RollingFileLogSink.awaitCompression(timeoutMillis);
     }
 
     // Trims the first two package segments from the class name
     private static String trimClassName(String fullClassName) {
-        String[] parts = fullClassName.split("\\.");
-        if (parts.length > 2) {
-            return String.join(".", java.util.Arrays.copyOfRange(parts, 2, parts.length));
-        }
-        return fullClassName;
+        int first = fullClassName.indexOf('.');
+        int second = first >= 0 ? fullClassName.indexOf('.', first + 1) : -1;
+        return second >= 0 ? fullClassName.substring(second + 1) : fullClassName;
     }
 
     // Log info level
     public static void info(String message, Object... params) {
-        log(LogLevel.INFO, message, params);
+        if (isLogLevelEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, params, null);
+        }
     }
 
     // Log debug level
     public static void debug(String message, Object... params) {
-        log(LogLevel.DEBUG, message, params);
+        if (isLogLevelEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, params, null);
+        }
     }
 
     // Log warn level
     public static void warn(String message, Object... params) {
-        log(LogLevel.WARN, message, params);
+        if (isLogLevelEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, params, null);
+        }
     }
 
     // Log error level
     public static void error(String message, Object... params) {
-        log(LogLevel.ERROR, message, params);
+        if (isLogLevelEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, params, null);
+        }
     }
 
     // Log fatal level
     public static void fatal(String message, Object... params) {
-        log(LogLevel.FATAL, message, params);
+        if (isLogLevelEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, params, null);
+        }
     }
 
     // Logs an error message with an exception
     public static void error(String message, Throwable throwable) {
-        String formattedMessage = String.format("[ERROR] [%s] %s | Exception: %s", Thread.currentThread().getName(), message, throwable.getMessage());
-        echo(formattedMessage, LogLevel.ERROR);
-        throwable.printStackTrace();
+        if (isLogLevelEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message + " | Exception: " + (throwable != null ? throwable.getMessage() : null), null, throwable);
+        }
     }
 
     // Logs execution time of a task
@@ -118,9 +467,148 @@ public class Logger {
         try {
             task.run();
         } finally {
-            Instant end = Instant.now();
-            long timeElapsed = Duration.between(start, end).toMillis();
-            log(logLevel, String.format("%s | Execution Time: %d ms", message, timeElapsed));
+            if (isLogLevelEnabled(logLevel)) {
+                long timeElapsed = Duration.between(start, Instant.now()).toMillis();
+                log(logLevel, "{} | Execution Time: {} ms", new Object[]{message, timeElapsed}, null);
+            }
+        }
+    }
+
+    /**
+     * A captured log call. Rendering is deferred to the consumer thread.
+     */
+    private static final class LogEvent {
+        private final LogLevel level;
+        private final String threadName;
+        private final String session;
+        private final String[] caller;
+        private final String message;
+        private final Object[] params;
+        private final Throwable throwable;
+        private final CountDownLatch flushLatch;
+        private final long timestamp;
+
+        private LogEvent(LogLevel level, String threadName, String session, String[] caller, String message, Object[] params,
+                         Throwable throwable) {
+            this.level = level;
+            this.threadName = threadName;
+            this.session = session;
+            this.caller = caller;
+            this.message = message;
+            this.params = params;
+            this.throwable = throwable;
+            this.flushLatch = null;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        private LogEvent(CountDownLatch flushLatch) {
+            this.level = LogLevel.DEBUG;
+            this.threadName = null;
+            this.session = null;
+            this.caller = null;
+            this.message = null;
+            this.params = null;
+            this.throwable = null;
+            this.flushLatch = flushLatch;
+            this.timestamp = 0;
+        }
+
+        private static LogEvent flushMarker(CountDownLatch latch) {
+            return new LogEvent(latch);
+        }
+
+        private String renderForFile(String line) {
+            String time = FILE_TIMESTAMP.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()));
+            if (throwable == null) {
+                return time + " " + line;
+            }
+            StringWriter stackTrace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(stackTrace));
+            return time + " " + line + System.lineSeparator() + stackTrace.toString().trim();
+        }
+
+        private String render() {
+            StringBuilder line = new StringBuilder(128)
+                    .append('[').append(level).append("] [").append(threadName).append("] ");
+            if (caller != null) {
+                line.append('[').append(trimClassName(caller[0])).append(':').append(caller[1]).append("]");
+            }
+            String userMessage;
+            try {
+                userMessage = formatMessage(message, params);
+            } catch (Exception e) {
+                // Fallback if a parameter's toString() fails
+                return line.append(" [FORMAT ERROR]: ").append(message).append(" | Exception: ").append(e.getMessage()).toString();
+            }
+            return line.append(": ").append(userMessage).toString();
+        }
+    }
+
+    /**
+     * Finds the first stack frame outside of the logger. Uses {@code StackWalker} when the runtime
+     * provides it (Java 9+), which only materializes the frames it visits; on Java 8 it falls back
+     * to a full {@link Throwable} stack trace.
+     */
+    private static final class CallerResolver {
+        private static final Object WALKER;
+        private static final MethodHandle WALK;
+        private static final MethodHandle CLASS_NAME;
+        private static final MethodHandle METHOD_NAME;
+        private static final Function<Stream<Object>, String[]> FIND_CALLER = frames -> frames
+                .map(CallerResolver::describe)
+                .filter(frame -> frame != null && !isLoggerFrame(frame[0]))
+                .findFirst()
+                .orElse(null);
+
+        static {
+            Object walker = null;
+            MethodHandle walk = null;
+            MethodHandle className = null;
+            MethodHandle methodName = null;
+            try {
+                Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+                Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                walker = walkerClass.getMethod("getInstance").invoke(null);
+                walk = lookup.findVirtual(walkerClass, "walk", MethodType.methodType(Object.class, Function.class));
+                className = lookup.findVirtual(frameClass, "getClassName", MethodType.methodType(String.class));
+                methodName = lookup.findVirtual(frameClass, "getMethodName", MethodType.methodType(String.class));
+            } catch (Throwable unavailable) {
+                walker = null;  // Java 8 runtime
+            }
+            WALKER = walker;
+            WALK = walk;
+            CLASS_NAME = className;
+            METHOD_NAME = methodName;
+        }
+
+        private static String[] resolve() {
+            if (WALKER != null) {
+                try {
+                    return (String[]) WALK.invoke(WALKER, FIND_CALLER);
+                } catch (Throwable ignored) {
+                    // Fall through to the stack trace
+                }
+            }
+            for (StackTraceElement element : new Throwable().getStackTrace()) {
+                if (!isLoggerFrame(element.getClassName())) {
+                    return new String[]{element.getClassName(), element.getMethodName()};
+                }
+            }
+            return null;
+        }
+
+        private static String[] describe(Object frame) {
+            try {
+                return new String[]{(String) CLASS_NAME.invoke(frame), (String) METHOD_NAME.invoke(frame)};
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+
+        private static boolean isLoggerFrame(String className) {
+            return className.startsWith(LOGGER_CLASS)
+                    && (className.length() == LOGGER_CLASS.length() || className.charAt(LOGGER_CLASS.length()) == '$');
         }
     }
 }
@@ -0,0 +1,220 @@
+package com.godscape.system.utility;
+
+import com.godscape.osrs.controllers.OsrsCacheController;
+import com.godscape.osrs.controllers.OsrsSettingsController;
+import com.godscape.osrs.enums.core.OsrsPanels;
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.config.GodscapeConfig;
+import com.godscape.system.enums.ConfigKeys;
+import com.godscape.system.factories.DependencyFactory;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the tabs a user is likely to open next before they are opened, and bounds how many built
+ * tabs are kept.
+ * <p>
+ * When a {@link LazyTabPanel} is shown, the next tabs are predicted from the tabs most often opened
+ * after it in this session and then from its neighbours under the same parent in {@link OsrsPanels}.
+ * The non-Swing part of building them runs on a background pool: loading the active profile and
+ * character the grid builders read their settings from, and preparing the dropdown option lists of
+ * tabs built before through {@link DropdownOptionCache}. The panels themselves are then built on the
+ * event dispatch thread, one per event so input is handled in between. Built tabs are kept in a
+ * least-recently-shown order; beyond the budget the oldest hidden tab is released and is rebuilt the
+ * next time it is shown.
+ * <p>
+ * Everything except the warm-up runs on the event dispatch thread.
+ */
+@Singleton
+public class PanelPrefetcher {
+
+    private static final int DEFAULT_CACHE_SIZE = 8;
+    private static final int DEFAULT_PREFETCH_COUNT = 2;
+    private static final int WARM_UP_THREADS = 2;
+
+    private final Map<OsrsPanels, LazyTabPanel> tabs = new EnumMap<>(OsrsPanels.class);
+    private final LinkedHashMap<OsrsPanels, LazyTabPanel> built = new LinkedHashMap<>(16, 0.75f, true);  // Least recently shown first
+    private final Map<OsrsPanels, Map<OsrsPanels, Integer>> transitions = new EnumMap<>(OsrsPanels.class);
+    private final ExecutorService warmUpPool;
+    private final TabSwitchMetrics metrics;
+    private final DropdownOptionCache optionCache;
+
+    private final int cacheSize;
+    private final int prefetchCount;
+
+    private OsrsPanels lastShown;
+    private long prefetchGeneration;  // Prefetches started for an earlier tab are abandoned
+
+    public PanelPrefetcher() {
+        GodscapeConfig config = DependencyFactory.getInstance().getInjection(GodscapeConfig.class);
+        this.prefetchCount = Math.max(0, config.getInt(ConfigKeys.PANEL_PREFETCH_COUNT, DEFAULT_PREFETCH_COUNT));
+        // Room for the shown tab and its prefetched neighbours at the very least
+        this.cacheSize = Math.max(prefetchCount + 1, config.getInt(ConfigKeys.PANEL_CACHE_SIZE, DEFAULT_CACHE_SIZE));
+        this.metrics = DependencyFactory.getInstance().getInjection(TabSwitchMetrics.class);
+        this.optionCache = DependencyFactory.getInstance().getInjection(DropdownOptionCache.class);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.warmUpPool = Executors.newFixedThreadPool(WARM_UP_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "PanelPrefetcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Logger.info("PanelPrefetcher: Initialized with a budget of {} built tabs, prefetching {}.", cacheSize, prefetchCount);
+    }
+
+    void register(LazyTabPanel tab) {
+        tabs.put(tab.getPanelEnum(), tab);
+    }
+
+    /**
+     * Called when a tab starts showing: builds it if needed, records the switch and prefetches the
+     * tabs predicted to follow it.
+     */
+    void onTabShown(LazyTabPanel tab) {
+        long started = System.nanoTime();
+        OsrsPanels panel = tab.getPanelEnum();
+        boolean hit = tab.isBuilt();
+
+        if (lastShown != null && lastShown != panel) {
+            transitions.computeIfAbsent(lastShown, key -> new EnumMap<>(OsrsPanels.class)).merge(panel, 1, Integer::sum);
+        }
+        lastShown = panel;
+
+        tab.build();
+        built.put(panel, tab);
+        trim();
+
+        // Runs after the layout and paint work the switch has queued
+        SwingUtilities.invokeLater(() -> metrics.recordSwitch(panel.getTabTitle(), System.nanoTime() - started, hit));
+        Logger.debug("PanelPrefetcher: Showing tab '{}' ({}).", panel.getTabTitle(), hit ? "prebuilt" : "built on demand");
+
+        prefetch(predict(panel));
+    }
+
+    // Tabs to build next, most likely first
+    private List<OsrsPanels> predict(OsrsPanels panel) {
+        List<OsrsPanels> candidates = new ArrayList<>();
+
+        List<Map.Entry<OsrsPanels, Integer>> followers = new ArrayList<>(
+                transitions.getOrDefault(panel, Collections.emptyMap()).entrySet());
+        followers.sort((a, b) -> Integer.compare(b.getValue(), a.getValue()));
+        for (Map.Entry<OsrsPanels, Integer> follower : followers) {
+            candidates.add(follower.getKey());
+        }
+
+        // Tabs are registered in enum order, which is also the order they appear in
+        List<OsrsPanels> siblings = new ArrayList<>();
+        for (OsrsPanels registered : tabs.keySet()) {
+            if (registered.getParentPanel() == panel.getParentPanel()) {
+                siblings.add(registered);
+            }
+        }
+        int index = siblings.indexOf(panel);
+        for (int distance = 1; distance < siblings.size(); distance++) {
+            if (index + distance < siblings.size()) {
+                candidates.add(siblings.get(index + distance));
+            }
+            if (index - distance >= 0) {
+                candidates.add(siblings.get(index - distance));
+            }
+        }
+
+        List<OsrsPanels> predictions = new ArrayList<>(prefetchCount);
+        for (OsrsPanels candidate : candidates) {
+            if (predictions.size() >= prefetchCount) {
+                break;
+            }
+            LazyTabPanel candidateTab = tabs.get(candidate);
+            if (candidate != panel && candidateTab != null && !candidateTab.isBuilt() && !predictions.contains(candidate)) {
+                predictions.add(candidate);
+            }
+        }
+        return predictions;
+    }
+
+    private void prefetch(List<OsrsPanels> predictions) {
+        long generation = ++prefetchGeneration;
+        if (predictions.isEmpty()) {
+            return;
+        }
+        warmUpPool.execute(() -> {
+            warmUpSettings();
+            warmUpOptions(predictions);
+            SwingUtilities.invokeLater(() -> buildNext(new ArrayDeque<>(predictions), generation));
+        });
+    }
+
+    // Loads the active profile and character, so the settings lookups of the grid builders hit the near cache
+    private void warmUpSettings() {
+        try {
+            UUID profileId = DependencyFactory.getInstance().getInjection(OsrsSettingsController.class).getActiveProfileId();
+            if (profileId == null) {
+                return;
+            }
+            OsrsCacheController cacheController = DependencyFactory.getInstance().getInjection(OsrsCacheController.class);
+            cacheController.getProfile(profileId);
+            cacheController.getCharacter(profileId);
+        } catch (Exception e) {
+            Logger.warn("PanelPrefetcher: Failed to warm up settings: {}", e.getMessage());
+        }
+    }
+
+    // Prepares the dropdown models of tabs released earlier; tabs never built have no known options yet
+    private void warmUpOptions(List<OsrsPanels> predictions) {
+        for (OsrsPanels panel : predictions) {
+            try {
+                int prepared = optionCache.prepare(panel);
+                if (prepared > 0) {
+                    Logger.debug("PanelPrefetcher: Prepared {} option lists for '{}'.", prepared, panel.getTabTitle());
+                }
+            } catch (Exception e) {
+                Logger.warn("PanelPrefetcher: Failed to prepare option lists for '{}': {}", panel.getTabTitle(), e.getMessage());
+            }
+        }
+    }
+
+    private void buildNext(Deque<OsrsPanels> queue, long generation) {
+        if (generation != prefetchGeneration || queue.isEmpty()) {
+            return;
+        }
+        OsrsPanels panel = queue.poll();
+        LazyTabPanel tab = tabs.get(panel);
+        if (tab != null && !tab.isBuilt()) {
+            long started = System.nanoTime();
+            tab.build();
+            metrics.recordPrefetchBuild(System.nanoTime() - started);
+            built.put(panel, tab);
+            trim();
+            Logger.debug("PanelPrefetcher: Prefetched tab '{}'.", panel.getTabTitle());
+        }
+        if (!queue.isEmpty()) {
+            SwingUtilities.invokeLater(() -> buildNext(queue, generation));
+        }
+    }
+
+    // Releases the least recently shown hidden tabs until the budget is met
+    private void trim() {
+        Iterator<LazyTabPanel> eldest = built.values().iterator();
+        while (built.size() > cacheSize && eldest.hasNext()) {
+            LazyTabPanel tab = eldest.next();
+            if (!tab.isShowing()) {
+                eldest.remove();
+                tab.release();
+                metrics.recordEviction();
+                Logger.debug("PanelPrefetcher: Released hidden tab '{}'.", tab.getPanelEnum().getTabTitle());
+            }
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.godscape.system.utility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Log file writer used by {@link Logger} when logToFile is enabled.
+ * <p>
+ * {@link #append(String)} only offers the line to this sink's own bounded queue, so the caller
+ * never touches the file system. A dedicated writer thread drains the queue in batches into a
+ * buffer and writes it through a {@link FileChannel}. The active file is rolled when it would grow
+ * past the size limit or when the date changes; rolled segments are gzipped on a background thread,
+ * after which the oldest rolled segments in the directory are deleted until the total stays under
+ * the disk cap.
+ * <p>
+ * Each sink writes to its own file, {@code godscape-<pid>-<session>.log} for a bot session and
+ * {@code godscape-<pid>-<n>.log} otherwise, where {@code n} counts the sinks opened in the process.
+ * {@link Logger} opens one sink per session, so sessions in one JVM never share a file, a queue or a
+ * writer thread.
+ * <p>
+ * A sink holds a lock on its active file. Active files are never deleted by the disk cap; only rolled
+ * segments are. An active file left behind by a process that has exited is not locked any more, so a
+ * new sink rolls and compresses it on startup, after which the disk cap can delete it like any other
+ * rolled segment.
+ */
+public class RollingFileLogSink {
+
+    public static final long DEFAULT_MAX_FILE_BYTES = 10L * 1024 * 1024;
+    public static final long DEFAULT_MAX_TOTAL_BYTES = 100L * 1024 * 1024;
+
+    private static final String FILE_PREFIX = "godscape-";
+    private static final String ROLLED_MARKER = ".part";
+    private static final int QUEUE_CAPACITY = 16384;
+    private static final int BATCH_SIZE = 512;
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final DateTimeFormatter ROLL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final AtomicInteger SESSION_COUNTER = new AtomicInteger();
+    private static final String PROCESS_ID = processId();
+
+    // One compressor for all sinks; compression is rare and must never run on a writer thread
+    private static final ExecutorService COMPRESSOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Godscape-LogCompressor");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private final Path directory;
+    private final String baseName;
+    private final long maxFileBytes;
+    private final long maxTotalBytes;
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedLines = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    // Writer-thread state
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private FileChannel channel;
+    private Path activeFile;
+    private LocalDate activeDate;
+    private long activeSize;
+    private int rollSequence;
+
+    public RollingFileLogSink(Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_TOTAL_BYTES);
+    }
+
+    public RollingFileLogSink(Path directory, long maxFileBytes, long maxTotalBytes) throws IOException {
+        this(directory, null, maxFileBytes, maxTotalBytes);
+    }
+
+    /**
+     * @param session The bot session this sink writes for, or null for a file numbered by the process.
+     */
+    public RollingFileLogSink(Path directory, String session) throws IOException {
+        this(directory, session, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_TOTAL_BYTES);
+    }
+
+    public RollingFileLogSink(Path directory, String session, long maxFileBytes, long maxTotalBytes) throws IOException {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxTotalBytes = maxTotalBytes;
+        String suffix = session != null ? session.replaceAll("[^A-Za-z0-9_.-]", "_") : String.valueOf(SESSION_COUNTER.incrementAndGet());
+        this.baseName = FILE_PREFIX + PROCESS_ID + "-" + suffix;
+
+        Files.createDirectories(directory);
+        openActiveFile();
+        COMPRESSOR.execute(() -> {
+            recoverOrphanedFiles();
+            enforceDiskCap();
+        });
+
+        this.writer = new Thread(this::writeLoop, "Godscape-LogWriter-" + baseName);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a line for writing. Never blocks; if the writer has fallen too far behind the line
+     * is dropped and counted.
+     */
+    public void append(String line) {
+        if (closed || !queue.offer(line)) {
+            droppedLines.incrementAndGet();
+        }
+    }
+
+    public long getDroppedLines() {
+        return droppedLines.get();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path getActiveFile() {
+        return activeFile;
+    }
+
+    /**
+     * Writes out everything queued so far and closes the file.
+     */
+    public void close(long timeoutMillis) {
+        closed = true;
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (true) {
+                String first;
+                try {
+                    // Polled rather than interrupted on close: an interrupt would close the FileChannel
+                    first = queue.poll(200, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (first == null) {
+                    if (closed) {
+                        break;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private void writeBatch(List<String> lines) {
+        try {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(activeDate)) {
+                if (activeSize > 0) {
+                    roll();
+                } else {
+                    activeDate = today;
+                }
+            }
+            for (String line : lines) {
+                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                int length = bytes.length + LINE_SEPARATOR.length;
+                if (activeSize + buffer.position() + length > maxFileBytes && activeSize + buffer.position() > 0) {
+                    flushBuffer();
+                    roll();
+                }
+                if (buffer.remaining() < length) {
+                    flushBuffer();
+                }
+                if (length > buffer.capacity()) {
+                    writeFully(ByteBuffer.wrap(bytes));
+                    writeFully(ByteBuffer.wrap(LINE_SEPARATOR));
+                } else {
+                    buffer.put(bytes).put(LINE_SEPARATOR);
+                }
+            }
+            flushBuffer();
+        } catch (IOException e) {
+            buffer.clear();
+            droppedLines.addAndGet(lines.size());
+            System.err.println("RollingFileLogSink: Failed to write log file '" + activeFile + "': " + e.getMessage());
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            activeSize += channel.write(source);
+        }
+    }
+
+    private void roll() throws IOException {
+        closeChannel();
+        Path rolled = directory.resolve(baseName + "-" + ROLL_DATE.format(activeDate) + "-" + (++rollSequence) + ROLLED_MARKER + ".log");
+        Files.move(activeFile, rolled, StandardCopyOption.REPLACE_EXISTING);
+        openActiveFile();
+        COMPRESSOR.execute(() -> {
+            compress(rolled);
+            enforceDiskCap();
+        });
+    }
+
+    private void openActiveFile() throws IOException {
+        activeFile = directory.resolve(baseName + ".log");
+        activeDate = LocalDate.now();
+        channel = FileChannel.open(activeFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSize = channel.size();
+        channel.tryLock();  // Released when the channel closes; tells other processes the file is in use
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("RollingFileLogSink: Failed to close log file '" + activeFile + "': " + e.getMessage());
+            }
+        }
+    }
+
+    private static void compress(Path rolled) {
+        Path gzip = rolled.resolveSibling(rolled.getFileName() + ".gz");
+        try (InputStream in = Files.newInputStream(rolled);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip), BUFFER_BYTES)) {
+            byte[] chunk = new byte[BUFFER_BYTES];
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                out.write(chunk, 0, read);
+            }
+        } catch (IOException e) {
+            System.err.println("RollingFileLogSink: Failed to compress '" + rolled + "': " + e.getMessage());
+            return;
+        }
+        try {
+            Files.delete(rolled);
+        } catch (IOException e) {
+            System.err.println("RollingFileLogSink: Failed to delete '" + rolled + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rolls and compresses the active files of other processes that are no longer locked, that is, whose
+     * process has exited. Files of this process are left alone, as are files another process still holds.
+     */
+    private void recoverOrphanedFiles() {
+        List<Path> candidates = new ArrayList<>();
+        String ownPrefix = FILE_PREFIX + PROCESS_ID + "-";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!name.contains(ROLLED_MARKER) && !name.startsWith(ownPrefix)) {
+                    candidates.add(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("RollingFileLogSink: Failed to scan log directory '" + directory + "': " + e.getMessage());
+            return;
+        }
+
+        for (Path orphan : candidates) {
+            if (isLockedByOtherProcess(orphan)) {
+                continue;
+            }
+            try {
+                if (Files.size(orphan) == 0) {
+                    Files.delete(orphan);
+                    continue;
+                }
+                String stem = orphan.getFileName().toString();
+                stem = stem.substring(0, stem.length() - ".log".length());
+                LocalDate date = lastModified(orphan).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+                // Sequence 0 never collides with the segments the exited process rolled itself
+                Path rolled = orphan.resolveSibling(stem + "-" + ROLL_DATE.format(date) + "-0" + ROLLED_MARKER + ".log");
+                Files.move(orphan, rolled, StandardCopyOption.REPLACE_EXISTING);
+                compress(rolled);
+            } catch (IOException e) {
+                System.err.println("RollingFileLogSink: Failed to recover orphaned log file '" + orphan + "': " + e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isLockedByOtherProcess(Path file) {
+        try (FileChannel probe = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            FileLock lock = probe.tryLock();
+            if (lock == null) {
+                return true;
+            }
+            lock.release();
+            return false;
+        } catch (OverlappingFileLockException e) {
+            return true;  // Held by this JVM
+        } catch (IOException e) {
+            return true;  // Cannot tell, so leave it alone
+        }
+    }
+
+    /**
+     * Deletes the oldest rolled segments until all godscape log files in the directory fit
+     * under the cap.
+     */
+    private void enforceDiskCap() {
+        List<Path> rolledSegments = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                total += Files.size(file);
+                if (file.getFileName().toString().contains(ROLLED_MARKER)) {
+                    rolledSegments.add(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("RollingFileLogSink: Failed to scan log directory '" + directory + "': " + e.getMessage());
+            return;
+        }
+
+        rolledSegments.sort(Comparator.comparing(RollingFileLogSink::lastModified));
+        for (Path segment : rolledSegments) {
+            if (total <= maxTotalBytes) {
+                break;
+            }
+            try {
+                long size = Files.size(segment);
+                Files.delete(segment);
+                total -= size;
+            } catch (IOException e) {
+                System.err.println("RollingFileLogSink: Failed to delete '" + segment + "': " + e.getMessage());
+            }
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String processId() {
+        String runtimeName = ManagementFactory.getRuntimeMXBean().getName();  // "pid@host" on common JVMs
+        int at = runtimeName.indexOf('@');
+        return at > 0 ? runtimeName.substring(0, at) : Long.toHexString(System.nanoTime());
+    }
+
+    /**
+     * Waits for pending background compression to finish. Used on shutdown.
+     */
+    static void awaitCompression(long timeoutMillis) {
+        try {
+            COMPRESSOR.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception ignored) {
+            // An unfinished segment stays uncompressed and still counts toward the disk cap
+        }
+    }
+}
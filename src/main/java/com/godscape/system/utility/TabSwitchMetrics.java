@@ -0,0 +1,163 @@
+package com.godscape.system.utility;
+
+import com.godscape.system.annotations.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tab-switch latencies recorded by {@link PanelPrefetcher}, shown in the debug panel.
+ * <p>
+ * A switch is timed from the moment a tab starts showing until the event queue has processed the
+ * layout and paint work it caused. It counts as a hit when the tab's content was already built.
+ */
+@Singleton
+public class TabSwitchMetrics {
+
+    private final Map<String, TabStats> tabs = new LinkedHashMap<>();  // Guarded by this
+    private long switches;
+    private long hits;
+    private long totalSwitchNanos;
+    private long maxSwitchNanos;
+    private long prefetchBuilds;
+    private long prefetchBuildNanos;
+    private long evictions;
+
+    synchronized void recordSwitch(String tabTitle, long latencyNanos, boolean hit) {
+        switches++;
+        totalSwitchNanos += latencyNanos;
+        maxSwitchNanos = Math.max(maxSwitchNanos, latencyNanos);
+        if (hit) {
+            hits++;
+        }
+        tabs.computeIfAbsent(tabTitle, TabStats::new).record(latencyNanos, hit);
+    }
+
+    synchronized void recordPrefetchBuild(long buildNanos) {
+        prefetchBuilds++;
+        prefetchBuildNanos += buildNanos;
+    }
+
+    synchronized void recordEviction() {
+        evictions++;
+    }
+
+    public synchronized long getSwitches() {
+        return switches;
+    }
+
+    /**
+     * @return Number of switches to a tab whose content was already built.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized double getMeanSwitchMillis() {
+        return switches == 0 ? 0 : toMillis(totalSwitchNanos) / switches;
+    }
+
+    public synchronized double getMaxSwitchMillis() {
+        return toMillis(maxSwitchNanos);
+    }
+
+    /**
+     * @return Number of tabs built ahead of time by the prefetcher.
+     */
+    public synchronized long getPrefetchBuilds() {
+        return prefetchBuilds;
+    }
+
+    /**
+     * @return Event dispatch thread time spent building prefetched tabs.
+     */
+    public synchronized double getPrefetchBuildMillis() {
+        return toMillis(prefetchBuildNanos);
+    }
+
+    /**
+     * @return Number of built tabs released to stay within the panel budget.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns a snapshot of the per-tab statistics, in the order the tabs were first shown.
+     */
+    public synchronized List<TabStats> getTabStats() {
+        List<TabStats> copy = new ArrayList<>(tabs.size());
+        for (TabStats stats : tabs.values()) {
+            copy.add(stats.copy());
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Switch statistics of one tab.
+     */
+    public static final class TabStats {
+        private final String tabTitle;
+        private long switches;
+        private long hits;
+        private long lastNanos;
+        private long totalNanos;
+        private long maxNanos;
+
+        private TabStats(String tabTitle) {
+            this.tabTitle = tabTitle;
+        }
+
+        private void record(long latencyNanos, boolean hit) {
+            switches++;
+            if (hit) {
+                hits++;
+            }
+            lastNanos = latencyNanos;
+            totalNanos += latencyNanos;
+            maxNanos = Math.max(maxNanos, latencyNanos);
+        }
+
+        private TabStats copy() {
+            TabStats copy = new TabStats(tabTitle);
+            copy.switches = switches;
+            copy.hits = hits;
+            copy.lastNanos = lastNanos;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            return copy;
+        }
+
+        public String getTabTitle() {
+            return tabTitle;
+        }
+
+        public long getSwitches() {
+            return switches;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public double getLastMillis() {
+            return toMillis(lastNanos);
+        }
+
+        public double getMeanMillis() {
+            return switches == 0 ? 0 : toMillis(totalNanos) / switches;
+        }
+
+        public double getMaxMillis() {
+            return toMillis(maxNanos);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.godscape.rs3.enums.core.Rs3Panels;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.enums.GameVersion;
 import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.utility.DropdownOptionCache;
 import com.godscape.system.utility.generators.BaseKeyGenerator;
 import com.godscape.system.utility.Logger;
 import com.godscape.system.utility.PanelSeparate;
@@ -168,7 +169,9 @@ public abstract class BaseGridBuilder extends JPanel {
      * @return The generated full key for the component.
      */
     public String addDropdown(int column, String category, String key, List<String> options, Enum<?> schema) {
-        JComboBox<String> dropdown = new JComboBox<>(options.toArray(new String[0]));
+        // The model may have been prepared in the background by the panel prefetcher
+        JComboBox<String> dropdown = new JComboBox<>(
+                DependencyFactory.getInstance().getInjection(DropdownOptionCache.class).modelFor(panel, key, options));
         dropdown.setOpaque(false);
 
         Object controller = getController();
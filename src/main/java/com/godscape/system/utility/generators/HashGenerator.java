@@ -10,29 +10,51 @@ import java.util.UUID;
 @Singleton
 public class HashGenerator {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // MessageDigest is not thread-safe; one per thread avoids the provider lookup on every call
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available.", e);
+        }
+    });
+
     // Generate a UUID based on a hash of the entity name
     public static UUID generateId(String entityName) {
         if (entityName == null || entityName.isEmpty()) {
             throw new IllegalArgumentException("Entity name cannot be null or empty.");
         }
 
-        try {
-            // Create a SHA-256 hash of the entity name
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(entityName.toLowerCase().getBytes(StandardCharsets.UTF_8));
-
-            // Use the first 16 bytes of the hash to create a UUID
-            long mostSigBits = 0;
-            long leastSigBits = 0;
-            for (int i = 0; i < 8; i++) {
-                mostSigBits = (mostSigBits << 8) | (hash[i] & 0xff);
-            }
-            for (int i = 8; i < 16; i++) {
-                leastSigBits = (leastSigBits << 8) | (hash[i] & 0xff);
-            }
-            return new UUID(mostSigBits, leastSigBits);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Failed to generate hash for entity name.", e);
+        // Create a SHA-256 hash of the entity name
+        byte[] hash = sha256(entityName.toLowerCase().getBytes(StandardCharsets.UTF_8));
+
+        // Use the first 16 bytes of the hash to create a UUID
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSigBits = (mostSigBits << 8) | (hash[i] & 0xff);
+        }
+        for (int i = 8; i < 16; i++) {
+            leastSigBits = (leastSigBits << 8) | (hash[i] & 0xff);
+        }
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    // Returns the SHA-256 digest of the data
+    public static byte[] sha256(byte[] data) {
+        return DIGEST.get().digest(data);
+    }
+
+    // Returns the SHA-256 digest of the data as 64 lowercase hex characters
+    public static String sha256Hex(byte[] data) {
+        byte[] hash = sha256(data);
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xf];
         }
+        return new String(hex);
     }
 }
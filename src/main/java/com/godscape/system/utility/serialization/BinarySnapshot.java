@@ -0,0 +1,582 @@
+package com.godscape.system.utility.serialization;
+
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary backup files of records of one type, each encoded by a {@link SnapshotCodec}. The
+ * overloads taking {@link IdentifiedDataSerializable} records use {@link HazelcastRecordCodec}, the
+ * records' own encoding, so a snapshot stores exactly what the cache stores; {@link JavaRecordCodec}
+ * covers the schemas that are only {@link java.io.Serializable}.
+ * <p>
+ * Records are length-prefixed and grouped into blocks of roughly {@link #DEFAULT_BLOCK_SIZE} bytes,
+ * each Deflate-compressed and checksummed on its own. An index at the end of the file maps record IDs
+ * to their block, so {@link #readOne} restores a single record by reading one block. Layout, all
+ * big-endian:
+ * <pre>
+ * header   magic "GSNP", format version, codec, settings codec version, reserved byte,
+ *          record type tag, creation time, block size, CRC32 of the preceding header bytes
+ * block    compressed length, raw length, record count, CRC32 of the raw bytes, payload;
+ *          the raw bytes are records, each an int length followed by the record codec's output
+ * index    per record with an ID, sorted by ID: UUID (two longs), block offset, offset within block
+ * trailer  index offset, index entries, records, blocks, CRC32 of the index,
+ *          CRC32 of the preceding trailer bytes, magic "GSNE"
+ * </pre>
+ * A block whose compressed length equals its raw length is stored uncompressed. Like
+ * {@link JsonProfileStream}, writes go to a temporary file that is renamed over the target.
+ */
+public final class BinarySnapshot {
+
+    public static final String FILE_EXTENSION = ".gsnap";
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private static final int HEADER_MAGIC = 0x47534E50;   // "GSNP"
+    private static final int TRAILER_MAGIC = 0x47534E45;  // "GSNE"
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte CODEC_DEFLATE = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int BLOCK_HEADER_SIZE = 16;
+    private static final int INDEX_ENTRY_SIZE = 28;
+    private static final int TRAILER_SIZE = 32;
+
+    private BinarySnapshot() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    /**
+     * Returns the record's {@code writeData} output, the same bytes a snapshot stores for it.
+     */
+    public static byte[] encode(IdentifiedDataSerializable record) throws IOException {
+        return new HazelcastRecordCodec<IdentifiedDataSerializable>(null).encode(record);
+    }
+
+    /**
+     * Like {@link #encode}, but writes settings maps in key order, so equal records always produce
+     * the same bytes. Slower than {@link #encode}; meant for content hashing, not for the cache.
+     */
+    public static byte[] encodeCanonical(IdentifiedDataSerializable record) throws IOException {
+        boolean previous = SettingsMapCodec.setCanonical(true);
+        try {
+            return encode(record);
+        } finally {
+            SettingsMapCodec.setCanonical(previous);
+        }
+    }
+
+    /**
+     * Reads a record from bytes produced by {@link #encode}.
+     */
+    public static <T extends IdentifiedDataSerializable> T decode(byte[] data, Supplier<? extends T> factory) throws IOException {
+        return new HazelcastRecordCodec<T>(factory).decode(data, 0, data.length);
+    }
+
+    // ---------------------------------------------------------------------
+    // Writing
+    // ---------------------------------------------------------------------
+
+    /**
+     * Writes the records to the target file with the default block size and fastest compression,
+     * replacing the file atomically.
+     *
+     * @param idFunction Returns the ID a record is indexed under, or null to leave it out of the index.
+     * @return The number of records written.
+     */
+    public static <T extends IdentifiedDataSerializable> int write(Path target, Iterable<? extends T> records,
+                                                                   Function<? super T, UUID> idFunction) throws IOException {
+        return write(target, records, idFunction, new HazelcastRecordCodec<T>(null), DEFAULT_BLOCK_SIZE, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Writes the records with the given codec, the default block size and fastest compression,
+     * replacing the file atomically.
+     *
+     * @param idFunction Returns the ID a record is indexed under, or null to leave it out of the index.
+     * @return The number of records written.
+     */
+    public static <T> int write(Path target, Iterable<? extends T> records, Function<? super T, UUID> idFunction,
+                                SnapshotCodec<T> codec) throws IOException {
+        return write(target, records, idFunction, codec, DEFAULT_BLOCK_SIZE, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Writes the records to the target file, replacing it atomically.
+     *
+     * @param blockSize        The raw size after which a block is compressed and written.
+     * @param compressionLevel A {@link Deflater} compression level.
+     * @return The number of records written.
+     */
+    public static <T extends IdentifiedDataSerializable> int write(Path target, Iterable<? extends T> records,
+                                                                   Function<? super T, UUID> idFunction,
+                                                                   int blockSize, int compressionLevel) throws IOException {
+        return write(target, records, idFunction, new HazelcastRecordCodec<T>(null), blockSize, compressionLevel);
+    }
+
+    /**
+     * Writes the records with the given codec, replacing the file atomically.
+     *
+     * @param blockSize        The raw size after which a block is compressed and written.
+     * @param compressionLevel A {@link Deflater} compression level.
+     * @return The number of records written.
+     */
+    public static <T> int write(Path target, Iterable<? extends T> records, Function<? super T, UUID> idFunction,
+                                SnapshotCodec<T> codec, int blockSize, int compressionLevel) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            int count;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                SnapshotWriter<T> writer = new SnapshotWriter<>(channel, codec, blockSize, compressionLevel);
+                try {
+                    for (T record : records) {
+                        writer.append(record, idFunction.apply(record));
+                    }
+                    count = writer.finish();
+                } finally {
+                    writer.release();
+                }
+                channel.force(true);
+            }
+            JsonProfileStream.moveIntoPlace(temp, target);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private static final class SnapshotWriter<T> {
+        private final FileChannel channel;
+        private final SnapshotCodec<T> codec;
+        private final int blockSize;
+        private final Deflater deflater;
+        private final List<IndexEntry> index = new ArrayList<>();
+        private final List<IndexEntry> blockEntries = new ArrayList<>();
+        private byte[] block;
+        private int blockLength;
+        private byte[] compressed = new byte[0];
+        private long type;
+        private int blockRecords;
+        private int records;
+        private int blocks;
+
+        SnapshotWriter(FileChannel channel, SnapshotCodec<T> codec, int blockSize, int compressionLevel) throws IOException {
+            this.channel = channel;
+            this.codec = codec;
+            this.blockSize = blockSize;
+            this.deflater = new Deflater(compressionLevel);
+            this.block = new byte[blockSize + blockSize / 4];
+            channel.position(HEADER_SIZE);  // The header is written last, once the record type is known
+        }
+
+        void append(T record, UUID id) throws IOException {
+            long recordType = codec.typeOf(record);
+            if (records == 0) {
+                type = recordType;
+            } else if (recordType != type) {
+                throw new IOException("BinarySnapshot: Mixed record types " + describeType(type) + " and "
+                        + describeType(recordType) + " in one snapshot.");
+            }
+            byte[] data = codec.encode(record);
+            int start = blockLength;
+            ensureCapacity(start + 4 + data.length);
+            ByteBuffer.wrap(block, start, 4).putInt(data.length);
+            System.arraycopy(data, 0, block, start + 4, data.length);
+            blockLength = start + 4 + data.length;
+            if (id != null) {
+                blockEntries.add(new IndexEntry(id, start));
+            }
+            blockRecords++;
+            records++;
+            if (blockLength >= blockSize) {
+                flushBlock();
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > block.length) {
+                block = Arrays.copyOf(block, Math.max(capacity, block.length * 2));
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (blockRecords == 0) {
+                return;
+            }
+            byte[] raw = block;
+            int rawLength = blockLength;
+            CRC32 crc = new CRC32();
+            crc.update(raw, 0, rawLength);
+
+            if (compressed.length < rawLength) {
+                compressed = new byte[rawLength];
+            }
+            deflater.reset();
+            deflater.setInput(raw, 0, rawLength);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished() && compressedLength < rawLength) {
+                compressedLength += deflater.deflate(compressed, compressedLength, rawLength - compressedLength);
+            }
+            boolean stored = !deflater.finished() || compressedLength >= rawLength;
+            byte[] payload = stored ? raw : compressed;
+            int payloadLength = stored ? rawLength : compressedLength;
+
+            long offset = channel.position();
+            ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+            header.putInt(payloadLength).putInt(rawLength).putInt(blockRecords).putInt((int) crc.getValue());
+            header.flip();
+            writeFully(channel, header);
+            writeFully(channel, ByteBuffer.wrap(payload, 0, payloadLength));
+
+            for (IndexEntry entry : blockEntries) {
+                entry.blockOffset = offset;
+                index.add(entry);
+            }
+            blockEntries.clear();
+            blockLength = 0;
+            blockRecords = 0;
+            blocks++;
+        }
+
+        int finish() throws IOException {
+            flushBlock();
+
+            long indexOffset = channel.position();
+            index.sort(Comparator.comparing(entry -> entry.id));
+            ByteBuffer indexBuffer = ByteBuffer.allocate(index.size() * INDEX_ENTRY_SIZE);
+            for (IndexEntry entry : index) {
+                indexBuffer.putLong(entry.id.getMostSignificantBits())
+                        .putLong(entry.id.getLeastSignificantBits())
+                        .putLong(entry.blockOffset)
+                        .putInt(entry.offsetInBlock);
+            }
+            indexBuffer.flip();
+            int indexCrc = crc(indexBuffer);
+            writeFully(channel, indexBuffer);
+
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            trailer.putLong(indexOffset).putInt(index.size()).putInt(records).putInt(blocks).putInt(indexCrc);
+            trailer.putInt(crc((ByteBuffer) trailer.duplicate().flip()));
+            trailer.putInt(TRAILER_MAGIC);
+            trailer.flip();
+            writeFully(channel, trailer);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(HEADER_MAGIC)
+                    .put(FORMAT_VERSION)
+                    .put(CODEC_DEFLATE)
+                    .put(SettingsMapCodec.FORMAT_VERSION)
+                    .put((byte) 0)
+                    .putLong(type)
+                    .putLong(System.currentTimeMillis())
+                    .putInt(blockSize);
+            header.putInt(crc((ByteBuffer) header.duplicate().flip()));
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+            return records;
+        }
+
+        void release() {
+            deflater.end();
+        }
+    }
+
+    private static final class IndexEntry {
+        private final UUID id;
+        private final int offsetInBlock;
+        private long blockOffset;
+
+        IndexEntry(UUID id, int offsetInBlock) {
+            this.id = id;
+            this.offsetInBlock = offsetInBlock;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Reading
+    // ---------------------------------------------------------------------
+
+    /**
+     * Reads every record, one block at a time, handing each to the sink as soon as it is decoded.
+     *
+     * @param factory Creates the empty instances records are read into.
+     * @return The number of records read.
+     */
+    public static <T extends IdentifiedDataSerializable> int read(Path source, Supplier<? extends T> factory,
+                                                                  Consumer<? super T> sink) throws IOException {
+        return read(source, new HazelcastRecordCodec<T>(factory), sink);
+    }
+
+    /**
+     * Reads every record with the given codec, one block at a time, handing each to the sink as soon
+     * as it is decoded.
+     *
+     * @return The number of records read.
+     */
+    public static <T> int read(Path source, SnapshotCodec<T> codec, Consumer<? super T> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, source);
+            Trailer trailer = readTrailer(channel, source);
+            Inflater inflater = new Inflater();
+            int count = 0;
+            try {
+                long offset = HEADER_SIZE;
+                for (int b = 0; b < trailer.blocks; b++) {
+                    Block block = readBlock(channel, source, offset, inflater);
+                    int position = 0;
+                    for (int r = 0; r < block.records; r++) {
+                        sink.accept(readRecord(block, position, codec, header, source));
+                        position += 4 + recordLength(block, position, source);
+                        count++;
+                    }
+                    offset = block.nextOffset;
+                }
+            } finally {
+                inflater.end();
+            }
+            if (count != trailer.records) {
+                throw new IOException("BinarySnapshot: " + source + " holds " + count + " records, expected " + trailer.records + ".");
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Reads a single record by its ID, using the index to decode only the block that holds it.
+     *
+     * @return The record, or null if the snapshot has no record with that ID.
+     */
+    public static <T extends IdentifiedDataSerializable> T readOne(Path source, UUID id, Supplier<? extends T> factory) throws IOException {
+        return readOne(source, id, new HazelcastRecordCodec<T>(factory));
+    }
+
+    /**
+     * Reads a single record by its ID with the given codec, decoding only the block that holds it.
+     *
+     * @return The record, or null if the snapshot has no record with that ID.
+     */
+    public static <T> T readOne(Path source, UUID id, SnapshotCodec<T> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, source);
+            Trailer trailer = readTrailer(channel, source);
+            ByteBuffer index = readFully(channel, source, trailer.indexOffset, trailer.indexEntries * INDEX_ENTRY_SIZE);
+            if (crc(index.duplicate()) != trailer.indexCrc) {
+                throw new IOException("BinarySnapshot: Index checksum mismatch in " + source + ".");
+            }
+
+            int low = 0;
+            int high = trailer.indexEntries - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int entry = mid * INDEX_ENTRY_SIZE;
+                int comparison = new UUID(index.getLong(entry), index.getLong(entry + 8)).compareTo(id);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    Inflater inflater = new Inflater();
+                    try {
+                        Block block = readBlock(channel, source, index.getLong(entry + 16), inflater);
+                        return readRecord(block, index.getInt(entry + 24), codec, header, source);
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    // The length prefix bounds the codec, so anything a newer schema version appended is skipped
+    private static <T> T readRecord(Block block, int offset, SnapshotCodec<T> codec, Header header, Path source) throws IOException {
+        if (header.type != codec.type()) {
+            throw new IOException("BinarySnapshot: " + source + " holds records of type " + describeType(header.type)
+                    + ", not " + describeType(codec.type()) + ".");
+        }
+        return codec.decode(block.raw, offset + 4, recordLength(block, offset, source));
+    }
+
+    private static int recordLength(Block block, int offset, Path source) throws IOException {
+        if (offset < 0 || offset + 4 > block.raw.length) {
+            throw new IOException("BinarySnapshot: Record offset " + offset + " outside its block in " + source + ".");
+        }
+        int length = ByteBuffer.wrap(block.raw).getInt(offset);
+        if (length < 0 || offset + 4 + length > block.raw.length) {
+            throw new IOException("BinarySnapshot: Corrupt record length at offset " + offset + " of its block in " + source + ".");
+        }
+        return length;
+    }
+
+    private static String describeType(long type) {
+        return (int) (type >> 32) + "/" + (int) type;
+    }
+
+    private static Block readBlock(FileChannel channel, Path source, long offset, Inflater inflater) throws IOException {
+        ByteBuffer header = readFully(channel, source, offset, BLOCK_HEADER_SIZE);
+        int payloadLength = header.getInt();
+        int rawLength = header.getInt();
+        int records = header.getInt();
+        int expectedCrc = header.getInt();
+        if (payloadLength < 0 || rawLength < payloadLength || records < 0) {
+            throw new IOException("BinarySnapshot: Corrupt block header at offset " + offset + " in " + source + ".");
+        }
+
+        byte[] payload = readFully(channel, source, offset + BLOCK_HEADER_SIZE, payloadLength).array();
+        byte[] raw;
+        if (payloadLength == rawLength) {
+            raw = payload;
+        } else {
+            raw = new byte[rawLength];
+            inflater.reset();
+            inflater.setInput(payload);
+            int inflated = 0;
+            try {
+                while (inflated < rawLength && !inflater.finished()) {
+                    int n = inflater.inflate(raw, inflated, rawLength - inflated);
+                    if (n == 0 && inflater.needsInput()) {
+                        break;
+                    }
+                    inflated += n;
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("BinarySnapshot: Corrupt block at offset " + offset + " in " + source + ": " + e.getMessage(), e);
+            }
+            if (inflated != rawLength) {
+                throw new IOException("BinarySnapshot: Truncated block at offset " + offset + " in " + source + ".");
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(raw, 0, raw.length);
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("BinarySnapshot: Block checksum mismatch at offset " + offset + " in " + source + ".");
+        }
+        return new Block(raw, records, offset + BLOCK_HEADER_SIZE + payloadLength);
+    }
+
+    private static Header readHeader(FileChannel channel, Path source) throws IOException {
+        ByteBuffer buffer = readFully(channel, source, 0, HEADER_SIZE);
+        if (buffer.getInt(0) != HEADER_MAGIC) {
+            throw new IOException("BinarySnapshot: " + source + " is not a snapshot file.");
+        }
+        if (crc((ByteBuffer) buffer.duplicate().limit(HEADER_SIZE - 4)) != buffer.getInt(HEADER_SIZE - 4)) {
+            throw new IOException("BinarySnapshot: Header checksum mismatch in " + source + ".");
+        }
+        buffer.position(4);
+        byte formatVersion = buffer.get();
+        byte codec = buffer.get();
+        byte settingsVersion = buffer.get();
+        buffer.get();
+        if (formatVersion > FORMAT_VERSION || codec != CODEC_DEFLATE || settingsVersion > SettingsMapCodec.FORMAT_VERSION) {
+            throw new IOException("BinarySnapshot: Unsupported snapshot version " + formatVersion + " (codec " + codec
+                    + ", settings version " + settingsVersion + ") in " + source + ".");
+        }
+        return new Header(buffer.getLong());
+    }
+
+    private static Trailer readTrailer(FileChannel channel, Path source) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE + TRAILER_SIZE) {
+            throw new IOException("BinarySnapshot: " + source + " is truncated.");
+        }
+        ByteBuffer buffer = readFully(channel, source, size - TRAILER_SIZE, TRAILER_SIZE);
+        if (buffer.getInt(TRAILER_SIZE - 4) != TRAILER_MAGIC
+                || crc((ByteBuffer) buffer.duplicate().limit(TRAILER_SIZE - 8)) != buffer.getInt(TRAILER_SIZE - 8)) {
+            throw new IOException("BinarySnapshot: " + source + " has no valid trailer; the write may not have completed.");
+        }
+        Trailer trailer = new Trailer(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+        if (trailer.indexOffset < HEADER_SIZE || trailer.indexOffset + (long) trailer.indexEntries * INDEX_ENTRY_SIZE != size - TRAILER_SIZE) {
+            throw new IOException("BinarySnapshot: Corrupt trailer in " + source + ".");
+        }
+        return trailer;
+    }
+
+    // ---------------------------------------------------------------------
+    // Helpers
+    // ---------------------------------------------------------------------
+
+    private static ByteBuffer readFully(FileChannel channel, Path source, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("BinarySnapshot: Unexpected end of " + source + " at offset " + (position + buffer.position()) + ".");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int crc(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private static final class Header {
+        private final long type;
+
+        Header(long type) {
+            this.type = type;
+        }
+    }
+
+    private static final class Trailer {
+        private final long indexOffset;
+        private final int indexEntries;
+        private final int records;
+        private final int blocks;
+        private final int indexCrc;
+
+        Trailer(long indexOffset, int indexEntries, int records, int blocks, int indexCrc) {
+            this.indexOffset = indexOffset;
+            this.indexEntries = indexEntries;
+            this.records = records;
+            this.blocks = blocks;
+            this.indexCrc = indexCrc;
+        }
+    }
+
+    private static final class Block {
+        private final byte[] raw;
+        private final int records;
+        private final long nextOffset;
+
+        Block(byte[] raw, int records, long nextOffset) {
+            this.raw = raw;
+            this.records = records;
+            this.nextOffset = nextOffset;
+        }
+    }
+}
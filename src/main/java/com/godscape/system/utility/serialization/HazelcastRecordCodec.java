@@ -0,0 +1,92 @@
+package com.godscape.system.utility.serialization;
+
+import com.godscape.system.factories.SerializableFactory;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Stores records as their own {@link IdentifiedDataSerializable} encoding, so a snapshot holds exactly
+ * what the cache holds. The type tag is the factory ID in the high and the class ID in the low half.
+ * <p>
+ * This is the only class of the snapshot code that touches Hazelcast's internal serialization API.
+ * {@code writeData}/{@code readData} need an {@code ObjectDataOutput}/{@code ObjectDataInput}, and
+ * Hazelcast 5 has no public way to create one without a running member or client, which backups and
+ * restores must not depend on. The internal service is built standalone, with only
+ * {@link SerializableFactory} registered, and used for nothing but these two streams; if a Hazelcast
+ * upgrade moves it, this class is all that changes.
+ *
+ * @param <T> The record type.
+ */
+public final class HazelcastRecordCodec<T extends IdentifiedDataSerializable> implements SnapshotCodec<T> {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final Supplier<? extends T> factory;
+    private volatile long type = -1;
+
+    /**
+     * @param factory Creates the empty instances records are read into, or null for a codec that only
+     *                writes.
+     */
+    public HazelcastRecordCodec(Supplier<? extends T> factory) {
+        this.factory = factory;
+    }
+
+    private static final class SerializationHolder {
+        private static final InternalSerializationService SERVICE = new DefaultSerializationServiceBuilder()
+                .addDataSerializableFactory(SerializableFactory.FACTORY_ID, new SerializableFactory())
+                .build();
+    }
+
+    static long typeOf(int factoryId, int classId) {
+        return ((long) factoryId << 32) | (classId & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public long typeOf(T record) {
+        return typeOf(record.getFactoryId(), record.getClassId());
+    }
+
+    @Override
+    public long type() {
+        long current = type;
+        if (current == -1) {
+            if (factory == null) {
+                throw new IllegalStateException("HazelcastRecordCodec: A codec without a factory cannot read records.");
+            }
+            current = typeOf(factory.get());
+            type = current;
+        }
+        return current;
+    }
+
+    @Override
+    public byte[] encode(T record) throws IOException {
+        BufferObjectDataOutput out = SerializationHolder.SERVICE.createObjectDataOutput(INITIAL_BUFFER_SIZE);
+        try {
+            record.writeData(out);
+            return out.toByteArray();
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public T decode(byte[] data, int offset, int length) throws IOException {
+        if (factory == null) {
+            throw new IllegalStateException("HazelcastRecordCodec: A codec without a factory cannot read records.");
+        }
+        // Only wraps the array; unlike the output, the input has nothing to close
+        BufferObjectDataInput in = SerializationHolder.SERVICE.createObjectDataInput(data);
+        in.position(offset);
+        T record = factory.get();
+        record.readData(in);
+        return record;
+    }
+}
@@ -0,0 +1,57 @@
+package com.godscape.system.utility.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Stores records with plain Java serialization, for schemas such as the character schemas that are
+ * {@link Serializable} but have no {@code IdentifiedDataSerializable} encoding. The type tag is -1 in
+ * the high half, a factory ID no Hazelcast factory uses, and the hash of the class name in the low half.
+ *
+ * @param <T> The record type.
+ */
+public final class JavaRecordCodec<T extends Serializable> implements SnapshotCodec<T> {
+
+    private final Class<T> recordClass;
+    private final long type;
+
+    public JavaRecordCodec(Class<T> recordClass) {
+        this.recordClass = recordClass;
+        this.type = HazelcastRecordCodec.typeOf(-1, recordClass.getName().hashCode());
+    }
+
+    @Override
+    public long typeOf(T record) {
+        if (record.getClass() != recordClass) {
+            return HazelcastRecordCodec.typeOf(-1, record.getClass().getName().hashCode());
+        }
+        return type;
+    }
+
+    @Override
+    public long type() {
+        return type;
+    }
+
+    @Override
+    public byte[] encode(T record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(record);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public T decode(byte[] data, int offset, int length) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data, offset, length))) {
+            return recordClass.cast(in.readObject());
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("JavaRecordCodec: Record is not a " + recordClass.getName() + ": " + e.getMessage(), e);
+        }
+    }
+}
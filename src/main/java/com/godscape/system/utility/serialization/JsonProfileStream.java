@@ -0,0 +1,116 @@
+package com.godscape.system.utility.serialization;
+
+import com.godscape.system.utility.Logger;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Writes and reads profile backups as a JSON array one element at a time, so neither side holds
+ * more than one profile in memory besides the buffers.
+ * <p>
+ * The format is the plain JSON array the backups have always used, so files written before and
+ * after streaming are interchangeable. Writes go to a temporary file next to the target that is
+ * synced and then renamed over it, so a crash or failure mid-write leaves the previous backup intact.
+ */
+public final class JsonProfileStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private JsonProfileStream() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    /**
+     * Writes the profiles to the target file, replacing it atomically.
+     *
+     * @param compact Writes without indentation or line breaks when true.
+     * @return The number of profiles written.
+     */
+    public static <T> int write(Path target, Iterable<? extends T> profiles, Class<T> type, Gson gson, boolean compact) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        int count = 0;
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), BUFFER_SIZE);
+                 JsonWriter jsonWriter = new JsonWriter(writer)) {
+                jsonWriter.setIndent(compact ? "" : "  ");
+                jsonWriter.setSerializeNulls(gson.serializeNulls());
+                jsonWriter.beginArray();
+                for (T profile : profiles) {
+                    gson.toJson(profile, type, jsonWriter);
+                    count++;
+                }
+                jsonWriter.endArray();
+                jsonWriter.flush();
+                channel.force(true);
+            }
+            moveIntoPlace(temp, target);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Renames the temp file over the target, atomically where the file system allows it.
+     */
+    static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Logger.warn("JsonProfileStream: Atomic rename not supported for {}; replacing non-atomically.", target);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the profiles from the source file, handing each one to the sink as soon as it is parsed.
+     * Null array elements are skipped. Profiles parsed before a malformed element has been reached
+     * have already been handed to the sink when the exception is thrown.
+     *
+     * @return The number of profiles read.
+     */
+    public static <T> int read(Path source, Class<T> type, Gson gson, Consumer<? super T> sink) throws IOException {
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+             Reader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), BUFFER_SIZE), BUFFER_SIZE);
+             JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.setLenient(true);
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                if (jsonReader.peek() == JsonToken.NULL) {
+                    jsonReader.nextNull();
+                    continue;
+                }
+                T profile = gson.fromJson(jsonReader, type);
+                sink.accept(profile);
+                count++;
+            }
+            jsonReader.endArray();
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed profile backup " + source + " after " + count + " profiles: " + e.getMessage(), e);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,410 @@
+package com.godscape.system.utility.serialization;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Compact, versioned binary encoding for schema settings maps.
+ * <p>
+ * Layout: a key dictionary (every distinct key, including nested map keys, written once), followed by
+ * the map body where keys are dictionary indices and values carry a one-byte type tag. Each boxed
+ * primitive has its own tag, so it reads back as the type it was written as; ints, shorts, longs and
+ * sizes are written as variable-length integers. Values without a dedicated tag fall back to
+ * {@link ObjectDataOutput#writeObject(Object)}. Map entries are written in iteration order, except on a
+ * thread in canonical mode ({@link BinarySnapshot#encodeCanonical}), where they are written in key order
+ * so equal settings always encode to the same bytes; differential backups rely on that to recognise
+ * unchanged profiles by their hash.
+ * <p>
+ * Schemas prefix their payload with {@link #FORMAT_MAGIC} and a version byte so data written before this
+ * format existed (which never starts with the magic) can still be read.
+ */
+public final class SettingsMapCodec {
+
+    // Never a valid legacy first field: string lengths are >= -1, serializer type IDs and theme IDs are small
+    public static final int FORMAT_MAGIC = 0xC0DE5E77;
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_STRING = 6;
+    private static final byte TAG_MAP = 7;
+    private static final byte TAG_LIST = 8;
+    private static final byte TAG_OBJECT = 9;
+    private static final byte TAG_FLOAT = 10;
+    private static final byte TAG_SHORT = 11;
+    private static final byte TAG_BYTE = 12;
+
+    private static final ThreadLocal<Boolean> CANONICAL = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private SettingsMapCodec() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    // ---------------------------------------------------------------------
+    // Format header
+    // ---------------------------------------------------------------------
+
+    /**
+     * Writes the format magic and current version.
+     */
+    public static void writeHeader(ObjectDataOutput out) throws IOException {
+        out.writeInt(FORMAT_MAGIC);
+        out.writeByte(FORMAT_VERSION);
+    }
+
+    /**
+     * Consumes the format header if present.
+     *
+     * @return The format version, or 0 if the data was written in the legacy (unversioned) layout.
+     */
+    public static int readHeader(ObjectDataInput in) throws IOException {
+        if (in instanceof BufferObjectDataInput) {
+            BufferObjectDataInput buffer = (BufferObjectDataInput) in;
+            try {
+                if (buffer.readInt(buffer.position()) != FORMAT_MAGIC) {
+                    return 0;
+                }
+            } catch (EOFException e) {
+                return 0;
+            }
+        }
+        int magic = in.readInt();
+        if (magic != FORMAT_MAGIC) {
+            throw new IOException("SettingsMapCodec: Unexpected format header " + Integer.toHexString(magic));
+        }
+        int version = in.readByte();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("SettingsMapCodec: Unsupported format version " + version);
+        }
+        return version;
+    }
+
+    // ---------------------------------------------------------------------
+    // Settings map
+    // ---------------------------------------------------------------------
+
+    /**
+     * Writes a settings map (may be null) in the dictionary-encoded format.
+     */
+    public static void writeSettingsMap(ObjectDataOutput out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            writeVarInt(out, -1);
+            return;
+        }
+        if (CANONICAL.get()) {
+            map = sortedCopy(map);
+        }
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        collectKeys(map, dictionary);
+
+        writeVarInt(out, dictionary.size());
+        for (String key : dictionary.keySet()) {
+            writeUtf8(out, key);
+        }
+        writeMapBody(out, map, dictionary);
+    }
+
+    /**
+     * Reads a settings map written by {@link #writeSettingsMap(ObjectDataOutput, Map)}.
+     *
+     * @return The decoded map, or null if a null map was written.
+     */
+    public static Map<String, Object> readSettingsMap(ObjectDataInput in) throws IOException {
+        int dictionarySize = readVarInt(in);
+        if (dictionarySize < 0) {
+            return null;
+        }
+        String[] dictionary = new String[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary[i] = readUtf8(in).intern();
+        }
+        return readMapBody(in, dictionary);
+    }
+
+    /**
+     * Switches canonical mode on or off for the current thread.
+     *
+     * @return The previous mode, to be restored afterwards.
+     */
+    static boolean setCanonical(boolean canonical) {
+        boolean previous = CANONICAL.get();
+        CANONICAL.set(canonical);
+        return previous;
+    }
+
+    // Key order instead of iteration order, which for hash maps depends on their capacity and history
+    private static Map<String, Object> sortedCopy(Map<String, Object> map) {
+        Map<String, Object> sorted = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            sorted.put(entry.getKey(), sortedValue(entry.getValue()));
+        }
+        return sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object sortedValue(Object value) {
+        if (value instanceof Map && hasStringKeys((Map<?, ?>) value)) {
+            return sortedCopy((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                list.add(sortedValue(element));
+            }
+            return list;
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectKeys(Map<String, Object> map, Map<String, Integer> dictionary) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            dictionary.putIfAbsent(entry.getKey(), dictionary.size());
+            collectValueKeys(entry.getValue(), dictionary);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectValueKeys(Object value, Map<String, Integer> dictionary) {
+        if (value instanceof Map && hasStringKeys((Map<?, ?>) value)) {
+            collectKeys((Map<String, Object>) value, dictionary);
+        } else if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                collectValueKeys(element, dictionary);
+            }
+        }
+    }
+
+    private static void writeMapBody(ObjectDataOutput out, Map<String, Object> map, Map<String, Integer> dictionary) throws IOException {
+        writeVarInt(out, map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeVarInt(out, dictionary.get(entry.getKey()));
+            writeValue(out, entry.getValue(), dictionary);
+        }
+    }
+
+    private static Map<String, Object> readMapBody(ObjectDataInput in, String[] dictionary) throws IOException {
+        int size = readVarInt(in);
+        Map<String, Object> map = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            String key = dictionary[readVarInt(in)];
+            map.put(key, readValue(in, dictionary));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(ObjectDataOutput out, Object value, Map<String, Integer> dictionary) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INT);
+            writeVarInt(out, (Integer) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TAG_SHORT);
+            writeVarInt(out, (Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TAG_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeUtf8(out, (String) value);
+        } else if (value instanceof Map && hasStringKeys((Map<?, ?>) value)) {
+            out.writeByte(TAG_MAP);
+            writeMapBody(out, (Map<String, Object>) value, dictionary);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(TAG_LIST);
+            writeVarInt(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element, dictionary);
+            }
+        } else {
+            out.writeByte(TAG_OBJECT);
+            out.writeObject(value);
+        }
+    }
+
+    private static Object readValue(ObjectDataInput in, String[] dictionary) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_INT:
+                return readVarInt(in);
+            case TAG_LONG:
+                return unZigZag(readVarLong(in));
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_SHORT:
+                return (short) readVarInt(in);
+            case TAG_BYTE:
+                return in.readByte();
+            case TAG_STRING:
+                return readUtf8(in);
+            case TAG_MAP:
+                return readMapBody(in, dictionary);
+            case TAG_LIST: {
+                int size = readVarInt(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, dictionary));
+                }
+                return list;
+            }
+            case TAG_OBJECT:
+                return in.readObject();
+            default:
+                throw new IOException("SettingsMapCodec: Unknown value tag " + tag);
+        }
+    }
+
+    private static boolean hasStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ---------------------------------------------------------------------
+    // Field helpers shared by the schemas
+    // ---------------------------------------------------------------------
+
+    public static void writeUuid(ObjectDataOutput out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    public static UUID readUuid(ObjectDataInput in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    /**
+     * Writes a nullable Boolean as a single byte (0 = null, 1 = false, 2 = true).
+     */
+    public static void writeNullableBoolean(ObjectDataOutput out, Boolean value) throws IOException {
+        out.writeByte(value == null ? TAG_NULL : (value ? TAG_TRUE : TAG_FALSE));
+    }
+
+    public static Boolean readNullableBoolean(ObjectDataInput in) throws IOException {
+        byte tag = in.readByte();
+        return tag == TAG_NULL ? null : tag == TAG_TRUE;
+    }
+
+    // ---------------------------------------------------------------------
+    // Primitive encodings
+    // ---------------------------------------------------------------------
+
+    private static void writeUtf8(ObjectDataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readUtf8(ObjectDataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(ObjectDataOutput out, int value) throws IOException {
+        // Zig-zag so the -1 null marker (and negative ints) stay short
+        int encoded = zigZag(value);
+        while ((encoded & ~0x7F) != 0) {
+            out.writeByte((encoded & 0x7F) | 0x80);
+            encoded >>>= 7;
+        }
+        out.writeByte(encoded);
+    }
+
+    private static int readVarInt(ObjectDataInput in) throws IOException {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new IOException("SettingsMapCodec: Malformed variable-length int.");
+            }
+            b = in.readByte();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return unZigZag(result);
+    }
+
+    private static void writeVarLong(ObjectDataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ObjectDataInput in) throws IOException {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                throw new IOException("SettingsMapCodec: Malformed variable-length long.");
+            }
+            b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
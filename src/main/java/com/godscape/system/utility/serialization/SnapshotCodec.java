@@ -0,0 +1,33 @@
+package com.godscape.system.utility.serialization;
+
+import java.io.IOException;
+
+/**
+ * Turns the records of a {@link BinarySnapshot} into bytes and back.
+ * <p>
+ * Every record of a snapshot has the same type, a 64-bit tag stored in the header and checked against
+ * {@link #type()} before anything is decoded, so a file written for one record type is never read as
+ * another.
+ *
+ * @param <T> The record type.
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * @return The type tag of a record about to be written.
+     */
+    long typeOf(T record);
+
+    /**
+     * @return The type tag this codec reads.
+     */
+    long type();
+
+    byte[] encode(T record) throws IOException;
+
+    /**
+     * Reads a record from {@code length} bytes of {@code data} starting at {@code offset}. Bytes past
+     * the end of what this codec reads, such as fields appended by a newer schema version, are ignored.
+     */
+    T decode(byte[] data, int offset, int length) throws IOException;
+}
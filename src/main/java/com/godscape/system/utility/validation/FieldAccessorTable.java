@@ -0,0 +1,181 @@
+package com.godscape.system.utility.validation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The declared fields of one class with {@link MethodHandle} getters and setters, built once per
+ * class and shared.
+ * <p>
+ * Reflection-heavy helpers such as {@link MapStructure#extractFields(Object, boolean)} and the
+ * profile DAOs used to call {@code getDeclaredFields()} and {@code setAccessible} on every call;
+ * looking the table up through {@link #of(Class)} costs a {@link ClassValue} read instead. Field
+ * names are also exposed lower-cased, which is how MapStructure and the database columns key them.
+ */
+public final class FieldAccessorTable {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<FieldAccessorTable> TABLES = new ClassValue<FieldAccessorTable>() {
+        @Override
+        protected FieldAccessorTable computeValue(Class<?> type) {
+            return new FieldAccessorTable(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<FieldAccessor> accessors;
+    private final Map<String, FieldAccessor> byLowerCaseName;
+
+    private FieldAccessorTable(Class<?> type) {
+        this.type = type;
+        Field[] fields = type.getDeclaredFields();
+        List<FieldAccessor> accessors = new ArrayList<>(fields.length);
+        Map<String, FieldAccessor> byLowerCaseName = new HashMap<>();
+        for (Field field : fields) {
+            if (field.isSynthetic()) {
+                continue;
+            }
+            FieldAccessor accessor = FieldAccessor.create(field);
+            if (accessor != null) {
+                accessors.add(accessor);
+                byLowerCaseName.putIfAbsent(accessor.getLowerCaseName(), accessor);
+            }
+        }
+        this.accessors = Collections.unmodifiableList(accessors);
+        this.byLowerCaseName = byLowerCaseName;
+    }
+
+    public static FieldAccessorTable of(Class<?> type) {
+        return TABLES.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * All declared fields in declaration order, including static ones.
+     */
+    public List<FieldAccessor> getAccessors() {
+        return accessors;
+    }
+
+    /**
+     * Looks a field up by name, ignoring case. Returns null if the class declares no such field.
+     */
+    public FieldAccessor find(String name) {
+        return byLowerCaseName.get(name.toLowerCase());
+    }
+
+    public static final class FieldAccessor {
+        private final String name;
+        private final String lowerCaseName;
+        private final Class<?> fieldType;
+        private final boolean isStatic;
+        private final boolean isFinal;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+            this.name = field.getName();
+            this.lowerCaseName = name.toLowerCase();
+            this.fieldType = field.getType();
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+            this.isFinal = Modifier.isFinal(field.getModifiers());
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        // Both handles are adapted to plain Object signatures so callers can use invokeExact;
+        // static fields ignore the target argument
+        private static FieldAccessor create(Field field) {
+            try {
+                field.setAccessible(true);
+                boolean isStatic = Modifier.isStatic(field.getModifiers());
+                MethodHandle getter = LOOKUP.unreflectGetter(field);
+                if (isStatic) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+                MethodHandle setter = null;
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    setter = LOOKUP.unreflectSetter(field);
+                    if (isStatic) {
+                        setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                    }
+                    setter = setter.asType(SETTER_TYPE);
+                }
+                return new FieldAccessor(field, getter.asType(GETTER_TYPE), setter);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // Not accessible from here (e.g. module restrictions); leave the field out
+                return null;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLowerCaseName() {
+            return lowerCaseName;
+        }
+
+        public Class<?> getFieldType() {
+            return fieldType;
+        }
+
+        public boolean isStatic() {
+            return isStatic;
+        }
+
+        public boolean isFinal() {
+            return isFinal;
+        }
+
+        /**
+         * True for instance fields that can be both read and written, i.e. the ones that make up
+         * an object's persistent state.
+         */
+        public boolean isMutableInstanceField() {
+            return !isStatic && !isFinal;
+        }
+
+        public Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read field '" + name + "'", t);
+            }
+        }
+
+        /**
+         * Writes the field. Primitive fields need a value of the matching wrapper type.
+         *
+         * @throws UnsupportedOperationException If the field is final.
+         */
+        public void set(Object target, Object value) {
+            if (setter == null) {
+                throw new UnsupportedOperationException("Field '" + name + "' is final");
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to write field '" + name + "'", t);
+            }
+        }
+    }
+}
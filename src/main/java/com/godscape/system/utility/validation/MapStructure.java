@@ -3,7 +3,6 @@ package com.godscape.system.utility.validation;
 import com.godscape.system.annotations.Singleton;
 import com.godscape.system.utility.Logger;
 
-import java.lang.reflect.Field;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,13 +21,11 @@ public class MapStructure {
             return fields;
         }
 
-        for (Field field : obj.getClass().getDeclaredFields()) {
-            field.setAccessible(true);
+        for (FieldAccessorTable.FieldAccessor accessor : FieldAccessorTable.of(obj.getClass()).getAccessors()) {
             try {
-                Object value = field.get(obj);
-                fields.put(field.getName().toLowerCase(), value); // Ensure keys are lowercase
-            } catch (IllegalAccessException e) {
-                Logger.error("MapStructure: Failed to access field '{}': {}", field.getName(), e.getMessage());
+                fields.put(accessor.getLowerCaseName(), accessor.get(obj)); // Ensure keys are lowercase
+            } catch (RuntimeException e) {
+                Logger.error("MapStructure: Failed to access field '{}': {}", accessor.getName(), e.getMessage());
             }
         }
         return flatten ? flattenMap(fields, "") : fields;
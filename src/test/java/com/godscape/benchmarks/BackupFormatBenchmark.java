@@ -0,0 +1,144 @@
+package com.godscape.benchmarks;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.serialization.BinarySnapshot;
+import com.godscape.system.utility.serialization.JsonProfileStream;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backing up and restoring {@code profileCount} profiles of 100 settings each as streamed JSON,
+ * pretty-printed XML (as BackupToXml writes it) and a {@link BinarySnapshot}, plus restoring a single
+ * profile from the snapshot by ID. Run {@link #main(String[])} to print the file sizes before the
+ * timing runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BackupFormatBenchmark {
+
+    @Param({"1000", "10000"})
+    private int profileCount;
+
+    private final Gson gson = new GsonBuilder().create();
+    private final XmlMapper xmlMapper = new XmlMapper();
+    private Path directory;
+    private Path jsonFile;
+    private Path xmlFile;
+    private Path snapshotFile;
+    private List<OsrsProfileSchema> profiles;
+    private UUID middleProfileId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+        directory = Files.createTempDirectory("godscape-backup-bench");
+        jsonFile = directory.resolve("osrs_profiles.json");
+        xmlFile = directory.resolve("osrs_profiles.xml");
+        snapshotFile = directory.resolve("osrs_profiles" + BinarySnapshot.FILE_EXTENSION);
+
+        profiles = new ArrayList<>(profileCount);
+        for (int i = 0; i < profileCount; i++) {
+            profiles.add(new OsrsProfileSchema(UUID.randomUUID(), "Profile " + i,
+                    SettingsSerializationBenchmark.createSettings(100), System.currentTimeMillis()));
+        }
+        middleProfileId = profiles.get(profileCount / 2).getProfileId();
+
+        writeJson();
+        writeXml();
+        writeSnapshot();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path file : new Path[]{jsonFile, xmlFile, snapshotFile}) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int writeJson() throws IOException {
+        return JsonProfileStream.write(jsonFile, profiles, OsrsProfileSchema.class, gson, true);
+    }
+
+    @Benchmark
+    public int readJson() throws IOException {
+        List<OsrsProfileSchema> restored = new ArrayList<>();
+        return JsonProfileStream.read(jsonFile, OsrsProfileSchema.class, gson, restored::add);
+    }
+
+    @Benchmark
+    public File writeXml() throws IOException {
+        File file = xmlFile.toFile();
+        xmlMapper.writerWithDefaultPrettyPrinter().writeValue(file, profiles);
+        return file;
+    }
+
+    @Benchmark
+    public List<OsrsProfileSchema> readXml() throws IOException {
+        return xmlMapper.readValue(xmlFile.toFile(), xmlMapper.getTypeFactory().constructCollectionType(List.class, OsrsProfileSchema.class));
+    }
+
+    @Benchmark
+    public int writeSnapshot() throws IOException {
+        return BinarySnapshot.write(snapshotFile, profiles, OsrsProfileSchema::getProfileId);
+    }
+
+    @Benchmark
+    public int readSnapshot() throws IOException {
+        List<OsrsProfileSchema> restored = new ArrayList<>();
+        return BinarySnapshot.read(snapshotFile, OsrsProfileSchema::new, restored::add);
+    }
+
+    @Benchmark
+    public OsrsProfileSchema readOneFromSnapshot() throws IOException {
+        return BinarySnapshot.readOne(snapshotFile, middleProfileId, OsrsProfileSchema::new);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        for (int count : new int[]{1000, 10000}) {
+            BackupFormatBenchmark benchmark = new BackupFormatBenchmark();
+            benchmark.profileCount = count;
+            benchmark.setUp();
+            System.out.printf("profiles=%d bytes: json=%d xml=%d snapshot=%d%n", count,
+                    Files.size(benchmark.jsonFile), Files.size(benchmark.xmlFile), Files.size(benchmark.snapshotFile));
+            benchmark.tearDown();
+        }
+        new Runner(new OptionsBuilder()
+                .include(BackupFormatBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.annotations.Singleton;
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.registries.ConstructorPlan;
+import com.godscape.system.registries.DependencyRegistry;
+import com.godscape.system.utility.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Injection cost through {@link DependencyRegistry}: a cached singleton, a non-singleton with a
+ * two-level constructor graph, and the one-off constructor analysis paid per class at startup.
+ * The {@code reflective*} benchmarks reproduce the previous resolver (declared constructors looked
+ * up, sorted and invoked reflectively on every injection) as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyRegistryBenchmark {
+
+    @Singleton
+    public static class SharedService {
+        public SharedService() {
+        }
+    }
+
+    public static class Repository {
+        private final SharedService service;
+
+        public Repository(SharedService service) {
+            this.service = service;
+        }
+    }
+
+    public static class Handler {
+        private final Repository repository;
+        private final SharedService service;
+
+        public Handler() {
+            this(null, null);
+        }
+
+        public Handler(Repository repository, SharedService service) {
+            this.repository = repository;
+            this.service = service;
+        }
+    }
+
+    private DependencyRegistry registry;
+    private final SharedService reflectiveSingleton = new SharedService();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+        registry = DependencyRegistry.getInstance();
+        registry.getInjection(Handler.class);
+    }
+
+    @Benchmark
+    public Object singletonInjection() {
+        return registry.getInjection(SharedService.class);
+    }
+
+    @Benchmark
+    public Object graphInjection() {
+        return registry.getInjection(Handler.class);
+    }
+
+    @Benchmark
+    public Object constructorAnalysis() {
+        return ConstructorPlan.analyse(Handler.class);
+    }
+
+    @Benchmark
+    public Object reflectiveGraphInjection() throws Exception {
+        return reflectiveCreate(Handler.class);
+    }
+
+    @Benchmark
+    public Object reflectiveConstructorLookup() {
+        Constructor<?>[] constructors = Handler.class.getDeclaredConstructors();
+        Arrays.sort(constructors, Comparator.comparingInt((Constructor<?> constructor) -> constructor.getParameterTypes().length).reversed());
+        return constructors;
+    }
+
+    private Object reflectiveCreate(Class<?> type) throws Exception {
+        if (type == SharedService.class) {
+            return reflectiveSingleton;
+        }
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        Arrays.sort(constructors, Comparator.comparingInt((Constructor<?> constructor) -> constructor.getParameterTypes().length).reversed());
+        Constructor<?> constructor = constructors[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] parameters = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameters[i] = reflectiveCreate(parameterTypes[i]);
+        }
+        constructor.setAccessible(true);
+        return constructor.newInstance(parameters);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DependencyRegistryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
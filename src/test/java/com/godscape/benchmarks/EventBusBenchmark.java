@@ -0,0 +1,103 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.enums.Themes;
+import com.godscape.system.events.EventBus;
+import com.godscape.system.events.EventDelivery;
+import com.godscape.system.events.ThemeChangedEvent;
+import com.godscape.system.observers.ThemeChangeObservation;
+import com.godscape.system.utility.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of one theme change to many synchronous subscribers: the old {@code BaseObservationManager}
+ * dispatch ({@code instanceof} on the update, then an {@code ArrayList} walk) versus {@link EventBus}
+ * with strong and with weak subscriptions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    @Param({"100", "1000"})
+    private int subscriberCount;
+
+    private final List<ThemeChangeObservation> legacyListeners = new ArrayList<>();
+    private final List<ThemeChangeObservation> weakTargets = new ArrayList<>();  // Keeps the weak targets reachable
+    private EventBus strongBus;
+    private EventBus weakBus;
+    private long delivered;
+
+    @Setup
+    public void setUp() {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+        strongBus = new EventBus();
+        weakBus = new EventBus();
+        for (int i = 0; i < subscriberCount; i++) {
+            ThemeChangeObservation listener = theme -> delivered += theme.ordinal() + 1;
+            legacyListeners.add(listener);
+            strongBus.subscribe(ThemeChangedEvent.class, event -> delivered += event.getTheme().ordinal() + 1, EventDelivery.SYNC);
+            ThemeChangeObservation target = theme -> delivered += theme.ordinal() + 1;
+            weakTargets.add(target);
+            weakBus.subscribeWeak(ThemeChangedEvent.class, target,
+                    (observer, event) -> observer.onThemeChange(event.getTheme()), EventDelivery.SYNC);
+        }
+    }
+
+    @Benchmark
+    public long legacyInstanceofDispatch() {
+        notifyLegacy(Themes.values()[0]);
+        return delivered;
+    }
+
+    private void notifyLegacy(Object update) {
+        if (update instanceof Themes) {
+            for (ThemeChangeObservation listener : legacyListeners) {
+                try {
+                    listener.onThemeChange((Themes) update);
+                } catch (Exception e) {
+                    Logger.error("Error notifying ThemeChangeObserver: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long eventBusStrong() {
+        strongBus.publish(new ThemeChangedEvent(Themes.values()[0]));
+        return delivered;
+    }
+
+    @Benchmark
+    public long eventBusWeak() {
+        weakBus.publish(new ThemeChangedEvent(Themes.values()[0]));
+        return delivered;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventBusBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
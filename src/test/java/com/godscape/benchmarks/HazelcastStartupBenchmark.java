@@ -0,0 +1,62 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.config.HazelcastConfig;
+import com.godscape.system.enums.CacheMode;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start time of the embedded Hazelcast member: LOCAL (no join, small partition table)
+ * versus CLUSTER (TCP-IP join, default partitions). Each fork measures a fresh JVM.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class HazelcastStartupBenchmark {
+
+    @Param({"LOCAL", "CLUSTER"})
+    private CacheMode cacheMode;
+
+    private HazelcastInstance instance;
+
+    @Benchmark
+    public HazelcastInstance coldStart() {
+        instance = Hazelcast.newHazelcastInstance(HazelcastConfig.createConfig(cacheMode));
+        instance.getMap(HazelcastConfig.THEME_CACHE).size();
+        return instance;
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdown() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HazelcastStartupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.enums.LogOverflowPolicy;
+import com.godscape.system.utility.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caller-side cost of a log call: a call below the configured level, and an enabled call with
+ * and without caller resolution. Console output is switched off so only the capture and the
+ * hand-off to the background consumer are measured; DROP_NEWEST keeps the caller from blocking
+ * if the consumer falls behind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+
+    @Param({"true", "false"})
+    private boolean includeCaller;
+
+    private final UUID profileId = UUID.randomUUID();
+    private final String profileName = "Benchmark Profile";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.setConsoleEnabled(false);
+        Logger.setOverflowPolicy(LogOverflowPolicy.DROP_NEWEST);
+        Logger.setLevel(LogLevel.INFO);
+        Logger.setIncludeCaller(includeCaller);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Logger.flush(5000);
+    }
+
+    @Benchmark
+    public void disabledLevel() {
+        Logger.debug("Profile '{}' with ID '{}' updated.", profileName, profileId);
+    }
+
+    @Benchmark
+    public void enabledLevel() {
+        Logger.info("Profile '{}' with ID '{}' updated.", profileName, profileId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoggerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,190 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.themes.ParticleEmitter;
+import com.godscape.system.themes.ParticleSystem;
+import com.godscape.system.themes.ParticleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of theme particles, half drifting ash and half fading embers as in the volcanic theme:
+ * the old pattern of an object per particle (copying the list, virtual {@code move}/{@code draw} and a
+ * new {@code Color} per fading particle) versus {@link ParticleSystem}. Drawing goes to an off-screen
+ * image, so the benchmark runs headless.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ParticleSystemBenchmark {
+
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    @Param({"1000", "10000", "100000"})
+    private int particleCount;
+
+    private final Random rand = new Random(42);
+    private List<LegacyParticle> legacyParticles;
+    private ParticleSystem particleSystem;
+    private BufferedImage image;
+    private Graphics2D g2d;
+
+    @Setup
+    public void setUp() {
+        legacyParticles = new ArrayList<>(particleCount);
+        for (int i = 0; i < particleCount; i++) {
+            double speed = rand.nextDouble() + 0.5;
+            legacyParticles.add(i % 2 == 0
+                    ? new LegacyAsh(rand.nextInt(WIDTH), rand.nextInt(HEIGHT), speed)
+                    : new LegacyEmber(rand.nextInt(WIDTH), rand.nextInt(HEIGHT), speed));
+        }
+
+        particleSystem = new ParticleSystem(particleCount);
+        particleSystem.addEmitter(new ParticleEmitter(
+                new ParticleType(new Color(169, 169, 169, 100), ParticleType.Shape.OVAL, 2, 4).sway(0.5f, 20), particleCount / 2)
+                .spawnArea(0, 1, 1, 1)
+                .velocity(0, 0, -1.5f, -0.5f));
+        particleSystem.addEmitter(new ParticleEmitter(
+                new ParticleType(new Color(255, 140, 0), ParticleType.Shape.OVAL, 3, 3).jitter(1).fading(), particleCount - particleCount / 2)
+                .spawnArea(0, 1, 1, 1)
+                .velocity(0, 0, -1.5f, -0.5f)
+                .life(200, 200));
+        particleSystem.resize(WIDTH, HEIGHT);
+
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public int legacyUpdate() {
+        List<LegacyParticle> copy = new ArrayList<>(legacyParticles);
+        for (LegacyParticle particle : copy) {
+            particle.move();
+        }
+        return copy.size();
+    }
+
+    @Benchmark
+    public int particleSystemUpdate() {
+        particleSystem.update();
+        return particleSystem.getAliveCount();
+    }
+
+    @Benchmark
+    public int legacyDraw() {
+        List<LegacyParticle> copy = new ArrayList<>(legacyParticles);
+        for (LegacyParticle particle : copy) {
+            particle.draw(g2d);
+        }
+        return copy.size();
+    }
+
+    @Benchmark
+    public int particleSystemDraw() {
+        particleSystem.draw(g2d);
+        return particleSystem.getAliveCount();
+    }
+
+    // The object-per-particle pattern the themes used before ParticleSystem
+    private abstract class LegacyParticle {
+        double x, y, speed;
+
+        LegacyParticle(double x, double y, double speed) {
+            this.x = x;
+            this.y = y;
+            this.speed = speed;
+        }
+
+        abstract void move();
+
+        abstract void draw(Graphics2D g2d);
+    }
+
+    private class LegacyAsh extends LegacyParticle {
+        private final Color color = new Color(169, 169, 169, 100);
+
+        LegacyAsh(double x, double y, double speed) {
+            super(x, y, speed);
+        }
+
+        @Override
+        void move() {
+            y -= speed;
+            x += Math.sin(y / 20.0) * 0.5;
+            if (y < -10) {
+                y = HEIGHT;
+                x = rand.nextInt(WIDTH);
+            }
+        }
+
+        @Override
+        void draw(Graphics2D g2d) {
+            int size = 2 + rand.nextInt(2);
+            g2d.setColor(color);
+            g2d.fillOval((int) x, (int) y, size, size);
+        }
+    }
+
+    private class LegacyEmber extends LegacyParticle {
+        private double alpha = 1.0;
+
+        LegacyEmber(double x, double y, double speed) {
+            super(x, y, speed);
+        }
+
+        @Override
+        void move() {
+            y -= speed;
+            x += rand.nextDouble() - 0.5;
+            alpha -= 0.005;
+            if (alpha <= 0 || y < -10) {
+                y = HEIGHT;
+                x = rand.nextInt(WIDTH);
+                alpha = 1.0;
+            }
+        }
+
+        @Override
+        void draw(Graphics2D g2d) {
+            g2d.setColor(new Color(255, 140, 0, (int) (alpha * 255)));
+            g2d.fillOval((int) x, (int) y, 3, 3);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParticleSystemBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,149 @@
+package com.godscape.benchmarks;
+
+import com.godscape.osrs.cache.OsrsProfileCache;
+import com.godscape.osrs.enums.core.OsrsSchemas;
+import com.godscape.osrs.preloaders.OsrsLoadPremadeProfilesToCache;
+import com.godscape.osrs.schemas.OsrsProfileSchema;
+import com.godscape.system.config.HazelcastConfig;
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.factories.DependencyFactory;
+import com.godscape.system.factories.FrameFactory;
+import com.godscape.system.managers.PreloadManager;
+import com.godscape.system.utility.BotInitialize;
+import com.godscape.system.utility.Logger;
+import com.godscape.system.utility.ResourceUtils;
+import com.godscape.system.utility.generators.HashGenerator;
+import com.google.gson.Gson;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.swing.SwingUtilities;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start cost of the premade profiles under {@code osrs/profiles}, through the same entry points
+ * the client uses.
+ * <ul>
+ *     <li>{@code sequential} is the old loading pattern. It parses every resource in turn and adds
+ *     each profile after scanning the map for its name.</li>
+ *     <li>{@code loadPremadeProfiles} calls {@link OsrsLoadPremadeProfilesToCache}, which the premade
+ *     preloader runs. It checks each catalog name against the name index of {@link OsrsProfileCache},
+ *     parses the missing premades in parallel and inserts them with {@code addProfiles}. The profile
+ *     cache, and with it the Hazelcast member and the map store, is started outside the measurement.</li>
+ *     <li>{@code startupToFirstFrame} runs what {@link BotInitialize#start} does from a cold JVM: the
+ *     whole preload graph up to its critical path, Hazelcast included, then the main frame. Without a
+ *     display it stops at the critical path, which is what the frame waits for.</li>
+ * </ul>
+ * Each fork measures a fresh JVM.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class PremadeProfileStartupBenchmark {
+
+    @State(Scope.Thread)
+    public static class ProfileCacheState {
+        private OsrsProfileCache profileCache;
+        private IMap<UUID, OsrsProfileSchema> profiles;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            quietLogger();
+            profileCache = DependencyFactory.getInstance().getInjection(OsrsProfileCache.class);
+            profileCache.getAllProfiles();  // Starts the member, the map store and the name index
+            profiles = DependencyFactory.getInstance().getInjection(HazelcastConfig.class).getHazelcastInstance()
+                    .getMap(OsrsSchemas.OSRS_PROFILE_SCHEMA.getCacheName());
+        }
+
+        @TearDown(Level.Trial)
+        public void shutdown() {
+            Hazelcast.shutdownAll();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ColdStartState {
+        @Setup(Level.Trial)
+        public void setUp() {
+            quietLogger();
+        }
+
+        @TearDown(Level.Trial)
+        public void shutdown() throws InterruptedException, InvocationTargetException {
+            if (!GraphicsEnvironment.isHeadless()) {
+                FrameFactory.getInstance().disposeFrame();
+                SwingUtilities.invokeAndWait(() -> { });
+            }
+            Hazelcast.shutdownAll();
+        }
+    }
+
+    private static void quietLogger() {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+    }
+
+    @Benchmark
+    public int sequential(ProfileCacheState state) throws IOException {
+        Gson gson = new Gson();
+        for (String resourcePath : ResourceUtils.listResourceFiles("osrs/profiles")) {
+            try (InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath)) {
+                OsrsProfileSchema profile = gson.fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), OsrsProfileSchema.class);
+                profile.setProfileId(HashGenerator.generateId(profile.getProfileName()));
+                boolean nameTaken = state.profiles.values().stream()
+                        .anyMatch(existing -> existing.getProfileName().equalsIgnoreCase(profile.getProfileName()));
+                if (!nameTaken) {
+                    state.profiles.put(profile.getProfileId(), profile);
+                }
+            }
+        }
+        return state.profiles.size();
+    }
+
+    @Benchmark
+    public int loadPremadeProfiles(ProfileCacheState state) {
+        DependencyFactory.getInstance().getInjection(OsrsLoadPremadeProfilesToCache.class).loadAllPremadeProfiles();
+        return state.profiles.size();
+    }
+
+    @Benchmark
+    public boolean startupToFirstFrame(ColdStartState state) throws InterruptedException, InvocationTargetException {
+        if (GraphicsEnvironment.isHeadless()) {
+            DependencyFactory.getInstance().getInjection(PreloadManager.class).loadPreloader().awaitCriticalPath();
+            return false;
+        }
+        DependencyFactory.getInstance().getInjection(BotInitialize.class).start();
+        SwingUtilities.invokeAndWait(() -> { });  // Runs after the frame queued by FrameFactory is shown
+        return true;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PremadeProfileStartupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
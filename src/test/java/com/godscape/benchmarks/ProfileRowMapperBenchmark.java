@@ -0,0 +1,279 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.modules.database.SQLiteConnectionPool;
+import com.godscape.system.modules.database.queries.ProfileRowMapper;
+import com.godscape.system.utility.Logger;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading and upserting 10k profile rows through {@link ProfileRowMapper}, against the per-row
+ * reflection BaseProfileDAO used before ({@code reflective*}: declared fields walked and made
+ * accessible for every row, field names collected across the batch, {@code getDeclaredFields}
+ * again for every row read). Both sides run the same SQL on the same pooled connection, so the
+ * difference is the object mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileRowMapperBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String TABLE = "bench_profiles";
+    private static final List<String> COLUMNS = Arrays.asList(
+            "profileName", "membershipStatus", "mode", "settingsMap", "profileNotes", "lastUpdated");
+
+    public static class BenchProfile {
+        private static final String CACHE_NAME = "bench";
+        private UUID profileId;
+        private String profileName;
+        private Boolean membershipStatus;
+        private String mode;
+        private Map<String, Object> settingsMap = new HashMap<>();
+        private String profileNotes;
+        private long lastUpdated;
+    }
+
+    private final Gson gson = new Gson();
+    private File databaseFile;
+    private SQLiteConnectionPool pool;
+    private ProfileRowMapper<BenchProfile> mapper;
+    private List<BenchProfile> profiles;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+        databaseFile = Files.createTempFile("godscape-bench", ".db").toFile();
+        pool = new SQLiteConnectionPool("jdbc:sqlite:" + databaseFile.getAbsolutePath(), 3, 8192, 64L * 1024 * 1024, "NORMAL");
+        try (Connection connection = pool.getWriteConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE " + TABLE + " (profileId TEXT PRIMARY KEY, profileName TEXT, "
+                    + "membershipStatus INTEGER, mode TEXT, settingsMap TEXT, profileNotes TEXT, lastUpdated INTEGER)");
+        }
+
+        mapper = ProfileRowMapper.forSchema(BenchProfile.class, TABLE, COLUMNS);
+        profiles = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            BenchProfile profile = new BenchProfile();
+            profile.profileId = UUID.randomUUID();
+            profile.profileName = "Profile " + i;
+            profile.membershipStatus = i % 2 == 0;
+            profile.mode = "Ironman";
+            profile.settingsMap.put("combat_style", "melee");
+            profile.settingsMap.put("break_length", i % 60);
+            profile.profileNotes = "Notes for profile " + i;
+            profile.lastUpdated = System.currentTimeMillis();
+            profiles.add(profile);
+        }
+        mappedUpsert();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+        new File(databaseFile.getAbsolutePath() + "-wal").delete();
+        new File(databaseFile.getAbsolutePath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    @Benchmark
+    public int mappedLoad() throws SQLException {
+        List<BenchProfile> loaded = new ArrayList<>(ROWS);
+        try (Connection connection = pool.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM " + TABLE);
+             ResultSet resultSet = statement.executeQuery()) {
+            ProfileRowMapper<BenchProfile>.RowReader reader = mapper.reader(resultSet);
+            while (resultSet.next()) {
+                loaded.add(reader.read(resultSet));
+            }
+        }
+        return loaded.size();
+    }
+
+    @Benchmark
+    public int reflectiveLoad() throws Exception {
+        List<BenchProfile> loaded = new ArrayList<>(ROWS);
+        try (Connection connection = pool.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM " + TABLE);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                BenchProfile profile = BenchProfile.class.getDeclaredConstructor().newInstance();
+                reflectivePopulate(resultSet, profile);
+                loaded.add(profile);
+            }
+        }
+        return loaded.size();
+    }
+
+    @Benchmark
+    public int[] mappedUpsert() throws SQLException {
+        try (Connection connection = pool.getWriteConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(mapper.getUpsertSql())) {
+                for (BenchProfile profile : profiles) {
+                    mapper.bindUpsert(statement, profile);
+                    statement.addBatch();
+                }
+                int[] result = statement.executeBatch();
+                connection.commit();
+                return result;
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] reflectiveUpsert() throws SQLException {
+        Set<String> fieldNames = reflectiveFieldNames();
+        try (Connection connection = pool.getWriteConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(reflectiveUpsertSql(fieldNames))) {
+                for (BenchProfile profile : profiles) {
+                    reflectiveBind(statement, profile, fieldNames);
+                    statement.addBatch();
+                }
+                int[] result = statement.executeBatch();
+                connection.commit();
+                return result;
+            }
+        }
+    }
+
+    private static Map<String, Object> reflectiveExtract(Object profile) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (Field field : profile.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            try {
+                fields.put(field.getName().toLowerCase(), field.get(profile));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return fields;
+    }
+
+    private Set<String> reflectiveFieldNames() {
+        Set<String> columns = new HashSet<>();
+        COLUMNS.forEach(column -> columns.add(column.toLowerCase()));
+        Set<String> fieldNames = new LinkedHashSet<>();
+        for (BenchProfile profile : profiles) {
+            for (String fieldName : reflectiveExtract(profile).keySet()) {
+                if (columns.contains(fieldName)) {
+                    fieldNames.add(fieldName);
+                }
+            }
+        }
+        return fieldNames;
+    }
+
+    private static String reflectiveUpsertSql(Set<String> fieldNames) {
+        StringBuilder query = new StringBuilder("INSERT INTO ").append(TABLE).append(" (profileId");
+        fieldNames.forEach(fieldName -> query.append(", ").append(fieldName));
+        query.append(") VALUES (?");
+        fieldNames.forEach(fieldName -> query.append(", ?"));
+        query.append(") ON CONFLICT(profileId) DO UPDATE SET ");
+        Iterator<String> iterator = fieldNames.iterator();
+        while (iterator.hasNext()) {
+            String fieldName = iterator.next();
+            query.append(fieldName).append("=excluded.").append(fieldName).append(iterator.hasNext() ? ", " : ";");
+        }
+        return query.toString();
+    }
+
+    private void reflectiveBind(PreparedStatement statement, BenchProfile profile, Set<String> fieldNames) throws SQLException {
+        int index = 1;
+        Map<String, Object> fields = reflectiveExtract(profile);
+        statement.setObject(index++, fields.get("profileid").toString());
+        for (String fieldName : fieldNames) {
+            Object value = fields.get(fieldName);
+            if (value instanceof Boolean) {
+                value = (Boolean) value ? 1 : 0;
+            } else if (value instanceof Map || value instanceof List) {
+                value = gson.toJson(value);
+            } else if (value instanceof Enum || value instanceof UUID) {
+                value = value.toString();
+            }
+            statement.setObject(index++, value);
+        }
+    }
+
+    private void reflectivePopulate(ResultSet resultSet, BenchProfile profile) throws SQLException, IllegalAccessException {
+        Map<String, Object> fields = reflectiveExtract(profile);
+        Map<String, Field> declaredFields = new HashMap<>();
+        for (Field field : profile.getClass().getDeclaredFields()) {
+            declaredFields.put(field.getName().toLowerCase(), field);
+        }
+        Set<String> columns = new HashSet<>();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.add(metaData.getColumnName(i).toLowerCase());
+        }
+        for (String fieldName : fields.keySet()) {
+            Field field = declaredFields.get(fieldName);
+            if (field == null || !columns.contains(fieldName) || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Object value = resultSet.getObject(fieldName);
+            if (value == null) {
+                continue;
+            }
+            if (field.getType() == Boolean.class) {
+                field.set(profile, ((Integer) value) != 0);
+            } else if (field.getType() == Map.class) {
+                field.set(profile, gson.fromJson(resultSet.getString(fieldName), LinkedHashMap.class));
+            } else if (field.getType() == UUID.class) {
+                field.set(profile, UUID.fromString(value.toString()));
+            } else {
+                field.set(profile, value);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProfileRowMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
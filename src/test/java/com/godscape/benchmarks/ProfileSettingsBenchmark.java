@@ -0,0 +1,155 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.modules.database.SQLiteConnectionPool;
+import com.godscape.system.modules.database.queries.ProfileSettingsDAO;
+import com.godscape.system.utility.Logger;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving one changed setting on a profile with {@code settingsCount} settings, and loading that
+ * profile's settings back: {@code jsonColumn*} rewrites and re-parses the whole pretty-printed JSON
+ * column as BaseProfileDAO does by default, {@code normalized*} goes through
+ * {@link ProfileSettingsDAO}, which upserts only the changed row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileSettingsBenchmark {
+
+    @Param({"1000", "5000"})
+    private int settingsCount;
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private File databaseFile;
+    private SQLiteConnectionPool pool;
+    private ProfileSettingsDAO settingsDAO;
+    private UUID profileId;
+    private Map<String, Object> settings;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+        databaseFile = Files.createTempFile("godscape-bench", ".db").toFile();
+        pool = new SQLiteConnectionPool("jdbc:sqlite:" + databaseFile.getAbsolutePath(), 3, 8192, 64L * 1024 * 1024, "NORMAL");
+        settingsDAO = new ProfileSettingsDAO();
+
+        profileId = UUID.randomUUID();
+        settings = new LinkedHashMap<>();
+        for (int i = 0; i < settingsCount; i++) {
+            String key = "panel" + (i / 20) + "_component" + i;
+            settings.put(key, i % 3 == 0 ? (Object) Boolean.TRUE : i % 3 == 1 ? (Object) ("value " + i) : (Object) i);
+        }
+
+        try (Connection connection = pool.getWriteConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE profiles (profileId TEXT PRIMARY KEY, profileName TEXT, settingsMap TEXT)");
+            }
+            settingsDAO.initializeSchema(connection);
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO profiles VALUES (?, ?, ?)")) {
+                statement.setString(1, profileId.toString());
+                statement.setString(2, "Benchmark");
+                statement.setString(3, gson.toJson(settings));
+                statement.executeUpdate();
+            }
+            connection.setAutoCommit(false);
+            settingsDAO.saveSettings(connection, Collections.singletonMap(profileId, settings)).committed();
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+        new File(databaseFile.getAbsolutePath() + "-wal").delete();
+        new File(databaseFile.getAbsolutePath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    private void changeOneSetting() {
+        settings.put("panel0_component1", "value " + counter++);
+    }
+
+    @Benchmark
+    public int jsonColumnSingleKeySave() throws SQLException {
+        changeOneSetting();
+        try (Connection connection = pool.getWriteConnection();
+             PreparedStatement statement = connection.prepareStatement("UPDATE profiles SET settingsMap = ? WHERE profileId = ?")) {
+            statement.setString(1, gson.toJson(settings));
+            statement.setString(2, profileId.toString());
+            return statement.executeUpdate();
+        }
+    }
+
+    @Benchmark
+    public int normalizedSingleKeySave() throws SQLException {
+        changeOneSetting();
+        try (Connection connection = pool.getWriteConnection()) {
+            connection.setAutoCommit(false);
+            ProfileSettingsDAO.SettingsWrite write = settingsDAO.saveSettings(connection, Collections.singletonMap(profileId, settings));
+            connection.commit();
+            write.committed();
+            return write.getUpserted();
+        }
+    }
+
+    @Benchmark
+    public int jsonColumnLoad() throws SQLException {
+        try (Connection connection = pool.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT settingsMap FROM profiles WHERE profileId = ?")) {
+            statement.setString(1, profileId.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return gson.fromJson(resultSet.getString(1), LinkedHashMap.class).size();
+            }
+        }
+    }
+
+    @Benchmark
+    public int normalizedLoad() throws SQLException {
+        try (Connection connection = pool.getReadConnection()) {
+            return settingsDAO.loadSettings(connection, Collections.singleton(profileId)).get(profileId).size();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProfileSettingsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
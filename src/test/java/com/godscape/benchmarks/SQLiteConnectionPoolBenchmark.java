@@ -0,0 +1,164 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.enums.LogLevel;
+import com.godscape.system.modules.database.SQLiteConnectionPool;
+import com.godscape.system.utility.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the DAO access patterns against a profile-shaped table: loading every row,
+ * upserting a batch of 50 rows in one transaction, and an exists check by primary key.
+ * {@code pooled=false} opens a fresh {@link DriverManager} connection per operation with default
+ * pragmas, as DatabaseConnectionManager did before the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLiteConnectionPoolBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH = 50;
+    private static final String UPSERT = "INSERT INTO profiles (profileId, profileName, membership, profileNotes, lastUpdated) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT(profileId) DO UPDATE SET profileName=excluded.profileName, "
+            + "membership=excluded.membership, profileNotes=excluded.profileNotes, lastUpdated=excluded.lastUpdated;";
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    private File databaseFile;
+    private String url;
+    private SQLiteConnectionPool pool;
+    private String[] profileIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Logger.setConsoleEnabled(false);
+        Logger.setLevel(LogLevel.WARN);
+        databaseFile = Files.createTempFile("godscape-bench", ".db").toFile();
+        url = "jdbc:sqlite:" + databaseFile.getAbsolutePath();
+        pool = new SQLiteConnectionPool(url, 3, 8192, 64L * 1024 * 1024, "NORMAL");
+
+        try (Connection connection = pool.getWriteConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE profiles (profileId TEXT PRIMARY KEY, profileName TEXT, "
+                    + "membership INTEGER, profileNotes TEXT, lastUpdated INTEGER)");
+        }
+        profileIds = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            profileIds[i] = UUID.randomUUID().toString();
+        }
+        try (Connection connection = pool.getWriteConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (int i = 0; i < ROWS; i++) {
+                    bindProfile(statement, profileIds[i], i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+        new File(databaseFile.getAbsolutePath() + "-wal").delete();
+        new File(databaseFile.getAbsolutePath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    @Benchmark
+    public int loadAll() throws SQLException {
+        int count = 0;
+        try (Connection connection = readConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM profiles");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count += resultSet.getString("profileName").length();
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int[] upsertBatch() throws SQLException {
+        int offset = ThreadLocalRandom.current().nextInt(ROWS - BATCH);
+        try (Connection connection = writeConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (int i = offset; i < offset + BATCH; i++) {
+                    bindProfile(statement, profileIds[i], i);
+                    statement.addBatch();
+                }
+                int[] result = statement.executeBatch();
+                connection.commit();
+                return result;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean existsCheck() throws SQLException {
+        String profileId = profileIds[ThreadLocalRandom.current().nextInt(ROWS)];
+        try (Connection connection = readConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM profiles WHERE profileId = ?")) {
+            statement.setString(1, profileId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private Connection readConnection() throws SQLException {
+        return pooled ? pool.getReadConnection() : DriverManager.getConnection(url);
+    }
+
+    private Connection writeConnection() throws SQLException {
+        return pooled ? pool.getWriteConnection() : DriverManager.getConnection(url);
+    }
+
+    private static void bindProfile(PreparedStatement statement, String profileId, int index) throws SQLException {
+        statement.setString(1, profileId);
+        statement.setString(2, "Profile " + index);
+        statement.setInt(3, index % 2);
+        statement.setString(4, "Notes for profile " + index);
+        statement.setLong(5, System.currentTimeMillis());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SQLiteConnectionPoolBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,124 @@
+package com.godscape.benchmarks;
+
+import com.godscape.system.utility.serialization.SettingsMapCodec;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings map serialization: legacy {@code writeObject(HashMap)} versus {@link SettingsMapCodec}.
+ * Run {@link #main(String[])} to print bytes per profile before the timing runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingsSerializationBenchmark {
+
+    private static final String[] SKILLS = {"attack", "strength", "defence", "ranged", "prayer", "magic",
+            "runecrafting", "construction", "hitpoints", "agility", "herblore", "thieving", "crafting", "fletching",
+            "slayer", "hunter", "mining", "smithing", "fishing", "cooking", "firemaking", "woodcutting", "farming"};
+
+    @Param({"100", "1000"})
+    private int settingCount;
+
+    private InternalSerializationService serializationService;
+    private Map<String, Object> settings;
+    private byte[] legacyBytes;
+    private byte[] codecBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        settings = createSettings(settingCount);
+        legacyBytes = writeLegacy();
+        codecBytes = writeCodec();
+    }
+
+    static Map<String, Object> createSettings(int count) {
+        Random random = new Random(42);
+        Map<String, Object> settings = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = "osrs_panel_" + (i % 40) + "_component_" + i;
+            switch (i % 3) {
+                case 0:
+                    settings.put(key, random.nextBoolean());
+                    break;
+                case 1:
+                    settings.put(key, random.nextInt(100));
+                    break;
+                default:
+                    settings.put(key, "option_" + random.nextInt(8));
+                    break;
+            }
+        }
+        Map<String, Object> skillGoals = new HashMap<>();
+        for (String skill : SKILLS) {
+            skillGoals.put(skill, 1 + random.nextInt(99));
+        }
+        settings.put("osrs_stats_skill_goals_panel", skillGoals);
+        return settings;
+    }
+
+    @Benchmark
+    public byte[] writeLegacy() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(4096);
+        out.writeObject(settings);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeCodec() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(4096);
+        SettingsMapCodec.writeSettingsMap(out, settings);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object readLegacy() throws IOException {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(legacyBytes);
+        return in.readObject();
+    }
+
+    @Benchmark
+    public Object readCodec() throws IOException {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(codecBytes);
+        return SettingsMapCodec.readSettingsMap(in);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        for (int count : new int[]{100, 1000}) {
+            SettingsSerializationBenchmark benchmark = new SettingsSerializationBenchmark();
+            benchmark.settingCount = count;
+            benchmark.setUp();
+            System.out.printf("settings=%d bytes/profile: legacy=%d codec=%d%n",
+                    count, benchmark.legacyBytes.length, benchmark.codecBytes.length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(SettingsSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}